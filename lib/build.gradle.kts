@@ -24,7 +24,7 @@ java {
 tasks.withType<JavaCompile>().configureEach {
     if (name == "compileJmhJava") {
         options.errorprone.enabled.set(false)
-    } else if (name == "compileTestJava" || name == "compileIntTestJava") {
+    } else if (name == "compileTestJava" || name == "compileIntTestJava" || name == "compileJava21TestJava") {
         options.errorprone.disable("NullAway")
     } else {
         options.errorprone {
@@ -59,6 +59,15 @@ sourceSets {
     create("common", Action<SourceSet> {
         compileClasspath += sourceSets.main.get().output
     })
+    // Java 21+ classes of the multi-release JAR (META-INF/versions/21)
+    create("java21", Action<SourceSet> {
+        compileClasspath += sourceSets.main.get().output
+    })
+    // tests of the Java 21+ classes – only built and run with Java 21+
+    create("java21Test", Action<SourceSet> {
+        compileClasspath += sourceSets.main.get().output + sourceSets["java21"].output
+        runtimeClasspath += sourceSets["java21"].output + sourceSets.main.get().output
+    })
     create("intTest", Action<SourceSet> {
         compileClasspath += sourceSets["common"].output
         runtimeClasspath += sourceSets["common"].output
@@ -69,6 +78,22 @@ sourceSets {
     }
 }
 
+// OSS-Fuzz builds with Java 17 – the multi-release part is only built with Java 21+
+val java21Supported = JavaVersion.current().isCompatibleWith(JavaVersion.VERSION_21)
+
+tasks.named<JavaCompile>("compileJava21Java") {
+    enabled = java21Supported
+    options.release.set(21)
+    // no -Werror: the warning about using an incubating module cannot be suppressed
+    options.compilerArgs.addAll(listOf("-Xlint:all", "--add-modules", "jdk.incubator.vector"))
+}
+
+tasks.named<JavaCompile>("compileJava21TestJava") {
+    enabled = java21Supported
+    options.release.set(21)
+    options.compilerArgs.addAll(listOf("-parameters", "--add-modules", "jdk.incubator.vector"))
+}
+
 val commonImplementation = configurations.getByName("commonImplementation") {
     extendsFrom(configurations.implementation.get())
 }
@@ -77,6 +102,10 @@ val intTest = sourceSets.getByName("intTest")
 configurations[intTest.implementationConfigurationName].extendsFrom(configurations.testImplementation.get())
 configurations[intTest.runtimeOnlyConfigurationName].extendsFrom(configurations.testRuntimeOnly.get())
 
+val java21Test = sourceSets.getByName("java21Test")
+configurations[java21Test.implementationConfigurationName].extendsFrom(configurations.testImplementation.get())
+configurations[java21Test.runtimeOnlyConfigurationName].extendsFrom(configurations.testRuntimeOnly.get())
+
 dependencies {
     errorprone(libs.errorprone)
     errorprone(libs.nullaway)
@@ -99,6 +128,10 @@ dependencies {
 
 tasks.test {
     useJUnitPlatform()
+
+    // run tests like from the multi-release JAR on Java 21+, including the Vector API
+    classpath = sourceSets["java21"].output + classpath
+    jvmArgs("--add-modules", "jdk.incubator.vector")
 }
 
 val intTestTask = tasks.register<Test>("intTest") {
@@ -111,8 +144,20 @@ val intTestTask = tasks.register<Test>("intTest") {
     shouldRunAfter(tasks.test)
 }
 
+val java21TestTask = tasks.register<Test>("java21Test") {
+    group = "verification"
+    enabled = java21Supported
+    useJUnitPlatform()
+
+    testClassesDirs = java21Test.output.classesDirs
+    classpath = java21Test.runtimeClasspath
+    jvmArgs("--add-modules", "jdk.incubator.vector")
+
+    shouldRunAfter(tasks.test)
+}
+
 tasks.check {
-    dependsOn(intTestTask, tasks.jacocoTestReport, tasks.jacocoTestCoverageVerification)
+    dependsOn(intTestTask, java21TestTask, tasks.jacocoTestReport, tasks.jacocoTestCoverageVerification)
 }
 
 pitest {
@@ -128,7 +173,7 @@ tasks.jacocoTestReport {
     reports {
         xml.required.set(true)
     }
-    dependsOn(tasks.test, intTestTask)
+    dependsOn(tasks.test, intTestTask, java21TestTask)
 }
 
 tasks.jacocoTestCoverageVerification {
@@ -147,7 +192,7 @@ tasks.jacocoTestCoverageVerification {
             }
         }
     }
-    dependsOn(tasks.test, intTestTask)
+    dependsOn(tasks.test, intTestTask, java21TestTask)
     shouldRunAfter(tasks.jacocoTestReport)
 }
 
@@ -166,6 +211,14 @@ tasks.jar {
             "Bundle-SymbolicName" to "de.siegmar.fastcsv",
             "-exportcontents" to "de.siegmar.fastcsv.reader.*, de.siegmar.fastcsv.writer.*"
         )
+        if (java21Supported) {
+            attributes("Multi-Release" to "true")
+        }
+    }
+    if (java21Supported) {
+        into("META-INF/versions/21") {
+            from(sourceSets["java21"].output)
+        }
     }
     into("META-INF") {
         from(rootDir) {
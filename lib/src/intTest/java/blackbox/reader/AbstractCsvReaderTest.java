@@ -404,7 +404,7 @@ abstract class AbstractCsvReaderTest {
     void bufferExceed() {
         final int limit = 512;
 
-        final char[] buf = new char[limit + bufferOverflowPadding()];
+        final char[] buf = new char[limit];
         Arrays.fill(buf, 'X');
         buf[buf.length - 1] = ',';
 
@@ -573,13 +573,6 @@ abstract class AbstractCsvReaderTest {
 
     // test helpers
 
-    /// Extra buffer capacity needed to provoke a buffer overflow in {@link #bufferExceed()}.
-    /// The strict parser operates directly on the buffer, while the relaxed parser stores data
-    /// separately, so the relaxed parser needs one more character to overflow.
-    protected int bufferOverflowPadding() {
-        return 0;
-    }
-
     private List<CsvRecord> readAll(final String data) {
         return crb.ofCsvRecord(data).stream().toList();
     }
@@ -0,0 +1,256 @@
+package blackbox.reader;
+
+import static de.siegmar.fastcsv.reader.ColumnType.DOUBLE;
+import static de.siegmar.fastcsv.reader.ColumnType.INT;
+import static de.siegmar.fastcsv.reader.ColumnType.LONG;
+import static de.siegmar.fastcsv.reader.ColumnType.SKIP;
+import static de.siegmar.fastcsv.reader.ColumnType.STRING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import de.siegmar.fastcsv.reader.ColumnBatch;
+import de.siegmar.fastcsv.reader.ColumnBatchHandler;
+import de.siegmar.fastcsv.reader.ColumnType;
+import de.siegmar.fastcsv.reader.CommentStrategy;
+import de.siegmar.fastcsv.reader.CsvParseException;
+import de.siegmar.fastcsv.reader.CsvReader;
+import de.siegmar.fastcsv.reader.FieldMismatchStrategy;
+
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+class ColumnBatchHandlerTest {
+
+    private static final String DATA = """
+        DE,Berlin,3645,891.1,x
+        #comment
+        US,Boston,675,232.1,x
+
+        DE,Bonn,,141.1,x
+        FR,Paris,2161,105.4,x
+        DE,Hamburg,1841,755.2,x
+        """;
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void batches() {
+        final Iterator<ColumnBatch> batches = read(ColumnBatchHandler.of(2, STRING, SKIP, LONG, DOUBLE), DATA);
+
+        ColumnBatch batch = batches.next();
+        assertThat(batch.getRowCount()).isEqualTo(2);
+        assertThat(batch.getCapacity()).isEqualTo(2);
+        assertThat(batch.getColumnCount()).isEqualTo(4);
+        assertThat(batch.getType(1)).isEqualTo(SKIP);
+        assertThat(batch.getStringCodes(0)).startsWith(0, 1);
+        assertThat(batch.getDictionary(0)).containsExactly("DE", "US");
+        assertThat(batch.getLongs(2)).startsWith(3645, 675);
+        assertThat(batch.getDoubles(3)).startsWith(891.1, 232.1);
+
+        final ColumnBatch first = batch;
+        batch = batches.next();
+        assertThat(batch).isSameAs(first);
+        assertThat(batch.getRowCount()).isEqualTo(2);
+        assertThat(batch.getDictionary(0)).containsExactly("DE", "FR");
+        assertThat(batch.getString(0, 1)).isEqualTo("FR");
+        assertThat(batch.isNull(2, 0)).isTrue();
+        assertThat(batch.isNull(2, 1)).isFalse();
+        assertThat(batch.getLongs(2)).startsWith(0, 2161);
+
+        batch = batches.next();
+        assertThat(batch.getRowCount()).isOne();
+        assertThat(batch.getString(0, 0)).isEqualTo("DE");
+        assertThat(batch.getDictionary(0)).containsExactly("DE");
+
+        assertThat(batches.hasNext()).isFalse();
+        assertThatThrownBy(batches::next)
+            .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void exactMultipleOfBatchSize() {
+        final Iterator<ColumnBatch> batches = read(ColumnBatchHandler.of(1, INT), "1\n2\n");
+        assertThat(batches.next().getInts(0)).containsExactly(1);
+        assertThat(batches.next().getInts(0)).containsExactly(2);
+        assertThat(batches).isExhausted();
+    }
+
+    @Test
+    void emptyInput() {
+        assertThat(read(ColumnBatchHandler.of(10, INT), "")).isExhausted();
+    }
+
+    @Test
+    void file() throws IOException {
+        final Path file = Files.writeString(tempDir.resolve("fastcsv.csv"), "country,population\n" + DATA);
+        final ColumnBatchHandler handler = ColumnBatchHandler.of(3, List.of(STRING, SKIP, INT));
+        long population = 0;
+        try (CsvReader<ColumnBatch> csv = CsvReader.builder().commentStrategy(CommentStrategy.SKIP)
+            .build(handler, file)) {
+            csv.skipLines(1);
+            final Iterator<ColumnBatch> batches = ColumnBatchHandler.batches(csv);
+            while (batches.hasNext()) {
+                final ColumnBatch batch = batches.next();
+                final int[] values = batch.getInts(2);
+                for (int row = 0; row < batch.getRowCount(); row++) {
+                    population += values[row];
+                }
+            }
+        }
+        assertThat(population).isEqualTo(3645 + 675 + 2161 + 1841);
+    }
+
+    @Test
+    void missingFields() {
+        final CsvReader<ColumnBatch> csv = CsvReader.builder()
+            .allowMissingFields(true)
+            .build(ColumnBatchHandler.of(10, STRING, SKIP, DOUBLE), "a,b,1.5\nc\n");
+        final ColumnBatch batch = ColumnBatchHandler.batches(csv).next();
+        assertThat(batch.getRowCount()).isEqualTo(2);
+        assertThat(batch.getString(0, 1)).isEqualTo("c");
+        assertThat(batch.isNull(2, 0)).isFalse();
+        assertThat(batch.isNull(2, 1)).isTrue();
+        assertThat(batch.getDoubles(2)).startsWith(1.5, 0.0);
+        assertThat(batch.getStringCodes(0)).startsWith(0, 1);
+    }
+
+    @Test
+    void emptyString() {
+        final CsvReader<ColumnBatch> csv = CsvReader.builder()
+            .build(ColumnBatchHandler.of(10, STRING, STRING), "a,\n,b\n");
+        final ColumnBatch batch = ColumnBatchHandler.batches(csv).next();
+        assertThat(batch.getString(0, 1)).isNull();
+        assertThat(batch.getString(1, 0)).isNull();
+        assertThat(batch.getStringCodes(1)).startsWith(ColumnBatch.NULL_CODE, 0);
+    }
+
+    @Test
+    void quotedEmptyString() {
+        final CsvReader<ColumnBatch> csv = CsvReader.builder()
+            .build(ColumnBatchHandler.of(10, STRING, LONG), "\"\",\"\"\n,\n");
+        final ColumnBatch batch = ColumnBatchHandler.batches(csv).next();
+        assertThat(batch.isNull(0, 0)).isFalse();
+        assertThat(batch.getString(0, 0)).isEmpty();
+        assertThat(batch.isNull(0, 1)).isTrue();
+        assertThat(batch.getDictionary(0)).containsExactly("");
+        assertThat(batch.isNull(1, 0)).isTrue();
+        assertThat(batch.isNull(1, 1)).isTrue();
+    }
+
+    @Test
+    void rejectedRecordIsNotAdded() {
+        final CsvReader<ColumnBatch> csv = CsvReader.builder()
+            .extraFieldStrategy(FieldMismatchStrategy.SKIP)
+            .build(ColumnBatchHandler.of(10, LONG), "1\n2,2\n3\n");
+        final ColumnBatch batch = ColumnBatchHandler.batches(csv).next();
+        assertThat(batch.getRowCount()).isEqualTo(2);
+        assertThat(batch.getLongs(0)).startsWith(1, 3);
+    }
+
+    @Test
+    void rejectedRecordIsNotInDictionary() {
+        final CsvReader<ColumnBatch> csv = CsvReader.builder()
+            .extraFieldStrategy(FieldMismatchStrategy.SKIP)
+            .build(ColumnBatchHandler.of(10, STRING), "a\nb,x\nc\nb\n");
+        final ColumnBatch batch = ColumnBatchHandler.batches(csv).next();
+        assertThat(batch.getRowCount()).isEqualTo(3);
+        assertThat(batch.getDictionary(0)).containsExactly("a", "c", "b");
+        assertThat(batch.getStringCodes(0)).startsWith(0, 1, 2);
+    }
+
+    @Test
+    void manyRows() {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            sb.append(i).append(',').append(i % 3 == 0 ? "" : "v" + i % 7).append('\n');
+        }
+
+        final List<Long> values = new ArrayList<>();
+        final Iterator<ColumnBatch> batches = read(ColumnBatchHandler.of(100, LONG, STRING), sb.toString());
+        while (batches.hasNext()) {
+            final ColumnBatch batch = batches.next();
+            for (int row = 0; row < batch.getRowCount(); row++) {
+                values.add(batch.getLongs(0)[row]);
+                final long i = batch.getLongs(0)[row];
+                assertThat(batch.isNull(1, row)).isEqualTo(i % 3 == 0);
+                assertThat(batch.getString(1, row)).isEqualTo(i % 3 == 0 ? null : "v" + i % 7);
+            }
+        }
+        assertThat(values).hasSize(1000).isSorted();
+    }
+
+    @Test
+    void invalidNumber() {
+        final Iterator<ColumnBatch> batches = read(ColumnBatchHandler.of(10, LONG), "1\nx\n");
+        assertThatThrownBy(batches::hasNext)
+            .isInstanceOf(CsvParseException.class)
+            .hasMessage("Field at index 0 in record starting at line 2 is not a valid LONG value")
+            .hasCauseInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    void typeMismatch() {
+        final ColumnBatch batch = read(ColumnBatchHandler.of(10, LONG, SKIP), "1,a\n").next();
+        assertThatThrownBy(() -> batch.getInts(0))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Column 0 is of type LONG, not INT");
+        assertThatThrownBy(() -> batch.getDoubles(0))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Column 0 is of type LONG, not DOUBLE");
+        assertThatThrownBy(() -> batch.getDictionary(0))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Column 0 is of type LONG, not STRING");
+        assertThatThrownBy(() -> batch.getLongs(1))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Column 1 is of type SKIP, not LONG");
+        assertThatThrownBy(() -> batch.isNull(1, 0))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Column 1 is skipped");
+        assertThatThrownBy(() -> batch.isNull(0, 1))
+            .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> batch.getType(2))
+            .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void string() {
+        final ColumnBatch batch = read(ColumnBatchHandler.of(10, LONG, SKIP, DOUBLE, INT, STRING), "1\n").next();
+        assertThat(batch).asString()
+            .isEqualTo("ColumnBatch[columnTypes=[LONG, SKIP, DOUBLE, INT, STRING], rowCount=1, capacity=10]");
+    }
+
+    @Test
+    void invalidArguments() {
+        assertThatThrownBy(() -> ColumnBatchHandler.of(0, INT))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("batchSize must be > 0");
+        assertThatThrownBy(() -> ColumnBatchHandler.of(1, (ColumnType[]) null))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessage("columnTypes must not be null");
+        assertThatThrownBy(() -> ColumnBatchHandler.of(1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("columnTypes must not be empty");
+        assertThatThrownBy(() -> ColumnBatchHandler.batches(null))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessage("csvReader must not be null");
+    }
+
+    private static Iterator<ColumnBatch> read(final ColumnBatchHandler handler, final String data) {
+        final CsvReader<ColumnBatch> csv = CsvReader.builder()
+            .commentStrategy(CommentStrategy.SKIP)
+            .allowMissingFields(true)
+            .build(handler, data);
+        return ColumnBatchHandler.batches(csv);
+    }
+
+}
@@ -0,0 +1,214 @@
+package blackbox.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import de.siegmar.fastcsv.reader.ColumnType;
+import de.siegmar.fastcsv.reader.CommentStrategy;
+import de.siegmar.fastcsv.reader.CsvParseException;
+import de.siegmar.fastcsv.reader.CsvReader;
+import de.siegmar.fastcsv.reader.CsvRecord;
+import de.siegmar.fastcsv.reader.CsvRecordHandler;
+import de.siegmar.fastcsv.reader.FieldModifier;
+import de.siegmar.fastcsv.reader.NamedCsvRecord;
+import de.siegmar.fastcsv.reader.NamedCsvRecordHandler;
+import de.siegmar.fastcsv.reader.StringArrayHandler;
+import de.siegmar.fastcsv.reader.TypedRecordHandler;
+
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+class ColumnProjectionTest {
+
+    private static final String DATA = "a,\"b\"\"x\",c,d\n#comment\n\"e\",f,\"g\",h\n";
+
+    @TempDir
+    private Path tempDir;
+
+    @ParameterizedTest
+    @EnumSource(ParserVariant.class)
+    void selectColumns(final ParserVariant variant) throws IOException {
+        final CsvRecordHandler handler = CsvRecordHandler.of(c -> c.selectColumns(3, 1));
+        final CsvReader.CsvReaderBuilder builder = CsvReader.builder()
+            .commentStrategy(CommentStrategy.READ);
+
+        final CsvReader<CsvRecord> csvReader = variant.build(builder, handler, DATA, tempDir);
+
+        try (Stream<CsvRecord> stream = csvReader.stream()) {
+            assertThat(stream).map(CsvRecord::getFields).containsExactly(
+                List.of("b\"x", "d"),
+                List.of("comment"),
+                List.of("f", "h")
+            );
+        }
+    }
+
+    @Test
+    void fieldModifierOnlySeesSelectedFields() {
+        final List<String> modified = new ArrayList<>();
+        final FieldModifier modifier = new FieldModifier() {
+            @Override
+            public String modify(final long startingLineNumber, final int fieldIdx, final boolean quoted,
+                                 final String field) {
+                modified.add(fieldIdx + ":" + field);
+                return field;
+            }
+        };
+
+        final CsvRecordHandler handler = CsvRecordHandler.of(c -> c
+            .fieldModifier(modifier)
+            .selectColumns(2));
+        assertThat(CsvReader.builder().build(handler, "a,b,c\nd,e,f").stream())
+            .map(r -> r.getField(0))
+            .containsExactly("c", "f");
+        assertThat(modified).containsExactly("0:c", "0:f");
+    }
+
+    @Test
+    void missingColumns() {
+        final StringArrayHandler handler = StringArrayHandler.of(c -> c.selectColumns(1, 4));
+        assertThat(CsvReader.builder().allowMissingFields(true).build(handler, "a,b,c,d,e,f\na,b\na").stream())
+            .containsExactly(new String[]{"b", "e"}, new String[]{"b"}, new String[0]);
+    }
+
+    @Test
+    void fieldCountCheckConsidersAllColumns() {
+        final CsvRecordHandler handler = CsvRecordHandler.of(c -> c.selectColumns(0, 3));
+        assertThatThrownBy(() -> CsvReader.builder().build(handler, "a,b,c,d\na,b,c").stream().count())
+            .isInstanceOf(CsvParseException.class)
+            .hasMessageContaining("has 3 fields, but first record had 4 fields");
+
+        final CsvRecordHandler extraColumn = CsvRecordHandler.of(c -> c.selectColumns(0));
+        assertThatThrownBy(() -> CsvReader.builder().build(extraColumn, "a,b\na,b,c").stream().count())
+            .isInstanceOf(CsvParseException.class)
+            .hasMessageContaining("has 3 fields, but first record had 2 fields");
+    }
+
+    @Test
+    void fieldCountCheckSameForAllHandlers() {
+        final String data = "a,b,c,d\ne,f,g,h\ni,j,k";
+        final CsvRecordHandler projected = CsvRecordHandler.of(c -> c.selectColumns(0, 3));
+        final TypedRecordHandler typed = TypedRecordHandler.of(ColumnType.STRING, ColumnType.SKIP, ColumnType.SKIP,
+            ColumnType.STRING);
+        final NamedCsvRecordHandler named = NamedCsvRecordHandler.of(c -> c.selectColumns("a", "d"));
+
+        assertThatThrownBy(() -> CsvReader.builder().build(projected, data).stream().count())
+            .hasMessageContaining("has 3 fields, but first record had 4 fields");
+        assertThatThrownBy(() -> CsvReader.builder().build(typed, data).stream().count())
+            .hasMessageContaining("has 3 fields, but first record had 4 fields");
+        assertThatThrownBy(() -> CsvReader.builder().build(named, data).stream().count())
+            .hasMessageContaining("has 3 fields, but first record had 4 fields");
+    }
+
+    @Test
+    void namedByIndex() {
+        final NamedCsvRecordHandler handler = NamedCsvRecordHandler.of(c -> c.selectColumns(2, 0));
+        assertThat(CsvReader.builder().build(handler, "h1,h2,h3\na,b,c").stream())
+            .singleElement()
+            .satisfies(r -> {
+                assertThat(r.getHeader()).containsExactly("h1", "h3");
+                assertThat(r.getFieldsAsMap()).containsExactly(Map.entry("h1", "a"), Map.entry("h3", "c"));
+            });
+    }
+
+    @Test
+    void namedByIndexWithPredefinedHeader() {
+        final NamedCsvRecordHandler handler = NamedCsvRecordHandler.of(c -> c
+            .header("h1", "h2", "h3")
+            .selectColumns(1, 7));
+        assertThat(CsvReader.builder().build(handler, "a,b,c").stream())
+            .singleElement()
+            .satisfies(r -> assertThat(r.getFieldsAsMap()).containsExactly(Map.entry("h2", "b")));
+    }
+
+    @Test
+    void namedByName() {
+        final NamedCsvRecordHandler handler = NamedCsvRecordHandler.of(c -> c
+            .returnHeader(true)
+            .selectColumns("h3", "h1"));
+        final List<NamedCsvRecord> records = CsvReader.builder()
+            .build(handler, "h1,h2,h3\na,b,c\nd,e,f")
+            .stream()
+            .toList();
+
+        assertThat(records).map(NamedCsvRecord::getFields).containsExactly(
+            List.of("h1", "h3"),
+            List.of("a", "c"),
+            List.of("d", "f")
+        );
+        assertThat(records.get(2).getField("h3")).isEqualTo("f");
+    }
+
+    @Test
+    void namedByNameWithPredefinedHeader() {
+        final NamedCsvRecordHandler handler = NamedCsvRecordHandler.of(c -> c
+            .header("h1", "h2", "h3")
+            .selectColumns("h2"));
+        assertThat(CsvReader.builder().build(handler, "a,b,c").stream())
+            .singleElement()
+            .satisfies(r -> assertThat(r.getFieldsAsMap()).containsExactly(Map.entry("h2", "b")));
+    }
+
+    @Test
+    void namedByNameWithDuplicateHeader() {
+        final NamedCsvRecordHandler handler = NamedCsvRecordHandler.of(c -> c
+            .allowDuplicateHeaderFields(true)
+            .selectColumns("h1"));
+        assertThat(CsvReader.builder().build(handler, "h1,h2,h1\na,b,c").stream())
+            .singleElement()
+            .satisfies(r -> assertThat(r.getFieldsAsMapList()).containsExactly(Map.entry("h1", List.of("a", "c"))));
+    }
+
+    @Test
+    void namedByUnknownName() {
+        final NamedCsvRecordHandler handler = NamedCsvRecordHandler.of(c -> c.selectColumns("h1", "foo", "bar"));
+        assertThatThrownBy(() -> CsvReader.builder().build(handler, "h1,h2\na,b").stream().count())
+            .isInstanceOf(CsvParseException.class)
+            .hasMessage("Header does not contain selected columns: [foo, bar]");
+
+        assertThatThrownBy(() -> NamedCsvRecordHandler.of(c -> c.header("h1").selectColumns("foo")))
+            .isInstanceOf(CsvParseException.class)
+            .hasMessage("Header does not contain selected columns: [foo]");
+    }
+
+    @Test
+    void namedByIndexAndName() {
+        assertThatThrownBy(() -> NamedCsvRecordHandler.of(c -> c.selectColumns(1).selectColumns("h1")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Columns cannot be selected by index and by name at the same time");
+    }
+
+    @Test
+    void invalidArguments() {
+        assertThatThrownBy(() -> CsvRecordHandler.builder().selectColumns((int[]) null))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessage("columns must not be null");
+        assertThatThrownBy(() -> CsvRecordHandler.builder().selectColumns(new int[0]))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("columns must not be empty");
+        assertThatThrownBy(() -> CsvRecordHandler.builder().selectColumns(0, -1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("column index must be >= 0");
+
+        assertThatThrownBy(() -> NamedCsvRecordHandler.builder().selectColumns((String[]) null))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessage("names must not be null");
+        assertThatThrownBy(() -> NamedCsvRecordHandler.builder().selectColumns(new String[0]))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("names must not be empty");
+        assertThatThrownBy(() -> NamedCsvRecordHandler.builder().selectColumns("h1", null))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessage("name must not be null");
+    }
+
+}
@@ -0,0 +1,182 @@
+package blackbox.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import de.siegmar.fastcsv.reader.CommentStrategy;
+import de.siegmar.fastcsv.reader.CsvReader;
+import de.siegmar.fastcsv.reader.FieldMismatchStrategy;
+
+class CountRecordsTest {
+
+    private static final String DATA = "a,b\r\n\"c\nd\",e\n\n#comment\n\"f\"\"\",g\rh,i";
+
+    @TempDir
+    private Path tmpDir;
+
+    @Test
+    void defaults() throws IOException {
+        assertThat(CsvReader.countRecords(stream(DATA))).isEqualTo(5);
+
+        final Path file = tmpDir.resolve("data.csv");
+        Files.writeString(file, DATA);
+        assertThat(CsvReader.countRecords(file)).isEqualTo(5);
+    }
+
+    @Test
+    void emptyInput() throws IOException {
+        assertThat(CsvReader.countRecords(stream(""))).isZero();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "", "a", "a\n", "a\n\n", "\n", "\r\n\r\n", "a\rb\r\nc\nd", "\"a\nb\"\n\"c\r\n\"", "\"unclosed\na\n",
+        "#a\n#b\"\n\"c", "a,#b\n#c,d\n", "\"a\"\"\n\"\"\"\n", "\"a\"\"\",b\n\n\nc,d"
+    })
+    void sameAsReader(final String data) throws IOException {
+        for (final CommentStrategy commentStrategy : CommentStrategy.values()) {
+            for (final boolean skipEmptyLines : new boolean[]{true, false}) {
+                final CsvReader.CsvReaderBuilder builder = CsvReader.builder()
+                    .commentStrategy(commentStrategy)
+                    .skipEmptyLines(skipEmptyLines)
+                    .allowUnclosedQuote(true);
+
+                assertThat(builder.countRecords(stream(data)))
+                    .as("commentStrategy=%s, skipEmptyLines=%s", commentStrategy, skipEmptyLines)
+                    .isEqualTo(builder.ofCsvRecord(data).stream().count());
+            }
+        }
+    }
+
+    @Test
+    void comments() throws IOException {
+        final String data = "#a\nb\n#c\n";
+        assertThat(CsvReader.builder().commentStrategy(CommentStrategy.NONE).countRecords(stream(data)))
+            .isEqualTo(3);
+        assertThat(CsvReader.builder().commentStrategy(CommentStrategy.READ).countRecords(stream(data)))
+            .isEqualTo(3);
+        assertThat(CsvReader.builder().commentStrategy(CommentStrategy.SKIP).countRecords(stream(data)))
+            .isEqualTo(1);
+    }
+
+    @Test
+    void emptyLines() throws IOException {
+        final String data = "a\n\r\n\rb\n";
+        assertThat(CsvReader.builder().skipEmptyLines(true).countRecords(stream(data)))
+            .isEqualTo(2);
+        assertThat(CsvReader.builder().skipEmptyLines(false).countRecords(stream(data)))
+            .isEqualTo(4);
+    }
+
+    @Test
+    void customDialect() throws IOException {
+        final String data = "a;'b\n;c'\nd;e;'f''\n'\n";
+        assertThat(CsvReader.builder().fieldSeparator(';').quoteCharacter('\'').countRecords(stream(data)))
+            .isEqualTo(2);
+    }
+
+    @Test
+    void fieldCountIsNotChecked() throws IOException {
+        final CsvReader.CsvReaderBuilder builder = CsvReader.builder()
+            .extraFieldStrategy(FieldMismatchStrategy.STRICT)
+            .missingFieldStrategy(FieldMismatchStrategy.STRICT);
+
+        assertThat(builder.countRecords(stream("a,b\nc\nd,e,f\n"))).isEqualTo(3);
+        assertThat(builder.fieldSeparator("||").countRecords(stream("a||b\nc\nd||e||f\n"))).isEqualTo(3);
+    }
+
+    @Test
+    void multiCharFieldSeparator() throws IOException {
+        // the quote in the second line isn't at the beginning of a field
+        final String data = "a||\"b\nc\"\nd|\"e\n";
+        assertThat(CsvReader.builder().fieldSeparator("||").countRecords(stream(data)))
+            .isEqualTo(2);
+    }
+
+    @Test
+    void relaxed() throws IOException {
+        // the quote after the whitespace starts a quoted field
+        final String data = "a, \"b\nc\" \nd\n";
+        assertThat(CsvReader.builder().trimWhitespacesAroundQuotes(true).countRecords(stream(data)))
+            .isEqualTo(2);
+    }
+
+    @Test
+    void bomHeader() throws IOException {
+        final byte[] bom = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+        final byte[] data = "#a\nb\n".getBytes(StandardCharsets.UTF_8);
+        final byte[] withBom = new byte[bom.length + data.length];
+        System.arraycopy(bom, 0, withBom, 0, bom.length);
+        System.arraycopy(data, 0, withBom, bom.length, data.length);
+
+        final CsvReader.CsvReaderBuilder builder = CsvReader.builder().commentStrategy(CommentStrategy.SKIP);
+
+        // without BOM detection, the BOM is part of the first record, which therefore isn't a comment
+        assertThat(builder.countRecords(new ByteArrayInputStream(withBom))).isEqualTo(2);
+        assertThat(builder.detectBomHeader(true).countRecords(new ByteArrayInputStream(withBom))).isEqualTo(1);
+    }
+
+    @Test
+    void utf16() throws IOException {
+        final Path file = tmpDir.resolve("data.csv");
+        Files.writeString(file, DATA, StandardCharsets.UTF_16LE);
+        assertThat(CsvReader.builder().countRecords(file, StandardCharsets.UTF_16LE)).isEqualTo(5);
+
+        Files.writeString(file, DATA, StandardCharsets.UTF_16);
+        assertThat(CsvReader.builder().detectBomHeader(true).countRecords(file, StandardCharsets.UTF_8))
+            .isEqualTo(5);
+    }
+
+    @Test
+    void format() throws IOException {
+        final var format = CsvReader.builder().commentStrategy(CommentStrategy.SKIP).compile();
+        assertThat(format.countRecords(stream(DATA))).isEqualTo(4);
+        assertThat(format.countRecords(stream(DATA), Charset.forName("windows-1252"))).isEqualTo(4);
+    }
+
+    @Test
+    void closesInputStream() throws IOException {
+        final var closed = new AtomicBoolean();
+        final InputStream in = new ByteArrayInputStream("a\nb\n".getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+
+        assertThat(CsvReader.countRecords(in)).isEqualTo(2);
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void nullArguments() {
+        assertThatThrownBy(() -> CsvReader.countRecords((Path) null))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessage("file must not be null");
+        assertThatThrownBy(() -> CsvReader.countRecords((InputStream) null))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessage("inputStream must not be null");
+        assertThatThrownBy(() -> CsvReader.builder().countRecords(stream(""), null))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessage("charset must not be null");
+    }
+
+    private static InputStream stream(final String data) {
+        return new ByteArrayInputStream(data.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
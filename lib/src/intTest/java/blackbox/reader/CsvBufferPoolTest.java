@@ -0,0 +1,169 @@
+package blackbox.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import de.siegmar.fastcsv.reader.AbstractBaseCsvCallbackHandler;
+import de.siegmar.fastcsv.reader.CsvBufferPool;
+import de.siegmar.fastcsv.reader.CsvFeeder;
+import de.siegmar.fastcsv.reader.CsvReader;
+import de.siegmar.fastcsv.reader.CsvRecord;
+import de.siegmar.fastcsv.reader.CsvRecordHandler;
+
+class CsvBufferPoolTest {
+
+    private static final int INITIAL_BUFFER_SIZE = 16_384;
+    private static final String DATA = "a,b\n" + "x".repeat(100_000) + ",y\n" + "c,d\n".repeat(10_000);
+
+    @Test
+    void invalidMaxBuffers() {
+        assertThatThrownBy(() -> CsvBufferPool.shared(0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("maxBuffers must be > 0");
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void bufferShrinksAfterOversizedRecord(final boolean trimWhitespacesAroundQuotes) {
+        final BufferSizeHandler handler = new BufferSizeHandler();
+        CsvReader.builder()
+            .trimWhitespacesAroundQuotes(trimWhitespacesAroundQuotes)
+            .build(handler, new StringReader(DATA))
+            .stream()
+            .count();
+
+        assertThat(handler.bufferSizes())
+            .hasSize(10_002)
+            .startsWith(INITIAL_BUFFER_SIZE)
+            .endsWith(INITIAL_BUFFER_SIZE)
+            .anySatisfy(size -> assertThat(size).isGreaterThan(100_000));
+    }
+
+    @Test
+    void pushModeBufferShrinksAfterOversizedRecord() {
+        final BufferSizeHandler handler = new BufferSizeHandler();
+        final CsvFeeder<Integer> feeder = CsvReader.builder().buildFeeder(handler, size -> {
+        });
+
+        final char[] data = DATA.toCharArray();
+        feeder.feed(data, 0, data.length);
+        feeder.endOfInput();
+
+        assertThat(handler.bufferSizes())
+            .hasSize(10_002)
+            .endsWith(INITIAL_BUFFER_SIZE)
+            .anySatisfy(size -> assertThat(size).isGreaterThan(100_000));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void sharedPool(final boolean trimWhitespacesAroundQuotes) throws Exception {
+        final CsvReader.CsvReaderBuilder builder = CsvReader.builder()
+            .trimWhitespacesAroundQuotes(trimWhitespacesAroundQuotes)
+            .bufferPool(CsvBufferPool.shared(2));
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<List<CsvRecord>>> results = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                final String data = "foo,%d\n".formatted(i).repeat(1000);
+                results.add(executor.submit(() -> read(builder, data)));
+            }
+
+            for (int i = 0; i < results.size(); i++) {
+                assertThat(results.get(i).get())
+                    .hasSize(1000)
+                    .extracting(rec -> rec.getField(1))
+                    .containsOnly(String.valueOf(i));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void threadLocalPool() {
+        final CsvReader.CsvReaderBuilder builder = CsvReader.builder()
+            .bufferPool(CsvBufferPool.threadLocal());
+
+        for (int i = 0; i < 10; i++) {
+            final String data = "foo,%d\n".formatted(i).repeat(10_000);
+            assertThat(read(builder, data))
+                .hasSize(10_000)
+                .extracting(rec -> rec.getField(1))
+                .containsOnly(String.valueOf(i));
+        }
+    }
+
+    @Test
+    void pooledFeeder() {
+        final CsvReader.CsvReaderBuilder builder = CsvReader.builder()
+            .bufferPool(CsvBufferPool.shared(1));
+
+        for (int i = 0; i < 10; i++) {
+            final List<CsvRecord> records = new ArrayList<>();
+            final CsvFeeder<CsvRecord> feeder = builder.buildFeeder(CsvRecordHandler.of(), records::add);
+            final char[] data = "foo,%d\n".formatted(i).repeat(10_000).toCharArray();
+            feeder.feed(data, 0, data.length);
+            feeder.endOfInput();
+
+            assertThat(records)
+                .hasSize(10_000)
+                .extracting(rec -> rec.getField(1))
+                .containsOnly(String.valueOf(i));
+        }
+    }
+
+    @Test
+    void builderToString() {
+        assertThat(CsvReader.builder().bufferPool(CsvBufferPool.shared(8)))
+            .asString()
+            .contains("bufferPool=CsvBufferPool[type=shared(8)]");
+    }
+
+    private static List<CsvRecord> read(final CsvReader.CsvReaderBuilder builder, final String data) {
+        try (CsvReader<CsvRecord> csv = builder.ofCsvRecord(new StringReader(data))) {
+            return csv.stream().toList();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /// Records the size of the parser buffer each record has been read from.
+    private static final class BufferSizeHandler extends AbstractBaseCsvCallbackHandler<Integer> {
+
+        private final List<Integer> bufferSizes = new ArrayList<>();
+        private int bufferSize;
+
+        List<Integer> bufferSizes() {
+            return bufferSizes;
+        }
+
+        @Override
+        protected void handleField(final int fieldIdx, final char[] buf, final int offset, final int len,
+                                   final boolean quoted) {
+            bufferSize = buf.length;
+        }
+
+        @Override
+        protected Integer buildRecord() {
+            bufferSizes.add(bufferSize);
+            return bufferSize;
+        }
+
+    }
+
+}
@@ -1,12 +1,18 @@
 package blackbox.reader;
 
+import java.util.List;
+
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import de.siegmar.fastcsv.reader.CommentStrategy;
 import de.siegmar.fastcsv.reader.CsvParseException;
 import de.siegmar.fastcsv.reader.CsvReader;
+import de.siegmar.fastcsv.reader.CsvRecord;
 import de.siegmar.fastcsv.reader.CsvRecordHandler;
+import de.siegmar.fastcsv.reader.FieldModifiers;
+import de.siegmar.fastcsv.reader.NamedCsvRecord;
+import de.siegmar.fastcsv.reader.NamedCsvRecordHandler;
 
 class CsvCallbackHandlerTest {
 
@@ -99,4 +105,49 @@ class CsvCallbackHandlerTest {
             .hasNoCause();
     }
 
+    @Test
+    void invalidInternCacheSize() {
+        Assertions.assertThatCode(() -> CsvRecordHandler.of(c -> c.internCacheSize(-1)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("internCacheSize must be >= 0 and <= 65536");
+        Assertions.assertThatCode(() -> CsvRecordHandler.of(c -> c.internCacheSize(65_537)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("internCacheSize must be >= 0 and <= 65536");
+    }
+
+    @Test
+    void internCache() {
+        final String csv = "DE,foo\nDE,foo\nUS,foo\n";
+        final CsvRecordHandler cbh = CsvRecordHandler.of(c -> c.internCacheSize(2));
+        final List<CsvRecord> records = CsvReader.builder().build(cbh, csv).stream().toList();
+
+        Assertions.assertThat(records.get(1).getField(0))
+            .isEqualTo("DE")
+            .isSameAs(records.get(0).getField(0));
+        Assertions.assertThat(records.get(2).getField(1))
+            .isSameAs(records.get(0).getField(1));
+    }
+
+    @Test
+    void internCacheBeforeFieldModifier() {
+        final String csv = "header\n de \n de \n";
+        final NamedCsvRecordHandler cbh = NamedCsvRecordHandler.of(c -> c
+            .internCacheSize(10)
+            .fieldModifier(FieldModifiers.TRIM)
+        );
+        final List<NamedCsvRecord> records = CsvReader.builder().build(cbh, csv).stream().toList();
+
+        Assertions.assertThat(records)
+            .extracting(r -> r.getField("header"))
+            .containsExactly("de", "de");
+    }
+
+    @Test
+    void internCacheDisabledByDefault() {
+        final List<CsvRecord> records = CsvReader.builder().ofCsvRecord("DE\nDE\n").stream().toList();
+        Assertions.assertThat(records.get(1).getField(0))
+            .isEqualTo(records.get(0).getField(0))
+            .isNotSameAs(records.get(0).getField(0));
+    }
+
 }
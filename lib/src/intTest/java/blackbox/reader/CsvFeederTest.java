@@ -0,0 +1,213 @@
+package blackbox.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import de.siegmar.fastcsv.reader.CommentStrategy;
+import de.siegmar.fastcsv.reader.CsvFeeder;
+import de.siegmar.fastcsv.reader.CsvParseException;
+import de.siegmar.fastcsv.reader.CsvReader;
+import de.siegmar.fastcsv.reader.CsvRecord;
+import de.siegmar.fastcsv.reader.CsvRecordHandler;
+import de.siegmar.fastcsv.reader.FieldModifier;
+import de.siegmar.fastcsv.reader.NamedCsvRecord;
+import de.siegmar.fastcsv.reader.NamedCsvRecordHandler;
+
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+class CsvFeederTest {
+
+    private static final String DATA = "foo,\"b\"\"ä\r\nr\"\r\n#comment\n\n€,ö\r\"x\",y\nlast,\"";
+
+    private final List<String> records = new ArrayList<>();
+    private final CsvReader.CsvReaderBuilder crb = CsvReader.builder()
+        .commentStrategy(CommentStrategy.READ)
+        .skipEmptyLines(false)
+        .allowMissingFields(true);
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 5, 7, 100})
+    void chars(final int chunkSize) {
+        final CsvFeeder<CsvRecord> feeder = crb.buildFeeder(CsvRecordHandler.of(), this::collect);
+        final char[] data = DATA.toCharArray();
+        for (int i = 0; i < data.length; i += chunkSize) {
+            feeder.feed(data, i, Math.min(chunkSize, data.length - i));
+        }
+        feeder.endOfInput();
+
+        assertThat(records).containsExactlyElementsOf(expected());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 5, 7, 100})
+    void bytes(final int chunkSize) {
+        final CsvFeeder<CsvRecord> feeder = crb.buildFeeder(CsvRecordHandler.of(), StandardCharsets.UTF_8,
+            this::collect);
+        final byte[] data = DATA.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < data.length; i += chunkSize) {
+            final ByteBuffer chunk = ByteBuffer.wrap(data, i, Math.min(chunkSize, data.length - i));
+            feeder.feed(chunk);
+            assertThat(chunk.hasRemaining()).isFalse();
+        }
+        feeder.endOfInput();
+
+        assertThat(records).containsExactlyElementsOf(expected());
+    }
+
+    @Test
+    void recordsArePassedWhenComplete() {
+        final CsvFeeder<CsvRecord> feeder = crb.buildFeeder(CsvRecordHandler.of(), this::collect);
+        feed(feeder, "a,b");
+        assertThat(records).isEmpty();
+        feed(feeder, "\nc");
+        assertThat(records).containsExactly("1:[a, b]");
+        feed(feeder, ",d\r");
+        assertThat(records).containsExactly("1:[a, b]", "2:[c, d]");
+        feed(feeder, "\ne\n");
+        assertThat(records).containsExactly("1:[a, b]", "2:[c, d]", "3:[e]");
+        feeder.endOfInput();
+        assertThat(records).containsExactly("1:[a, b]", "2:[c, d]", "3:[e]");
+    }
+
+    @Test
+    void incompleteMultibyteSequenceAtEnd() {
+        final CsvFeeder<CsvRecord> feeder = CsvReader.builder().buildFeeder(CsvRecordHandler.of(), this::collect);
+        final byte[] euro = "€".getBytes(StandardCharsets.UTF_8);
+        feeder.feed(ByteBuffer.wrap(new byte[]{'a', ',', euro[0], euro[1]}));
+        feeder.endOfInput();
+        assertThat(records).containsExactly("1:[a, �]");
+    }
+
+    @Test
+    void namedRecords() {
+        final List<NamedCsvRecord> named = new ArrayList<>();
+        final CsvFeeder<NamedCsvRecord> feeder = CsvReader.builder()
+            .buildFeeder(NamedCsvRecordHandler.of(), named::add);
+        feed(feeder, "head1,he");
+        feed(feeder, "ad2\nval1,val2\n");
+        feeder.endOfInput();
+        assertThat(named).singleElement()
+            .satisfies(rec -> assertThat(rec.getField("head2")).isEqualTo("val2"));
+    }
+
+    @Test
+    void largeField() {
+        final CsvFeeder<CsvRecord> feeder = CsvReader.builder()
+            .buildFeeder(CsvRecordHandler.of(), this::collect);
+        final String field = "x".repeat(50_000);
+        feed(feeder, "\"" + field);
+        feed(feeder, field + "\",a\n");
+        feeder.endOfInput();
+        assertThat(records).singleElement().asString().hasSize(100_000 + 7);
+    }
+
+    @Test
+    void maxBufferSize() {
+        final CsvFeeder<CsvRecord> feeder = CsvReader.builder()
+            .maxBufferSize(10_000)
+            .buildFeeder(CsvRecordHandler.of(), this::collect);
+        feed(feeder, "\"" + "x".repeat(9000));
+        assertThatThrownBy(() -> feed(feeder, "x".repeat(2000)))
+            .isInstanceOf(CsvParseException.class)
+            .hasMessageStartingWith("The maximum buffer size of 10000 is insufficient");
+    }
+
+    @Test
+    void fieldCountMismatch() {
+        final CsvFeeder<CsvRecord> feeder = CsvReader.builder().buildFeeder(CsvRecordHandler.of(), this::collect);
+        feed(feeder, "a,b\n");
+        assertThatThrownBy(() -> feed(feeder, "c\n"))
+            .isInstanceOf(CsvParseException.class)
+            .hasMessage("Record 2 has 1 fields, but first record had 2 fields");
+    }
+
+    @Test
+    void handlerException() {
+        final CsvFeeder<CsvRecord> feeder = CsvReader.builder()
+            .buildFeeder(CsvRecordHandler.of(c -> c.fieldModifier(new FieldModifier() {
+                @Override
+                public String modify(final long startingLineNumber, final int fieldIdx, final boolean quoted,
+                                     final String field) {
+                    throw new IllegalStateException("Cannot modify");
+                }
+            })), this::collect);
+        assertThatThrownBy(() -> feed(feeder, "a,b\n"))
+            .isInstanceOf(CsvParseException.class)
+            .hasMessage("Exception when reading record that started in line 1")
+            .hasRootCauseMessage("Cannot modify");
+    }
+
+    @Test
+    void endOfInput() {
+        final CsvFeeder<CsvRecord> feeder = CsvReader.builder().buildFeeder(CsvRecordHandler.of(), this::collect);
+        feeder.endOfInput();
+        feeder.endOfInput();
+        assertThat(records).isEmpty();
+        assertThat(feeder).asString().isEqualTo("CsvFeeder[charset=UTF-8, ended=true]");
+
+        assertThatThrownBy(() -> feed(feeder, "a"))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Input has already ended");
+        assertThatThrownBy(() -> feeder.feed(ByteBuffer.allocate(1)))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Input has already ended");
+    }
+
+    @Test
+    void invalidArguments() {
+        final CsvFeeder<CsvRecord> feeder = CsvReader.builder().buildFeeder(CsvRecordHandler.of(), this::collect);
+        assertThatThrownBy(() -> feeder.feed((ByteBuffer) null))
+            .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> feeder.feed(null, 0, 0))
+            .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> feeder.feed(new char[1], 1, 1))
+            .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> CsvReader.builder().buildFeeder(CsvRecordHandler.of(), null, this::collect))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 100})
+    void multiCharFieldSeparator(final int chunkSize) {
+        final CsvFeeder<CsvRecord> feeder = CsvReader.builder().fieldSeparator("||")
+            .buildFeeder(CsvRecordHandler.of(), this::collect);
+        final char[] data = "a||b|c||\"d||\"\ne||f|||g".toCharArray();
+        for (int i = 0; i < data.length; i += chunkSize) {
+            feeder.feed(data, i, Math.min(chunkSize, data.length - i));
+        }
+        feeder.endOfInput();
+
+        assertThat(records).containsExactly("1:[a, b|c, d||]", "2:[e, f, |g]");
+    }
+
+    @Test
+    void relaxedModeNotSupported() {
+        assertThatThrownBy(() -> CsvReader.builder().trimWhitespacesAroundQuotes(true)
+            .buildFeeder(CsvRecordHandler.of(), this::collect))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageStartingWith("Push-based parsing is not supported in relaxed mode");
+    }
+
+    private static void feed(final CsvFeeder<?> feeder, final String data) {
+        feeder.feed(data.toCharArray(), 0, data.length());
+    }
+
+    private void collect(final CsvRecord rec) {
+        records.add(rec.getStartingLineNumber() + ":" + rec.getFields());
+    }
+
+    private List<String> expected() {
+        final List<String> expected = new ArrayList<>();
+        crb.ofCsvRecord(DATA).forEach(rec -> expected.add(rec.getStartingLineNumber() + ":" + rec.getFields()));
+        return expected;
+    }
+
+}
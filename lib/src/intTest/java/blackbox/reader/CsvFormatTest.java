@@ -0,0 +1,143 @@
+package blackbox.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import de.siegmar.fastcsv.reader.CommentStrategy;
+import de.siegmar.fastcsv.reader.CsvFormat;
+import de.siegmar.fastcsv.reader.CsvReader;
+import de.siegmar.fastcsv.reader.CsvRecord;
+import de.siegmar.fastcsv.reader.NamedCsvRecord;
+import de.siegmar.fastcsv.writer.CsvWriter;
+
+class CsvFormatTest {
+
+    private static final String DATA = "id;name\n1;\"foo;bar\"\n#comment\n2;baz\n";
+
+    private final CsvFormat format = CsvReader.builder()
+        .fieldSeparator(';')
+        .commentStrategy(CommentStrategy.SKIP)
+        .compile();
+
+    @Test
+    void readString() {
+        assertThat(format.ofCsvRecord(DATA).stream())
+            .map(CsvRecord::getFields)
+            .containsExactly(List.of("id", "name"), List.of("1", "foo;bar"), List.of("2", "baz"));
+    }
+
+    @Test
+    void readReader() {
+        assertThat(format.ofNamedCsvRecord(new StringReader(DATA)).stream())
+            .map(rec -> rec.getField("name"))
+            .containsExactly("foo;bar", "baz");
+    }
+
+    @Test
+    void readInputStream() {
+        final byte[] data = DATA.getBytes(StandardCharsets.UTF_8);
+        assertThat(format.ofCsvRecord(new ByteArrayInputStream(data)).stream())
+            .map(CsvRecord::getFields)
+            .containsExactly(List.of("id", "name"), List.of("1", "foo;bar"), List.of("2", "baz"));
+    }
+
+    @Test
+    void sameResultAsBuilder() {
+        final CsvReader.CsvReaderBuilder builder = CsvReader.builder()
+            .fieldSeparator("~~")
+            .trimWhitespacesAroundQuotes(true);
+        final String data = "a~~ \"b\" ~~c\nd~~e~~f\n";
+
+        assertThat(builder.compile().ofCsvRecord(data).stream().map(CsvRecord::getFields))
+            .containsExactlyElementsOf(builder.ofCsvRecord(data).stream().map(CsvRecord::getFields).toList());
+    }
+
+    @Test
+    void notAffectedByBuilderChanges() {
+        final CsvReader.CsvReaderBuilder builder = CsvReader.builder().fieldSeparator(';');
+        final CsvFormat compiled = builder.compile();
+        builder.fieldSeparator(',');
+
+        assertThat(compiled.ofCsvRecord("a;b,c").stream())
+            .map(CsvRecord::getFields)
+            .containsExactly(List.of("a", "b,c"));
+    }
+
+    @Test
+    void validatedOnCompile() {
+        assertThatThrownBy(() -> CsvReader.builder().fieldSeparator('"').compile())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Control characters must differ (fieldSeparator=\", quoteCharacter=\")");
+
+        assertThatThrownBy(() -> CsvReader.builder().fieldSeparator("a\nb").compile())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("fieldSeparator must not contain newline chars");
+
+        assertThatThrownBy(() -> CsvReader.builder()
+            .trimWhitespacesAroundQuotes(true)
+            .allowExtraCharsAfterClosingQuote(true)
+            .compile())
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("allowExtraCharsAfterClosingQuote is not supported in relaxed mode");
+    }
+
+    @Test
+    void nullArguments() {
+        assertThatThrownBy(() -> format.ofCsvRecord((String) null))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessage("data must not be null");
+        assertThatThrownBy(() -> format.build(null, "foo"))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessage("callbackHandler must not be null");
+    }
+
+    @Test
+    void sharedBetweenThreads() {
+        final List<String> names = IntStream.range(0, 1000).parallel()
+            .mapToObj(i -> format.ofNamedCsvRecord("id;name\n%d;name%d\n".formatted(i, i)).stream()
+                .findFirst()
+                .map(NamedCsvRecord::getFieldsAsMap)
+                .map(fields -> fields.get("id") + "=" + fields.get("name"))
+                .orElseThrow())
+            .toList();
+
+        assertThat(names)
+            .hasSize(1000)
+            .allSatisfy(name -> assertThat(name).matches("(\\d+)=name\\1"));
+    }
+
+    @Test
+    void writer() throws IOException {
+        final StringWriter sw = new StringWriter();
+        try (CsvWriter csv = format.writer().build(sw)) {
+            csv.writeRecord("1", "foo;bar").writeComment("comment");
+        }
+
+        assertThat(sw).asString().isEqualTo("1;\"foo;bar\"\r\n#comment\r\n");
+    }
+
+    @Test
+    void writerMultiCharSeparator() {
+        final CsvFormat multiChar = CsvReader.builder().fieldSeparator("~~").compile();
+        assertThatThrownBy(multiChar::writer)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("CsvWriter does not support multi-character field separators");
+    }
+
+    @Test
+    void formatToString() {
+        assertThat(format).asString()
+            .startsWith("CsvFormat[fieldSeparator=;, quoteCharacter=\", commentStrategy=SKIP");
+    }
+
+}
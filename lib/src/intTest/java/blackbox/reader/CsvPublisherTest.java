@@ -0,0 +1,337 @@
+package blackbox.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import de.siegmar.fastcsv.reader.CsvParseException;
+import de.siegmar.fastcsv.reader.CsvPublisher;
+import de.siegmar.fastcsv.reader.CsvReader;
+import de.siegmar.fastcsv.reader.CsvRecord;
+
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+class CsvPublisherTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void publishAll() throws Exception {
+        final TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+        CsvPublisher.of(reader("a\nb\nc\n"), executor).subscribe(subscriber);
+
+        assertThat(subscriber.completion().get(5, TimeUnit.SECONDS)).isNull();
+        assertThat(subscriber.records()).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    void demand() {
+        final TestSubscriber subscriber = new TestSubscriber(0);
+        CsvPublisher.of(reader("a\nb\nc\n")).subscribe(subscriber);
+        assertThat(subscriber.records()).isEmpty();
+
+        subscriber.subscription().request(2);
+        assertThat(subscriber.records()).containsExactly("a", "b");
+        assertThat(subscriber.completion()).isNotDone();
+
+        subscriber.subscription().request(1);
+        assertThat(subscriber.records()).containsExactly("a", "b", "c");
+        assertThat(subscriber.completion()).isNotDone();
+
+        subscriber.subscription().request(1);
+        assertThat(subscriber.completion()).isCompleted();
+    }
+
+    @Test
+    void requestFromOnNext() throws Exception {
+        final TestSubscriber subscriber = new TestSubscriber(1) {
+            @Override
+            public void onNext(final CsvRecord item) {
+                super.onNext(item);
+                subscription().request(1);
+            }
+        };
+        CsvPublisher.of(reader("a\nb\nc\n"), executor).subscribe(subscriber);
+
+        assertThat(subscriber.completion().get(5, TimeUnit.SECONDS)).isNull();
+        assertThat(subscriber.records()).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    void cancel() {
+        final AtomicBoolean closed = new AtomicBoolean();
+        final StringReader source = new StringReader("a\nb\nc\n") {
+            @Override
+            public void close() {
+                closed.set(true);
+                super.close();
+            }
+        };
+
+        final TestSubscriber subscriber = new TestSubscriber(1);
+        CsvPublisher.of(CsvReader.builder().ofCsvRecord(source)).subscribe(subscriber);
+        subscriber.subscription().cancel();
+        subscriber.subscription().request(1);
+
+        assertThat(closed).isTrue();
+        assertThat(subscriber.records()).containsExactly("a");
+        assertThat(subscriber.completion()).isNotDone();
+    }
+
+    @Test
+    void parseError() {
+        final TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+        CsvPublisher.of(reader("a\nb,c\n")).subscribe(subscriber);
+
+        assertThat(subscriber.records()).containsExactly("a");
+        assertThat(subscriber.completion()).isCompletedExceptionally();
+        assertThatThrownBy(subscriber.completion()::join)
+            .hasCauseInstanceOf(CsvParseException.class);
+    }
+
+    @Test
+    void invalidRequest() {
+        final TestSubscriber subscriber = new TestSubscriber(0);
+        CsvPublisher.of(reader("a\n")).subscribe(subscriber);
+        subscriber.subscription().request(0);
+
+        assertThatThrownBy(subscriber.completion()::join)
+            .hasCauseInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Requested number of records must be > 0, was 0");
+    }
+
+    @Test
+    void throwingSubscriber() {
+        final TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE) {
+            @Override
+            public void onNext(final CsvRecord item) {
+                super.onNext(item);
+                throw new IllegalStateException("Cannot process");
+            }
+        };
+        CsvPublisher.of(reader("a\nb\n")).subscribe(subscriber);
+
+        assertThat(subscriber.records()).containsExactly("a");
+        assertThatThrownBy(subscriber.completion()::join)
+            .hasCauseInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Cannot process");
+    }
+
+    @Test
+    void throwingSubscriberOnExecutor() throws Exception {
+        final TestSubscriber subscriber = new TestSubscriber(1) {
+            @Override
+            public void onNext(final CsvRecord item) {
+                super.onNext(item);
+                throw new IllegalStateException("Cannot process");
+            }
+        };
+        CsvPublisher.of(reader("a\nb\n"), executor).subscribe(subscriber);
+
+        assertThatThrownBy(() -> subscriber.completion().get(5, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(IllegalStateException.class);
+
+        // further signals are drained (and ignored) after the failed drain
+        subscriber.subscription().request(1);
+        subscriber.subscription().cancel();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(subscriber.records()).containsExactly("a");
+    }
+
+    @Test
+    void batches() throws Exception {
+        final BatchSubscriber subscriber = new BatchSubscriber(Long.MAX_VALUE);
+        CsvPublisher.ofBatches(reader("a\nb\nc\nd\ne\n"), 2, executor).subscribe(subscriber);
+
+        assertThat(subscriber.completion.get(5, TimeUnit.SECONDS)).isNull();
+        assertThat(subscriber.batches).containsExactly(List.of("a", "b"), List.of("c", "d"), List.of("e"));
+    }
+
+    @Test
+    void batchDemand() {
+        final BatchSubscriber subscriber = new BatchSubscriber(1);
+        CsvPublisher.ofBatches(reader("a\nb\nc\n"), 2).subscribe(subscriber);
+        assertThat(subscriber.batches).containsExactly(List.of("a", "b"));
+        assertThat(subscriber.completion).isNotDone();
+
+        subscriber.subscription.request(2);
+        assertThat(subscriber.batches).containsExactly(List.of("a", "b"), List.of("c"));
+        assertThat(subscriber.completion).isCompleted();
+    }
+
+    @Test
+    void singleSubscriber() {
+        final CsvPublisher<CsvRecord> publisher = CsvPublisher.of(reader("a\n"));
+        publisher.subscribe(new TestSubscriber(0));
+
+        final TestSubscriber second = new TestSubscriber(1);
+        publisher.subscribe(second);
+        assertThatThrownBy(second.completion()::join)
+            .hasCauseInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("CsvPublisher only supports a single subscriber");
+        second.subscription().cancel();
+    }
+
+    @Test
+    void rejectedExecution() {
+        executor.shutdown();
+        final TestSubscriber subscriber = new TestSubscriber(1);
+        CsvPublisher.of(reader("a\n"), executor).subscribe(subscriber);
+
+        assertThatThrownBy(subscriber.completion()::join)
+            .hasCauseInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void manyRecords() throws Exception {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            sb.append(i).append('\n');
+        }
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        final TestSubscriber subscriber = new TestSubscriber(16) {
+            @Override
+            public void onNext(final CsvRecord item) {
+                super.onNext(item);
+                if (records().size() % 16 == 0) {
+                    subscription().request(16);
+                }
+            }
+
+            @Override
+            public void onComplete() {
+                super.onComplete();
+                latch.countDown();
+            }
+        };
+        CsvPublisher.of(CsvReader.builder().ofCsvRecord(new StringReader(sb.toString())), executor)
+            .subscribe(subscriber);
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(subscriber.records()).hasSize(10_000).endsWith("9999");
+    }
+
+    @Test
+    void nullArguments() {
+        assertThatThrownBy(() -> CsvPublisher.of(null))
+            .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> CsvPublisher.of(reader(""), null))
+            .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> CsvPublisher.of(reader("")).subscribe(null))
+            .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> CsvPublisher.ofBatches(null, 1))
+            .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> CsvPublisher.ofBatches(reader(""), 1, null))
+            .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> CsvPublisher.ofBatches(reader(""), 0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("batchSize must be > 0");
+    }
+
+    private static CsvReader<CsvRecord> reader(final String data) {
+        return CsvReader.builder().ofCsvRecord(data);
+    }
+
+    private static class TestSubscriber implements Flow.Subscriber<CsvRecord> {
+
+        private final List<String> records = new CopyOnWriteArrayList<>();
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+        private final long initialRequest;
+        private Flow.Subscription subscription;
+
+        TestSubscriber(final long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        List<String> records() {
+            return records;
+        }
+
+        CompletableFuture<Void> completion() {
+            return completion;
+        }
+
+        Flow.Subscription subscription() {
+            return subscription;
+        }
+
+        @Override
+        public void onSubscribe(final Flow.Subscription sub) {
+            subscription = sub;
+            if (initialRequest > 0) {
+                sub.request(initialRequest);
+            }
+        }
+
+        @Override
+        public void onNext(final CsvRecord item) {
+            records.add(item.getField(0));
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            completion.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            completion.complete(null);
+        }
+
+    }
+
+    private static final class BatchSubscriber implements Flow.Subscriber<List<CsvRecord>> {
+
+        private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+        private final long initialRequest;
+        private Flow.Subscription subscription;
+
+        BatchSubscriber(final long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(final Flow.Subscription sub) {
+            subscription = sub;
+            sub.request(initialRequest);
+        }
+
+        @Override
+        public void onNext(final List<CsvRecord> item) {
+            batches.add(item.stream().map(r -> r.getField(0)).toList());
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            completion.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            completion.complete(null);
+        }
+
+    }
+
+}
@@ -0,0 +1,141 @@
+package blackbox.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import de.siegmar.fastcsv.reader.CloseableIterator;
+import de.siegmar.fastcsv.reader.CsvParseException;
+import de.siegmar.fastcsv.reader.CsvReader;
+import de.siegmar.fastcsv.reader.CsvRecord;
+
+class CsvReaderBatchesTest {
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void batches(final boolean reuseBatch) {
+        final List<List<String>> batches = new ArrayList<>();
+        try (CloseableIterator<List<CsvRecord>> it = reader("a\nb\nc\nd\ne\n").batches(2, reuseBatch)) {
+            while (it.hasNext()) {
+                batches.add(it.next().stream().map(r -> r.getField(0)).toList());
+            }
+        } catch (final IOException e) {
+            throw new AssertionError(e);
+        }
+
+        assertThat(batches).containsExactly(List.of("a", "b"), List.of("c", "d"), List.of("e"));
+    }
+
+    @Test
+    void newBatches() {
+        final CloseableIterator<List<CsvRecord>> it = reader("a\nb\nc\n").batches(2);
+        final List<CsvRecord> first = it.next();
+        final List<CsvRecord> second = it.next();
+
+        assertThat(first).isNotSameAs(second);
+        assertThat(first).extracting(r -> r.getField(0)).containsExactly("a", "b");
+        assertThat(second).extracting(r -> r.getField(0)).containsExactly("c");
+        assertThat(it.hasNext()).isFalse();
+    }
+
+    @Test
+    void reusedBatch() {
+        final CloseableIterator<List<CsvRecord>> it = reader("a\nb\nc\n").batches(2, true);
+        final List<CsvRecord> first = it.next();
+        final List<CsvRecord> second = it.next();
+
+        assertThat(first).isSameAs(second);
+        assertThat(second).extracting(r -> r.getField(0)).containsExactly("c");
+    }
+
+    @Test
+    void exactMultiple() {
+        final CloseableIterator<List<CsvRecord>> it = reader("a\nb\n").batches(2);
+        assertThat(it.next()).hasSize(2);
+        assertThat(it.hasNext()).isFalse();
+        assertThatThrownBy(it::next)
+            .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void largeBatchSize(final boolean reuseBatch) {
+        // the backing array grows with the records instead of being allocated at the batch size
+        final CloseableIterator<List<CsvRecord>> it = reader("a\nb\n").batches(Integer.MAX_VALUE, reuseBatch);
+        assertThat(it.next()).extracting(r -> r.getField(0)).containsExactly("a", "b");
+        assertThat(it.hasNext()).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void growingBatches(final boolean reuseBatch) {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 250; i++) {
+            sb.append(i).append('\n');
+        }
+
+        final List<Integer> sizes = new ArrayList<>();
+        final List<String> lastFields = new ArrayList<>();
+        final CloseableIterator<List<CsvRecord>> it = reader(sb.toString()).batches(100, reuseBatch);
+        while (it.hasNext()) {
+            final List<CsvRecord> batch = it.next();
+            sizes.add(batch.size());
+            lastFields.add(batch.get(batch.size() - 1).getField(0));
+        }
+
+        assertThat(sizes).containsExactly(100, 100, 50);
+        assertThat(lastFields).containsExactly("99", "199", "249");
+    }
+
+    @Test
+    void empty() {
+        assertThat(reader("").batches(10).hasNext()).isFalse();
+    }
+
+    @Test
+    void unmodifiable() {
+        final List<CsvRecord> batch = reader("a\n").batches(10).next();
+        assertThatThrownBy(batch::clear)
+            .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> batch.get(1))
+            .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void sharedPosition() {
+        final CsvReader<CsvRecord> reader = reader("a\nb\nc\n");
+        assertThat(reader.iterator().next().getField(0)).isEqualTo("a");
+        assertThat(reader.batches(5).next())
+            .extracting(r -> r.getField(0))
+            .containsExactly("b", "c");
+    }
+
+    @Test
+    void parseError() {
+        final CloseableIterator<List<CsvRecord>> it = reader("a\nb,c\n").batches(5);
+        assertThatThrownBy(it::next)
+            .isInstanceOf(CsvParseException.class)
+            .hasMessage("Record 2 has 2 fields, but first record had 1 fields");
+    }
+
+    @Test
+    void invalidBatchSize() {
+        final CsvReader<CsvRecord> reader = reader("a\n");
+        assertThatThrownBy(() -> reader.batches(0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("batchSize must be > 0");
+    }
+
+    private static CsvReader<CsvRecord> reader(final String data) {
+        return CsvReader.builder().ofCsvRecord(data);
+    }
+
+}
@@ -1,5 +1,6 @@
 package blackbox.reader;
 
+import static java.nio.charset.StandardCharsets.UTF_16LE;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -14,6 +15,8 @@ import java.util.List;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
 import org.junit.jupiter.api.io.TempDir;
 
 import de.siegmar.fastcsv.reader.CommentStrategy;
@@ -83,7 +86,7 @@ class CsvReaderBuilderTest {
                 commentStrategy=NONE, commentCharacter=#, skipEmptyLines=true, \
                 extraFieldStrategy=STRICT, missingFieldStrategy=STRICT, allowExtraCharsAfterClosingQuote=false, \
                 allowUnclosedQuote=true, trimWhitespacesAroundQuotes=false, detectBomHeader=false, \
-                maxBufferSize=16777216]""");
+                memoryMapped=false, maxBufferSize=16777216, bufferPool=CsvBufferPool[type=none]]""");
     }
 
     @Test
@@ -123,6 +126,44 @@ class CsvReaderBuilderTest {
         }
     }
 
+    @Test
+    void pathMemoryMapped(@TempDir final Path tempDir) throws IOException {
+        final Path file = tempDir.resolve("fastcsv.csv");
+        Files.write(file, ("\uFEFF" + DATA).getBytes(UTF_8));
+
+        try (Stream<CsvRecord> stream = crb.memoryMapped(true).detectBomHeader(true).ofCsvRecord(file).stream()) {
+            assertThat(stream)
+                .singleElement(CSV_RECORD)
+                .fields().isEqualTo(EXPECTED);
+        }
+    }
+
+    @Test
+    @DisabledOnOs(value = OS.WINDOWS, disabledReason = "mappings are only released by the garbage collector")
+    void pathMemoryMappedDeleteAfterClose(@TempDir final Path tempDir) throws IOException {
+        final Path file = Files.writeString(tempDir.resolve("fastcsv.csv"), DATA);
+
+        try (CsvReader<CsvRecord> reader = crb.memoryMapped(true).ofCsvRecord(file)) {
+            assertThat(reader.iterator().next().getFields()).isEqualTo(EXPECTED);
+        }
+
+        final Path renamed = Files.move(file, tempDir.resolve("renamed.csv"));
+        Files.delete(renamed);
+        assertThat(tempDir).isEmptyDirectory();
+    }
+
+    @Test
+    void pathMemoryMappedCharset(@TempDir final Path tempDir) throws IOException {
+        final Path file = tempDir.resolve("fastcsv.csv");
+        Files.writeString(file, DATA, UTF_16LE);
+
+        try (Stream<CsvRecord> stream = crb.memoryMapped(true).ofCsvRecord(file, UTF_16LE).stream()) {
+            assertThat(stream)
+                .singleElement(CSV_RECORD)
+                .fields().isEqualTo(EXPECTED);
+        }
+    }
+
     @Test
     void chained() {
         final CsvReader<CsvRecord> reader = CsvReader.builder()
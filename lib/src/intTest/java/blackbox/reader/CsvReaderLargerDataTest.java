@@ -1,12 +1,19 @@
 package blackbox.reader;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static testutil.CsvRecordAssert.assertThat;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import de.siegmar.fastcsv.reader.CsvReader;
 import de.siegmar.fastcsv.reader.CsvRecord;
@@ -31,6 +38,9 @@ class CsvReaderLargerDataTest {
 
     private static final int TEST_RECORDS = 1000;
 
+    @TempDir
+    private Path tempDir;
+
     @Test
     void largerData() {
         final CsvReader<CsvRecord> reader = CsvReader.builder()
@@ -43,6 +53,29 @@ class CsvReaderLargerDataTest {
                 .fields().containsExactly(TEXTS));
     }
 
+    // maxBufferSize is defined in characters – a field of multibyte characters that fits in must be readable
+    // from a file (parsed on byte level) and from a stream (parsed on char level) alike
+    @Test
+    void multibyteFieldWithinMaxBufferSize() throws IOException {
+        final String field = "€".repeat(20_000);
+        final byte[] data = ("\"" + field + "\",foo\n").getBytes(UTF_8);
+        final Path file = Files.write(tempDir.resolve("fastcsv.csv"), data);
+        final CsvReader.CsvReaderBuilder builder = CsvReader.builder().maxBufferSize(32_768);
+
+        final List<CsvRecord> fromFile;
+        try (CsvReader<CsvRecord> reader = builder.ofCsvRecord(file)) {
+            fromFile = reader.stream().toList();
+        }
+
+        final List<CsvRecord> fromStream;
+        try (CsvReader<CsvRecord> reader = builder.ofCsvRecord(new ByteArrayInputStream(data))) {
+            fromStream = reader.stream().toList();
+        }
+
+        assertThat(fromFile).singleElement().satisfies(rec -> assertThat(rec).fields().containsExactly(field, "foo"));
+        assertThat(fromStream).singleElement().satisfies(rec -> assertThat(rec).fields().containsExactly(field, "foo"));
+    }
+
     private String createSampleCSV() {
         final StringWriter sw = new StringWriter();
         final CsvWriter writer = CsvWriter.builder()
@@ -3,7 +3,15 @@ package blackbox.reader;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 
@@ -39,7 +47,6 @@ class CsvReaderMultiCharFieldSeparatorTest {
 
     @Test
     void notTrimAroundQuotes() {
-        // Enforce the use of the RelaxedParser by using a multi-character field separator
         final var csv = CsvReader.builder()
             .fieldSeparator("~~~")
             .quoteCharacter('\'')
@@ -148,13 +155,62 @@ class CsvReaderMultiCharFieldSeparatorTest {
 
     @SuppressWarnings("removal")
     @Test
-    void allowExtraCharsAfterClosingQuoteOnlyInStrictMode() {
+    void allowExtraCharsAfterClosingQuote() {
+        final var csv = CsvReader.builder()
+            .allowExtraCharsAfterClosingQuote(true)
+            .fieldSeparator(";;")
+            .ofCsvRecord("\"foo\"x;;bar");
+
+        assertThat(csv.stream()).satisfiesExactly(
+            r -> CsvRecordAssert.assertThat(r).fields().containsExactly("foox", "bar")
+        );
+    }
+
+    @SuppressWarnings("removal")
+    @Test
+    void allowExtraCharsAfterClosingQuoteNotInRelaxedMode() {
         assertThatThrownBy(() -> CsvReader.builder()
-            .allowExtraCharsAfterClosingQuote(true).fieldSeparator(";;").ofCsvRecord("foo")
+            .allowExtraCharsAfterClosingQuote(true).trimWhitespacesAroundQuotes(true).fieldSeparator(";;")
+            .ofCsvRecord("foo")
             .stream().count()
         )
             .isInstanceOf(IllegalStateException.class)
             .hasMessage("allowExtraCharsAfterClosingQuote is not supported in relaxed mode");
     }
 
+    /// The field separator may span several reads of the underlying reader.
+    @Test
+    void separatorAcrossReads() {
+        final String data = "foo||bar|||baz||\n\"a||b\"||c|";
+        final Reader singleCharReader = new FilterReader(new StringReader(data)) {
+            @Override
+            public int read(final char[] cbuf, final int off, final int len) throws IOException {
+                return super.read(cbuf, off, Math.min(len, 1));
+            }
+        };
+
+        final var csv = CsvReader.builder()
+            .fieldSeparator("||")
+            .allowMissingFields(true)
+            .ofCsvRecord(singleCharReader);
+
+        assertThat(csv.stream()).satisfiesExactly(
+            r -> CsvRecordAssert.assertThat(r).fields().containsExactly("foo", "bar", "|baz", ""),
+            r -> CsvRecordAssert.assertThat(r).fields().containsExactly("a||b", "c|")
+        );
+    }
+
+    @Test
+    void file(@TempDir final Path tempDir) throws IOException {
+        final Path file = tempDir.resolve("test.csv");
+        Files.writeString(file, "foo;;bar;baz\nä;;ö\n");
+
+        try (var csv = CsvReader.builder().fieldSeparator(";;").ofCsvRecord(file)) {
+            assertThat(csv.stream()).satisfiesExactly(
+                r -> CsvRecordAssert.assertThat(r).fields().containsExactly("foo", "bar;baz"),
+                r -> CsvRecordAssert.assertThat(r).fields().containsExactly("ä", "ö")
+            );
+        }
+    }
+
 }
@@ -0,0 +1,183 @@
+package blackbox.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import de.siegmar.fastcsv.reader.CommentStrategy;
+import de.siegmar.fastcsv.reader.CsvParseException;
+import de.siegmar.fastcsv.reader.CsvReader;
+import de.siegmar.fastcsv.reader.CsvRecord;
+import de.siegmar.fastcsv.reader.NamedCsvRecord;
+import de.siegmar.fastcsv.reader.StringArrayHandler;
+
+class CsvReaderParallelTest {
+
+    private static final int RECORD_COUNT = 200_000;
+
+    @TempDir
+    private static Path tempDir;
+
+    private static Path file;
+
+    @BeforeAll
+    static void createFile() throws IOException {
+        file = writeFile(RECORD_COUNT, "large.csv");
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void parallelEqualsSequential(final boolean memoryMapped) throws IOException {
+        final CsvReader.CsvReaderBuilder builder = CsvReader.builder()
+            .commentStrategy(CommentStrategy.READ)
+            .memoryMapped(memoryMapped);
+
+        assertThat(readParallel(builder))
+            .hasSize(RECORD_COUNT + (RECORD_COUNT - 1) / 10)
+            .containsExactlyElementsOf(readSequential(builder));
+    }
+
+    @Test
+    void splits() throws IOException {
+        try (CsvReader<CsvRecord> csvReader = CsvReader.builder().ofCsvRecord(file)) {
+            final Spliterator<CsvRecord> spliterator = csvReader.spliterator();
+            final long size = spliterator.estimateSize();
+            assertThat(size).isEqualTo(Files.size(file));
+
+            final Spliterator<CsvRecord> prefix = spliterator.trySplit();
+            assertThat(prefix).isNotNull();
+            assertThat(prefix.estimateSize() + spliterator.estimateSize()).isEqualTo(size);
+            assertThat(spliterator.trySplit()).isNotNull();
+        }
+    }
+
+    @Test
+    void namedRecords() throws IOException {
+        final CsvReader.CsvReaderBuilder builder = CsvReader.builder()
+            .commentStrategy(CommentStrategy.SKIP);
+
+        try (Stream<NamedCsvRecord> stream = builder.ofNamedCsvRecord(file).stream().parallel()) {
+            assertThat(stream.map(r -> r.getField("foo_a")))
+                .hasSize(RECORD_COUNT - 1)
+                .allMatch(field -> field.startsWith("a"));
+        }
+    }
+
+    @Test
+    void customCallbackHandler() throws IOException {
+        try (Stream<String[]> stream = CsvReader.builder()
+            .commentStrategy(CommentStrategy.SKIP)
+            .build(StringArrayHandler::of, file, StandardCharsets.UTF_8)
+            .stream().parallel()) {
+            assertThat(stream.mapToInt(fields -> fields.length).sum()).isEqualTo(RECORD_COUNT * 3);
+        }
+    }
+
+    @Test
+    void fieldCountMismatchInLaterPart() throws IOException {
+        final Path invalidFile = Files.copy(file, tempDir.resolve("invalid.csv"));
+        Files.writeString(invalidFile, "x\n", StandardOpenOption.APPEND);
+
+        try (Stream<CsvRecord> stream = CsvReader.builder()
+            .commentStrategy(CommentStrategy.SKIP)
+            .ofCsvRecord(invalidFile).stream().parallel()) {
+            assertThatThrownBy(stream::count)
+                .isInstanceOf(CsvParseException.class)
+                .hasMessage("Record %d has 1 fields, but first record had 3 fields", countLines(invalidFile));
+        }
+    }
+
+    @Test
+    void noSplitAfterSkipLines() throws IOException {
+        try (CsvReader<CsvRecord> csvReader = CsvReader.builder().ofCsvRecord(file)) {
+            csvReader.skipLines(1);
+            assertThat(csvReader.spliterator().trySplit()).isNull();
+        }
+    }
+
+    @Test
+    void noSplitAfterParsingStarted() throws IOException {
+        try (CsvReader<CsvRecord> csvReader = CsvReader.builder().ofCsvRecord(file)) {
+            final Spliterator<CsvRecord> spliterator = csvReader.spliterator();
+            assertThat(spliterator.tryAdvance(r -> { })).isTrue();
+            assertThat(spliterator.trySplit()).isNull();
+        }
+    }
+
+    @Test
+    void noSplitOfSmallFile() throws IOException {
+        final Path smallFile = writeFile(10, "small.csv");
+        try (CsvReader<CsvRecord> csvReader = CsvReader.builder().ofCsvRecord(smallFile)) {
+            final Spliterator<CsvRecord> spliterator = csvReader.spliterator();
+            assertThat(spliterator.trySplit()).isNull();
+            assertThat(spliterator.estimateSize()).isEqualTo(Files.size(smallFile));
+        }
+    }
+
+    @Test
+    void noSplitOfNonFileInput() throws IOException {
+        try (CsvReader<CsvRecord> csvReader = CsvReader.builder().ofCsvRecord("foo\nbar")) {
+            final Spliterator<CsvRecord> spliterator = csvReader.spliterator();
+            assertThat(spliterator.trySplit()).isNull();
+            assertThat(spliterator.estimateSize()).isEqualTo(Long.MAX_VALUE);
+        }
+    }
+
+    /// Writes a file with quoted fields containing line breaks, comments, and mixed line endings.
+    private static Path writeFile(final int records, final String name) throws IOException {
+        final String data = IntStream.range(0, records)
+            .mapToObj(CsvReaderParallelTest::record)
+            .collect(Collectors.joining());
+        return Files.writeString(tempDir.resolve(name), data);
+    }
+
+    private static String record(final int i) {
+        if (i == 0) {
+            return "foo_a,foo_b,foo_c\n";
+        }
+
+        final String lineBreak = i % 3 == 0 ? "\r\n" : "\n";
+        final String comment = i % 10 == 0 ? "#comment \"" + i + lineBreak : "";
+        final String quoted = i % 7 == 0 ? "\"multi\r\nline, \"\"quoted\"\"\n" + i + '"' : "\"quoted " + i + '"';
+        return comment + "a" + i + ',' + quoted + ",c" + i + lineBreak;
+    }
+
+    private static long countLines(final Path csvFile) throws IOException {
+        try (Stream<String> lines = Files.lines(csvFile)) {
+            return lines.count();
+        }
+    }
+
+    private static List<String> readParallel(final CsvReader.CsvReaderBuilder builder) throws IOException {
+        try (Stream<CsvRecord> stream = builder.ofCsvRecord(file).stream().parallel()) {
+            return stream.map(CsvReaderParallelTest::describe).toList();
+        }
+    }
+
+    private static List<String> readSequential(final CsvReader.CsvReaderBuilder builder) throws IOException {
+        try (Stream<CsvRecord> stream = builder.ofCsvRecord(file).stream()) {
+            return stream.map(CsvReaderParallelTest::describe).toList();
+        }
+    }
+
+    private static String describe(final CsvRecord csvRecord) {
+        return csvRecord.getStartingLineNumber() + ":" + csvRecord.isComment() + ":" + csvRecord.getFields();
+    }
+
+}
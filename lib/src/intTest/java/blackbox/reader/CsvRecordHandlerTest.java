@@ -1,10 +1,16 @@
 package blackbox.reader;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Iterator;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import de.siegmar.fastcsv.reader.CommentStrategy;
 import de.siegmar.fastcsv.reader.CsvReader;
+import de.siegmar.fastcsv.reader.CsvRecord;
 import de.siegmar.fastcsv.reader.CsvRecordHandler;
 import de.siegmar.fastcsv.reader.FieldModifiers;
 import testutil.CsvRecordAssert;
@@ -41,4 +47,43 @@ class CsvRecordHandlerTest {
             .fields().containsExactly("foo", "bar");
     }
 
+    @Test
+    void reuseRecord() {
+        final CsvRecordHandler handler = CsvRecordHandler.of(c -> c.reuseRecord(true));
+        final Iterator<CsvRecord> it = CsvReader.builder()
+            .commentStrategy(CommentStrategy.READ)
+            .allowMissingFields(true)
+            .build(handler, "a,b,c\n#comment\nd,e")
+            .iterator();
+
+        final CsvRecord first = it.next();
+        assertThat(first.getStartingLineNumber()).isOne();
+        assertThat(first.getFieldCount()).isEqualTo(3);
+        assertThat(first.getFields()).containsExactly("a", "b", "c");
+        assertThat(first.isComment()).isFalse();
+        final List<String> firstFields = List.copyOf(first.getFields());
+
+        final CsvRecord second = it.next();
+        assertThat(second).isSameAs(first);
+        assertThat(second.isComment()).isTrue();
+        assertThat(second.getField(0)).isEqualTo("comment");
+
+        final CsvRecord third = it.next();
+        assertThat(third).isSameAs(first)
+            .hasToString("CsvRecord[startingLineNumber=3, fields=[d, e], comment=false]");
+        assertThat(third.getField(1)).isEqualTo("e");
+        assertThatThrownBy(() -> third.getField(2))
+            .isInstanceOf(IndexOutOfBoundsException.class);
+
+        assertThat(firstFields).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    void newRecordByDefault() {
+        final Iterator<CsvRecord> it = CsvReader.builder()
+            .build(CsvRecordHandler.of(), "a\nb")
+            .iterator();
+        assertThat(it.next()).isNotSameAs(it.next());
+    }
+
 }
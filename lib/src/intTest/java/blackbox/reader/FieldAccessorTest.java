@@ -0,0 +1,144 @@
+package blackbox.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import de.siegmar.fastcsv.reader.CommentStrategy;
+import de.siegmar.fastcsv.reader.CsvReader;
+import de.siegmar.fastcsv.reader.FieldAccessor;
+import de.siegmar.fastcsv.reader.NamedCsvRecord;
+import de.siegmar.fastcsv.reader.NamedCsvRecordHandler;
+
+class FieldAccessorTest {
+
+    @Test
+    void get() {
+        final FieldAccessor price = FieldAccessor.of("price");
+
+        assertThat(CsvReader.builder().ofNamedCsvRecord("name,price\nfoo,1\nbar,2\n").stream())
+            .map(price::get)
+            .containsExactly("1", "2");
+    }
+
+    @Test
+    void find() {
+        final FieldAccessor price = FieldAccessor.of("price");
+        final FieldAccessor unknown = FieldAccessor.of("unknown");
+
+        final List<NamedCsvRecord> records = CsvReader.builder().allowMissingFields(true)
+            .ofNamedCsvRecord("name,price\nfoo,1\nbar\n")
+            .stream()
+            .toList();
+
+        assertThat(records).map(price::find).containsExactly(Optional.of("1"), Optional.empty());
+        assertThat(records).map(unknown::find).allSatisfy(v -> assertThat(v).isEmpty());
+    }
+
+    @Test
+    void missingField() {
+        final FieldAccessor accessor = FieldAccessor.of("unknown");
+        final NamedCsvRecord rec = CsvReader.builder().ofNamedCsvRecord("name,price\nfoo,1\n").stream()
+            .findFirst().orElseThrow();
+
+        assertThatThrownBy(() -> accessor.get(rec))
+            .isInstanceOf(NoSuchElementException.class)
+            .hasMessage("Header does not contain a field 'unknown'. Valid names are: [name, price]");
+    }
+
+    @Test
+    void shortRecord() {
+        final FieldAccessor price = FieldAccessor.of("price");
+        final NamedCsvRecord rec = CsvReader.builder().allowMissingFields(true)
+            .ofNamedCsvRecord("name,price\nfoo\n").stream()
+            .findFirst().orElseThrow();
+
+        assertThatThrownBy(() -> price.get(rec))
+            .isInstanceOf(NoSuchElementException.class)
+            .hasMessage("Field 'price' is on index 1, but current record only contains 1 fields");
+    }
+
+    @Test
+    void duplicateHeader() {
+        final NamedCsvRecordHandler handler = NamedCsvRecordHandler.of(c -> c.allowDuplicateHeaderFields(true));
+        final FieldAccessor accessor = handler.accessor("a");
+
+        assertThat(CsvReader.builder().build(handler, "a,b,a\n1,2,3\n").stream())
+            .map(accessor::get)
+            .containsExactly("1");
+    }
+
+    @Test
+    void differentHeaders() {
+        final FieldAccessor price = FieldAccessor.of("price");
+
+        final NamedCsvRecord first = CsvReader.builder().ofNamedCsvRecord("name,price\nfoo,1\n").stream()
+            .findFirst().orElseThrow();
+        final NamedCsvRecord second = CsvReader.builder().ofNamedCsvRecord("price,name\n2,bar\n").stream()
+            .findFirst().orElseThrow();
+
+        assertThat(price.get(first)).isEqualTo("1");
+        assertThat(price.get(second)).isEqualTo("2");
+        assertThat(price.get(first)).isEqualTo("1");
+    }
+
+    @Test
+    void commentRecord() {
+        final FieldAccessor price = FieldAccessor.of("price");
+        final NamedCsvRecord comment = CsvReader.builder().commentStrategy(CommentStrategy.READ)
+            .ofNamedCsvRecord("name,price\n#comment\n").stream()
+            .findFirst().orElseThrow();
+
+        assertThat(price.find(comment)).isEmpty();
+    }
+
+    @Test
+    void predefinedHeaderAndSelectedColumns() {
+        final NamedCsvRecordHandler predefined = NamedCsvRecordHandler.of(c -> c.header("name", "price"));
+        assertThat(CsvReader.builder().build(predefined, "foo,1\nbar,2\n").stream())
+            .map(predefined.accessor("price")::get)
+            .containsExactly("1", "2");
+
+        final NamedCsvRecordHandler selected = NamedCsvRecordHandler.of(c -> c.selectColumns("price"));
+        assertThat(CsvReader.builder().build(selected, "name,price\nfoo,1\n").stream())
+            .map(selected.accessor("price")::get)
+            .containsExactly("1");
+    }
+
+    @Test
+    void manyColumns() {
+        final String header = IntStream.range(0, 300).mapToObj(i -> "col" + i).collect(Collectors.joining(","));
+        final String data = IntStream.range(0, 300).mapToObj(i -> "v" + i).collect(Collectors.joining(","));
+
+        final NamedCsvRecord rec = CsvReader.builder().ofNamedCsvRecord(header + "\n" + data + "\n").stream()
+            .findFirst().orElseThrow();
+
+        assertThat(FieldAccessor.of("col299").get(rec)).isEqualTo("v299");
+        assertThat(rec.getField("col150")).isEqualTo("v150");
+    }
+
+    @Test
+    void nullArguments() {
+        assertThatThrownBy(() -> FieldAccessor.of(null))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessage("name must not be null");
+        assertThatThrownBy(() -> FieldAccessor.of("foo").get(null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void accessorToString() {
+        assertThat(FieldAccessor.of("price")).asString()
+            .isEqualTo("FieldAccessor[name=price]");
+        assertThat(FieldAccessor.of("price").getName())
+            .isEqualTo("price");
+    }
+
+}
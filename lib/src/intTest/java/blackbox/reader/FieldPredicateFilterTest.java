@@ -0,0 +1,147 @@
+package blackbox.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import de.siegmar.fastcsv.reader.CommentStrategy;
+import de.siegmar.fastcsv.reader.CsvReader;
+import de.siegmar.fastcsv.reader.CsvRecord;
+import de.siegmar.fastcsv.reader.CsvRecordHandler;
+import de.siegmar.fastcsv.reader.FieldModifier;
+import de.siegmar.fastcsv.reader.FieldPredicate;
+import de.siegmar.fastcsv.reader.NamedCsvRecord;
+import de.siegmar.fastcsv.reader.NamedCsvRecordHandler;
+import de.siegmar.fastcsv.reader.StringArrayHandler;
+
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+class FieldPredicateFilterTest {
+
+    private static final String DATA = "DE,\"Ber\"\"lin\",3645\n#comment\nUS,Boston,675\n\nDE,Bonn,330\n";
+
+    @TempDir
+    private Path tempDir;
+
+    @ParameterizedTest
+    @EnumSource(ParserVariant.class)
+    void filter(final ParserVariant variant) throws IOException {
+        final CsvRecordHandler handler = CsvRecordHandler.of(c -> c.filter(0, FieldPredicate.equalTo("DE")));
+        final CsvReader.CsvReaderBuilder builder = CsvReader.builder()
+            .commentStrategy(CommentStrategy.READ)
+            .skipEmptyLines(false);
+
+        final CsvReader<CsvRecord> csvReader = variant.build(builder, handler, DATA, tempDir);
+
+        try (Stream<CsvRecord> stream = csvReader.stream()) {
+            assertThat(stream).map(CsvRecord::getFields).containsExactly(
+                List.of("DE", "Ber\"lin", "3645"),
+                List.of("comment"),
+                List.of(""),
+                List.of("DE", "Bonn", "330")
+            );
+        }
+    }
+
+    @Test
+    void rejectedRecordsAreNotMaterialized() {
+        final List<String> modified = new ArrayList<>();
+        final FieldModifier modifier = new FieldModifier() {
+            @Override
+            public String modify(final long startingLineNumber, final int fieldIdx, final boolean quoted,
+                                 final String field) {
+                modified.add(field);
+                return field;
+            }
+        };
+
+        final CsvRecordHandler handler = CsvRecordHandler.of(c -> c
+            .fieldModifier(modifier)
+            .filter(1, FieldPredicate.startsWith("Bo")));
+        assertThat(CsvReader.builder().commentStrategy(CommentStrategy.SKIP).build(handler, DATA).stream())
+            .map(r -> r.getField(1))
+            .containsExactly("Boston", "Bonn");
+        assertThat(modified).containsExactly("DE", "US", "Boston", "675", "DE", "Bonn", "330");
+    }
+
+    @Test
+    void multiplePredicates() {
+        final StringArrayHandler handler = StringArrayHandler.of(c -> c
+            .filter(2, FieldPredicate.longRange(0, 1000))
+            .filter(0, FieldPredicate.equalTo("DE"))
+            .filter(2, FieldPredicate.longRange(500, Long.MAX_VALUE).negate()));
+        assertThat(CsvReader.builder().build(handler, DATA).stream())
+            .containsExactly(new String[]{"DE", "Bonn", "330"});
+    }
+
+    @Test
+    void filterNotSelectedColumn() {
+        final CsvRecordHandler handler = CsvRecordHandler.of(c -> c
+            .selectColumns(1)
+            .filter(2, FieldPredicate.longRange(500, Long.MAX_VALUE))
+            .filter(0, FieldPredicate.startsWith("U")));
+        assertThat(CsvReader.builder().build(handler, DATA).stream())
+            .map(CsvRecord::getFields)
+            .containsExactly(List.of("Boston"));
+    }
+
+    @Test
+    void recordLackingColumnIsNotFiltered() {
+        final CsvRecordHandler handler = CsvRecordHandler.of(c -> c.filter(1, FieldPredicate.equalTo("x")));
+        assertThat(CsvReader.builder().allowMissingFields(true).build(handler, "a,x\nb,y\nc").stream())
+            .map(CsvRecord::getFields)
+            .containsExactly(List.of("a", "x"), List.of("c"));
+    }
+
+    @Test
+    void reusedRecord() {
+        final CsvRecordHandler handler = CsvRecordHandler.of(c -> c
+            .reuseRecord(true)
+            .filter(0, FieldPredicate.equalTo("US")));
+        final Iterator<CsvRecord> it = CsvReader.builder().build(handler, DATA).iterator();
+        assertThat(it.next().getFields()).containsExactly("US", "Boston", "675");
+        assertThat(it).isExhausted();
+    }
+
+    @Test
+    void namedHeaderIsNotFiltered() {
+        final NamedCsvRecordHandler handler = NamedCsvRecordHandler.of(c -> c
+            .returnHeader(true)
+            .filter(1, FieldPredicate.longRange(0, 1000)));
+        assertThat(CsvReader.builder().build(handler, "city,population\nBerlin,3645\nBonn,330").stream())
+            .map(NamedCsvRecord::getFields)
+            .containsExactly(List.of("city", "population"), List.of("Bonn", "330"));
+    }
+
+    @Test
+    void namedWithPredefinedHeader() {
+        final NamedCsvRecordHandler handler = NamedCsvRecordHandler.of(c -> c
+            .header("country", "city", "population")
+            .selectColumns("city")
+            .filter(0, FieldPredicate.equalTo("DE")));
+        assertThat(CsvReader.builder().build(handler, DATA).stream())
+            .map(r -> r.getField("city"))
+            .containsExactly("Ber\"lin", "Bonn");
+    }
+
+    @Test
+    void invalidArguments() {
+        assertThatThrownBy(() -> CsvRecordHandler.builder().filter(-1, FieldPredicate.equalTo("x")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("column index must be >= 0");
+        assertThatThrownBy(() -> CsvRecordHandler.builder().filter(0, null))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessage("predicate must not be null");
+    }
+
+}
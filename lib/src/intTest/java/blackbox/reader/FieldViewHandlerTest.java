@@ -0,0 +1,146 @@
+package blackbox.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import de.siegmar.fastcsv.reader.CommentStrategy;
+import de.siegmar.fastcsv.reader.CsvParseException;
+import de.siegmar.fastcsv.reader.CsvReader;
+import de.siegmar.fastcsv.reader.FieldView;
+import de.siegmar.fastcsv.reader.FieldViewHandler;
+import de.siegmar.fastcsv.reader.FieldViewRecord;
+
+class FieldViewHandlerTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void fields() {
+        final List<String> records = new ArrayList<>();
+        for (final FieldViewRecord rec : read(FieldViewHandler.of(), "foo,\"bar\"\n\n#comment\nbaz,qux")) {
+            records.add(rec.toString());
+        }
+
+        assertThat(records).containsExactly(
+            "FieldViewRecord[startingLineNumber=1, fields=[foo, bar], comment=false]",
+            "FieldViewRecord[startingLineNumber=3, fields=[comment], comment=true]",
+            "FieldViewRecord[startingLineNumber=4, fields=[baz, qux], comment=false]"
+        );
+    }
+
+    @Test
+    void fieldView() {
+        final FieldViewRecord rec = read(FieldViewHandler.of(), "foo,\"bar\"").iterator().next();
+        final FieldView foo = rec.getField(0);
+        final FieldView bar = rec.getField(1);
+
+        assertThat(rec.getStartingLineNumber()).isOne();
+        assertThat(rec.getFieldCount()).isEqualTo(2);
+        assertThat(rec.isComment()).isFalse();
+
+        assertThat(foo.length()).isEqualTo(3);
+        assertThat(foo.charAt(1)).isEqualTo('o');
+        assertThat(foo.subSequence(1, 3)).isEqualTo("oo");
+        assertThat(foo.isQuoted()).isFalse();
+        assertThat(bar.isQuoted()).isTrue();
+        assertThat(foo.toString()).isEqualTo("foo");
+
+        assertThat(foo.contentEquals("foo")).isTrue();
+        assertThat(foo.contentEquals("fo")).isFalse();
+        assertThat(foo.contentEquals("bar")).isFalse();
+
+        assertThat(foo.hashCode()).isEqualTo("foo".hashCode());
+
+        assertThatThrownBy(() -> foo.charAt(3))
+            .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> foo.subSequence(2, 4))
+            .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> rec.getField(2))
+            .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> foo.contentEquals(null))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessage("cs must not be null");
+    }
+
+    @SuppressWarnings("AssertBetweenInconvertibleTypes")
+    @Test
+    void equality() {
+        final CsvReader<FieldViewRecord> csvReader = read(FieldViewHandler.of(), "foo,foo,bar");
+        final FieldViewRecord rec = csvReader.iterator().next();
+
+        assertThat(rec.getField(0))
+            .isEqualTo(rec.getField(0))
+            .isEqualTo(rec.getField(1))
+            .isNotEqualTo(rec.getField(2))
+            .isNotEqualTo("foo")
+            .hasSameHashCodeAs(rec.getField(1));
+    }
+
+    @Test
+    void reused() {
+        final var iterator = read(FieldViewHandler.of(), "foo\nbar").iterator();
+        final FieldViewRecord first = iterator.next();
+        final FieldView field = first.getField(0);
+        assertThat(field).hasToString("foo");
+
+        assertThat(iterator.next()).isSameAs(first);
+        assertThat(first.getField(0)).isSameAs(field).hasToString("bar");
+    }
+
+    @Test
+    void maxFieldSize() {
+        final FieldViewHandler handler = FieldViewHandler.of(b -> b.maxFieldSize(3).maxRecordSize(10));
+        assertThatThrownBy(() -> read(handler, "abc,defg").iterator().next())
+            .isInstanceOf(CsvParseException.class)
+            .hasMessage("Field at index 1 in record starting at line 1 exceeds the max field size of 3 characters");
+    }
+
+    @Test
+    void maxFieldSizeComment() {
+        final FieldViewHandler handler = FieldViewHandler.of(b -> b.maxFieldSize(3));
+        assertThatThrownBy(() -> read(handler, "#comment").iterator().next())
+            .isInstanceOf(CsvParseException.class)
+            .hasMessage("Field at index 0 in record starting at line 1 exceeds the max field size of 3 characters");
+    }
+
+    @Test
+    void builderValidation() {
+        assertThatThrownBy(() -> FieldViewHandler.builder().maxFieldSize(0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("maxFieldSize must be > 0");
+        assertThatThrownBy(() -> FieldViewHandler.of(b -> b.maxFieldSize(10).maxRecordSize(5)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("maxRecordSize must be >= maxFieldSize");
+    }
+
+    @Test
+    void file() throws IOException {
+        final Path file = Files.writeString(tempDir.resolve("fastcsv.csv"), "äöü,\"multi\nline\"\n");
+        final List<String> fields = new ArrayList<>();
+        try (CsvReader<FieldViewRecord> csvReader = CsvReader.builder().build(FieldViewHandler.of(), file)) {
+            for (final FieldViewRecord rec : csvReader) {
+                for (int i = 0; i < rec.getFieldCount(); i++) {
+                    fields.add(rec.getField(i).toString());
+                }
+            }
+        }
+        assertThat(fields).containsExactly("äöü", "multi\nline");
+    }
+
+    private static CsvReader<FieldViewRecord> read(final FieldViewHandler handler, final String data) {
+        return CsvReader.builder()
+            .commentStrategy(CommentStrategy.READ)
+            .build(handler, data);
+    }
+
+}
@@ -2,6 +2,9 @@ package blackbox.reader;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.stream.Stream;
@@ -30,8 +33,9 @@ import specreader.spec.TestSpecSettings;
 /// This test uses a set of test specs to verify the correctness of the CSV parser.
 /// The test specs cover all relevant parser branches of FastCSV.
 ///
-/// It runs once for the RFC 4180 optimized strict parser and once for the relaxed parser
-/// (selected via the `de.siegmar.fastcsv.relaxed` system property).
+/// It runs once for the RFC 4180 optimized strict parser, once for the relaxed parser
+/// (selected via the `de.siegmar.fastcsv.relaxed` system property) and twice for the byte based parser
+/// (selected by reading the data from a UTF-8 encoded file – with and without memory mapping).
 ///
 /// The test specs can be reused for other CSV parsers as well.
 @ParameterizedClass
@@ -58,10 +62,25 @@ class GenericDataTest {
     /// toggle silently ran the wrong parser for a whole mode. This asserts the intended parser is
     /// actually exercised. Runs once per mode (it is a plain @Test inside a @ParameterizedClass).
     @Test
-    void exercisesExpectedParser() {
-        final String expectedParser = mode == Mode.RELAXED ? "RelaxedCsvParser" : "StrictCsvParser";
-        assertThat(CsvReader.builder().ofCsvRecord("a,b").toString())
-            .contains("parser=" + expectedParser);
+    void exercisesExpectedParser() throws IOException {
+        final String expectedParser = switch (mode) {
+            case STRICT -> "StrictCsvParser";
+            case RELAXED -> "RelaxedCsvParser";
+            case BYTES, MAPPED -> "ByteCsvParser";
+        };
+
+        if (mode.isFileBased()) {
+            final Path file = writeTempFile("a,b");
+            try (CsvReader<CsvRecord> csvReader = CsvReader.builder()
+                .memoryMapped(mode == Mode.MAPPED).ofCsvRecord(file)) {
+                assertThat(csvReader.toString()).contains("parser=" + expectedParser);
+            } finally {
+                Files.delete(file);
+            }
+        } else {
+            assertThat(CsvReader.builder().ofCsvRecord("a,b").toString())
+                .contains("parser=" + expectedParser);
+        }
     }
 
     @ParameterizedTest(name = "{index} - {0}")
@@ -134,10 +153,14 @@ class GenericDataTest {
             .missingFieldStrategy(FieldMismatchStrategy.IGNORE)
             .skipEmptyLines(settings.skipEmptyLines());
 
-        if (mode == Mode.STRICT) {
+        if (mode != Mode.RELAXED) {
             builder.allowExtraCharsAfterClosingQuote(true);
         }
 
+        if (mode.isFileBased()) {
+            return parseCsvFile(builder.memoryMapped(mode == Mode.MAPPED), input);
+        }
+
         return builder
             .ofCsvRecord(input)
             .stream()
@@ -145,8 +168,33 @@ class GenericDataTest {
             .toList();
     }
 
+    private static List<List<String>> parseCsvFile(final CsvReader.CsvReaderBuilder builder, final String input) {
+        try {
+            final Path file = writeTempFile(input);
+            try (Stream<CsvRecord> stream = builder.ofCsvRecord(file).stream()) {
+                return stream
+                    .map(CsvRecord::getFields)
+                    .toList();
+            } finally {
+                Files.delete(file);
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Path writeTempFile(final String data) throws IOException {
+        final Path file = Files.createTempFile("fastcsv", ".csv");
+        Files.writeString(file, data);
+        return file;
+    }
+
     enum Mode {
-        STRICT, RELAXED
+        STRICT, RELAXED, BYTES, MAPPED;
+
+        boolean isFileBased() {
+            return this == BYTES || this == MAPPED;
+        }
     }
 
 }
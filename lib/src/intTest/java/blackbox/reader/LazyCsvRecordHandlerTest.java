@@ -0,0 +1,95 @@
+package blackbox.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import de.siegmar.fastcsv.reader.CommentStrategy;
+import de.siegmar.fastcsv.reader.CsvReader;
+import de.siegmar.fastcsv.reader.LazyCsvRecord;
+import de.siegmar.fastcsv.reader.LazyCsvRecordHandler;
+
+/// Size limits and buffering are covered by [RecordHandlerLimitsTest].
+class LazyCsvRecordHandlerTest {
+
+    @Test
+    void retainedAfterNextRecord() {
+        final Iterator<LazyCsvRecord> it = CsvReader.builder()
+            .commentStrategy(CommentStrategy.READ)
+            .build(LazyCsvRecordHandler.of(), "foo,\"bar\"\n#comment\nbaz,qux")
+            .iterator();
+
+        final LazyCsvRecord first = it.next();
+        final LazyCsvRecord comment = it.next();
+        final LazyCsvRecord last = it.next();
+
+        // no field has been accessed before the subsequent records were read
+        assertThat(first).isNotSameAs(last)
+            .hasToString("LazyCsvRecord[startingLineNumber=1, fields=[foo, bar], comment=false]");
+        assertThat(comment)
+            .hasToString("LazyCsvRecord[startingLineNumber=2, fields=[comment], comment=true]");
+        assertThat(comment.isComment()).isTrue();
+        assertThat(comment.getStartingLineNumber()).isEqualTo(2);
+        assertThat(last)
+            .hasToString("LazyCsvRecord[startingLineNumber=3, fields=[baz, qux], comment=false]");
+    }
+
+    @Test
+    void cachedField() {
+        final LazyCsvRecord rec = single("foo,\"b\"\"ar\",");
+
+        assertThat(rec.getFieldCount()).isEqualTo(3);
+        assertThat(rec.getFieldLength(1)).isEqualTo(4);
+
+        final String field = rec.getField(1);
+        assertThat(field).isEqualTo("b\"ar");
+        assertThat(rec.getField(1)).isSameAs(field);
+        assertThat(rec.getFields().get(1)).isSameAs(field);
+        assertThat(rec.getField(2)).isEmpty();
+
+        final List<String> fields = rec.getFields();
+        assertThat(fields).containsExactly("foo", "b\"ar", "");
+        assertThatThrownBy(() -> fields.set(0, "x"))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void quoted() {
+        final LazyCsvRecord rec = single("foo,\"bar\"");
+        assertThat(rec.isQuoted(0)).isFalse();
+        assertThat(rec.isQuoted(1)).isTrue();
+        assertThatThrownBy(() -> rec.isQuoted(2))
+            .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void noQuotedField() {
+        final LazyCsvRecord rec = single("foo,bar");
+        assertThat(rec.isQuoted(0)).isFalse();
+        assertThat(rec.isQuoted(1)).isFalse();
+    }
+
+    @Test
+    void contentEquals() {
+        final LazyCsvRecord rec = single("foo,\"b\"\"ar\",");
+
+        assertThat(rec.contentEquals(1, "b\"ar")).isTrue();
+        assertThat(rec.contentEquals(1, "b\"aR")).isFalse();
+        assertThat(rec.contentEquals(1, "bar")).isFalse();
+        assertThat(rec.contentEquals(2, "")).isTrue();
+        assertThatThrownBy(() -> rec.contentEquals(3, "x"))
+            .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> rec.contentEquals(0, null))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessage("cs must not be null");
+    }
+
+    private static LazyCsvRecord single(final String data) {
+        return CsvReader.builder().build(LazyCsvRecordHandler.of(), data).iterator().next();
+    }
+
+}
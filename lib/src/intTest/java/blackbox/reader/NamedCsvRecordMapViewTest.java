@@ -0,0 +1,138 @@
+package blackbox.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import de.siegmar.fastcsv.reader.CommentStrategy;
+import de.siegmar.fastcsv.reader.CsvReader;
+import de.siegmar.fastcsv.reader.NamedCsvRecord;
+import de.siegmar.fastcsv.reader.NamedCsvRecordHandler;
+
+class NamedCsvRecordMapViewTest {
+
+    private static final NamedCsvRecordHandler.NamedCsvRecordHandlerBuilder HANDLER = NamedCsvRecordHandler.builder()
+        .allowDuplicateHeaderFields(true);
+
+    @ParameterizedTest
+    @ValueSource(strings = {"a,b,c\n1,2,3", "a,b,a\n1,2,3", "a,a,b,a\n1,2", "a,b\n1,2,3", "a,b,a\n1", "a\n"})
+    void sameAsMaps(final String data) {
+        final List<NamedCsvRecord> records = CsvReader.builder().allowExtraFields(true).allowMissingFields(true)
+            .build(HANDLER.build(), data)
+            .stream()
+            .toList();
+
+        for (final NamedCsvRecord rec : records) {
+            assertThat(rec.asMap())
+                .isEqualTo(rec.getFieldsAsMap())
+                .hasSameHashCodeAs(rec.getFieldsAsMap())
+                .containsExactlyEntriesOf(rec.getFieldsAsMap());
+            assertThat(rec.asMapList())
+                .isEqualTo(rec.getFieldsAsMapList())
+                .hasSameHashCodeAs(rec.getFieldsAsMapList());
+        }
+    }
+
+    @Test
+    void map() {
+        final NamedCsvRecord rec = single("a,b,a,c\n1,2,3");
+        final Map<String, String> map = rec.asMap();
+
+        assertThat(map)
+            .hasSize(2)
+            .containsExactly(entry("a", "1"), entry("b", "2"))
+            .containsKey("a")
+            .doesNotContainKey("c")
+            .doesNotContainKey("d");
+
+        assertThat(map.get("b")).isEqualTo("2");
+        assertThat(map.get("c")).isNull();
+        assertThat(map.get(null)).isNull();
+        assertThat(map.get(1)).isNull();
+        assertThat(map.containsKey(null)).isFalse();
+        assertThat(map.containsValue("2")).isTrue();
+        assertThat(map.getOrDefault("c", "default")).isEqualTo("default");
+        assertThat(map.keySet()).containsExactly("a", "b");
+        assertThat(map.values()).containsExactly("1", "2");
+        assertThat(map).asString().isEqualTo("{a=1, b=2}");
+    }
+
+    @Test
+    void mapList() {
+        final NamedCsvRecord rec = single("a,b,a,a\n1,2,3");
+        final Map<String, List<String>> map = rec.asMapList();
+
+        assertThat(map)
+            .hasSize(2)
+            .containsExactly(entry("a", List.of("1", "3")), entry("b", List.of("2")))
+            .doesNotContainKey("c");
+
+        final List<String> values = map.get("a");
+        assertThat(values).containsExactly("1", "3");
+        assertThatThrownBy(() -> values.get(2))
+            .isInstanceOf(IndexOutOfBoundsException.class)
+            .hasMessage("Index 2 out of bounds for length 2");
+
+        assertThat(map.get(null)).isNull();
+        assertThat(map.containsKey("b")).isTrue();
+        assertThat(map.containsKey(null)).isFalse();
+    }
+
+    @Test
+    void readOnly() {
+        final NamedCsvRecord rec = single("a,b\n1,2");
+        final Map<String, String> map = rec.asMap();
+        final Map<String, List<String>> mapList = rec.asMapList();
+
+        assertThatThrownBy(() -> map.put("c", "3"))
+            .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> map.remove("a"))
+            .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(map::clear)
+            .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> map.entrySet().iterator().next().setValue("x"))
+            .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> mapList.get("a").add("x"))
+            .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> mapList.put("a", List.of()))
+            .isInstanceOf(UnsupportedOperationException.class);
+
+        assertThat(rec.asMap()).containsExactly(entry("a", "1"), entry("b", "2"));
+    }
+
+    @Test
+    void comment() {
+        final NamedCsvRecord rec = CsvReader.builder().commentStrategy(CommentStrategy.READ)
+            .ofNamedCsvRecord("a,b\n#comment\n")
+            .stream()
+            .findFirst()
+            .orElseThrow();
+
+        assertThat(rec.asMap()).isEmpty();
+        assertThat(rec.asMapList()).isEmpty();
+    }
+
+    @Test
+    void copy() {
+        final Map<String, String> copy = new HashMap<>(single("a,b\n1,2").asMap());
+        copy.put("c", "3");
+        assertThat(copy).containsOnly(entry("a", "1"), entry("b", "2"), entry("c", "3"));
+    }
+
+    private static NamedCsvRecord single(final String data) {
+        return CsvReader.builder().allowExtraFields(true).allowMissingFields(true)
+            .build(HANDLER.build(), data)
+            .stream()
+            .findFirst()
+            .orElseThrow();
+    }
+
+}
@@ -0,0 +1,40 @@
+package blackbox.reader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import de.siegmar.fastcsv.reader.CsvCallbackHandler;
+import de.siegmar.fastcsv.reader.CsvReader;
+
+/// The parser variants a [CsvReader] chooses from – for tests of features implemented by each of them.
+enum ParserVariant {
+
+    /// The strict parser reading a String.
+    STRICT,
+
+    /// The relaxed parser – selected by trimming whitespaces around quotes (a no-op for data without them).
+    RELAXED,
+
+    /// The byte level parser reading a file.
+    FILE;
+
+    /// Builds a reader for the given data using this parser variant.
+    ///
+    /// @param builder the configured builder
+    /// @param handler the callback handler
+    /// @param data    the CSV data
+    /// @param tempDir the directory to write the data to (for [#FILE])
+    /// @param <T>     the type of the resulting records
+    /// @return the reader
+    /// @throws IOException if the data can't be written
+    <T> CsvReader<T> build(final CsvReader.CsvReaderBuilder builder, final CsvCallbackHandler<T> handler,
+                           final String data, final Path tempDir) throws IOException {
+        return switch (this) {
+            case STRICT -> builder.build(handler, data);
+            case RELAXED -> builder.trimWhitespacesAroundQuotes(true).build(handler, data);
+            case FILE -> builder.build(handler, Files.writeString(tempDir.resolve("fastcsv.csv"), data));
+        };
+    }
+
+}
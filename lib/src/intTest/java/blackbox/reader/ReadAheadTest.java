@@ -0,0 +1,138 @@
+package blackbox.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import de.siegmar.fastcsv.reader.CsvReader;
+import de.siegmar.fastcsv.reader.CsvRecord;
+
+class ReadAheadTest {
+
+    private static final String DATA = buildData();
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @TempDir
+    private Path tempDir;
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void reader() {
+        assertRecords(CsvReader.builder().readAhead(executor).ofCsvRecord(new StringReader(DATA)));
+    }
+
+    @Test
+    void inputStream() {
+        final var in = new ByteArrayInputStream(DATA.getBytes(StandardCharsets.UTF_8));
+        assertRecords(CsvReader.builder().readAhead(executor).ofCsvRecord(in));
+    }
+
+    @Test
+    void file() throws IOException {
+        final Path file = Files.writeString(tempDir.resolve("fastcsv.csv"), DATA);
+        final CsvReader<CsvRecord> csv = CsvReader.builder().readAhead(executor).ofCsvRecord(file);
+        assertThat(csv).asString().contains("parser=StrictCsvParser");
+        assertRecords(csv);
+    }
+
+    @Test
+    void relaxed() {
+        assertRecords(CsvReader.builder()
+            .readAhead(executor)
+            .trimWhitespacesAroundQuotes(true)
+            .ofCsvRecord(new StringReader(DATA)));
+    }
+
+    @Test
+    void closeEarly() throws IOException, InterruptedException {
+        final CountDownLatch closed = new CountDownLatch(1);
+        final StringReader reader = new StringReader(DATA) {
+            @Override
+            public void close() {
+                closed.countDown();
+                super.close();
+            }
+        };
+
+        try (CsvReader<CsvRecord> csv = CsvReader.builder().readAhead(executor).ofCsvRecord(reader)) {
+            assertThat(csv.iterator().next().getField(0)).isEqualTo("0");
+        }
+
+        // the background task closes the reader when it ends
+        assertThat(closed.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void sameThreadExecutor() {
+        assertRecords(CsvReader.builder().readAhead(Runnable::run).ofCsvRecord(new StringReader(DATA)));
+    }
+
+    @Test
+    void callerRunsPolicy() throws InterruptedException {
+        final CountDownLatch release = new CountDownLatch(1);
+        final ThreadPoolExecutor saturated = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS,
+            new SynchronousQueue<>(), new ThreadPoolExecutor.CallerRunsPolicy());
+        try {
+            saturated.execute(() -> {
+                try {
+                    release.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            assertRecords(CsvReader.builder().readAhead(saturated).ofCsvRecord(new StringReader(DATA)));
+        } finally {
+            release.countDown();
+            saturated.shutdown();
+            assertThat(saturated.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    @Test
+    void disabled() {
+        final CsvReader<CsvRecord> csv = CsvReader.builder()
+            .readAhead(executor)
+            .readAhead(null)
+            .ofCsvRecord(new StringReader(DATA));
+        assertRecords(csv);
+    }
+
+    private static void assertRecords(final CsvReader<CsvRecord> csv) {
+        try (Stream<CsvRecord> stream = csv.stream()) {
+            final List<CsvRecord> records = stream.toList();
+            assertThat(records).hasSize(100_000);
+            assertThat(records.get(99_999).getFields()).containsExactly("99999", "foo\nbar", "baz");
+        }
+    }
+
+    private static String buildData() {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            sb.append(i).append(",\"foo\nbar\",baz\n");
+        }
+        return sb.toString();
+    }
+
+}
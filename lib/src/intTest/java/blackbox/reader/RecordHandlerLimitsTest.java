@@ -0,0 +1,126 @@
+package blackbox.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import de.siegmar.fastcsv.reader.CsvCallbackHandler;
+import de.siegmar.fastcsv.reader.CsvParseException;
+import de.siegmar.fastcsv.reader.CsvReader;
+import de.siegmar.fastcsv.reader.FieldViewHandler;
+import de.siegmar.fastcsv.reader.FieldViewRecord;
+import de.siegmar.fastcsv.reader.LazyCsvRecord;
+import de.siegmar.fastcsv.reader.LazyCsvRecordHandler;
+
+/// Record buffering and size limits shared by the handlers that copy the fields of a record into a single buffer.
+class RecordHandlerLimitsTest {
+
+    static Stream<Handler> handlers() {
+        return Stream.of(
+            new Handler("FieldViewHandler",
+                FieldViewHandler::of,
+                n -> FieldViewHandler.of(b -> b.maxFields(n)),
+                n -> FieldViewHandler.of(b -> b.maxRecordSize(n).maxFieldSize(n)),
+                () -> FieldViewHandler.of(null),
+                rec -> {
+                    final FieldViewRecord fvr = (FieldViewRecord) rec;
+                    final List<String> fields = new ArrayList<>();
+                    for (int i = 0; i < fvr.getFieldCount(); i++) {
+                        fields.add(fvr.getField(i).toString());
+                    }
+                    return fields;
+                }),
+            new Handler("LazyCsvRecordHandler",
+                LazyCsvRecordHandler::of,
+                n -> LazyCsvRecordHandler.of(b -> b.maxFields(n)),
+                n -> LazyCsvRecordHandler.of(b -> b.maxRecordSize(n)),
+                () -> LazyCsvRecordHandler.of(null),
+                rec -> ((LazyCsvRecord) rec).getFields())
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("handlers")
+    void emptyLine(final Handler handler) {
+        assertThat(handler.fields("\n")).containsExactly("");
+    }
+
+    @ParameterizedTest
+    @MethodSource("handlers")
+    void largeRecord(final Handler handler) {
+        final String a = "a".repeat(1000);
+        final String b = "b".repeat(5000);
+        assertThat(handler.fields(a + ",x," + b)).containsExactly(a, "x", b);
+    }
+
+    @ParameterizedTest
+    @MethodSource("handlers")
+    void manyFields(final Handler handler) {
+        final List<String> fields = handler.fields(String.join(",", Collections.nCopies(100, "x")));
+        assertThat(fields).hasSize(100).containsOnly("x");
+    }
+
+    @ParameterizedTest
+    @MethodSource("handlers")
+    void maxFields(final Handler handler) {
+        final CsvReader<?> csvReader = CsvReader.builder().build(handler.maxFields().apply(2), "a,b,c");
+        assertThatThrownBy(() -> csvReader.iterator().next())
+            .isInstanceOf(CsvParseException.class)
+            .hasMessage("Record starting at line 1 has surpassed the maximum limit of 2 fields");
+    }
+
+    @ParameterizedTest
+    @MethodSource("handlers")
+    void maxRecordSize(final Handler handler) {
+        final CsvReader<?> csvReader = CsvReader.builder().build(handler.maxRecordSize().apply(5), "abc,def");
+        assertThatThrownBy(() -> csvReader.iterator().next())
+            .isInstanceOf(CsvParseException.class)
+            .hasMessage("Field at index 1 in record starting at line 1 exceeds the max record size of 5 characters");
+    }
+
+    @ParameterizedTest
+    @MethodSource("handlers")
+    void builderValidation(final Handler handler) {
+        assertThatThrownBy(() -> handler.maxFields().apply(0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("maxFields must be > 0");
+        assertThatThrownBy(() -> handler.maxRecordSize().apply(0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("maxRecordSize must be > 0");
+        assertThatThrownBy(handler.nullConfigurer()::get)
+            .isInstanceOf(NullPointerException.class)
+            .hasMessage("configurer must not be null");
+    }
+
+    record Handler(String name,
+                   Supplier<CsvCallbackHandler<?>> defaults,
+                   IntFunction<CsvCallbackHandler<?>> maxFields,
+                   IntFunction<CsvCallbackHandler<?>> maxRecordSize,
+                   Supplier<CsvCallbackHandler<?>> nullConfigurer,
+                   Function<Object, List<String>> fieldExtractor) {
+
+        List<String> fields(final String data) {
+            final CsvReader<?> csvReader = CsvReader.builder()
+                .skipEmptyLines(false)
+                .build(defaults.get(), data);
+            return fieldExtractor.apply(csvReader.iterator().next());
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+
+    }
+
+}
@@ -19,11 +19,6 @@ class RelaxedCsvReaderTest extends AbstractCsvReaderTest {
         System.clearProperty("de.siegmar.fastcsv.relaxed");
     }
 
-    @Override
-    protected int bufferOverflowPadding() {
-        return 1;
-    }
-
     @SuppressWarnings("removal")
     @Test
     void allowExtraCharsAfterClosingQuote() {
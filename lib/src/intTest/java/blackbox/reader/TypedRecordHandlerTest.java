@@ -0,0 +1,168 @@
+package blackbox.reader;
+
+import static de.siegmar.fastcsv.reader.ColumnType.DOUBLE;
+import static de.siegmar.fastcsv.reader.ColumnType.INT;
+import static de.siegmar.fastcsv.reader.ColumnType.LONG;
+import static de.siegmar.fastcsv.reader.ColumnType.SKIP;
+import static de.siegmar.fastcsv.reader.ColumnType.STRING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import de.siegmar.fastcsv.reader.ColumnType;
+import de.siegmar.fastcsv.reader.CommentStrategy;
+import de.siegmar.fastcsv.reader.CsvParseException;
+import de.siegmar.fastcsv.reader.CsvReader;
+import de.siegmar.fastcsv.reader.TypedRecord;
+import de.siegmar.fastcsv.reader.TypedRecordHandler;
+
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+class TypedRecordHandlerTest {
+
+    private static final String DATA = """
+        id,name,price,stock,note
+        1,"Apple",0.5,-7,fresh
+        #comment
+
+        2,Pear,,9223372036854775807,ripe
+        """;
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void types() throws IOException {
+        final List<String> records = new ArrayList<>();
+        final TypedRecordHandler handler = TypedRecordHandler.of(INT, STRING, DOUBLE, LONG, SKIP);
+        final CsvReader.CsvReaderBuilder builder = CsvReader.builder().commentStrategy(CommentStrategy.READ);
+        try (CsvReader<TypedRecord> csv = builder.build(handler, DATA)) {
+            csv.skipLines(1);
+            for (final TypedRecord rec : csv) {
+                records.add(rec.toString());
+            }
+        }
+
+        assertThat(records).containsExactly(
+            "TypedRecord[startingLineNumber=2, fields=[1, Apple, 0.5, -7, <skipped>]]",
+            "TypedRecord[startingLineNumber=5, fields=[2, Pear, , 9223372036854775807, <skipped>]]"
+        );
+    }
+
+    @Test
+    void getters() {
+        final Iterator<TypedRecord> it = read(TypedRecordHandler.of(List.of(INT, STRING, DOUBLE, LONG)), DATA);
+        TypedRecord rec = it.next();
+        assertThat(rec.getStartingLineNumber()).isEqualTo(2);
+        assertThat(rec.getFieldCount()).isEqualTo(5);
+        assertThat(rec.getInt(0)).isOne();
+        assertThat(rec.getLong(0)).isOne();
+        assertThat(rec.getString(1)).isEqualTo("Apple");
+        assertThat(rec.getDouble(2)).isEqualTo(0.5);
+        assertThat(rec.isEmpty(2)).isFalse();
+        assertThat(rec.getLong(3)).isEqualTo(-7);
+        assertThat(rec.getType(4)).isEqualTo(SKIP);
+
+        rec = it.next();
+        assertThat(rec.getInt(0)).isEqualTo(2);
+        assertThat(rec.getDouble(2)).isZero();
+        assertThat(rec.isEmpty(2)).isTrue();
+        assertThat(rec.getLong(3)).isEqualTo(Long.MAX_VALUE);
+        assertThat(it).isExhausted();
+    }
+
+    @Test
+    void reusedRecord() {
+        final Iterator<TypedRecord> it = read(TypedRecordHandler.of(LONG), "1\n2");
+        final TypedRecord first = it.next();
+        assertThat(it.next()).isSameAs(first);
+        assertThat(first.getLong(0)).isEqualTo(2);
+    }
+
+    @Test
+    void file() throws IOException {
+        final Path file = Files.writeString(tempDir.resolve("fastcsv.csv"), DATA);
+        double price = 0;
+        final TypedRecordHandler handler = TypedRecordHandler.of(SKIP, SKIP, DOUBLE);
+        final CsvReader.CsvReaderBuilder builder = CsvReader.builder().commentStrategy(CommentStrategy.SKIP);
+        try (CsvReader<TypedRecord> csv = builder.build(handler, file)) {
+            csv.skipLines(1);
+            for (final TypedRecord rec : csv) {
+                price += rec.getDouble(2);
+            }
+        }
+        assertThat(price).isEqualTo(0.5);
+    }
+
+    @Test
+    void invalidNumber() {
+        final Iterator<TypedRecord> it = read(TypedRecordHandler.of(STRING, INT), "a,1\nb,2147483648");
+        assertThat(it.next().getInt(1)).isOne();
+        assertThatThrownBy(it::next)
+            .isInstanceOf(CsvParseException.class)
+            .hasMessage("Field at index 1 in record starting at line 2 is not a valid INT value")
+            .hasCauseInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    void typeMismatch() {
+        final TypedRecord rec = read(TypedRecordHandler.of(LONG, STRING), "1,a,b").next();
+        assertThatThrownBy(() -> rec.getInt(0))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Field at index 0 is of type LONG, not INT");
+        assertThatThrownBy(() -> rec.getDouble(0))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Field at index 0 is of type LONG, not DOUBLE");
+        assertThatThrownBy(() -> rec.getLong(1))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Field at index 1 is of type STRING, not LONG");
+        assertThatThrownBy(() -> rec.getString(2))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Field at index 2 is of type SKIP, not STRING");
+        assertThatThrownBy(() -> rec.isEmpty(2))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Field at index 2 is skipped");
+        assertThatThrownBy(() -> rec.getType(3))
+            .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void fieldCountCheck() {
+        final Iterator<TypedRecord> it = read(TypedRecordHandler.of(INT, SKIP), "1,2\n3");
+        it.next();
+        assertThatThrownBy(it::next)
+            .isInstanceOf(CsvParseException.class)
+            .hasMessage("Record 2 has 1 fields, but first record had 2 fields");
+    }
+
+    @Test
+    void invalidArguments() {
+        assertThatThrownBy(() -> TypedRecordHandler.of((ColumnType[]) null))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessage("columnTypes must not be null");
+        assertThatThrownBy(TypedRecordHandler::of)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("columnTypes must not be empty");
+        assertThatThrownBy(() -> TypedRecordHandler.of(INT, null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    private static Iterator<TypedRecord> read(final TypedRecordHandler handler, final String data) {
+        final CsvReader<TypedRecord> csv = CsvReader.builder()
+            .commentStrategy(CommentStrategy.SKIP)
+            .build(handler, data);
+        if (data.startsWith("id")) {
+            csv.skipLines(1);
+        }
+        return csv.iterator();
+    }
+
+}
@@ -0,0 +1,44 @@
+package de.siegmar.fastcsv.reader;
+
+import java.util.Optional;
+
+/// Entry point for searching structural bytes (field separators, quotes and newlines) in byte arrays.
+///
+/// This is the Java 21+ version of this class (multi-release JAR). It uses [VectorByteSearch] if the incubator
+/// module `jdk.incubator.vector` is available at runtime (e.g., via `--add-modules jdk.incubator.vector`)
+/// and [SwarSearch] otherwise.
+final class ByteSearch {
+
+    private static final boolean VECTOR_SUPPORT = initVectorSupport();
+
+    private ByteSearch() {
+    }
+
+    private static boolean initVectorSupport() {
+        final Optional<Module> vectorModule = ModuleLayer.boot().findModule("jdk.incubator.vector");
+        if (vectorModule.isEmpty()) {
+            return false;
+        }
+
+        // the module descriptor of FastCSV does not require the incubator module (no-op for the unnamed module)
+        ByteSearch.class.getModule().addReads(vectorModule.get());
+        return true;
+    }
+
+    /// Finds the first byte within the given range that matches any of the given patterns.
+    ///
+    /// @param buf      the buffer to search
+    /// @param from     the start position (inclusive)
+    /// @param to       the end position (exclusive)
+    /// @param pattern1 the first pattern (see [SwarSearch#pattern(int)])
+    /// @param pattern2 the second pattern
+    /// @param pattern3 the third pattern
+    /// @return the position of the first matching byte or `to` if no byte matches
+    static int indexOfAny(final byte[] buf, final int from, final int to,
+                          final long pattern1, final long pattern2, final long pattern3) {
+        return VECTOR_SUPPORT
+            ? VectorByteSearch.indexOfAny(buf, from, to, pattern1, pattern2, pattern3)
+            : SwarSearch.indexOfAny(buf, from, to, pattern1, pattern2, pattern3);
+    }
+
+}
@@ -0,0 +1,60 @@
+package de.siegmar.fastcsv.reader;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+/// Searches bytes in a byte array block by block using the (incubating) Vector API.
+///
+/// Each block (32 bytes with AVX2, 64 bytes with AVX-512 – or more with SVE) is compared against the search
+/// bytes. The comparison results are combined into a mask with one lane per byte of the block, so the position
+/// of the first match is the first set lane of the mask ([VectorMask#firstTrue()]). It is used instead of
+/// [VectorMask#toLong()], as the latter only supports species of up to 64 lanes.
+///
+/// This class must only be loaded if the module `jdk.incubator.vector` is available (see [ByteSearch]).
+final class VectorByteSearch {
+
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+
+    private VectorByteSearch() {
+    }
+
+    /// Finds the first byte within the given range that matches any of the given patterns.
+    ///
+    /// @param buf      the buffer to search
+    /// @param from     the start position (inclusive)
+    /// @param to       the end position (exclusive)
+    /// @param pattern1 the first pattern (see [SwarSearch#pattern(int)])
+    /// @param pattern2 the second pattern
+    /// @param pattern3 the third pattern
+    /// @return the position of the first matching byte or `to` if no byte matches
+    static int indexOfAny(final byte[] buf, final int from, final int to,
+                          final long pattern1, final long pattern2, final long pattern3) {
+        final byte b1 = (byte) pattern1;
+        final byte b2 = (byte) pattern2;
+        final byte b3 = (byte) pattern3;
+
+        // short fields are common – check the first bytes one by one
+        final int scalarLimit = Math.min(to, from + Long.BYTES);
+        int pos = from;
+        for (; pos < scalarLimit; pos++) {
+            final byte b = buf[pos];
+            if (b == b1 || b == b2 || b == b3) {
+                return pos;
+            }
+        }
+
+        for (final int limit = to - SPECIES.length(); pos <= limit; pos += SPECIES.length()) {
+            final ByteVector block = ByteVector.fromArray(SPECIES, buf, pos);
+            final VectorMask<Byte> matches = block.eq(b1).or(block.eq(b2)).or(block.eq(b3));
+            final int first = matches.firstTrue();
+            if (first < SPECIES.length()) {
+                return pos + first;
+            }
+        }
+
+        // less than one block left
+        return SwarSearch.indexOfAny(buf, pos, to, pattern1, pattern2, pattern3);
+    }
+
+}
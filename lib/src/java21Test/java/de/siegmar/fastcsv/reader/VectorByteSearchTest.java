@@ -0,0 +1,70 @@
+package de.siegmar.fastcsv.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class VectorByteSearchTest {
+
+    private static final long COMMA = SwarSearch.pattern(',');
+    private static final long LF = SwarSearch.pattern('\n');
+    private static final long CR = SwarSearch.pattern('\r');
+
+    @Test
+    void noMatch() {
+        final byte[] buf = new byte[200];
+        assertThat(VectorByteSearch.indexOfAny(buf, 0, 200, COMMA, LF, CR)).isEqualTo(200);
+        assertThat(VectorByteSearch.indexOfAny(buf, 3, 3, COMMA, LF, CR)).isEqualTo(3);
+    }
+
+    @ParameterizedTest
+    @ValueSource(chars = {',', '\n', '\r'})
+    void everyPosition(final char search) {
+        for (int len = 1; len <= 160; len++) {
+            for (int pos = 0; pos < len; pos++) {
+                final byte[] data = new byte[len];
+                Arrays.fill(data, (byte) 'a');
+                data[pos] = (byte) search;
+
+                assertThat(VectorByteSearch.indexOfAny(data, 0, len, COMMA, LF, CR))
+                    .isEqualTo(pos);
+            }
+        }
+    }
+
+    @Test
+    void firstOfMultipleMatches() {
+        final byte[] buf = "abcdefg\r,\nxyz".getBytes(StandardCharsets.US_ASCII);
+        assertThat(VectorByteSearch.indexOfAny(buf, 0, buf.length, COMMA, LF, CR)).isEqualTo(7);
+        assertThat(VectorByteSearch.indexOfAny(buf, 8, buf.length, COMMA, LF, CR)).isEqualTo(8);
+        assertThat(VectorByteSearch.indexOfAny(buf, 9, buf.length, COMMA, LF, CR)).isEqualTo(9);
+        assertThat(VectorByteSearch.indexOfAny(buf, 10, buf.length, COMMA, LF, CR)).isEqualTo(13);
+    }
+
+    @Test
+    void noFalsePositives() {
+        // bytes adjacent to the searched values and bytes with the high bit set must not match
+        final byte[] nonMatching = {0x2B, 0x2D, 0x09, 0x0B, 0x0C, 0x0E, (byte) 0xAC, (byte) 0x8A, (byte) 0x8D, 0x00,
+            0x01, (byte) 0xFF};
+        final byte[] data = new byte[nonMatching.length * 16 + 1];
+        for (int i = 0; i < data.length - 1; i++) {
+            data[i] = nonMatching[i % nonMatching.length];
+        }
+        data[data.length - 1] = ',';
+
+        assertThat(VectorByteSearch.indexOfAny(data, 0, data.length, COMMA, LF, CR))
+            .isEqualTo(data.length - 1);
+    }
+
+    @Test
+    void respectsRange() {
+        final byte[] buf = ("," + "a".repeat(150) + ",").getBytes(StandardCharsets.US_ASCII);
+        assertThat(VectorByteSearch.indexOfAny(buf, 1, 151, COMMA, LF, CR)).isEqualTo(151);
+    }
+
+}
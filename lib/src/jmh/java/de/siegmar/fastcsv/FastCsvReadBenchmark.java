@@ -11,7 +11,10 @@ import org.openjdk.jmh.annotations.TearDown;
 import de.siegmar.fastcsv.reader.CloseableIterator;
 import de.siegmar.fastcsv.reader.CsvReader;
 import de.siegmar.fastcsv.reader.CsvRecord;
+import de.siegmar.fastcsv.reader.CsvRecordHandler;
 import de.siegmar.fastcsv.reader.FieldMismatchStrategy;
+import de.siegmar.fastcsv.reader.FieldViewHandler;
+import de.siegmar.fastcsv.reader.FieldViewRecord;
 
 public class FastCsvReadBenchmark {
 
@@ -20,6 +23,16 @@ public class FastCsvReadBenchmark {
         return state.it.next();
     }
 
+    @Benchmark
+    public CsvRecord readReusedRecord(final ReusedRecordState state) {
+        return state.it.next();
+    }
+
+    @Benchmark
+    public FieldViewRecord readFieldViews(final FieldViewState state) {
+        return state.it.next();
+    }
+
     @State(Scope.Benchmark)
     public static class ReadState {
 
@@ -40,4 +53,44 @@ public class FastCsvReadBenchmark {
 
     }
 
+    @State(Scope.Benchmark)
+    public static class ReusedRecordState {
+
+        private CloseableIterator<CsvRecord> it;
+
+        @Setup
+        public void setup() {
+            it = CsvReader.builder()
+                .missingFieldStrategy(FieldMismatchStrategy.IGNORE)
+                .build(CsvRecordHandler.of(c -> c.reuseRecord(true)), new InfiniteDataReader(CsvConstants.DATA))
+                .iterator();
+        }
+
+        @TearDown
+        public void teardown() throws IOException {
+            it.close();
+        }
+
+    }
+
+    @State(Scope.Benchmark)
+    public static class FieldViewState {
+
+        private CloseableIterator<FieldViewRecord> it;
+
+        @Setup
+        public void setup() {
+            it = CsvReader.builder()
+                .missingFieldStrategy(FieldMismatchStrategy.IGNORE)
+                .build(FieldViewHandler.of(), new InfiniteDataReader(CsvConstants.DATA))
+                .iterator();
+        }
+
+        @TearDown
+        public void teardown() throws IOException {
+            it.close();
+        }
+
+    }
+
 }
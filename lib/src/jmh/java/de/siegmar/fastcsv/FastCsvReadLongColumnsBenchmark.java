@@ -0,0 +1,71 @@
+package de.siegmar.fastcsv;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import de.siegmar.fastcsv.reader.CsvReader;
+import de.siegmar.fastcsv.reader.CsvRecord;
+
+/// Reads a file with long unquoted text columns – the case where structural characters are rare and the
+/// search for the next one dominates.
+///
+/// `readPath` uses the byte based parser (SWAR search), `readPathMapped` additionally memory maps the file and
+/// `readReader` uses the char based parser for comparison.
+public class FastCsvReadLongColumnsBenchmark {
+
+    @Benchmark
+    public long readPath(final FileState state) throws IOException {
+        try (CsvReader<CsvRecord> csv = CsvReader.builder().ofCsvRecord(state.file)) {
+            return csv.stream().count();
+        }
+    }
+
+    @Benchmark
+    public long readPathMapped(final FileState state) throws IOException {
+        try (CsvReader<CsvRecord> csv = CsvReader.builder().memoryMapped(true).ofCsvRecord(state.file)) {
+            return csv.stream().count();
+        }
+    }
+
+    @Benchmark
+    public long readReader(final FileState state) throws IOException {
+        final Reader reader = new InputStreamReader(Files.newInputStream(state.file), StandardCharsets.UTF_8);
+        try (CsvReader<CsvRecord> csv = CsvReader.builder().ofCsvRecord(reader)) {
+            return csv.stream().count();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class FileState {
+
+        private static final int RECORDS = 10_000;
+        private static final String FIELD = "Lorem ipsum dolor sit amet consectetur adipiscing elit sed do eiusmod "
+            + "tempor incididunt ut labore et dolore magna aliqua Ut enim ad minim veniam quis nostrud";
+
+        private Path file;
+
+        @Setup
+        public void setup() throws IOException {
+            file = Files.createTempFile("fastcsv-jmh", ".csv");
+            final String record = String.join(",", FIELD, FIELD, FIELD, FIELD) + "\n";
+            Files.writeString(file, record.repeat(RECORDS));
+        }
+
+        @TearDown
+        public void teardown() throws IOException {
+            Files.delete(file);
+        }
+
+    }
+
+}
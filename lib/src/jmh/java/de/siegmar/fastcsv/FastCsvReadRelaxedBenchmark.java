@@ -13,6 +13,8 @@ import de.siegmar.fastcsv.reader.CsvReader;
 import de.siegmar.fastcsv.reader.CsvRecord;
 import de.siegmar.fastcsv.reader.FieldMismatchStrategy;
 
+/// Benchmarks the relaxed parser (used for multi-character field separators and for trimming whitespaces
+/// around quotes) – compared to the strict parser reading the same data as baseline.
 public class FastCsvReadRelaxedBenchmark {
 
     @Benchmark
@@ -20,6 +22,16 @@ public class FastCsvReadRelaxedBenchmark {
         return state.it.next();
     }
 
+    @Benchmark
+    public CsvRecord readTrimWhitespacesAroundQuotes(final TrimState state) {
+        return state.it.next();
+    }
+
+    @Benchmark
+    public CsvRecord readStrict(final StrictState state) {
+        return state.it.next();
+    }
+
     @State(Scope.Benchmark)
     public static class ReadState {
 
@@ -41,4 +53,45 @@ public class FastCsvReadRelaxedBenchmark {
 
     }
 
+    @State(Scope.Benchmark)
+    public static class TrimState {
+
+        private CloseableIterator<CsvRecord> it;
+
+        @Setup
+        public void setup() {
+            it = CsvReader.builder()
+                .missingFieldStrategy(FieldMismatchStrategy.IGNORE)
+                .trimWhitespacesAroundQuotes(true)
+                .ofCsvRecord(new InfiniteDataReader(CsvConstants.DATA))
+                .iterator();
+        }
+
+        @TearDown
+        public void teardown() throws IOException {
+            it.close();
+        }
+
+    }
+
+    @State(Scope.Benchmark)
+    public static class StrictState {
+
+        private CloseableIterator<CsvRecord> it;
+
+        @Setup
+        public void setup() {
+            it = CsvReader.builder()
+                .missingFieldStrategy(FieldMismatchStrategy.IGNORE)
+                .ofCsvRecord(new InfiniteDataReader(CsvConstants.DATA))
+                .iterator();
+        }
+
+        @TearDown
+        public void teardown() throws IOException {
+            it.close();
+        }
+
+    }
+
 }
@@ -0,0 +1,77 @@
+package de.siegmar.fastcsv;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import de.siegmar.fastcsv.reader.CsvBufferPool;
+import de.siegmar.fastcsv.reader.CsvFormat;
+import de.siegmar.fastcsv.reader.CsvReader;
+import de.siegmar.fastcsv.reader.CsvRecord;
+
+/// Benchmarks the per-reader overhead for small payloads – creating a reader via a configured builder
+/// compared to a compiled [CsvFormat] (with and without a buffer pool).
+public class FastCsvReaderCreationBenchmark {
+
+    private static final String PAYLOAD = "id;name;amount\r\n1;foo;12.50\r\n2;bar;7.25\r\n";
+
+    @Benchmark
+    public void builderString(final Blackhole bh) throws IOException {
+        final CsvReader<CsvRecord> csv = CsvReader.builder()
+            .fieldSeparator(';')
+            .ofCsvRecord(PAYLOAD);
+        consume(csv, bh);
+    }
+
+    @Benchmark
+    public void formatString(final FormatState state, final Blackhole bh) throws IOException {
+        consume(state.format.ofCsvRecord(PAYLOAD), bh);
+    }
+
+    @Benchmark
+    public void builderReader(final Blackhole bh) throws IOException {
+        final CsvReader<CsvRecord> csv = CsvReader.builder()
+            .fieldSeparator(';')
+            .ofCsvRecord(new StringReader(PAYLOAD));
+        consume(csv, bh);
+    }
+
+    @Benchmark
+    public void formatReader(final FormatState state, final Blackhole bh) throws IOException {
+        consume(state.format.ofCsvRecord(new StringReader(PAYLOAD)), bh);
+    }
+
+    @Benchmark
+    public void pooledFormatReader(final FormatState state, final Blackhole bh) throws IOException {
+        consume(state.pooledFormat.ofCsvRecord(new StringReader(PAYLOAD)), bh);
+    }
+
+    private static void consume(final CsvReader<CsvRecord> csv, final Blackhole bh) throws IOException {
+        try (csv) {
+            for (final CsvRecord csvRecord : csv) {
+                bh.consume(csvRecord);
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class FormatState {
+
+        private static final int POOL_SIZE = 64;
+
+        private final CsvFormat format = CsvReader.builder()
+            .fieldSeparator(';')
+            .compile();
+
+        private final CsvFormat pooledFormat = CsvReader.builder()
+            .fieldSeparator(';')
+            .bufferPool(CsvBufferPool.shared(POOL_SIZE))
+            .compile();
+
+    }
+
+}
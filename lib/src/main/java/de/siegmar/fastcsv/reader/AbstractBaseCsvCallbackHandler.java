@@ -56,6 +56,36 @@ public abstract class AbstractBaseCsvCallbackHandler<T> extends CsvCallbackHandl
     protected void handleBegin(final long startingLineNumber) {
     }
 
+    /// {@inheritDoc}
+    ///
+    /// This implementation delegates to [#skipField(int)] and increments the [#fieldCount] for skipped fields.
+    ///
+    /// Like the other callbacks of this class, this method is final as it maintains the field count and the
+    /// field index passed to [#handleField(int, char\[\], int, int, boolean)]. Override [#skipField(int)]
+    /// instead.
+    @Override
+    protected final boolean skipField() {
+        if (skipField(fieldCount)) {
+            fieldCount++;
+            return true;
+        }
+        return false;
+    }
+
+    /// Determines whether a field should be skipped.
+    ///
+    /// A skipped field is only scanned by the parser – it is neither decoded nor unescaped, and
+    /// [#handleField(int, char\[\], int, int, boolean)] is not called for it. Skipped fields are counted
+    /// by [#getFieldCount()] nevertheless.
+    ///
+    /// This implementation returns `false`.
+    ///
+    /// @param fieldIdx the index of the field in the record (starting with 0)
+    /// @return `true` if the field should be skipped
+    protected boolean skipField(final int fieldIdx) {
+        return false;
+    }
+
     /// {@inheritDoc}
     ///
     /// This implementation delegates to [#handleField(int, char\[\], int, int, boolean)]
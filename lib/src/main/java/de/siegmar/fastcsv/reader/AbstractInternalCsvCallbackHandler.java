@@ -1,7 +1,12 @@
 package de.siegmar.fastcsv.reader;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 
+import de.siegmar.fastcsv.util.Nullable;
 import de.siegmar.fastcsv.util.Preconditions;
 
 /// Abstract base class for [CsvCallbackHandler] implementations.
@@ -41,18 +46,46 @@ public abstract sealed class AbstractInternalCsvCallbackHandler<T> extends CsvCa
     /// The type of the current record.
     protected RecordType recordType = RecordType.DATA;
 
+    /// The cache of repeating field values; `null` if disabled.
+    @Nullable
+    private final StringCache stringCache;
+
+    /// The lookup table of selected columns (indexed by column index); `null` if all columns are selected.
+    @Nullable
+    private boolean[] selectedColumns;
+
+    /// The field predicates (indexed by column index); `null` if records are not filtered.
+    @Nullable
+    private FieldPredicate[] filters;
+
+    /// The index of the current column in the CSV data (including skipped columns).
+    private int columnIdx;
+
+    /// The field predicate of the current column; `null` if none.
+    @Nullable
+    private FieldPredicate currentFilter;
+
+    /// If the current record has been rejected by a field predicate.
+    private boolean rejected;
+
     /// Constructs a new instance with the given configuration.
     ///
     /// @param maxFields     the maximum number of fields; must be > 0
     /// @param maxFieldSize  the maximum field size; must be > 0
-    /// @param maxRecordSize the maximum record size; must be > 0 and >= `maxFieldSize`
-    /// @param fieldModifier the field modifier; must not be `null`
+    /// @param maxRecordSize   the maximum record size; must be > 0 and >= `maxFieldSize`
+    /// @param internCacheSize the maximum number of distinct values cached per column; `0` disables the cache
+    /// @param fieldModifier   the field modifier; must not be `null`
+    /// @param selectedColumns the indexes of the columns to select; `null` to select all columns
+    /// @param filters         the field predicates by column index; must not be `null`
     /// @throws IllegalArgumentException if the arguments are invalid
     /// @throws NullPointerException     if `null` is passed
     protected AbstractInternalCsvCallbackHandler(final int maxFields,
                                                  final int maxFieldSize,
                                                  final int maxRecordSize,
-                                                 final FieldModifier fieldModifier) {
+                                                 final int internCacheSize,
+                                                 final FieldModifier fieldModifier,
+                                                 @Nullable final int[] selectedColumns,
+                                                 final Map<Integer, FieldPredicate> filters) {
 
         Preconditions.checkArgument(maxRecordSize >= maxFieldSize, "maxRecordSize must be >= maxFieldSize");
 
@@ -60,7 +93,67 @@ public abstract sealed class AbstractInternalCsvCallbackHandler<T> extends CsvCa
         this.maxFieldSize = maxFieldSize;
         this.maxRecordSize = maxRecordSize;
         this.fieldModifier = Objects.requireNonNull(fieldModifier, "fieldModifier must not be null");
+        stringCache = internCacheSize > 0 ? new StringCache(internCacheSize) : null;
         fields = new String[Math.min(DEFAULT_INITIAL_FIELDS_SIZE, maxFields)];
+        if (selectedColumns != null) {
+            selectColumns(selectedColumns);
+        }
+        filterColumns(filters);
+    }
+
+    /// Restricts the fields of all subsequent records to the given columns.
+    ///
+    /// @param columns the indexes of the columns to select
+    @SuppressWarnings("PMD.UseVarargs")
+    final void selectColumns(final int[] columns) {
+        final boolean[] lookup = new boolean[Arrays.stream(columns).max().orElse(-1) + 1];
+        for (final int column : columns) {
+            lookup[column] = true;
+        }
+        selectedColumns = lookup;
+    }
+
+    /// Filters all subsequent records by the given field predicates.
+    ///
+    /// @param predicates the field predicates by column index
+    final void filterColumns(final Map<Integer, FieldPredicate> predicates) {
+        if (predicates.isEmpty()) {
+            return;
+        }
+
+        final FieldPredicate[] lookup = new FieldPredicate[Collections.max(predicates.keySet()) + 1];
+        predicates.forEach((column, predicate) -> lookup[column] = predicate);
+        filters = lookup;
+    }
+
+    /// Checks if the current record has been rejected by a field predicate.
+    ///
+    /// No record must be built for a rejected record, as its fields are incomplete.
+    ///
+    /// @return `true` if the current record has been rejected
+    final boolean isRejected() {
+        return rejected;
+    }
+
+    /// Restricts the given values (e.g., a predefined header) to the selected columns.
+    ///
+    /// @param values the values of all columns
+    /// @return the values of the selected columns or `values` if all columns are selected
+    @SuppressWarnings("PMD.UseVarargs")
+    final String[] selectValues(final String[] values) {
+        final boolean[] lookup = selectedColumns;
+        if (lookup == null) {
+            return values;
+        }
+
+        final String[] ret = new String[values.length];
+        int count = 0;
+        for (int i = 0; i < Math.min(values.length, lookup.length); i++) {
+            if (lookup[i]) {
+                ret[count++] = values[i];
+            }
+        }
+        return Arrays.copyOf(ret, count);
     }
 
     @Override
@@ -68,9 +161,12 @@ public abstract sealed class AbstractInternalCsvCallbackHandler<T> extends CsvCa
         return recordType;
     }
 
+    /// {@inheritDoc}
+    /// With column projection or field predicates, skipped fields are counted as well – the field count of a data
+    /// record refers to the CSV data, not to the selected columns (see [CsvCallbackHandler#skipField()]).
     @Override
     protected int getFieldCount() {
-        return fieldIdx;
+        return recordType == RecordType.DATA ? columnIdx : fieldIdx;
     }
 
     /// {@inheritDoc}
@@ -80,17 +176,66 @@ public abstract sealed class AbstractInternalCsvCallbackHandler<T> extends CsvCa
     protected void beginRecord(final long startingLineNumber) {
         this.startingLineNumber = startingLineNumber;
         fieldIdx = 0;
+        columnIdx = 0;
+        currentFilter = null;
+        rejected = false;
         recordSize = 0;
         recordType = RecordType.DATA;
     }
 
     /// {@inheritDoc}
-    /// Materializes the field value, apply field modifier, checks constraints and adds the field to the record.
+    /// Skips the field if column projection is enabled and the current column is not selected (unless a field
+    /// predicate has to be evaluated for it) or if the current record has already been rejected.
+    @Override
+    protected boolean skipField() {
+        final int column = columnIdx++;
+        if (selectedColumns == null && filters == null) {
+            return false;
+        }
+        if (rejected) {
+            return true;
+        }
+
+        currentFilter = filters != null && column < filters.length ? filters[column] : null;
+        return currentFilter == null && !isSelected(column);
+    }
+
+    private boolean isSelected(final int column) {
+        final boolean[] lookup = selectedColumns;
+        return lookup == null || column < lookup.length && lookup[column];
+    }
+
+    /// {@inheritDoc}
+    /// Evaluates the field predicate of the current column (if any). If the field is accepted, the field value is
+    /// materialized, the field modifier is applied, the constraints are checked and the field is added to the
+    /// record.
     ///
     /// @throws CsvParseException if the addition exceeds the limit of record size or maximum fields count.
     @Override
     protected void addField(final char[] buf, final int offset, final int len, final boolean quoted) {
-        final String modifiedField = modifyField(new String(buf, offset, len), quoted);
+        final FieldPredicate filter = currentFilter;
+        if (filter == null || acceptFilteredField(filter, buf, offset, len)) {
+            materializeField(buf, offset, len, quoted);
+        }
+    }
+
+    private boolean acceptFilteredField(final FieldPredicate filter, final char[] buf, final int offset,
+                                        final int len) {
+        currentFilter = null;
+        if (!filter.test(buf, offset, len)) {
+            rejected = true;
+            return false;
+        }
+
+        // the field may only have been passed for evaluating the predicate
+        return isSelected(columnIdx - 1);
+    }
+
+    private void materializeField(final char[] buf, final int offset, final int len, final boolean quoted) {
+        final String field = stringCache != null
+            ? stringCache.get(fieldIdx, buf, offset, len)
+            : new String(buf, offset, len);
+        final String modifiedField = modifyField(field, quoted);
         final int modifiedFieldLength = modifiedField.length();
 
         if (maxFieldSize < modifiedFieldLength) {
@@ -195,6 +340,9 @@ public abstract sealed class AbstractInternalCsvCallbackHandler<T> extends CsvCa
     /// - [#maxFieldSize(int)] — maximum characters per field (checked **after** field modifiers).
     /// - [#maxRecordSize(int)] — maximum total characters per record (sum of all fields, checked **after** modifiers).
     ///
+    /// To reduce the heap footprint of retained records, [#internCacheSize(int)] enables a cache that reuses the
+    /// String instances of repeating values of low-cardinality columns.
+    ///
     /// These limits are independent of [de.siegmar.fastcsv.reader.CsvReader.CsvReaderBuilder#maxBufferSize(int)],
     /// which caps the raw parser buffer **before** field modifiers are applied.
     ///
@@ -206,6 +354,7 @@ public abstract sealed class AbstractInternalCsvCallbackHandler<T> extends CsvCa
         private static final int DEFAULT_MAX_FIELDS = 16 * 1024;
         private static final int DEFAULT_MAX_FIELD_SIZE = 16 * 1024 * 1024;
         private static final int DEFAULT_MAX_RECORD_SIZE = 4 * DEFAULT_MAX_FIELD_SIZE;
+        private static final int MAX_INTERN_CACHE_SIZE = 64 * 1024;
 
         /// The maximum number of fields a single record may have.
         /// The default value is {@value %,2d #DEFAULT_MAX_FIELDS}.
@@ -219,10 +368,23 @@ public abstract sealed class AbstractInternalCsvCallbackHandler<T> extends CsvCa
         /// The default value is {@value %,2d #DEFAULT_MAX_RECORD_SIZE}.
         protected int maxRecordSize = DEFAULT_MAX_RECORD_SIZE;
 
+        /// The maximum number of distinct values cached per column.
+        /// The default value is `0` (cache disabled).
+        protected int internCacheSize;
+
         /// The field modifier.
         /// The default value is [FieldModifiers#NOP].
         protected FieldModifier fieldModifier = FieldModifiers.NOP;
 
+        /// The indexes of the columns to select.
+        /// The default value is `null` (all columns).
+        @Nullable
+        protected int[] selectedColumns;
+
+        /// The field predicates by column index.
+        /// The default value is an empty map (no filtering).
+        protected final Map<Integer, FieldPredicate> filters = new LinkedHashMap<>();
+
         /// Constructs a new default instance.
         protected AbstractInternalCsvCallbackHandlerBuilder() {
         }
@@ -288,6 +450,29 @@ public abstract sealed class AbstractInternalCsvCallbackHandler<T> extends CsvCa
             return self();
         }
 
+        /// Enables a per-column cache that reuses the String instances of repeating field values.
+        ///
+        /// Columns with only a handful of distinct values (like country codes, status values or currencies)
+        /// otherwise produce a new String for every single value. With this cache enabled, values are looked up
+        /// directly from the parser buffer, so a repeating value neither allocates a new String nor occupies
+        /// additional heap space in retained records.
+        ///
+        /// The cache is bounded: once a column exceeds the given number of distinct values, the cache of this
+        /// column is evicted and its values are no longer cached. Values longer than 64 characters are never
+        /// cached. The cache is applied **before** field modifiers; comments are not cached.
+        ///
+        /// @param internCacheSize the maximum number of distinct values cached per column; must be >= 0 and
+        ///                        <= {@value %,2d #MAX_INTERN_CACHE_SIZE} (default: `0`, cache disabled)
+        /// @return This updated object, allowing additional method calls to be chained together.
+        /// @throws IllegalArgumentException if the argument is out of range
+        @SuppressWarnings("checkstyle:HiddenField")
+        public T internCacheSize(final int internCacheSize) {
+            Preconditions.checkArgument(internCacheSize >= 0 && internCacheSize <= MAX_INTERN_CACHE_SIZE,
+                "internCacheSize must be >= 0 and <= " + MAX_INTERN_CACHE_SIZE);
+            this.internCacheSize = internCacheSize;
+            return self();
+        }
+
         /// Sets the field modifier.
         ///
         /// @param fieldModifier the field modifier; must not be `null` (default: [FieldModifiers#NOP])
@@ -300,6 +485,66 @@ public abstract sealed class AbstractInternalCsvCallbackHandler<T> extends CsvCa
             return self();
         }
 
+        /// Adds a field predicate that filters records by the raw value of the given column (predicate push-down).
+        ///
+        /// The predicate is evaluated while the record is being parsed – before the field value is materialized
+        /// as a String and before the field modifier is applied. As soon as a predicate rejects a field, the
+        /// remaining fields of the record are skipped and no record is built for it; the [CsvReader] simply
+        /// continues with the next record. Only the fields preceding the rejected field have been materialized,
+        /// so filtering on the first columns is most efficient.
+        ///
+        /// Multiple predicates (also for the same column) must all accept the record. A record that lacks the
+        /// given column is not filtered. Comments and empty lines are not filtered. The column index refers to the
+        /// CSV data, regardless of [#selectColumns(int...)]. Filtered columns need not be selected.
+        ///
+        /// Note that the first record not being rejected is the reference for the field count check of the
+        /// [CsvReader]. For [NamedCsvRecordHandler], the header record is never filtered.
+        ///
+        /// @param column    the index of the column (starting with 0); must be >= 0
+        /// @param predicate the predicate; must not be `null`
+        /// @return This updated object, allowing additional method calls to be chained together.
+        /// @throws IllegalArgumentException if the column index is negative
+        /// @throws NullPointerException     if `null` is passed
+        /// @see FieldPredicate
+        public T filter(final int column, final FieldPredicate predicate) {
+            Preconditions.checkArgument(column >= 0, "column index must be >= 0");
+            Objects.requireNonNull(predicate, "predicate must not be null");
+            filters.merge(column, predicate, FieldPredicate::and);
+            return self();
+        }
+
+        /// Restricts the fields of the resulting records to the given columns (column projection).
+        ///
+        /// Fields of columns that are not selected are only scanned by the parser – they are neither decoded,
+        /// unescaped, materialized as Strings nor passed to the field modifier. This speeds up reading wide CSV
+        /// data of which only some columns are needed and reduces the memory footprint of the records.
+        ///
+        /// The fields of the resulting records retain the order of the CSV data (regardless of the order of the
+        /// given indexes), e.g., selecting columns `5` and `1` results in records with two fields: the field of
+        /// column `1` at index 0 and the field of column `5` at index 1. The field index passed to the field
+        /// modifier and all limits (like [#maxFields(int)]) refer to the resulting record, too. If a record
+        /// lacks some of the selected columns, it contains fewer fields. Comments are not affected.
+        ///
+        /// Note that the field count check of the [CsvReader] (see
+        /// [de.siegmar.fastcsv.reader.CsvReader.CsvReaderBuilder#missingFieldStrategy(FieldMismatchStrategy)] and
+        /// [de.siegmar.fastcsv.reader.CsvReader.CsvReaderBuilder#extraFieldStrategy(FieldMismatchStrategy)])
+        /// counts all columns of the CSV data, not just the selected ones.
+        ///
+        /// @param columns the indexes of the columns to select (starting with 0); must not be `null` or empty
+        ///                (default: all columns)
+        /// @return This updated object, allowing additional method calls to be chained together.
+        /// @throws NullPointerException     if `null` is passed
+        /// @throws IllegalArgumentException if no column or a negative column index is given
+        public T selectColumns(final int... columns) {
+            Objects.requireNonNull(columns, "columns must not be null");
+            Preconditions.checkArgument(columns.length > 0, "columns must not be empty");
+            for (final int column : columns) {
+                Preconditions.checkArgument(column >= 0, "column index must be >= 0");
+            }
+            selectedColumns = columns.clone();
+            return self();
+        }
+
     }
 
 }
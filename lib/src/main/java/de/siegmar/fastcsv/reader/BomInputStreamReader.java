@@ -2,7 +2,6 @@ package de.siegmar.fastcsv.reader;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.Reader;
 import java.nio.charset.Charset;
 
@@ -27,7 +26,7 @@ final class BomInputStreamReader extends Reader {
     public int read(final char[] cbuf, final int off, final int len) throws IOException {
         if (reader == null) {
             final var bomIn = new BomInputStream(inputStream, defaultCharset);
-            reader = new InputStreamReader(bomIn, bomIn.getCharset());
+            reader = WideningInputStreamReader.of(bomIn, bomIn.getCharset());
         }
 
         return reader.read(cbuf, off, len);
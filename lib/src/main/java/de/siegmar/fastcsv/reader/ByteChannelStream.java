@@ -7,7 +7,10 @@ import java.nio.channels.ReadableByteChannel;
 
 final class ByteChannelStream {
 
-    private final ByteBuffer byteBuf = ByteBuffer.allocateDirect(8192);
+    private static final int BUFFER_SIZE = 8192;
+
+    // heap buffer, as SwarSearch operates on the backing array
+    private final ByteBuffer byteBuf = ByteBuffer.allocate(BUFFER_SIZE);
     private final ReadableByteChannel channel;
     private final CsvScanner.CsvListener csvListener;
     private long offset = -1;
@@ -47,6 +50,28 @@ final class ByteChannelStream {
         return true;
     }
 
+    /// Skips all bytes until the next byte matches one of the given patterns (see [SwarSearch#pattern(int)]).
+    ///
+    /// The matching byte itself is not consumed and returned by the next call of [#get()].
+    ///
+    /// @param pattern1 the first pattern
+    /// @param pattern2 the second pattern
+    /// @param pattern3 the third pattern
+    /// @throws IOException if an I/O error occurs
+    void skipUntil(final long pattern1, final long pattern2, final long pattern3) throws IOException {
+        while (nextByte != -1 && nextByte != (byte) pattern1 && nextByte != (byte) pattern2
+            && nextByte != (byte) pattern3) {
+
+            final int pos = buf.position();
+            final int idx = ByteSearch.indexOfAny(byteBuf.array(), pos, buf.limit(), pattern1, pattern2, pattern3);
+
+            // consume nextByte and all non-matching bytes in front of idx
+            offset += 1 + idx - pos;
+            buf.position(idx);
+            nextByte = fetchNextByte();
+        }
+    }
+
     boolean hasData() {
         return nextByte != -1;
     }
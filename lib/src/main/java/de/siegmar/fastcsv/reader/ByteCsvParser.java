@@ -0,0 +1,641 @@
+package de.siegmar.fastcsv.reader;
+
+import static de.siegmar.fastcsv.util.Util.CR;
+import static de.siegmar.fastcsv.util.Util.LF;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+import de.siegmar.fastcsv.util.Nullable;
+import de.siegmar.fastcsv.util.Preconditions;
+
+/// A parser that operates directly on the bytes of an ASCII-compatible input.
+///
+/// In contrast to [StrictCsvParser] it does not require a [java.io.Reader]: the structure of the CSV data
+/// (field separators, quotes, comments and newlines) is detected on the raw bytes. Only the bytes of fields that
+/// are passed to the callback handler are decoded.
+///
+/// This works for UTF-8, US-ASCII and ISO-8859-1 as all bytes of multibyte sequences (if any) are `>= 0x80`
+/// and therefore never collide with the (ASCII) control characters.
+///
+/// The behavior is identical to [StrictCsvParser].
+/*
+ * This class contains ugly, performance optimized code - be warned!
+ */
+@SuppressWarnings({
+    "checkstyle:CyclomaticComplexity",
+    "checkstyle:ExecutableStatementCount",
+    "checkstyle:InnerAssignment",
+    "checkstyle:JavaNCSS",
+    "checkstyle:NestedIfDepth"
+})
+final class ByteCsvParser implements CsvParser {
+
+    private static final int STATUS_LAST_CHAR_WAS_CR = 32;
+    private static final int STATUS_COMMENTED_RECORD = 16;
+    private static final int STATUS_NEW_FIELD = 8;
+    private static final int STATUS_QUOTED_MODE = 4;
+    private static final int STATUS_QUOTED_FIELD = 2;
+    private static final int STATUS_DATA_FIELD = 1;
+    private static final int STATUS_RESET = 0;
+
+    private static final int MAX_ASCII = 0x7F;
+    private static final int BYTE_MASK = 0xFF;
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+    private static final long LF_PATTERN = SwarSearch.pattern(LF);
+    private static final long CR_PATTERN = SwarSearch.pattern(CR);
+
+    private final byte fsep;
+    private final byte qChar;
+    private final byte cChar;
+    private final long fsepPattern;
+    private final long qPattern;
+    private final boolean commentsEnabled;
+    private final boolean allowExtraCharsAfterClosingQuote;
+    private final boolean allowUnclosedQuote;
+    private final CsvCallbackHandler<?> callbackHandler;
+    private final FieldDecoder fieldDecoder;
+    private final ByteCsvBuffer csvBuffer;
+
+    private long startingLineNumber;
+    private int lines = 1;
+    private boolean firstField;
+
+    private int status;
+    private boolean finished;
+
+    // number of bytes of the line returned by the last peekLine() call
+    private int peekedLineLength;
+
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    ByteCsvParser(final char fieldSeparator, final char quoteCharacter,
+                  final CommentStrategy commentStrategy, final char commentCharacter,
+                  final boolean allowExtraCharsAfterClosingQuote,
+                  final boolean allowUnclosedQuote,
+                  final CsvCallbackHandler<?> callbackHandler,
+                  final int maxBufferSize,
+                  final CsvBufferPool bufferPool,
+                  final ReadableByteChannel channel,
+                  final Charset charset) {
+
+        StrictCsvParser.assertFields(fieldSeparator, quoteCharacter, commentCharacter, commentStrategy);
+        Preconditions.checkArgument(isSupported(charset, fieldSeparator, quoteCharacter, commentCharacter),
+            "Unsupported configuration for byte based parsing (charset=%s)".formatted(charset));
+
+        fsep = (byte) fieldSeparator;
+        qChar = (byte) quoteCharacter;
+        cChar = (byte) commentCharacter;
+        fsepPattern = SwarSearch.pattern(fieldSeparator);
+        qPattern = SwarSearch.pattern(quoteCharacter);
+        commentsEnabled = commentStrategy != CommentStrategy.NONE;
+        this.allowExtraCharsAfterClosingQuote = allowExtraCharsAfterClosingQuote;
+        this.allowUnclosedQuote = allowUnclosedQuote;
+        this.callbackHandler = callbackHandler;
+        fieldDecoder = new FieldDecoder(charset);
+        csvBuffer = new ByteCsvBuffer(channel, maxBufferSize, maxBufferBytes(maxBufferSize, charset), bufferPool);
+    }
+
+    /// Converts the maximum buffer size (which is defined in characters) to bytes.
+    ///
+    /// A field of `maxBufferSize` characters must fit into the buffer regardless of the number of bytes
+    /// the charset needs to encode its characters (e.g., up to 3 bytes per char in UTF-8).
+    static int maxBufferBytes(final int maxBufferSize, final Charset charset) {
+        final long bytesPerChar = (long) Math.ceil(charset.newEncoder().maxBytesPerChar());
+        return (int) Math.min(MAX_ARRAY_SIZE, maxBufferSize * bytesPerChar);
+    }
+
+    /// Checks if the given charset and control characters can be handled by this parser.
+    ///
+    /// @param charset          the charset of the data
+    /// @param fieldSeparator   the field separator
+    /// @param quoteCharacter   the quote character
+    /// @param commentCharacter the comment character
+    /// @return `true` if the data can be parsed on byte level
+    static boolean isSupported(final Charset charset, final char fieldSeparator, final char quoteCharacter,
+                               final char commentCharacter) {
+        return isAsciiCompatible(charset)
+            && fieldSeparator <= MAX_ASCII && quoteCharacter <= MAX_ASCII && commentCharacter <= MAX_ASCII;
+    }
+
+    private static boolean isAsciiCompatible(final Charset charset) {
+        return StandardCharsets.UTF_8.equals(charset)
+            || StandardCharsets.US_ASCII.equals(charset)
+            || StandardCharsets.ISO_8859_1.equals(charset);
+    }
+
+    @SuppressWarnings("checkstyle:ReturnCount")
+    @Override
+    public boolean parse() throws IOException {
+        if (finished) {
+            // no more data available
+            return false;
+        }
+
+        startingLineNumber += lines;
+        lines = 1;
+        callbackHandler.beginRecord(startingLineNumber);
+        firstField = true;
+
+        do {
+            if (csvBuffer.len == csvBuffer.pos && !csvBuffer.fetchData()) {
+                // buffer is processed and no more data available
+                finished = true;
+                return processBufferTail();
+            }
+        } while (consume(csvBuffer.buf, csvBuffer.len));
+
+        // we read data (and passed it to the record handler)
+        return true;
+    }
+
+    private boolean processBufferTail() {
+        if (csvBuffer.begin < csvBuffer.pos) {
+            // we have unconsumed data in the buffer
+            if (!allowUnclosedQuote && (status & STATUS_QUOTED_MODE) != 0) {
+                throw new CsvParseException(
+                    "Unclosed quoted field at end of input (record starting at line %d)"
+                        .formatted(startingLineNumber));
+            }
+            materialize(csvBuffer.buf, csvBuffer.begin, csvBuffer.pos, status);
+            return true;
+        }
+
+        if ((status & STATUS_NEW_FIELD) != 0 || (status & STATUS_COMMENTED_RECORD) != 0) {
+            // the last character was a field separator or comment character – add empty field
+            materialize(csvBuffer.buf, 0, 0, status);
+            return true;
+        }
+
+        // no data left in buffer
+        return false;
+    }
+
+    @SuppressWarnings("LabelledBreakTarget")
+    private boolean consume(final byte[] lBuf, final int lLen) {
+        int lPos = csvBuffer.pos;
+        int lBegin = csvBuffer.begin;
+        int lStatus = status;
+        boolean moreDataNeeded = true;
+
+        OUTER:
+        {
+            mode_check:
+            do {
+                if ((lStatus & STATUS_QUOTED_MODE) != 0) {
+                    // we're in quotes
+                    while (lPos < lLen) {
+                        final byte c = lBuf[lPos++];
+
+                        if (c == qChar) {
+                            lStatus &= ~(STATUS_QUOTED_MODE | STATUS_LAST_CHAR_WAS_CR);
+                            continue mode_check;
+                        } else if (c == CR) {
+                            lStatus |= STATUS_LAST_CHAR_WAS_CR;
+                            lines++;
+                        } else if (c == LF) {
+                            if ((lStatus & STATUS_LAST_CHAR_WAS_CR) == 0) {
+                                lines++;
+                            } else {
+                                lStatus &= ~STATUS_LAST_CHAR_WAS_CR;
+                            }
+                        } else {
+                            // fast-forward
+                            lPos = ByteSearch.indexOfAny(lBuf, lPos, lLen, qPattern, LF_PATTERN, CR_PATTERN);
+                        }
+                    }
+                } else if ((lStatus & STATUS_COMMENTED_RECORD) != 0) {
+                    // commented line
+                    while (lPos < lLen) {
+                        final byte lookAhead = lBuf[lPos++];
+
+                        if (lookAhead == CR) {
+                            materialize(lBuf, lBegin, lPos - 1, lStatus);
+                            status = STATUS_LAST_CHAR_WAS_CR;
+                            lBegin = lPos;
+                            moreDataNeeded = false;
+                            break OUTER;
+                        } else if (lookAhead == LF) {
+                            materialize(lBuf, lBegin, lPos - 1, lStatus);
+                            status = STATUS_RESET;
+                            lBegin = lPos;
+                            moreDataNeeded = false;
+                            break OUTER;
+                        }
+                    }
+                } else {
+                    // we're not in quotes
+                    while (lPos < lLen) {
+                        final byte c = lBuf[lPos++];
+
+                        if (c == fsep) {
+                            materialize(lBuf, lBegin, lPos - 1, lStatus);
+                            lStatus = STATUS_NEW_FIELD;
+                            lBegin = lPos;
+                            firstField = false;
+                        } else if (c == CR) {
+                            if (firstField && lPos - 1 == lBegin) {
+                                callbackHandler.setEmpty();
+                            } else {
+                                materialize(lBuf, lBegin, lPos - 1, lStatus);
+                            }
+                            status = STATUS_LAST_CHAR_WAS_CR;
+                            lBegin = lPos;
+                            moreDataNeeded = false;
+                            break OUTER;
+                        } else if (c == LF) {
+                            if ((lStatus & STATUS_LAST_CHAR_WAS_CR) == 0) {
+                                if (firstField && lPos - 1 == lBegin) {
+                                    callbackHandler.setEmpty();
+                                } else {
+                                    materialize(lBuf, lBegin, lPos - 1, lStatus);
+                                }
+                                status = STATUS_RESET;
+                                lBegin = lPos;
+                                moreDataNeeded = false;
+                                break OUTER;
+                            }
+
+                            lStatus = STATUS_RESET;
+                            lBegin = lPos;
+                        } else if (commentsEnabled && c == cChar
+                            && (lStatus == STATUS_RESET || lStatus == STATUS_LAST_CHAR_WAS_CR)) {
+                            lBegin = lPos;
+                            lStatus = STATUS_COMMENTED_RECORD;
+                            continue mode_check;
+                        } else if (c == qChar && (lStatus & STATUS_DATA_FIELD) == 0) {
+                            // quote and not in data-only mode
+                            lStatus = STATUS_QUOTED_FIELD | STATUS_QUOTED_MODE;
+                            continue mode_check;
+                        } else {
+                            if ((lStatus & STATUS_QUOTED_FIELD) == 0) {
+                                // normal unquoted data
+                                lStatus = STATUS_DATA_FIELD;
+
+                                // fast-forward
+                                lPos = ByteSearch.indexOfAny(lBuf, lPos, lLen, fsepPattern, LF_PATTERN, CR_PATTERN);
+                            } else if (!allowExtraCharsAfterClosingQuote) {
+                                final char chr = fieldDecoder.decodeChar(lBuf, lPos - 1, lLen);
+                                throw new CsvParseException(
+                                    "Unexpected character after closing quote: '%c' (0x%x) (record starting at line %d)"
+                                        .formatted(chr, (int) chr, startingLineNumber));
+                            }
+                        }
+                    }
+                }
+            } while (lPos < lLen);
+
+            status = lStatus;
+        }
+
+        csvBuffer.pos = lPos;
+        csvBuffer.begin = lBegin;
+
+        return moreDataNeeded;
+    }
+
+    private void materialize(final byte[] lBuf, final int lBegin, final int lPos, final int lStatus) {
+        if ((lStatus & STATUS_COMMENTED_RECORD) == 0 && callbackHandler.skipField()) {
+            return;
+        }
+
+        if ((lStatus & STATUS_QUOTED_FIELD) != 0) {
+            // field with quotes
+            final int beginAfterQuote = lBegin + 1;
+            final int endAfterField = lPos - (lBuf[lPos - 1] == qChar ? 1 : 0);
+            final int len = fieldDecoder.decode(lBuf, beginAfterQuote, endAfterField);
+            final char[] chars = fieldDecoder.chars;
+            callbackHandler.addField(chars, 0, cleanDelimiters(chars, len, (char) qChar), true);
+            return;
+        }
+
+        final int len = fieldDecoder.decode(lBuf, lBegin, lPos);
+
+        if ((lStatus & STATUS_COMMENTED_RECORD) != 0) {
+            // commented line
+            callbackHandler.setComment(fieldDecoder.chars, 0, len);
+            return;
+        }
+
+        // field without quotes
+        callbackHandler.addField(fieldDecoder.chars, 0, len, false);
+    }
+
+    /// Remove escapes from the (already decoded) field data.
+    ///
+    /// The input buffer could look like this: `foo ""is"" bar`
+    ///
+    /// @param buf            the buffer containing the field data (starting at position 0)
+    /// @param end            the end position of the field data
+    /// @param quoteCharacter the quote character
+    /// @return the length of the field data after removing escapes
+    private static int cleanDelimiters(final char[] buf, final int end, final char quoteCharacter) {
+        int i = 0;
+
+        // fast-forward to first quote
+        while (i < end && buf[i] != quoteCharacter) {
+            i++;
+        }
+
+        int newPos = i;
+        boolean escape = false;
+        for (; i < end; i++) {
+            final char c = buf[i];
+            if (c == quoteCharacter) {
+                escape = !escape;
+                if (escape) {
+                    // skip quote
+                    continue;
+                }
+            }
+
+            // shift character
+            buf[newPos++] = c;
+        }
+
+        return newPos;
+    }
+
+    @Override
+    public long getStartingLineNumber() {
+        return startingLineNumber;
+    }
+
+    @SuppressWarnings("checkstyle:HiddenField")
+    @Override
+    public void reset(final long startingLineNumber) {
+        this.startingLineNumber = startingLineNumber;
+        csvBuffer.reset();
+        lines = 1;
+        status = STATUS_RESET;
+        finished = false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        csvBuffer.close();
+    }
+
+    @Override
+    public String peekLine() throws IOException {
+        if (csvBuffer.pos == csvBuffer.len && !csvBuffer.fetchData()) {
+            throw new EOFException();
+        }
+
+        for (; csvBuffer.pos < csvBuffer.len || csvBuffer.fetchData(); csvBuffer.pos++) {
+            final byte c = csvBuffer.buf[csvBuffer.pos];
+            if (c == CR || c == LF) {
+                break;
+            }
+        }
+
+        peekedLineLength = csvBuffer.pos - csvBuffer.begin;
+        final int len = fieldDecoder.decode(csvBuffer.buf, csvBuffer.begin, csvBuffer.pos);
+        csvBuffer.pos = csvBuffer.begin;
+        return new String(fieldDecoder.chars, 0, len);
+    }
+
+    /// Skips a line in the stream.
+    ///
+    /// As the number of chars of a decoded line may differ from its number of bytes, any value greater than zero
+    /// for `numCharsToSkip` skips the bytes of the line that was returned by the last [#peekLine()] call.
+    ///
+    /// @param numCharsToSkip the length of the line previously returned by [#peekLine()] or `0`
+    @Override
+    public void skipLine(final int numCharsToSkip) throws IOException {
+        // Skip bytes that have been peeked already
+        csvBuffer.pos += numCharsToSkip > 0 ? peekedLineLength : 0;
+
+        if (csvBuffer.pos >= csvBuffer.len && !csvBuffer.fetchData()) {
+            if (numCharsToSkip == 0) {
+                throw new EOFException();
+            }
+            // An unterminated last line was skipped: consume it so a subsequent parse() does
+            // not resurrect it as a phantom record, and count it like any other skipped line.
+            csvBuffer.begin = csvBuffer.pos;
+            startingLineNumber++;
+            return;
+        }
+
+        do {
+            final byte c = csvBuffer.buf[csvBuffer.pos++];
+            if (c == CR) {
+                if ((csvBuffer.pos < csvBuffer.len || csvBuffer.fetchData())
+                    && csvBuffer.buf[csvBuffer.pos] == LF) {
+                    // CRLF
+                    csvBuffer.pos++;
+                }
+                break;
+            } else if (c == LF) {
+                break;
+            }
+        } while (csvBuffer.pos < csvBuffer.len || csvBuffer.fetchData());
+
+        if (csvBuffer.begin < csvBuffer.pos) {
+            csvBuffer.begin = csvBuffer.pos;
+            startingLineNumber++;
+        }
+    }
+
+    /// Decodes byte ranges into a reusable char buffer.
+    ///
+    /// Short ASCII ranges are simply widened. All other ranges are passed to the [CharsetDecoder] which
+    /// uses the intrinsified ASCII (and ISO-8859-1) fast paths of the JDK.
+    @SuppressWarnings("checkstyle:visibilitymodifier")
+    private static final class FieldDecoder {
+
+        private static final int INITIAL_CAPACITY = 256;
+        private static final int SHORT_FIELD_LENGTH = 16;
+
+        private final CharsetDecoder decoder;
+
+        char[] chars = new char[INITIAL_CAPACITY];
+        private CharBuffer charBuffer = CharBuffer.wrap(chars);
+
+        @Nullable
+        private ByteBuffer byteBuffer;
+
+        FieldDecoder(final Charset charset) {
+            decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+
+        /// Decodes the given byte range into [#chars].
+        ///
+        /// @param buf  the buffer containing the data
+        /// @param from the start position (inclusive)
+        /// @param to   the end position (exclusive)
+        /// @return the number of decoded chars
+        int decode(final byte[] buf, final int from, final int to) {
+            final int len = to - from;
+            if (len > chars.length) {
+                // none of the supported charsets decode to more chars than bytes
+                chars = new char[Math.max(len, chars.length * 2)];
+                charBuffer = CharBuffer.wrap(chars);
+            }
+
+            if (len < SHORT_FIELD_LENGTH && widenAscii(buf, from, len)) {
+                return len;
+            }
+
+            return decodeCharset(buf, from, to);
+        }
+
+        private int decodeCharset(final byte[] buf, final int from, final int to) {
+            ByteBuffer in = byteBuffer;
+            if (in == null || in.array() != buf) {
+                in = ByteBuffer.wrap(buf);
+                byteBuffer = in;
+            }
+
+            ((Buffer) in).limit(to).position(from);
+            ((Buffer) charBuffer).clear();
+
+            decoder.reset();
+            decoder.decode(in, charBuffer, true);
+            decoder.flush(charBuffer);
+
+            return charBuffer.position();
+        }
+
+        private boolean widenAscii(final byte[] buf, final int from, final int len) {
+            final char[] lChars = chars;
+            int bits = 0;
+            for (int i = 0; i < len; i++) {
+                final byte b = buf[from + i];
+                bits |= b;
+                lChars[i] = (char) b;
+            }
+            return bits >= 0;
+        }
+
+        /// Decodes the (first) character at the given position – used for error messages only.
+        char decodeChar(final byte[] buf, final int pos, final int limit) {
+            final int len = decode(buf, pos, Math.min(pos + 4, limit));
+            return len > 0 ? chars[0] : (char) (buf[pos] & BYTE_MASK);
+        }
+
+    }
+
+    @SuppressWarnings("checkstyle:visibilitymodifier")
+    private final class ByteCsvBuffer implements Closeable {
+
+        private static final int DEFAULT_READ_SIZE = 8192;
+
+        byte[] buf;
+        int len;
+        int begin;
+        int pos;
+
+        private final ReadableByteChannel channel;
+        private final int maxBufferSize;
+        private final int maxBufferBytes;
+        private final int readSize;
+        private final int initialSize;
+        private final CsvBufferPool bufferPool;
+
+        ByteCsvBuffer(final ReadableByteChannel channel, final int maxBufferSize, final int maxBufferBytes,
+                      final CsvBufferPool bufferPool) {
+            Preconditions.checkArgument(maxBufferSize > 0, "maxBufferSize must be > 0");
+            this.channel = channel;
+            this.maxBufferSize = maxBufferSize;
+            this.maxBufferBytes = maxBufferBytes;
+            this.bufferPool = bufferPool;
+
+            // limit optimal read size to maxBufferBytes
+            readSize = Math.min(maxBufferBytes, DEFAULT_READ_SIZE);
+
+            // Buffer may still contain unprocessed data, so extra space is needed to read readSize bytes.
+            initialSize = Math.min(maxBufferBytes, readSize * 2);
+            buf = bufferPool.acquireBytes(initialSize);
+        }
+
+        /// Reads data from the underlying channel and manages the local buffer.
+        ///
+        /// @return `true`, if data was fetched, `false` if the end of the stream was reached
+        /// @throws IOException if a read error occurs
+        private boolean fetchData() throws IOException {
+            if (buf.length > initialSize && len - begin + readSize <= initialSize) {
+                // the data of an oversized record has been consumed - return to the initial buffer size
+                relocate(bufferPool.acquireBytes(initialSize));
+            }
+
+            if (buf.length - len < readSize) {
+                // not enough space in the buffer to read readSize bytes
+
+                if (begin == len) {
+                    // all data was consumed -- nothing to relocate
+                    len = 0;
+                    pos = 0;
+                    begin = 0;
+                } else if (buf.length - len + begin < readSize) {
+                    // reclaimable space is insufficient - allocate a larger buffer
+                    relocate(largerBuffer());
+                } else {
+                    // it's enough to relocate data and continue with the same buffer
+                    relocate(buf);
+                }
+            }
+
+            final int cnt = channel.read(ByteBuffer.wrap(buf, len, readSize));
+            if (cnt == -1) {
+                return false;
+            }
+            len += cnt;
+            return true;
+        }
+
+        /// Moves the data from [#begin] on to the beginning of the given buffer and replaces the current
+        /// buffer with it.
+        private void relocate(final byte[] target) {
+            System.arraycopy(buf, begin, target, 0, len - begin);
+            if (target != buf) {
+                bufferPool.release(buf);
+                buf = target;
+            }
+            pos -= begin;
+            len -= begin;
+            begin = 0;
+        }
+
+        private byte[] largerBuffer() {
+            if (maxBufferBytes == buf.length) {
+                throw new CsvParseException("""
+                    The maximum buffer size of %d is \
+                    insufficient to read the data of a single field. \
+                    This issue typically arises when a quotation begins but does not conclude within the \
+                    confines of this buffer's maximum limit. \
+                    (record starting at line %d)""".formatted(maxBufferSize, startingLineNumber));
+            }
+            return new byte[(int) Math.min(maxBufferBytes, buf.length * 2L)];
+        }
+
+        private void reset() {
+            len = 0;
+            begin = 0;
+            pos = 0;
+        }
+
+        @Override
+        public void close() throws IOException {
+            // a buffer retained by the pool may already be used by another parser
+            if (bufferPool.release(buf)) {
+                buf = new byte[0];
+                reset();
+            }
+
+            channel.close();
+        }
+
+    }
+
+}
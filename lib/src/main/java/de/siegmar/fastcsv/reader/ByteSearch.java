@@ -0,0 +1,27 @@
+package de.siegmar.fastcsv.reader;
+
+/// Entry point for searching structural bytes (field separators, quotes and newlines) in byte arrays.
+///
+/// This implementation uses [SwarSearch]. On Java 21+ this class is replaced by a version from
+/// `META-INF/versions/21` (multi-release JAR) that uses the Vector API if the incubator module
+/// `jdk.incubator.vector` is available at runtime.
+final class ByteSearch {
+
+    private ByteSearch() {
+    }
+
+    /// Finds the first byte within the given range that matches any of the given patterns.
+    ///
+    /// @param buf      the buffer to search
+    /// @param from     the start position (inclusive)
+    /// @param to       the end position (exclusive)
+    /// @param pattern1 the first pattern (see [SwarSearch#pattern(int)])
+    /// @param pattern2 the second pattern
+    /// @param pattern3 the third pattern
+    /// @return the position of the first matching byte or `to` if no byte matches
+    static int indexOfAny(final byte[] buf, final int from, final int to,
+                          final long pattern1, final long pattern2, final long pattern3) {
+        return SwarSearch.indexOfAny(buf, from, to, pattern1, pattern2, pattern3);
+    }
+
+}
@@ -0,0 +1,291 @@
+package de.siegmar.fastcsv.reader;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+import de.siegmar.fastcsv.util.Nullable;
+
+/// A batch of CSV records stored column by column – according to the [ColumnType]s of a [ColumnBatchHandler].
+///
+/// Each column is stored in its own column vector:
+///
+/// - [ColumnType#INT] columns as `int[]` – see [#getInts(int)]
+/// - [ColumnType#LONG] columns as `long[]` – see [#getLongs(int)]
+/// - [ColumnType#DOUBLE] columns as `double[]` – see [#getDoubles(int)]
+/// - [ColumnType#STRING] columns dictionary-encoded as `int[]` – see [#getStringCodes(int)] and
+///   [#getDictionary(int)]
+/// - [ColumnType#SKIP] columns are not stored at all
+///
+/// Empty (unquoted) and missing fields are `null` – see [#isNull(int, int)]. Their value in a numeric column
+/// vector is `0`, their code in a string column vector is [#NULL_CODE]. A quoted empty field (`""`) of a
+/// string column is an empty String, not `null`.
+///
+/// The column vectors are the internal arrays of the batch. They contain [#getRowCount()] valid elements
+/// (starting at index 0) and must not be modified. The batch (including its column vectors and dictionaries)
+/// is reused by the handler and is only valid until the next batch is read.
+///
+/// @see ColumnBatchHandler
+public final class ColumnBatch {
+
+    /// The code of `null` values in string column vectors.
+    public static final int NULL_CODE = -1;
+
+    private static final char[] EMPTY = new char[0];
+
+    private final ColumnType[] columnTypes;
+    private final int capacity;
+    private final int[][] ints;
+    private final long[][] longs;
+    private final double[][] doubles;
+    private final StringDictionary[] dictionaries;
+    private final long[][] nulls;
+    private final int[] dictionarySizes;
+    private int rowCount;
+
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    ColumnBatch(final ColumnType[] columnTypes, final int capacity) {
+        this.columnTypes = columnTypes;
+        this.capacity = capacity;
+        ints = new int[columnTypes.length][];
+        longs = new long[columnTypes.length][];
+        doubles = new double[columnTypes.length][];
+        dictionaries = new StringDictionary[columnTypes.length];
+        nulls = new long[columnTypes.length][];
+        dictionarySizes = new int[columnTypes.length];
+
+        for (int i = 0; i < columnTypes.length; i++) {
+            switch (columnTypes[i]) {
+                case INT -> ints[i] = new int[capacity];
+                case LONG -> longs[i] = new long[capacity];
+                case DOUBLE -> doubles[i] = new double[capacity];
+                case STRING -> {
+                    ints[i] = new int[capacity];
+                    dictionaries[i] = new StringDictionary();
+                }
+                default -> {
+                    continue;
+                }
+            }
+            nulls[i] = new long[(capacity + Long.SIZE - 1) / Long.SIZE];
+        }
+    }
+
+    /// Gets the maximum number of rows of this batch.
+    ///
+    /// @return the maximum number of rows
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /// Gets the number of rows in this batch.
+    ///
+    /// Only the last batch of a file may contain less than [#getCapacity()] rows.
+    ///
+    /// @return the number of rows
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /// Gets the number of columns of this batch – as defined by the [ColumnBatchHandler].
+    ///
+    /// @return the number of columns (including skipped columns)
+    public int getColumnCount() {
+        return columnTypes.length;
+    }
+
+    /// Retrieves the type of a column based on its index, with indexing starting from 0.
+    ///
+    /// @param column index of the column
+    /// @return the type of the column, never `null`
+    /// @throws IndexOutOfBoundsException if the column index is out of range
+    public ColumnType getType(final int column) {
+        Objects.checkIndex(column, columnTypes.length);
+        return columnTypes[column];
+    }
+
+    /// Indicates whether the value of a column is `null` (empty and unquoted or missing) in the given row.
+    ///
+    /// @param column index of the column
+    /// @param row    index of the row
+    /// @return `true` if the value is `null`
+    /// @throws IndexOutOfBoundsException if the column or row index is out of range
+    /// @throws IllegalStateException     if the column is skipped
+    public boolean isNull(final int column, final int row) {
+        if (getType(column) == ColumnType.SKIP) {
+            throw new IllegalStateException("Column %d is skipped".formatted(column));
+        }
+        Objects.checkIndex(row, rowCount);
+        return (nulls[column][row / Long.SIZE] & 1L << row) != 0;
+    }
+
+    /// Retrieves the column vector of an [ColumnType#INT] column.
+    ///
+    /// @param column index of the column
+    /// @return the column vector; valid up to [#getRowCount()]
+    /// @throws IndexOutOfBoundsException if the column index is out of range
+    /// @throws IllegalStateException     if the column is not of type [ColumnType#INT]
+    @SuppressWarnings("PMD.MethodReturnsInternalArray")
+    public int[] getInts(final int column) {
+        return ints[checkType(column, ColumnType.INT)];
+    }
+
+    /// Retrieves the column vector of a [ColumnType#LONG] column.
+    ///
+    /// @param column index of the column
+    /// @return the column vector; valid up to [#getRowCount()]
+    /// @throws IndexOutOfBoundsException if the column index is out of range
+    /// @throws IllegalStateException     if the column is not of type [ColumnType#LONG]
+    @SuppressWarnings("PMD.MethodReturnsInternalArray")
+    public long[] getLongs(final int column) {
+        return longs[checkType(column, ColumnType.LONG)];
+    }
+
+    /// Retrieves the column vector of a [ColumnType#DOUBLE] column.
+    ///
+    /// @param column index of the column
+    /// @return the column vector; valid up to [#getRowCount()]
+    /// @throws IndexOutOfBoundsException if the column index is out of range
+    /// @throws IllegalStateException     if the column is not of type [ColumnType#DOUBLE]
+    @SuppressWarnings("PMD.MethodReturnsInternalArray")
+    public double[] getDoubles(final int column) {
+        return doubles[checkType(column, ColumnType.DOUBLE)];
+    }
+
+    /// Retrieves the dictionary codes of a [ColumnType#STRING] column.
+    ///
+    /// The codes are indexes into the [dictionary][#getDictionary(int)] of the column – or [#NULL_CODE]
+    /// for `null` values.
+    ///
+    /// @param column index of the column
+    /// @return the column vector of codes; valid up to [#getRowCount()]
+    /// @throws IndexOutOfBoundsException if the column index is out of range
+    /// @throws IllegalStateException     if the column is not of type [ColumnType#STRING]
+    @SuppressWarnings("PMD.MethodReturnsInternalArray")
+    public int[] getStringCodes(final int column) {
+        return ints[checkType(column, ColumnType.STRING)];
+    }
+
+    /// Retrieves the dictionary of a [ColumnType#STRING] column.
+    ///
+    /// The dictionary contains the distinct values of the column in this batch, indexed by their code.
+    ///
+    /// @param column index of the column
+    /// @return an unmodifiable view of the dictionary
+    /// @throws IndexOutOfBoundsException if the column index is out of range
+    /// @throws IllegalStateException     if the column is not of type [ColumnType#STRING]
+    public List<String> getDictionary(final int column) {
+        return dictionaries[checkType(column, ColumnType.STRING)].values();
+    }
+
+    /// Retrieves the value of a [ColumnType#STRING] column in the given row.
+    ///
+    /// @param column index of the column
+    /// @param row    index of the row
+    /// @return the value or `null` if the value is empty and unquoted or missing
+    /// @throws IndexOutOfBoundsException if the column or row index is out of range
+    /// @throws IllegalStateException     if the column is not of type [ColumnType#STRING]
+    @Nullable
+    public String getString(final int column, final int row) {
+        final int code = getStringCodes(column)[Objects.checkIndex(row, rowCount)];
+        return code == NULL_CODE ? null : dictionaries[column].decode(code);
+    }
+
+    private int checkType(final int column, final ColumnType expectedType) {
+        final ColumnType type = getType(column);
+        if (type != expectedType) {
+            throw new IllegalStateException("Column %d is of type %s, not %s"
+                .formatted(column, type, expectedType));
+        }
+        return column;
+    }
+
+    /// Starts populating the row following the last row of this batch.
+    ///
+    /// Dictionary values added by a previous row that was never committed (because the reader rejected
+    /// it or its parsing failed) are removed.
+    void beginRow() {
+        for (int i = 0; i < dictionaries.length; i++) {
+            if (dictionaries[i] != null) {
+                dictionaries[i].truncate(dictionarySizes[i]);
+            }
+        }
+    }
+
+    /// Sets the value of a column in the row following the last row of this batch.
+    ///
+    /// @throws NumberFormatException if the value of a numeric column can't be parsed
+    void setField(final int column, final char[] buf, final int offset, final int len, final boolean quoted) {
+        final boolean isNull = isNullValue(columnTypes[column], len, quoted);
+        final int row = rowCount;
+        setNull(column, row, isNull);
+
+        switch (columnTypes[column]) {
+            case INT -> ints[column][row] = isNull ? 0 : NumberParser.parseInt(buf, offset, len);
+            case LONG -> longs[column][row] = isNull ? 0 : NumberParser.parseLong(buf, offset, len);
+            case DOUBLE -> doubles[column][row] = isNull ? 0 : NumberParser.parseDouble(buf, offset, len);
+            case STRING -> ints[column][row] = isNull ? NULL_CODE : dictionaries[column].encode(buf, offset, len);
+            default -> throw new IllegalStateException("Unexpected column type: " + columnTypes[column]);
+        }
+    }
+
+    // a quoted empty field ("") is an empty String, but there's no empty number
+    private static boolean isNullValue(final ColumnType type, final int len, final boolean quoted) {
+        return len == 0 && (!quoted || type != ColumnType.STRING);
+    }
+
+    private void setNull(final int column, final int row, final boolean isNull) {
+        if (isNull) {
+            nulls[column][row / Long.SIZE] |= 1L << row;
+        } else {
+            nulls[column][row / Long.SIZE] &= ~(1L << row);
+        }
+    }
+
+    /// Sets the value of a column in the row following the last row of this batch to `null`.
+    void setMissing(final int column) {
+        setField(column, EMPTY, 0, 0, false);
+    }
+
+    /// Adds the row following the last row (populated by [#setField(int, char\[\], int, int, boolean)]) to
+    /// this batch.
+    void commitRow() {
+        rowCount++;
+        for (int i = 0; i < dictionaries.length; i++) {
+            if (dictionaries[i] != null) {
+                dictionarySizes[i] = dictionaries[i].size();
+            }
+        }
+    }
+
+    boolean isFull() {
+        return rowCount == capacity;
+    }
+
+    /// Removes all rows while retaining the allocated column vectors.
+    void clear() {
+        rowCount = 0;
+        Arrays.fill(dictionarySizes, 0);
+        for (final StringDictionary dictionary : dictionaries) {
+            if (dictionary != null) {
+                dictionary.clear();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        final StringJoiner typeJoiner = new StringJoiner(", ", "[", "]");
+        for (final ColumnType columnType : columnTypes) {
+            typeJoiner.add(columnType.name());
+        }
+
+        return new StringJoiner(", ", ColumnBatch.class.getSimpleName() + "[", "]")
+            .add("columnTypes=" + typeJoiner)
+            .add("rowCount=" + rowCount)
+            .add("capacity=" + capacity)
+            .toString();
+    }
+
+}
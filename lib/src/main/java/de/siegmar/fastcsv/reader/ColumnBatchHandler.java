@@ -0,0 +1,191 @@
+package de.siegmar.fastcsv.reader;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import de.siegmar.fastcsv.util.Nullable;
+import de.siegmar.fastcsv.util.Preconditions;
+
+/// A [CsvCallbackHandler] implementation that fills column-oriented [ColumnBatch]es according to a column schema.
+///
+/// Instead of creating an object per record, the fields are written directly into the column vectors of a
+/// reused batch – numbers are parsed directly from the parser buffer, strings are dictionary-encoded.
+/// Fields of [ColumnType#SKIP] columns (and fields beyond the schema) are only scanned by the parser.
+///
+/// The batches are read via [#batches(CsvReader)]:
+/// ```
+/// ColumnBatchHandler handler = ColumnBatchHandler.of(4096, ColumnType.STRING, ColumnType.LONG, ColumnType.DOUBLE);
+/// try (CsvReader<ColumnBatch> csv = CsvReader.builder().build(handler, file)) {
+///     csv.skipLines(1); // skip the header
+///     Iterator<ColumnBatch> batches = ColumnBatchHandler.batches(csv);
+///     while (batches.hasNext()) {
+///         ColumnBatch batch = batches.next();
+///         double[] values = batch.getDoubles(2);
+///         for (int row = 0; row < batch.getRowCount(); row++) {
+///             sum += values[row];
+///         }
+///     }
+/// }
+/// ```
+///
+/// **The returned [ColumnBatch] is reused and only valid until the next batch is read.**
+///
+/// Comments and empty lines are skipped. Missing fields (see [CsvReader.CsvReaderBuilder#allowMissingFields])
+/// are `null`. A header has to be skipped (e.g., by [CsvReader#skipLines(int)]) as it can't be parsed according
+/// to the schema. Field modifiers are not supported.
+///
+/// This implementation is stateful and must not be reused.
+public final class ColumnBatchHandler extends AbstractBaseCsvCallbackHandler<ColumnBatch> {
+
+    private final ColumnType[] columnTypes;
+    private final ColumnBatch batch;
+
+    @SuppressWarnings("PMD.UseVarargs")
+    private ColumnBatchHandler(final int batchSize, final ColumnType[] columnTypes) {
+        this.columnTypes = columnTypes;
+        batch = new ColumnBatch(columnTypes, batchSize);
+    }
+
+    /// Constructs a new instance of this class with the given batch size and column schema.
+    ///
+    /// @param batchSize   the maximum number of rows per batch; must be > 0
+    /// @param columnTypes the types of the columns (by column index); must not be `null` or empty and must not
+    ///                    contain `null` elements
+    /// @return the new instance
+    /// @throws NullPointerException     if `null` is passed
+    /// @throws IllegalArgumentException if the batch size is not positive or no column type is passed
+    /// @see #of(int, List)
+    public static ColumnBatchHandler of(final int batchSize, final ColumnType... columnTypes) {
+        Objects.requireNonNull(columnTypes, "columnTypes must not be null");
+        return of(batchSize, List.of(columnTypes));
+    }
+
+    /// Constructs a new instance of this class with the given batch size and column schema.
+    ///
+    /// @param batchSize   the maximum number of rows per batch; must be > 0
+    /// @param columnTypes the types of the columns (by column index); must not be `null` or empty and must not
+    ///                    contain `null` elements
+    /// @return the new instance
+    /// @throws NullPointerException     if `null` is passed
+    /// @throws IllegalArgumentException if the batch size is not positive or no column type is passed
+    /// @see #of(int, ColumnType...)
+    public static ColumnBatchHandler of(final int batchSize, final List<ColumnType> columnTypes) {
+        Preconditions.checkArgument(batchSize > 0, "batchSize must be > 0");
+        Objects.requireNonNull(columnTypes, "columnTypes must not be null");
+        Preconditions.checkArgument(!columnTypes.isEmpty(), "columnTypes must not be empty");
+        return new ColumnBatchHandler(batchSize, columnTypes.toArray(new ColumnType[0]));
+    }
+
+    /// Returns an iterator over the batches of the given reader.
+    ///
+    /// All batches but the last one are filled up to their capacity. The returned batch is reused and
+    /// only valid until the next call of [Iterator#hasNext()] or [Iterator#next()].
+    ///
+    /// Closing the reader remains the responsibility of the caller.
+    ///
+    /// @param csvReader the reader, built with a [ColumnBatchHandler]; must not be `null`
+    /// @return the iterator over the batches
+    /// @throws NullPointerException if `null` is passed
+    public static Iterator<ColumnBatch> batches(final CsvReader<ColumnBatch> csvReader) {
+        Objects.requireNonNull(csvReader, "csvReader must not be null");
+        return new BatchIterator(csvReader.iterator());
+    }
+
+    /// {@inheritDoc}
+    /// Skips fields of [ColumnType#SKIP] columns and fields beyond the schema.
+    @Override
+    protected boolean skipField(final int fieldIdx) {
+        return fieldIdx >= columnTypes.length || columnTypes[fieldIdx] == ColumnType.SKIP;
+    }
+
+    @Override
+    protected void handleBegin(final long startingLineNumber) {
+        batch.beginRow();
+    }
+
+    /// {@inheritDoc}
+    /// Writes the field to the column vector of its column. A quoted empty field of a [ColumnType#STRING]
+    /// column is an empty String, while an unquoted empty field is `null`.
+    ///
+    /// @throws CsvParseException if the field of a numeric column can't be parsed
+    @Override
+    protected void handleField(final int fieldIdx, final char[] buf, final int offset, final int len,
+                               final boolean quoted) {
+        try {
+            batch.setField(fieldIdx, buf, offset, len, quoted);
+        } catch (final NumberFormatException e) {
+            throw columnTypes[fieldIdx].conversionError(fieldIdx, getStartingLineNumber(), e);
+        }
+    }
+
+    /// {@inheritDoc}
+    ///
+    /// The record is only added to the batch by the iterator of [#batches(CsvReader)] – after the reader
+    /// accepted it. Hence, records rejected by the reader (e.g., because of a field count mismatch) are
+    /// overwritten by the next record.
+    @Nullable
+    @Override
+    protected ColumnBatch buildRecord() {
+        if (getRecordType() != RecordType.DATA) {
+            return null;
+        }
+
+        for (int i = getFieldCount(); i < columnTypes.length; i++) {
+            if (columnTypes[i] != ColumnType.SKIP) {
+                batch.setMissing(i);
+            }
+        }
+
+        return batch;
+    }
+
+    private static final class BatchIterator implements Iterator<ColumnBatch> {
+
+        private final Iterator<ColumnBatch> records;
+
+        @Nullable
+        private ColumnBatch batch;
+
+        private boolean fetched;
+
+        BatchIterator(final Iterator<ColumnBatch> records) {
+            this.records = records;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!fetched) {
+                fetch();
+                fetched = true;
+            }
+            return batch != null && batch.getRowCount() > 0;
+        }
+
+        private void fetch() {
+            if (batch != null) {
+                batch.clear();
+            }
+
+            while (records.hasNext()) {
+                batch = records.next();
+                batch.commitRow();
+                if (batch.isFull()) {
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public ColumnBatch next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            fetched = false;
+            return Objects.requireNonNull(batch);
+        }
+
+    }
+
+}
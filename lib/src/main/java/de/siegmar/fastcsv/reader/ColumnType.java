@@ -0,0 +1,40 @@
+package de.siegmar.fastcsv.reader;
+
+/// The type of a column processed by a [TypedRecordHandler].
+///
+/// @see TypedRecordHandler#of(ColumnType...)
+public enum ColumnType {
+
+    /// A 32-bit integer number (as accepted by [Integer#parseInt(String)]), accessible by [TypedRecord#getInt(int)].
+    INT,
+
+    /// A 64-bit integer number (as accepted by [Long#parseLong(String)]), accessible by [TypedRecord#getLong(int)].
+    LONG,
+
+    /// A floating-point number, accessible by [TypedRecord#getDouble(int)].
+    ///
+    /// Accepted are an optional sign (`+` or `-`) followed by either decimal digits with an optional decimal
+    /// point and an optional exponent (like `-1.5`, `.5` or `1e-3`), `NaN` or `Infinity`. In contrast to
+    /// [Double#parseDouble(String)], surrounding whitespace, type suffixes (like `1d`) and hexadecimal
+    /// notation are rejected.
+    DOUBLE,
+
+    /// A String, accessible by [TypedRecord#getString(int)].
+    STRING,
+
+    /// A column that is skipped – only scanned by the parser, but neither decoded nor materialized.
+    SKIP;
+
+    /// Creates the exception for a field that can't be converted to this type.
+    ///
+    /// @param fieldIdx           the index of the field
+    /// @param startingLineNumber the starting line number of the record
+    /// @param cause              the cause of the conversion failure
+    /// @return the exception to throw
+    CsvParseException conversionError(final int fieldIdx, final long startingLineNumber,
+                                      final NumberFormatException cause) {
+        return new CsvParseException("Field at index %d in record starting at line %d is not a valid %s value"
+            .formatted(fieldIdx, startingLineNumber, this), cause);
+    }
+
+}
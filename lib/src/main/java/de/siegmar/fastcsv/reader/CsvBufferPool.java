@@ -0,0 +1,185 @@
+package de.siegmar.fastcsv.reader;
+
+import java.util.StringJoiner;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import de.siegmar.fastcsv.util.Nullable;
+import de.siegmar.fastcsv.util.Preconditions;
+
+/// A pool of parser buffers that are reused by subsequently created [CsvReader]s.
+///
+/// Every reader allocates a buffer of 16,384 characters (or bytes, when reading files) for parsing. If many
+/// short-lived readers are created (e.g., one per request), the buffers can be taken from a pool instead. A
+/// buffer is returned to the pool when its reader is closed (or, for a [CsvFeeder], when the end of the input
+/// is signaled) – readers that are not closed simply don't return their buffer.
+///
+/// Only buffers of the initial size are pooled – buffers that have been enlarged for oversized records are
+/// left to the garbage collector.
+///
+/// Example use:
+/// ```
+/// private static final CsvBufferPool BUFFER_POOL = CsvBufferPool.shared(64);
+///
+/// try (CsvReader<CsvRecord> csv = CsvReader.builder().bufferPool(BUFFER_POOL).ofCsvRecord(data)) {
+///     csv.forEach(rec -> process(rec));
+/// }
+/// ```
+///
+/// Instances of this class are thread-safe.
+///
+/// @see CsvReader.CsvReaderBuilder#bufferPool(CsvBufferPool)
+public final class CsvBufferPool {
+
+    /// The size of pooled buffers – the initial size of a parser buffer (twice the size of a single read).
+    static final int BUFFER_SIZE = 2 * 8192;
+
+    /// A pool that doesn't retain any buffer.
+    static final CsvBufferPool NONE = new CsvBufferPool("none", new NoStore<>(), new NoStore<>());
+
+    private final String type;
+    private final Store<char[]> charBuffers;
+    private final Store<byte[]> byteBuffers;
+
+    private CsvBufferPool(final String type, final Store<char[]> charBuffers, final Store<byte[]> byteBuffers) {
+        this.type = type;
+        this.charBuffers = charBuffers;
+        this.byteBuffers = byteBuffers;
+    }
+
+    /// Constructs a new pool that is shared by all threads.
+    ///
+    /// The pool retains up to `maxBuffers` character buffers and (separately) up to `maxBuffers` byte
+    /// buffers. If the pool is exhausted, new buffers are allocated; if it is full, returned buffers are
+    /// dropped.
+    ///
+    /// @param maxBuffers the maximum number of retained buffers of each kind; must be > 0
+    /// @return the new pool
+    /// @throws IllegalArgumentException if `maxBuffers` is not positive
+    public static CsvBufferPool shared(final int maxBuffers) {
+        Preconditions.checkArgument(maxBuffers > 0, "maxBuffers must be > 0");
+        return new CsvBufferPool("shared(" + maxBuffers + ")",
+            new QueueStore<>(maxBuffers), new QueueStore<>(maxBuffers));
+    }
+
+    /// Constructs a new pool that retains one buffer of each kind per thread.
+    ///
+    /// This avoids any contention between threads but retains the buffers for the lifetime of the
+    /// threads – use it with a bounded number of long-living threads (e.g., a thread pool of a server),
+    /// not with virtual threads.
+    ///
+    /// @return the new pool
+    public static CsvBufferPool threadLocal() {
+        return new CsvBufferPool("threadLocal", new ThreadLocalStore<>(), new ThreadLocalStore<>());
+    }
+
+    /// Takes a character buffer from the pool or allocates a new one.
+    ///
+    /// @param size the required size
+    /// @return a buffer of the given size
+    char[] acquireChars(final int size) {
+        final char[] buf = size == BUFFER_SIZE ? charBuffers.poll() : null;
+        return buf != null ? buf : new char[size];
+    }
+
+    /// Takes a byte buffer from the pool or allocates a new one.
+    ///
+    /// @param size the required size
+    /// @return a buffer of the given size
+    byte[] acquireBytes(final int size) {
+        final byte[] buf = size == BUFFER_SIZE ? byteBuffers.poll() : null;
+        return buf != null ? buf : new byte[size];
+    }
+
+    /// Returns a character buffer to the pool.
+    ///
+    /// @param buf the buffer to return – it must not be used by the caller after it has been retained
+    /// @return `true` if the buffer has been retained by the pool
+    boolean release(final char[] buf) {
+        return buf.length == BUFFER_SIZE && charBuffers.offer(buf);
+    }
+
+    /// Returns a byte buffer to the pool.
+    ///
+    /// @param buf the buffer to return – it must not be used by the caller after it has been retained
+    /// @return `true` if the buffer has been retained by the pool
+    boolean release(final byte[] buf) {
+        return buf.length == BUFFER_SIZE && byteBuffers.offer(buf);
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", CsvBufferPool.class.getSimpleName() + "[", "]")
+            .add("type=" + type)
+            .toString();
+    }
+
+    private interface Store<T> {
+
+        @Nullable
+        T poll();
+
+        boolean offer(T buf);
+
+    }
+
+    private static final class NoStore<T> implements Store<T> {
+
+        @Nullable
+        @Override
+        public T poll() {
+            return null;
+        }
+
+        @Override
+        public boolean offer(final T buf) {
+            return false;
+        }
+
+    }
+
+    private static final class QueueStore<T> implements Store<T> {
+
+        private final BlockingQueue<T> queue;
+
+        QueueStore(final int capacity) {
+            queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        @Nullable
+        @Override
+        public T poll() {
+            return queue.poll();
+        }
+
+        @Override
+        public boolean offer(final T buf) {
+            return queue.offer(buf);
+        }
+
+    }
+
+    private static final class ThreadLocalStore<T> implements Store<T> {
+
+        private final ThreadLocal<T> slot = new ThreadLocal<>();
+
+        @Nullable
+        @Override
+        public T poll() {
+            final T buf = slot.get();
+            slot.remove();
+            return buf;
+        }
+
+        @Override
+        public boolean offer(final T buf) {
+            if (slot.get() != null) {
+                return false;
+            }
+            slot.set(buf);
+            return true;
+        }
+
+    }
+
+}
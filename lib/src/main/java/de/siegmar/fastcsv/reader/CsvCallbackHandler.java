@@ -30,7 +30,7 @@ public abstract class CsvCallbackHandler<T> {
     ///   is set to `true`.
     protected abstract RecordType getRecordType();
 
-    /// {@return the number of fields in the record}
+    /// {@return the number of fields in the record, including skipped fields (see [#skipField()])}
     ///
     /// The [CsvReader] will verify that the number of fields in each record matches the number of fields in the
     /// first record unless
@@ -67,6 +67,24 @@ public abstract class CsvCallbackHandler<T> {
     /// @param quoted `true` if the field was quoted
     protected abstract void addField(char[] buf, int offset, int len, boolean quoted);
 
+    /// Called before each field of a regular record – before the field value is decoded, unescaped and passed to
+    /// [#addField(char\[\],int,int,boolean)].
+    ///
+    /// Implementations that only need some of the fields (column projection) can return `true` to skip the
+    /// current field. A skipped field is only scanned by the parser; [#addField(char\[\],int,int,boolean)] is
+    /// not called for it. Hence, implementations have to keep track of the column index themselves.
+    ///
+    /// A skipped field is still a field of the record: [#getFieldCount()] has to include skipped fields.
+    /// This way, the field count check of [CsvReader] refers to the CSV data – regardless of which columns are
+    /// projected. All built-in callback handlers follow this rule.
+    ///
+    /// This implementation returns `false`.
+    ///
+    /// @return `true` if the current field should be skipped
+    protected boolean skipField() {
+        return false;
+    }
+
     /// Called for each comment line.
     ///
     /// Note that the comment character is not included in the value.
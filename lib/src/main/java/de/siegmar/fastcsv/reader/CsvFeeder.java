@@ -0,0 +1,209 @@
+package de.siegmar.fastcsv.reader;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.function.Consumer;
+
+import de.siegmar.fastcsv.util.Nullable;
+
+/// Push-based CSV parser – the counterpart of [CsvReader] for data that arrives in chunks.
+///
+/// Instead of reading from a blocking data source, the data is fed in arbitrary chunks (e.g., as received
+/// from a non-blocking socket). The parser resumes at the exact position where the previous chunk ended –
+/// records, fields and even multibyte characters may span several chunks. Every completed record is passed
+/// to the record consumer before the feed method returns.
+///
+/// Example use:
+/// ```
+/// CsvFeeder<CsvRecord> feeder = CsvReader.builder()
+///     .buildFeeder(CsvRecordHandler.of(), rec -> process(rec));
+///
+/// // on every chunk received
+/// feeder.feed(byteBuffer);
+///
+/// // when the connection is closed
+/// feeder.endOfInput();
+/// ```
+///
+/// The last record is only passed to the consumer by [#endOfInput()] – unless it's terminated by a line break.
+///
+/// Comments, empty lines and the field count consistency check are handled as configured by
+/// [CsvReader.CsvReaderBuilder]. Exceptions (e.g., [CsvParseException]) are thrown by the feed method that
+/// passed the causing data; the feeder must not be used afterward.
+///
+/// This class is not thread-safe – feed the data of a source from one thread at a time.
+///
+/// @param <T> the type of the CSV record.
+/// @see CsvReader.CsvReaderBuilder#buildFeeder(CsvCallbackHandler, Charset, Consumer)
+public final class CsvFeeder<T> {
+
+    /// The maximum number of characters appended to the parser at once.
+    private static final int SLICE_SIZE = 8192;
+
+    /// Room for an incomplete multibyte sequence at the end of a fed chunk.
+    private static final int CARRY_SIZE = 16;
+
+    private final StrictCsvParser csvParser;
+    private final CsvReader<T> csvReader;
+    private final CsvCallbackHandler<T> callbackHandler;
+    private final Consumer<? super T> recordConsumer;
+    private final CharsetDecoder decoder;
+    private final CharBuffer decoded = CharBuffer.allocate(SLICE_SIZE);
+    private final ByteBuffer carry = ByteBuffer.allocate(CARRY_SIZE);
+    private boolean ended;
+
+    CsvFeeder(final StrictCsvParser csvParser, final CsvReader<T> csvReader,
+              final CsvCallbackHandler<T> callbackHandler, final Charset charset,
+              final Consumer<? super T> recordConsumer) {
+        this.csvParser = csvParser;
+        this.csvReader = csvReader;
+        this.callbackHandler = callbackHandler;
+        this.recordConsumer = recordConsumer;
+
+        // handle malformed input like InputStreamReader does
+        decoder = charset.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    /// Feeds the given bytes, decoded with the character set of this feeder.
+    ///
+    /// All remaining bytes of the buffer are consumed – an incomplete multibyte sequence at its end is
+    /// retained and completed by the next chunk.
+    ///
+    /// @param chunk the data to feed; must not be `null`
+    /// @throws NullPointerException  if `null` is passed
+    /// @throws IllegalStateException if [#endOfInput()] has been called already
+    /// @throws CsvParseException     if the data cannot be parsed
+    public void feed(final ByteBuffer chunk) {
+        Objects.requireNonNull(chunk, "chunk must not be null");
+        checkNotEnded();
+
+        // complete a multibyte sequence retained from the previous chunk
+        while (carry.position() > 0 && chunk.hasRemaining()) {
+            carry.put(chunk.get()).flip();
+            decode(carry, false);
+            carry.compact();
+        }
+
+        decode(chunk, false);
+        carry.put(chunk);
+    }
+
+    /// Feeds the given characters.
+    ///
+    /// Don't mix this method with [#feed(ByteBuffer)] while a multibyte sequence is incomplete.
+    ///
+    /// @param data the data to feed; must not be `null`
+    /// @param off  the offset of the data
+    /// @param len  the length of the data
+    /// @throws NullPointerException      if `null` is passed
+    /// @throws IndexOutOfBoundsException if offset or length are out of bounds
+    /// @throws IllegalStateException     if [#endOfInput()] has been called already
+    /// @throws CsvParseException         if the data cannot be parsed
+    public void feed(final char[] data, final int off, final int len) {
+        Objects.requireNonNull(data, "data must not be null");
+        Objects.checkFromIndexSize(off, len, data.length);
+        checkNotEnded();
+
+        for (int i = 0; i < len; i += SLICE_SIZE) {
+            csvParser.append(data, off + i, Math.min(SLICE_SIZE, len - i));
+            processRecords();
+        }
+    }
+
+    /// Signals the end of the input and passes the last (unterminated) record to the record consumer.
+    ///
+    /// Subsequent calls have no effect.
+    ///
+    /// @throws CsvParseException if the data cannot be parsed
+    public void endOfInput() {
+        if (ended) {
+            return;
+        }
+        ended = true;
+
+        carry.flip();
+        decode(carry, true);
+        decoder.flush(decoded);
+        appendDecoded();
+
+        csvParser.endOfInput();
+        processRecords();
+        callbackHandler.terminate();
+
+        // return the buffer to the pool (if configured)
+        try {
+            csvParser.close();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void checkNotEnded() {
+        if (ended) {
+            throw new IllegalStateException("Input has already ended");
+        }
+    }
+
+    private void decode(final ByteBuffer in, final boolean endOfInput) {
+        CoderResult result;
+        do {
+            result = decoder.decode(in, decoded, endOfInput);
+            appendDecoded();
+        } while (result.isOverflow());
+    }
+
+    private void appendDecoded() {
+        decoded.flip();
+        if (decoded.hasRemaining()) {
+            csvParser.append(decoded.array(), decoded.arrayOffset() + decoded.position(), decoded.remaining());
+            processRecords();
+        }
+        decoded.clear();
+    }
+
+    private void processRecords() {
+        for (T csvRecord = nextRecord(); csvRecord != null; csvRecord = nextRecord()) {
+            recordConsumer.accept(csvRecord);
+        }
+    }
+
+    @Nullable
+    @SuppressWarnings({"checkstyle:IllegalCatch", "PMD.AvoidCatchingGenericException"})
+    private T nextRecord() {
+        try {
+            while (csvParser.parse()) {
+                final T csvRecord = csvReader.processRecord();
+                if (csvRecord != null) {
+                    return csvRecord;
+                }
+            }
+            return null;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (final CsvParseException e) {
+            throw e;
+        } catch (final RuntimeException e) {
+            throw new CsvParseException("Exception when reading record that started in line %d"
+                .formatted(csvParser.getStartingLineNumber()), e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", CsvFeeder.class.getSimpleName() + "[", "]")
+            .add("charset=" + decoder.charset())
+            .add("ended=" + ended)
+            .toString();
+    }
+
+}
@@ -0,0 +1,406 @@
+package de.siegmar.fastcsv.reader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.concurrent.Executor;
+
+import de.siegmar.fastcsv.util.Nullable;
+import de.siegmar.fastcsv.writer.CsvWriter;
+
+/// An immutable, compiled CSV format – for creating many readers of the same dialect with minimal setup cost.
+///
+/// A format is created once by [CsvReader.CsvReaderBuilder#compile()]. The configuration is validated and
+/// the parser variant is selected at that time – creating a reader only allocates the reader itself.
+/// In contrast to [CsvReader.CsvReaderBuilder], a format is safe for use by multiple threads and is not
+/// affected by later changes of the builder it was created from.
+///
+/// Example use:
+/// ```
+/// private static final CsvFormat FORMAT = CsvReader.builder()
+///     .fieldSeparator(';')
+///     .bufferPool(CsvBufferPool.shared(64))
+///     .compile();
+///
+/// // for every request
+/// try (CsvReader<CsvRecord> csv = FORMAT.ofCsvRecord(payload)) {
+///     csv.forEach(rec -> process(rec));
+/// }
+/// ```
+///
+/// Use [CsvReader.CsvReaderBuilder] to read files or to create a [CsvFeeder]. Records of files can be
+/// counted by a format, though (see [#countRecords(Path)]).
+@SuppressWarnings({"checkstyle:ClassFanOutComplexity", "checkstyle:ClassDataAbstractionCoupling"})
+public final class CsvFormat {
+
+    private final String fieldSeparator;
+    private final char quoteCharacter;
+    private final CommentStrategy commentStrategy;
+    private final char commentCharacter;
+    private final boolean skipEmptyLines;
+    private final FieldMismatchStrategy extraFieldStrategy;
+    private final FieldMismatchStrategy missingFieldStrategy;
+    private final boolean allowExtraCharsAfterClosingQuote;
+    private final boolean allowUnclosedQuote;
+    private final boolean trimWhitespacesAroundQuotes;
+    private final boolean relaxed;
+    private final boolean detectBomHeader;
+
+    @Nullable
+    private final Executor readAheadExecutor;
+
+    private final int maxBufferSize;
+    private final CsvBufferPool bufferPool;
+
+    /// Constructs a new format – the configuration must have been validated by the builder.
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    CsvFormat(final String fieldSeparator, final char quoteCharacter,
+              final CommentStrategy commentStrategy, final char commentCharacter,
+              final boolean skipEmptyLines,
+              final FieldMismatchStrategy extraFieldStrategy, final FieldMismatchStrategy missingFieldStrategy,
+              final boolean allowExtraCharsAfterClosingQuote, final boolean allowUnclosedQuote,
+              final boolean trimWhitespacesAroundQuotes, final boolean relaxed, final boolean detectBomHeader,
+              @Nullable final Executor readAheadExecutor, final int maxBufferSize,
+              final CsvBufferPool bufferPool) {
+        this.fieldSeparator = fieldSeparator;
+        this.quoteCharacter = quoteCharacter;
+        this.commentStrategy = commentStrategy;
+        this.commentCharacter = commentCharacter;
+        this.skipEmptyLines = skipEmptyLines;
+        this.extraFieldStrategy = extraFieldStrategy;
+        this.missingFieldStrategy = missingFieldStrategy;
+        this.allowExtraCharsAfterClosingQuote = allowExtraCharsAfterClosingQuote;
+        this.allowUnclosedQuote = allowUnclosedQuote;
+        this.trimWhitespacesAroundQuotes = trimWhitespacesAroundQuotes;
+        this.relaxed = relaxed;
+        this.detectBomHeader = detectBomHeader;
+        this.readAheadExecutor = readAheadExecutor;
+        this.maxBufferSize = maxBufferSize;
+        this.bufferPool = bufferPool;
+    }
+
+    /// Constructs a new index-based [CsvReader] for the specified input stream.
+    ///
+    /// This is a convenience method for calling [#build(CsvCallbackHandler,InputStream)] with
+    /// [CsvRecordHandler] as the callback handler.
+    ///
+    /// @param inputStream the input stream to read data from.
+    /// @return a new CsvReader - never `null`.
+    /// @throws NullPointerException if inputStream is `null`
+    public CsvReader<CsvRecord> ofCsvRecord(final InputStream inputStream) {
+        return build(CsvRecordHandler.of(), inputStream);
+    }
+
+    /// Constructs a new index-based [CsvReader] for the specified reader.
+    ///
+    /// This is a convenience method for calling [#build(CsvCallbackHandler,Reader)] with
+    /// [CsvRecordHandler] as the callback handler.
+    ///
+    /// @param reader the data source to read from.
+    /// @return a new CsvReader - never `null`.
+    /// @throws NullPointerException if reader is `null`
+    public CsvReader<CsvRecord> ofCsvRecord(final Reader reader) {
+        return build(CsvRecordHandler.of(), reader);
+    }
+
+    /// Constructs a new index-based [CsvReader] for the specified String.
+    ///
+    /// This is a convenience method for calling [#build(CsvCallbackHandler,String)] with
+    /// [CsvRecordHandler] as the callback handler.
+    ///
+    /// @param data the data to read.
+    /// @return a new CsvReader - never `null`.
+    /// @throws NullPointerException if data is `null`
+    public CsvReader<CsvRecord> ofCsvRecord(final String data) {
+        return build(CsvRecordHandler.of(), data);
+    }
+
+    /// Constructs a new name-based [CsvReader] for the specified input stream.
+    ///
+    /// This is a convenience method for calling [#build(CsvCallbackHandler,InputStream)] with
+    /// [NamedCsvRecordHandler] as the callback handler.
+    ///
+    /// @param inputStream the input stream to read data from.
+    /// @return a new CsvReader - never `null`.
+    /// @throws NullPointerException if inputStream is `null`
+    public CsvReader<NamedCsvRecord> ofNamedCsvRecord(final InputStream inputStream) {
+        return build(NamedCsvRecordHandler.of(), inputStream);
+    }
+
+    /// Constructs a new name-based [CsvReader] for the specified reader.
+    ///
+    /// This is a convenience method for calling [#build(CsvCallbackHandler,Reader)] with
+    /// [NamedCsvRecordHandler] as the callback handler.
+    ///
+    /// @param reader the data source to read from.
+    /// @return a new CsvReader - never `null`.
+    /// @throws NullPointerException if reader is `null`
+    public CsvReader<NamedCsvRecord> ofNamedCsvRecord(final Reader reader) {
+        return build(NamedCsvRecordHandler.of(), reader);
+    }
+
+    /// Constructs a new name-based [CsvReader] for the specified String.
+    ///
+    /// This is a convenience method for calling [#build(CsvCallbackHandler,String)] with
+    /// [NamedCsvRecordHandler] as the callback handler.
+    ///
+    /// @param data the data to read.
+    /// @return a new CsvReader - never `null`.
+    /// @throws NullPointerException if data is `null`
+    public CsvReader<NamedCsvRecord> ofNamedCsvRecord(final String data) {
+        return build(NamedCsvRecordHandler.of(), data);
+    }
+
+    /// Constructs a new callback-based [CsvReader] for the specified input stream using UTF-8 as the character
+    /// set.
+    ///
+    /// @param <T>             the type of the CSV record.
+    /// @param callbackHandler the record handler to use. Do not reuse a handler after it has been used!
+    /// @param inputStream     the input stream to read data from.
+    /// @return a new CsvReader - never `null`.
+    /// @throws NullPointerException if callbackHandler or inputStream is `null`
+    /// @see #build(CsvCallbackHandler, InputStream, Charset)
+    public <T> CsvReader<T> build(final CsvCallbackHandler<T> callbackHandler, final InputStream inputStream) {
+        return build(callbackHandler, inputStream, StandardCharsets.UTF_8);
+    }
+
+    /// Constructs a new callback-based [CsvReader] for the specified input stream and character set.
+    ///
+    /// @param <T>             the type of the CSV record.
+    /// @param callbackHandler the record handler to use. Do not reuse a handler after it has been used!
+    /// @param inputStream     the input stream to read data from.
+    /// @param charset         the character set to use. If BOM header detection is enabled, this acts as
+    ///                        a default when no BOM header was found.
+    /// @return a new CsvReader - never `null`.
+    /// @throws NullPointerException if callbackHandler, inputStream or charset is `null`
+    /// @see #build(CsvCallbackHandler, InputStream)
+    @SuppressWarnings("PMD.AvoidDuplicateLiterals")
+    public <T> CsvReader<T> build(final CsvCallbackHandler<T> callbackHandler,
+                                  final InputStream inputStream, final Charset charset) {
+        Objects.requireNonNull(callbackHandler, "callbackHandler must not be null");
+        Objects.requireNonNull(inputStream, "inputStream must not be null");
+        Objects.requireNonNull(charset, "charset must not be null");
+
+        final Reader reader = detectBomHeader
+            ? new BomInputStreamReader(inputStream, charset)
+            : WideningInputStreamReader.of(inputStream, charset);
+
+        return build(callbackHandler, reader);
+    }
+
+    /// Constructs a new callback-based [CsvReader] for the specified reader.
+    ///
+    /// @param <T>             the type of the CSV record.
+    /// @param callbackHandler the record handler to use. Do not reuse a handler after it has been used!
+    /// @param reader          the data source to read from.
+    /// @return a new CsvReader - never `null`.
+    /// @throws NullPointerException if callbackHandler or reader is `null`
+    public <T> CsvReader<T> build(final CsvCallbackHandler<T> callbackHandler, final Reader reader) {
+        Objects.requireNonNull(callbackHandler, "callbackHandler must not be null");
+        Objects.requireNonNull(reader, "reader must not be null");
+
+        return newReader(callbackHandler, newParser(callbackHandler, reader));
+    }
+
+    /// Constructs a new callback-based [CsvReader] for the specified String.
+    ///
+    /// @param <T>             the type of the CSV record.
+    /// @param callbackHandler the record handler to use. Do not reuse a handler after it has been used!
+    /// @param data            the data to read.
+    /// @return a new CsvReader - never `null`.
+    /// @throws NullPointerException if callbackHandler or data is `null`
+    public <T> CsvReader<T> build(final CsvCallbackHandler<T> callbackHandler, final String data) {
+        Objects.requireNonNull(callbackHandler, "callbackHandler must not be null");
+        Objects.requireNonNull(data, "data must not be null");
+
+        final CsvParser csvParser = relaxed
+            ? new RelaxedCsvParser(fieldSeparator, quoteCharacter, commentStrategy, commentCharacter,
+                trimWhitespacesAroundQuotes, allowUnclosedQuote, callbackHandler, maxBufferSize, data)
+            : new StrictCsvParser(fieldSeparator, quoteCharacter, commentStrategy, commentCharacter,
+                allowExtraCharsAfterClosingQuote, allowUnclosedQuote, callbackHandler, data);
+
+        return newReader(callbackHandler, csvParser);
+    }
+
+    /// Counts the records of the specified file using UTF-8 as the character set.
+    ///
+    /// @param file the file to count the records of.
+    /// @return the number of records
+    /// @throws IOException          if an I/O error occurs.
+    /// @throws NullPointerException if file is `null`
+    /// @see #countRecords(Path, Charset)
+    public long countRecords(final Path file) throws IOException {
+        return countRecords(file, StandardCharsets.UTF_8);
+    }
+
+    /// Counts the records of the specified file.
+    ///
+    /// See [#countRecords(InputStream, Charset)] for details.
+    ///
+    /// @param file    the file to count the records of.
+    /// @param charset the character set to use. If BOM header detection is enabled, this acts as
+    ///                a default when no BOM header was found.
+    /// @return the number of records
+    /// @throws IOException          if an I/O error occurs.
+    /// @throws NullPointerException if file or charset is `null`
+    /// @see #countRecords(Path)
+    public long countRecords(final Path file, final Charset charset) throws IOException {
+        Objects.requireNonNull(file, "file must not be null");
+        return countRecords(Files.newInputStream(file), charset);
+    }
+
+    /// Counts the records of the specified input stream using UTF-8 as the character set.
+    ///
+    /// @param inputStream the input stream to count the records of.
+    /// @return the number of records
+    /// @throws IOException          if an I/O error occurs.
+    /// @throws NullPointerException if inputStream is `null`
+    /// @see #countRecords(InputStream, Charset)
+    public long countRecords(final InputStream inputStream) throws IOException {
+        return countRecords(inputStream, StandardCharsets.UTF_8);
+    }
+
+    /// Counts the records of the specified input stream.
+    ///
+    /// The result is the number of records a [CsvReader] of this format would return – comments and empty
+    /// lines are counted according to the configured comment strategy and empty line handling. In contrast
+    /// to reading the data, no fields and records are created.
+    ///
+    /// For ASCII-compatible character sets (UTF-8, US-ASCII and ISO-8859-1) and a single-character field
+    /// separator, only the record boundaries are scanned on byte level. The data is **not** validated in
+    /// this case – malformed data (e.g., characters after a closing quote or an unclosed quote) is counted
+    /// without an exception being thrown. Other configurations (multi-character field separators, the
+    /// relaxed parser or other character sets) are parsed without creating the fields.
+    ///
+    /// Field count consistency (see [CsvReader.CsvReaderBuilder#extraFieldStrategy(FieldMismatchStrategy)]
+    /// and [CsvReader.CsvReaderBuilder#missingFieldStrategy(FieldMismatchStrategy)]) is never checked. A header
+    /// record is counted like any other record.
+    ///
+    /// The input stream is read until its end and closed afterward.
+    ///
+    /// @param inputStream the input stream to count the records of.
+    /// @param charset     the character set to use. If BOM header detection is enabled, this acts as
+    ///                    a default when no BOM header was found.
+    /// @return the number of records
+    /// @throws IOException          if an I/O error occurs.
+    /// @throws NullPointerException if inputStream or charset is `null`
+    /// @see #countRecords(InputStream)
+    public long countRecords(final InputStream inputStream, final Charset charset) throws IOException {
+        Objects.requireNonNull(inputStream, "inputStream must not be null");
+        Objects.requireNonNull(charset, "charset must not be null");
+
+        try (inputStream) {
+            final InputStream source;
+            final Charset sourceCharset;
+            if (detectBomHeader) {
+                final var bomIn = new BomInputStream(inputStream, charset);
+                source = bomIn;
+                sourceCharset = bomIn.getCharset();
+            } else {
+                source = inputStream;
+                sourceCharset = charset;
+            }
+
+            return isScannable(sourceCharset)
+                ? scanRecords(Channels.newChannel(source))
+                : parseRecords(WideningInputStreamReader.of(source, sourceCharset));
+        }
+    }
+
+    private boolean isScannable(final Charset charset) {
+        return !relaxed && fieldSeparator.length() == 1
+            && ByteCsvParser.isSupported(charset, fieldSeparator.charAt(0), quoteCharacter, commentCharacter);
+    }
+
+    private long scanRecords(final ReadableByteChannel channel) throws IOException {
+        final var recordCounter = new RecordCounter(commentStrategy, skipEmptyLines);
+
+        new CsvScanner(channel, 0, (byte) fieldSeparator.charAt(0), (byte) quoteCharacter, commentStrategy,
+            (byte) commentCharacter, recordCounter).scan();
+
+        return recordCounter.getRecordCount();
+    }
+
+    private long parseRecords(final Reader reader) throws IOException {
+        final var callbackHandler = new RecordCounter.RecordTypeHandler();
+
+        // field count consistency is not checked – just as with scanning
+        try (CsvReader<RecordType> csvReader = new CsvReader<>(newParser(callbackHandler, reader),
+            callbackHandler, commentStrategy, skipEmptyLines, FieldMismatchStrategy.IGNORE,
+            FieldMismatchStrategy.IGNORE, null)) {
+
+            long recordCount = 0;
+            for (final Iterator<RecordType> it = csvReader.iterator(); it.hasNext(); it.next()) {
+                recordCount++;
+            }
+            return recordCount;
+        }
+    }
+
+    /// Constructs a new [CsvWriter.CsvWriterBuilder] that writes data of this format.
+    ///
+    /// The field separator, quote character and comment character are preconfigured; writer specific
+    /// settings (e.g., the quote strategy or the line delimiter) can be configured on the returned builder.
+    ///
+    /// @return a new, preconfigured [CsvWriter.CsvWriterBuilder] instance.
+    /// @throws IllegalStateException if the field separator consists of multiple characters, which is not
+    ///     supported by [CsvWriter]
+    public CsvWriter.CsvWriterBuilder writer() {
+        if (fieldSeparator.length() != 1) {
+            throw new IllegalStateException("CsvWriter does not support multi-character field separators");
+        }
+
+        return CsvWriter.builder()
+            .fieldSeparator(fieldSeparator.charAt(0))
+            .quoteCharacter(quoteCharacter)
+            .commentCharacter(commentCharacter);
+    }
+
+    private CsvParser newParser(final CsvCallbackHandler<?> callbackHandler, final Reader reader) {
+        final Reader source = readAheadExecutor != null
+            ? new ReadAheadReader(reader, readAheadExecutor,
+                ReadAheadReader.DEFAULT_CHUNK_COUNT, ReadAheadReader.DEFAULT_CHUNK_SIZE)
+            : reader;
+
+        return relaxed
+            ? new RelaxedCsvParser(fieldSeparator, quoteCharacter, commentStrategy, commentCharacter,
+                trimWhitespacesAroundQuotes, allowUnclosedQuote, callbackHandler, maxBufferSize, bufferPool, source)
+            : new StrictCsvParser(fieldSeparator, quoteCharacter, commentStrategy, commentCharacter,
+                allowExtraCharsAfterClosingQuote, allowUnclosedQuote, callbackHandler, maxBufferSize, bufferPool,
+                source);
+    }
+
+    private <T> CsvReader<T> newReader(final CsvCallbackHandler<T> callbackHandler, final CsvParser csvParser) {
+        return new CsvReader<>(csvParser, callbackHandler,
+            commentStrategy, skipEmptyLines, extraFieldStrategy, missingFieldStrategy, null);
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", CsvFormat.class.getSimpleName() + "[", "]")
+            .add("fieldSeparator=" + fieldSeparator)
+            .add("quoteCharacter=" + quoteCharacter)
+            .add("commentStrategy=" + commentStrategy)
+            .add("commentCharacter=" + commentCharacter)
+            .add("skipEmptyLines=" + skipEmptyLines)
+            .add("extraFieldStrategy=" + extraFieldStrategy)
+            .add("missingFieldStrategy=" + missingFieldStrategy)
+            .add("allowExtraCharsAfterClosingQuote=" + allowExtraCharsAfterClosingQuote)
+            .add("allowUnclosedQuote=" + allowUnclosedQuote)
+            .add("trimWhitespacesAroundQuotes=" + trimWhitespacesAroundQuotes)
+            .add("detectBomHeader=" + detectBomHeader)
+            .add("maxBufferSize=" + maxBufferSize)
+            .add("bufferPool=" + bufferPool)
+            .toString();
+    }
+
+}
@@ -0,0 +1,280 @@
+package de.siegmar.fastcsv.reader;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import de.siegmar.fastcsv.util.Nullable;
+import de.siegmar.fastcsv.util.Preconditions;
+
+/// A [Flow.Publisher] that publishes the records of a [CsvReader] – respecting the demand of its subscriber.
+///
+/// Records are only parsed when they are requested (via [Flow.Subscription#request(long)]), so a slow
+/// subscriber doesn't cause records to be buffered. Parsing and emitting takes place on the given
+/// [Executor]: a single task emits as many records as requested at this time, before it ends.
+///
+/// Example use:
+/// ```
+/// ExecutorService executor = Executors.newSingleThreadExecutor();
+/// CsvReader<CsvRecord> csv = CsvReader.builder().ofCsvRecord(file);
+/// CsvPublisher.of(csv, executor).subscribe(subscriber);
+/// // shut down the executor after the subscriber received onComplete or onError
+/// ```
+///
+/// To reduce the per-record signaling overhead, [#ofBatches(CsvReader, int, Executor)] publishes lists of
+/// records instead – the demand then counts batches, not records.
+///
+/// As a [CsvReader] can only be read once, the publisher only supports a single subscriber. Further
+/// subscribers receive an [IllegalStateException] via [Flow.Subscriber#onError(Throwable)].
+///
+/// The reader is closed when all records are published, an exception occurred or the subscription is cancelled.
+///
+/// @param <T> the type of the published items – CSV records or batches of them.
+public final class CsvPublisher<T> implements Flow.Publisher<T> {
+
+    private final Supplier<CloseableIterator<T>> source;
+    private final Executor executor;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    private CsvPublisher(final Supplier<CloseableIterator<T>> source, final Executor executor) {
+        this.source = source;
+        this.executor = executor;
+    }
+
+    /// Constructs a new publisher that parses and emits the records on the thread requesting them.
+    ///
+    /// @param <T>       the type of the CSV record.
+    /// @param csvReader the reader to publish the records of; must not be `null`
+    /// @return the new publisher
+    /// @throws NullPointerException if `null` is passed
+    /// @see #of(CsvReader, Executor)
+    public static <T> CsvPublisher<T> of(final CsvReader<T> csvReader) {
+        return of(csvReader, Runnable::run);
+    }
+
+    /// Constructs a new publisher that parses and emits the records on the given executor.
+    ///
+    /// @param <T>       the type of the CSV record.
+    /// @param csvReader the reader to publish the records of; must not be `null`
+    /// @param executor  the executor to parse and emit the records on; must not be `null`
+    /// @return the new publisher
+    /// @throws NullPointerException if `null` is passed
+    /// @see #of(CsvReader)
+    public static <T> CsvPublisher<T> of(final CsvReader<T> csvReader, final Executor executor) {
+        Objects.requireNonNull(csvReader, "csvReader must not be null");
+        Objects.requireNonNull(executor, "executor must not be null");
+        return new CsvPublisher<>(csvReader::iterator, executor);
+    }
+
+    /// Constructs a new publisher that parses and emits batches of records on the thread requesting them.
+    ///
+    /// @param <T>       the type of the CSV record.
+    /// @param csvReader the reader to publish the records of; must not be `null`
+    /// @param batchSize the maximum number of records per batch; must be > 0
+    /// @return the new publisher
+    /// @throws NullPointerException     if `null` is passed
+    /// @throws IllegalArgumentException if the batch size is not positive
+    /// @see #ofBatches(CsvReader, int, Executor)
+    public static <T> CsvPublisher<List<T>> ofBatches(final CsvReader<T> csvReader, final int batchSize) {
+        return ofBatches(csvReader, batchSize, Runnable::run);
+    }
+
+    /// Constructs a new publisher that parses and emits batches of records on the given executor.
+    ///
+    /// Each batch is a new unmodifiable list (see [CsvReader#batches(int)]); all batches but the last one
+    /// contain exactly `batchSize` records. A request of `n` is a request of `n` batches.
+    ///
+    /// @param <T>       the type of the CSV record.
+    /// @param csvReader the reader to publish the records of; must not be `null`
+    /// @param batchSize the maximum number of records per batch; must be > 0
+    /// @param executor  the executor to parse and emit the batches on; must not be `null`
+    /// @return the new publisher
+    /// @throws NullPointerException     if `null` is passed
+    /// @throws IllegalArgumentException if the batch size is not positive
+    /// @see #ofBatches(CsvReader, int)
+    public static <T> CsvPublisher<List<T>> ofBatches(final CsvReader<T> csvReader, final int batchSize,
+                                                      final Executor executor) {
+        Objects.requireNonNull(csvReader, "csvReader must not be null");
+        Preconditions.checkArgument(batchSize > 0, "batchSize must be > 0");
+        Objects.requireNonNull(executor, "executor must not be null");
+        return new CsvPublisher<>(() -> csvReader.batches(batchSize), executor);
+    }
+
+    @Override
+    public void subscribe(final Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber must not be null");
+
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new RejectedSubscription());
+            subscriber.onError(new IllegalStateException("CsvPublisher only supports a single subscriber"));
+            return;
+        }
+
+        subscriber.onSubscribe(new CsvSubscription(subscriber));
+    }
+
+    private static final class RejectedSubscription implements Flow.Subscription {
+
+        @Override
+        public void request(final long n) {
+            // nothing to publish
+        }
+
+        @Override
+        public void cancel() {
+            // nothing to cancel
+        }
+
+    }
+
+    /// Serializes all signals to the subscriber by a work-in-progress counter: only one drain task is
+    /// active at a time – requests and cancellations during a drain are picked up by the active task.
+    private final class CsvSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super T> subscriber;
+        private final CloseableIterator<T> records = source.get();
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger workInProgress = new AtomicInteger();
+        private volatile boolean cancelled;
+
+        @Nullable
+        private volatile Throwable invalidRequest;
+
+        private boolean done;
+
+        CsvSubscription(final Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(final long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("Requested number of records must be > 0, was " + n);
+            } else {
+                demand.getAndAccumulate(n, (current, add) -> current + add < 0 ? Long.MAX_VALUE : current + add);
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (workInProgress.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this::drain);
+                } catch (final RejectedExecutionException e) {
+                    done = true;
+                    close();
+                    subscriber.onError(e);
+                }
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            do {
+                try {
+                    if (!done) {
+                        drainOnce();
+                    }
+                } finally {
+                    missed = workInProgress.addAndGet(-missed);
+                }
+            } while (missed != 0);
+        }
+
+        private void drainOnce() {
+            final Throwable error = invalidRequest;
+            if (cancelled || error != null) {
+                finish(error);
+                return;
+            }
+
+            final long requested = demand.get();
+            long emitted = 0;
+            while (emitted < requested && !cancelled) {
+                final T csvRecord = nextRecord();
+                if (csvRecord == null || !emit(csvRecord)) {
+                    return;
+                }
+                emitted++;
+            }
+
+            if (requested != Long.MAX_VALUE) {
+                demand.addAndGet(-emitted);
+            }
+        }
+
+        /// @return the next record or `null` if the subscription has been finished (all records
+        ///     published or an exception occurred)
+        @Nullable
+        @SuppressWarnings({"checkstyle:IllegalCatch", "PMD.AvoidCatchingGenericException"})
+        private T nextRecord() {
+            try {
+                if (records.hasNext()) {
+                    return records.next();
+                }
+                finish(null);
+            } catch (final RuntimeException e) {
+                finish(e);
+            }
+            return null;
+        }
+
+        /// Passes the record to the subscriber – a subscriber throwing an exception (violating the
+        /// Reactive Streams rule 2.13) finishes the subscription: the exception is passed to
+        /// [Flow.Subscriber#onError(Throwable)] instead of the executing thread.
+        ///
+        /// @return `false` if the subscription has been finished
+        @SuppressWarnings({"checkstyle:IllegalCatch", "PMD.AvoidCatchingGenericException"})
+        private boolean emit(final T csvRecord) {
+            try {
+                subscriber.onNext(csvRecord);
+                return true;
+            } catch (final RuntimeException e) {
+                finish(e);
+                return false;
+            }
+        }
+
+        private void finish(@Nullable final Throwable error) {
+            done = true;
+            final Throwable closeError = close();
+
+            if (cancelled) {
+                return;
+            }
+
+            final Throwable finalError = error != null ? error : closeError;
+            if (finalError != null) {
+                subscriber.onError(finalError);
+            } else {
+                subscriber.onComplete();
+            }
+        }
+
+        @Nullable
+        private Throwable close() {
+            try {
+                records.close();
+                return null;
+            } catch (final IOException e) {
+                return new UncheckedIOException(e);
+            }
+        }
+
+    }
+
+}
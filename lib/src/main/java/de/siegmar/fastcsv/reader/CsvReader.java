@@ -4,19 +4,25 @@ import java.io.Closeable;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.UncheckedIOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Spliterator;
 import java.util.StringJoiner;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -56,6 +62,7 @@ import de.siegmar.fastcsv.util.Preconditions;
 /// ```
 ///
 /// @param <T> the type of the CSV record.
+@SuppressWarnings("checkstyle:ClassFanOutComplexity")
 public final class CsvReader<T> implements Iterable<T>, Closeable {
 
     private final CsvParser csvParser;
@@ -67,14 +74,19 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
     private final boolean fieldCountConsistencyCheck;
     private final CloseableIterator<T> csvRecordIterator = new CsvRecordIterator();
 
+    @Nullable
+    private final FileSplitter<T>.Part filePart;
+
     private int firstRecordFieldCount = -1;
     private boolean parsingStarted;
+    private boolean linesSkipped;
 
     @SuppressWarnings("checkstyle:ParameterNumber")
     CsvReader(final CsvParser csvParser, final CsvCallbackHandler<T> callbackHandler,
               final CommentStrategy commentStrategy, final boolean skipEmptyLines,
               final FieldMismatchStrategy extraFieldStrategy,
-              final FieldMismatchStrategy missingFieldStrategy) {
+              final FieldMismatchStrategy missingFieldStrategy,
+              @Nullable final FileSplitter<T>.Part filePart) {
 
         this.csvParser = csvParser;
         this.callbackHandler = callbackHandler;
@@ -82,6 +94,7 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
         this.skipEmptyLines = skipEmptyLines;
         this.extraFieldStrategy = extraFieldStrategy;
         this.missingFieldStrategy = missingFieldStrategy;
+        this.filePart = filePart;
         fieldCountConsistencyCheck =
             extraFieldStrategy != FieldMismatchStrategy.IGNORE
             || missingFieldStrategy != FieldMismatchStrategy.IGNORE;
@@ -94,6 +107,36 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
         return new CsvReaderBuilder();
     }
 
+    /// Counts the records of the specified file using the default configuration and UTF-8 as the character set.
+    ///
+    /// Only the record boundaries are scanned – no fields and records are created. Use
+    /// [CsvReaderBuilder#countRecords(Path, Charset)] to count records of other CSV dialects.
+    ///
+    /// @param file the file to count the records of.
+    /// @return the number of records (including a header record, if any)
+    /// @throws IOException          if an I/O error occurs.
+    /// @throws NullPointerException if file is `null`
+    /// @see CsvFormat#countRecords(InputStream, Charset)
+    public static long countRecords(final Path file) throws IOException {
+        return builder().countRecords(file);
+    }
+
+    /// Counts the records of the specified input stream using the default configuration and UTF-8 as the
+    /// character set.
+    ///
+    /// Only the record boundaries are scanned – no fields and records are created. Use
+    /// [CsvReaderBuilder#countRecords(InputStream, Charset)] to count records of other CSV dialects.
+    /// The input stream is read until its end and closed afterward.
+    ///
+    /// @param inputStream the input stream to count the records of.
+    /// @return the number of records (including a header record, if any)
+    /// @throws IOException          if an I/O error occurs.
+    /// @throws NullPointerException if inputStream is `null`
+    /// @see CsvFormat#countRecords(InputStream, Charset)
+    public static long countRecords(final InputStream inputStream) throws IOException {
+        return builder().countRecords(inputStream);
+    }
+
     /// Skips the specified number of lines.
     ///
     /// **Note:** "lines" here means *physical* lines terminated by `CR`, `LF`, or `CRLF` —
@@ -119,6 +162,7 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
             throw new IllegalStateException("skipLines must be called before any CSV records are read");
         }
 
+        linesSkipped = true;
         int i = 0;
         try {
             for (; i < lineCount; i++) {
@@ -168,6 +212,7 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
             return 0;
         }
 
+        linesSkipped = true;
         int i = 0;
         try {
             for (; i < maxLines; i++) {
@@ -246,9 +291,69 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
             });
     }
 
+    /// Constructs an iterator over batches of records – each batch a new list.
+    ///
+    /// Equivalent to `batches(batchSize, false)`: the batches are independent of each other and may be
+    /// handed over to other threads (e.g., for parallel processing).
+    ///
+    /// @param batchSize the maximum number of records per batch; must be > 0
+    /// @return an iterator over the batches.
+    /// @throws IllegalArgumentException if the batch size is not positive.
+    /// @see #batches(int, boolean)
+    public CloseableIterator<List<T>> batches(final int batchSize) {
+        return batches(batchSize, false);
+    }
+
+    /// Constructs an iterator over batches of records.
+    ///
+    /// Processing records in groups (e.g., for batch inserts into a database) this way avoids collecting
+    /// them one by one. All batches but the last one contain exactly `batchSize` records; no empty batch is
+    /// returned. The batches are unmodifiable lists.
+    ///
+    /// If `reuseBatch` is `true`, the same list (and its backing array) is refilled for every batch, so it
+    /// is only valid until the next batch is read. Otherwise, each batch is a new list.
+    ///
+    /// The backing array grows with the records of the first batch – a large `batchSize` doesn't cause a
+    /// large allocation for small data.
+    ///
+    /// Batching is pointless if the callback handler reuses its record instance (e.g., a [CsvRecordHandler]
+    /// configured to reuse records) – all elements of a batch would be the same instance.
+    ///
+    /// Example use:
+    /// ```
+    /// try (CsvReader<CsvRecord> csv = CsvReader.builder().ofCsvRecord(file)) {
+    ///     CloseableIterator<List<CsvRecord>> batches = csv.batches(1000);
+    ///     while (batches.hasNext()) {
+    ///         List<CsvRecord> batch = batches.next();
+    ///         executor.submit(() -> insert(batch));
+    ///     }
+    /// }
+    /// ```
+    ///
+    /// The returned iterator shares its position with [#iterator()] and [#stream()].
+    /// Remember to close the returned iterator (or this reader) when you're done.
+    ///
+    /// @param batchSize  the maximum number of records per batch; must be > 0
+    /// @param reuseBatch whether the returned list should be reused for every batch
+    /// @return an iterator over the batches.
+    /// @throws IllegalArgumentException if the batch size is not positive.
+    /// @throws UncheckedIOException     if an I/O error occurs.
+    /// @throws CsvParseException        if any other problem occurs when parsing the CSV data.
+    /// @see #batches(int)
+    public CloseableIterator<List<T>> batches(final int batchSize, final boolean reuseBatch) {
+        Preconditions.checkArgument(batchSize > 0, "batchSize must be > 0");
+        return new RecordBatchIterator<>(csvRecordIterator, batchSize, reuseBatch);
+    }
+
     @Nullable
     private T fetchRecord() throws IOException {
-        parsingStarted = true;
+        if (!parsingStarted) {
+            parsingStarted = true;
+            if (filePart != null) {
+                firstRecordFieldCount = filePart.prepare(csvParser, callbackHandler);
+            }
+        }
+
         while (csvParser.parse()) {
             final T csvRecord = processRecord();
 
@@ -262,9 +367,12 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
         return null;
     }
 
+    /// Builds the record of the last parsed data and applies the comment, empty line and field count handling.
+    ///
+    /// @return the record or `null` if the record is consumed or skipped
     @Nullable
     @SuppressWarnings("checkstyle:ReturnCount")
-    private T processRecord() {
+    T processRecord() {
         final T csvRecord = callbackHandler.buildRecord();
 
         // handle consumed records (e.g., header for named records)
@@ -316,7 +424,13 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
 
     @Override
     public void close() throws IOException {
-        csvParser.close();
+        try {
+            csvParser.close();
+        } finally {
+            if (filePart != null) {
+                filePart.close();
+            }
+        }
     }
 
     @Override
@@ -350,10 +464,25 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
             : "Exception when reading record that started in line %d".formatted(csvParser.getStartingLineNumber());
     }
 
+    /// Creates a reader for a part of the file with the same configuration as this reader.
+    private CsvReader<T> newPartReader(final FileSplitter<T>.Part part) throws IOException {
+        final CsvCallbackHandler<T> partCallbackHandler = part.newCallbackHandler();
+        return new CsvReader<>(part.openParser(partCallbackHandler), partCallbackHandler,
+            commentStrategy, skipEmptyLines, extraFieldStrategy, missingFieldStrategy, part);
+    }
+
     private final class CsvSpliterator implements Spliterator<T> {
 
+        /// The spliterator for the remaining part of the file, once this spliterator was split.
+        @Nullable
+        private Spliterator<T> suffix;
+
         @Override
         public boolean tryAdvance(final Consumer<? super T> action) {
+            if (suffix != null) {
+                return suffix.tryAdvance(action);
+            }
+
             final T t = fetch();
             if (t != null) {
                 action.accept(t);
@@ -362,15 +491,43 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
             return false;
         }
 
+        /// Splits the file at a record boundary, if this reader reads from a file and has not started yet.
         @Nullable
         @Override
         public Spliterator<T> trySplit() {
-            return null;
+            if (suffix != null) {
+                return suffix.trySplit();
+            }
+
+            return filePart == null || parsingStarted || linesSkipped ? null : split(filePart);
+        }
+
+        @Nullable
+        private Spliterator<T> split(final FileSplitter<T>.Part part) {
+            try {
+                final long splitPosition = part.findSplitPosition();
+                if (splitPosition == -1) {
+                    return null;
+                }
+
+                final CsvReader<T> prefixReader = newPartReader(part.prefix(splitPosition));
+                suffix = newPartReader(part.suffix(splitPosition)).spliterator();
+
+                // the parser of this reader is not used anymore
+                parsingStarted = true;
+
+                return prefixReader.spliterator();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
         }
 
         @Override
         public long estimateSize() {
-            return Long.MAX_VALUE;
+            if (suffix != null) {
+                return suffix.estimateSize();
+            }
+            return filePart != null ? filePart.size() : Long.MAX_VALUE;
         }
 
         @Override
@@ -429,11 +586,15 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
     /// - Allow extra characters after closing quotes: `false`
     /// - Trim whitespaces around quotes: `false`
     /// - Detect BOM header: `false`
+    /// - Memory mapped: `false`
+    /// - Read ahead: disabled
     /// - Max buffer size: {@value %,2d #DEFAULT_MAX_BUFFER_SIZE} characters
     ///
     /// The line delimiter (line-feed, carriage-return or the combination of both) is detected
     /// automatically and thus not configurable.
-    @SuppressWarnings({"checkstyle:HiddenField", "PMD.AvoidFieldNameMatchingMethodName"})
+    @SuppressWarnings({"checkstyle:HiddenField", "checkstyle:ClassFanOutComplexity",
+        "checkstyle:ClassDataAbstractionCoupling",
+        "PMD.AvoidFieldNameMatchingMethodName"})
     public static final class CsvReaderBuilder {
 
         private static final int DEFAULT_MAX_BUFFER_SIZE = 16 * 1024 * 1024;
@@ -449,7 +610,11 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
         private boolean allowUnclosedQuote = true;
         private boolean trimWhitespacesAroundQuotes;
         private boolean detectBomHeader;
+        private boolean memoryMapped;
+        @Nullable
+        private Executor readAheadExecutor;
         private int maxBufferSize = DEFAULT_MAX_BUFFER_SIZE;
+        private CsvBufferPool bufferPool = CsvBufferPool.NONE;
 
         private CsvReaderBuilder() {
         }
@@ -471,7 +636,8 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
         /// the **full string** matches. Individual characters within the string are **not** treated as
         /// separate delimiters.
         ///
-        /// **If multiple characters are used, the less performant [RelaxedCsvParser] is used!**
+        /// The field separator is searched by its first character – the remaining characters are only compared
+        /// on a match.
         ///
         /// @param fieldSeparator the field separator string (default: `,` - comma).
         /// @return This updated object, allowing additional method calls to be chained together.
@@ -684,10 +850,62 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
             return this;
         }
 
+        /// Defines if [Path] based data sources should be read through memory mapped windows.
+        ///
+        /// Instead of a system call for each chunk of data, the file is mapped into memory (in windows of
+        /// 64 MiB, so files larger than 2 GiB are supported) and read directly from the mapping. This saves
+        /// a copy and is beneficial for large files that are already in the page cache of the operating system.
+        ///
+        /// **Memory mapping only applies for [Path] based data sources of the default file system.
+        /// The file must not be truncated while it is read.**
+        ///
+        /// Java provides no API to release a mapping explicitly – it is released by the garbage collector
+        /// after the reader has been closed. On some operating systems (e.g., Windows), the file cannot be
+        /// deleted or renamed until then.
+        ///
+        /// @param memoryMapped if the file should be memory mapped (default: `false`)
+        /// @return This updated object, allowing additional method calls to be chained together.
+        public CsvReaderBuilder memoryMapped(final boolean memoryMapped) {
+            this.memoryMapped = memoryMapped;
+            return this;
+        }
+
+        /// Enables pipelined reading: data is read and decoded in a background task while the records are parsed.
+        ///
+        /// The background task reads ahead into a fixed number of pre-allocated buffers (4 buffers of
+        /// 65,536 characters). This overlaps I/O wait and character decoding with parsing and is beneficial for
+        /// slow data sources like network storage. For fast data sources (e.g., files already in the page cache of
+        /// the operating system), the additional hand-over costs may outweigh the gain.
+        ///
+        /// The task is started on the given executor when the first data is read – e.g., a thread pool or
+        /// `Executors.newVirtualThreadPerTaskExecutor()` on Java 21+. It ends when the end of the data is
+        /// reached or the reader is closed. **Always close the reader** – otherwise the task might wait
+        /// forever for free buffers.
+        ///
+        /// The executor must run the task on a different thread than the one reading the records. An executor
+        /// that runs it synchronously on the calling thread (e.g., `Runnable::run` or a
+        /// [java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy] on saturation) is detected – the data
+        /// is then read without read-ahead.
+        ///
+        /// Closing the [CsvReader] doesn't wait for a read of the data source that is still blocked in the
+        /// background task. The data source is closed by the task as soon as that read returns.
+        ///
+        /// Read-ahead applies to all data sources except Strings. Files are then always read through a [Reader]
+        /// (see [#build(CsvCallbackHandler, Path, Charset)]) and not split for parallel processing.
+        ///
+        /// @param executor the executor to run the background task on or `null` to disable read-ahead
+        ///                 (default: `null`)
+        /// @return This updated object, allowing additional method calls to be chained together.
+        public CsvReaderBuilder readAhead(@Nullable final Executor executor) {
+            this.readAheadExecutor = executor;
+            return this;
+        }
+
         /// Defines the maximum buffer size used when parsing data.
         ///
         /// The size of the internal buffer is automatically adjusted to the needs of the parser.
         /// To protect against out-of-memory errors, its maximum size is limited.
+        /// After an oversized field or line has been processed, the buffer returns to its initial size.
         ///
         /// The buffer is used for several purposes:
         ///   - Reading data from the underlying stream of data in chunks
@@ -701,6 +919,10 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
         /// Set a smaller value if your runtime environment has not enough memory available for the default value.
         /// Setting values smaller than 16,384 characters will most likely lead to performance degradation.
         ///
+        /// If a file is parsed on byte level (see [#build(CsvCallbackHandler, Path, Charset)]), the buffer holds
+        /// bytes instead of characters. Its maximum size is then scaled by the maximum number of bytes per
+        /// character of the charset, so the same fields can be read as from a [Reader].
+        ///
         /// @param maxBufferSize the maximum buffer size in characters (default: {@value %,2d #DEFAULT_MAX_BUFFER_SIZE})
         /// @return This updated object, allowing additional method calls to be chained together.
         /// @throws IllegalArgumentException if maxBufferSize is not positive
@@ -710,6 +932,39 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
             return this;
         }
 
+        /// Defines a pool to take the parser buffers from – and to return them to when the reader is closed.
+        ///
+        /// Reusing buffers avoids allocating a new buffer for every reader, which is useful if many
+        /// short-lived readers are created (e.g., one per request). See [CsvBufferPool] for details.
+        ///
+        /// @param bufferPool the pool to use or `null` to allocate a new buffer for every reader (default)
+        /// @return This updated object, allowing additional method calls to be chained together.
+        /// @see CsvBufferPool#shared(int)
+        /// @see CsvBufferPool#threadLocal()
+        public CsvReaderBuilder bufferPool(@Nullable final CsvBufferPool bufferPool) {
+            this.bufferPool = bufferPool != null ? bufferPool : CsvBufferPool.NONE;
+            return this;
+        }
+
+        /// Compiles the current configuration into an immutable [CsvFormat].
+        ///
+        /// The configuration is validated once and the parser variant is selected – the returned format
+        /// creates readers with minimal setup cost and can be shared between threads. Later changes of this
+        /// builder don't affect the returned format.
+        ///
+        /// @return a new CsvFormat - never `null`.
+        /// @throws IllegalArgumentException if the control characters are invalid
+        /// @throws IllegalStateException    if the configuration is contradictory
+        public CsvFormat compile() {
+            final boolean relaxed = isRelaxedConfiguration();
+            StrictCsvParser.assertFields(fieldSeparator, quoteCharacter, commentCharacter, commentStrategy);
+
+            return new CsvFormat(fieldSeparator, quoteCharacter, commentStrategy, commentCharacter,
+                skipEmptyLines, extraFieldStrategy, missingFieldStrategy, allowExtraCharsAfterClosingQuote,
+                allowUnclosedQuote, trimWhitespacesAroundQuotes, relaxed, detectBomHeader, readAheadExecutor,
+                maxBufferSize, bufferPool);
+        }
+
         /// Convenience method to read a single CSV record from the specified string.
         ///
         /// If the string contains multiple records, only the first one is returned.
@@ -804,8 +1059,9 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
 
         /// Constructs a new index-based [CsvReader] for the specified file.
         ///
-        /// This is a convenience method for calling [#build(CsvCallbackHandler,Path)] with
-        /// [CsvRecordHandler] as the callback handler.
+        /// This is a convenience method for calling [#build(Supplier,Path,Charset)] with
+        /// [CsvRecordHandler] as the callback handler and [StandardCharsets#UTF_8] as the default character set.
+        /// The file can therefore be read by a parallel stream.
         ///
         /// If [#detectBomHeader(boolean)] is enabled, the character set is determined by the BOM header.
         /// Per default the character set is [StandardCharsets#UTF_8].
@@ -816,13 +1072,14 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
         /// @throws NullPointerException if file is `null`
         /// @see #ofCsvRecord(Path, Charset)
         public CsvReader<CsvRecord> ofCsvRecord(final Path file) throws IOException {
-            return build(CsvRecordHandler.of(), file);
+            return build(CsvRecordHandler::of, file, StandardCharsets.UTF_8);
         }
 
         /// Constructs a new index-based [CsvReader] for the specified file and character set.
         ///
-        /// This is a convenience method for calling [#build(CsvCallbackHandler,Path,Charset)] with
+        /// This is a convenience method for calling [#build(Supplier,Path,Charset)] with
         /// [CsvRecordHandler] as the callback handler.
+        /// The file can therefore be read by a parallel stream.
         ///
         /// @param file    the file to read data from.
         /// @param charset the character set to use. If BOM header detection is enabled
@@ -833,7 +1090,7 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
         /// @throws NullPointerException if file or charset is `null`
         /// @see #ofCsvRecord(Path)
         public CsvReader<CsvRecord> ofCsvRecord(final Path file, final Charset charset) throws IOException {
-            return build(CsvRecordHandler.of(), file, charset);
+            return build(CsvRecordHandler::of, file, charset);
         }
 
         /// Constructs a new name-based [CsvReader] for the specified input stream.
@@ -898,8 +1155,9 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
 
         /// Constructs a new name-based [CsvReader] for the specified file.
         ///
-        /// This is a convenience method for calling [#build(CsvCallbackHandler,Path)] with
-        /// [NamedCsvRecordHandler] as the callback handler.
+        /// This is a convenience method for calling [#build(Supplier,Path,Charset)] with
+        /// [NamedCsvRecordHandler] as the callback handler and [StandardCharsets#UTF_8] as the default character set.
+        /// The file can therefore be read by a parallel stream.
         ///
         /// If [#detectBomHeader(boolean)] is enabled, the character set is determined by the BOM header.
         /// Per default the character set is [StandardCharsets#UTF_8].
@@ -910,13 +1168,14 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
         /// @throws NullPointerException if file is `null`
         /// @see #ofNamedCsvRecord(Path, Charset)
         public CsvReader<NamedCsvRecord> ofNamedCsvRecord(final Path file) throws IOException {
-            return build(NamedCsvRecordHandler.of(), file);
+            return build(NamedCsvRecordHandler::of, file, StandardCharsets.UTF_8);
         }
 
         /// Constructs a new name-based [CsvReader] for the specified file and character set.
         ///
-        /// This is a convenience method for calling [#build(CsvCallbackHandler,Path,Charset)] with
+        /// This is a convenience method for calling [#build(Supplier,Path,Charset)] with
         /// [NamedCsvRecordHandler] as the callback handler.
+        /// The file can therefore be read by a parallel stream.
         ///
         /// @param file    the file to read data from.
         /// @param charset the character set to use. If BOM header detection is enabled
@@ -928,7 +1187,7 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
         /// @see #ofNamedCsvRecord(Path)
         public CsvReader<NamedCsvRecord> ofNamedCsvRecord(final Path file, final Charset charset)
             throws IOException {
-            return build(NamedCsvRecordHandler.of(), file, charset);
+            return build(NamedCsvRecordHandler::of, file, charset);
         }
 
         /// Constructs a new callback-based [CsvReader] for the specified input stream.
@@ -977,16 +1236,7 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
         @SuppressWarnings("PMD.AvoidDuplicateLiterals")
         public <T> CsvReader<T> build(final CsvCallbackHandler<T> callbackHandler,
                                       final InputStream inputStream, final Charset charset) {
-
-            Objects.requireNonNull(callbackHandler, "callbackHandler must not be null");
-            Objects.requireNonNull(inputStream, "inputStream must not be null");
-            Objects.requireNonNull(charset, "charset must not be null");
-
-            final Reader reader = detectBomHeader
-                ? new BomInputStreamReader(inputStream, charset)
-                : new InputStreamReader(inputStream, charset);
-
-            return build(callbackHandler, reader);
+            return compile().build(callbackHandler, inputStream, charset);
         }
 
         /// Constructs a new callback-based [CsvReader] for the specified reader.
@@ -1007,22 +1257,7 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
         /// @throws NullPointerException if callbackHandler or reader is `null`
         /// @throws IllegalArgumentException if argument validation fails.
         public <T> CsvReader<T> build(final CsvCallbackHandler<T> callbackHandler, final Reader reader) {
-            Objects.requireNonNull(callbackHandler, "callbackHandler must not be null");
-            Objects.requireNonNull(reader, "reader must not be null");
-
-            final CsvParser csvParser;
-            if (isRelaxedConfiguration()) {
-                csvParser = new RelaxedCsvParser(fieldSeparator, quoteCharacter, commentStrategy,
-                    commentCharacter, trimWhitespacesAroundQuotes, allowUnclosedQuote, callbackHandler,
-                    maxBufferSize, reader
-                );
-            } else {
-                csvParser = new StrictCsvParser(fieldSeparator.charAt(0), quoteCharacter, commentStrategy,
-                    commentCharacter, allowExtraCharsAfterClosingQuote, allowUnclosedQuote,
-                    callbackHandler, maxBufferSize, reader);
-            }
-
-            return newReader(callbackHandler, csvParser);
+            return compile().build(callbackHandler, reader);
         }
 
         /// Constructs a new callback-based [CsvReader] for the specified String.
@@ -1036,22 +1271,7 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
         /// @throws NullPointerException if callbackHandler or data is `null`
         /// @throws IllegalArgumentException if argument validation fails.
         public <T> CsvReader<T> build(final CsvCallbackHandler<T> callbackHandler, final String data) {
-            Objects.requireNonNull(callbackHandler, "callbackHandler must not be null");
-            Objects.requireNonNull(data, "data must not be null");
-
-            final CsvParser csvParser;
-            if (isRelaxedConfiguration()) {
-                csvParser = new RelaxedCsvParser(fieldSeparator, quoteCharacter, commentStrategy,
-                    commentCharacter, trimWhitespacesAroundQuotes, allowUnclosedQuote, callbackHandler,
-                    maxBufferSize, data
-                );
-            } else {
-                csvParser = new StrictCsvParser(fieldSeparator.charAt(0), quoteCharacter, commentStrategy,
-                    commentCharacter, allowExtraCharsAfterClosingQuote, allowUnclosedQuote,
-                    callbackHandler, data);
-            }
-
-            return newReader(callbackHandler, csvParser);
+            return compile().build(callbackHandler, data);
         }
 
         /// Constructs a new callback-based [CsvReader] for the specified file.
@@ -1073,6 +1293,12 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
 
         /// Constructs a new callback-based [CsvReader] for the specified file and character set.
         ///
+        /// For ASCII-compatible character sets (UTF-8, US-ASCII and ISO-8859-1) and a single-character field
+        /// separator, the file is parsed on byte level. Only the fields passed to the callback handler are
+        /// decoded. Multi-character field separators (see [#fieldSeparator(String)]), the relaxed parser
+        /// (see [#trimWhitespacesAroundQuotes(boolean)]) and read-ahead (see [#readAhead(Executor)]) always read
+        /// the file through a [Reader].
+        ///
         /// @param <T>             the type of the CSV record.
         /// @param callbackHandler the record handler to use. Do not reuse a handler after it has been used!
         /// @param file            the file to read data from.
@@ -1083,22 +1309,243 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
         /// @throws IOException          if an I/O error occurs.
         /// @throws NullPointerException if callbackHandler, file or charset is `null`
         /// @see #build(CsvCallbackHandler, Path)
+        /// @see #build(Supplier, Path, Charset)
         public <T> CsvReader<T> build(final CsvCallbackHandler<T> callbackHandler,
                                       final Path file, final Charset charset) throws IOException {
             Objects.requireNonNull(callbackHandler, "callbackHandler must not be null");
+            return build(callbackHandler, null, file, charset);
+        }
+
+        /// Constructs a new callback-based [CsvReader] for the specified file and character set that can be
+        /// split into parts for parallel processing.
+        ///
+        /// In contrast to [#build(CsvCallbackHandler, Path, Charset)], every part of the file is parsed by its own
+        /// callback handler, created by the given factory. The file is split when the reader is processed by a
+        /// parallel stream (`csvReader.stream().parallel()`) – more precisely, when [Spliterator#trySplit()] is
+        /// called before any record has been read. Parts are split at record boundaries (quoted fields spanning
+        /// multiple lines are taken into account) and the encounter order of the records is retained.
+        ///
+        /// Before a part in the middle of the file is parsed, its callback handler is fed with the records
+        /// from the beginning of the file up to the first data record, so it can capture a header (as
+        /// [NamedCsvRecordHandler] does). These records are not returned by that part.
+        /// The field count consistency check (see [#extraFieldStrategy(FieldMismatchStrategy)] and
+        /// [#missingFieldStrategy(FieldMismatchStrategy)]) refers to the first data record of the file for all parts.
+        ///
+        /// Splitting requires byte based parsing (see [#build(CsvCallbackHandler, Path, Charset)]) and
+        /// parts of at least 1 MiB. Otherwise, the file is read by a single callback handler.
+        ///
+        /// @param <T>                    the type of the CSV record.
+        /// @param callbackHandlerFactory the factory for the record handlers; must return a new handler on
+        ///                               every call.
+        /// @param file                   the file to read data from.
+        /// @param charset                the character set to use. If BOM header detection is enabled
+        ///                               (via [#detectBomHeader(boolean)]), this acts as a default
+        ///                               when no BOM header was found.
+        /// @return a new CsvReader - never `null`. Remember to close it!
+        /// @throws IOException          if an I/O error occurs.
+        /// @throws NullPointerException if callbackHandlerFactory, file or charset is `null`
+        /// @see #build(CsvCallbackHandler, Path, Charset)
+        public <T> CsvReader<T> build(final Supplier<? extends CsvCallbackHandler<T>> callbackHandlerFactory,
+                                      final Path file, final Charset charset) throws IOException {
+            Objects.requireNonNull(callbackHandlerFactory, "callbackHandlerFactory must not be null");
+            return build(callbackHandlerFactory.get(), callbackHandlerFactory, file, charset);
+        }
+
+        private <T> CsvReader<T> build(final CsvCallbackHandler<T> callbackHandler,
+                                       @Nullable final Supplier<? extends CsvCallbackHandler<T>> callbackHandlerFactory,
+                                       final Path file, final Charset charset) throws IOException {
             Objects.requireNonNull(file, "file must not be null");
             Objects.requireNonNull(charset, "charset must not be null");
 
+            // the byte-level parser only supports single-character field separators
+            if (!isRelaxedConfiguration() && readAheadExecutor == null && fieldSeparator.length() == 1) {
+                final Optional<BomHeader> bomHeader = detectBomHeader
+                    ? BomUtil.detectCharset(file)
+                    : Optional.empty();
+                final Charset fileCharset = bomHeader.map(BomHeader::getCharset).orElse(charset);
+
+                if (ByteCsvParser.isSupported(fileCharset, fieldSeparator.charAt(0), quoteCharacter,
+                    commentCharacter)) {
+                    final int dataStart = bomHeader.map(BomHeader::getLength).orElse(0);
+                    final BiFunction<CsvCallbackHandler<T>, ReadableByteChannel, CsvParser> parserFactory =
+                        byteCsvParserFactory(fileCharset);
+
+                    final FileSplitter<T>.Part filePart = callbackHandlerFactory == null ? null
+                        : new FileSplitter<>(file, dataStart, memoryMapped,
+                        ByteCsvParser.maxBufferBytes(maxBufferSize, fileCharset), callbackHandlerFactory,
+                        parserFactory, new RecordBoundaryFinder(fieldSeparator.charAt(0), quoteCharacter,
+                        commentStrategy, commentCharacter, allowExtraCharsAfterClosingQuote)).root();
+
+                    return new CsvReader<>(newByteCsvParser(callbackHandler, file, dataStart, parserFactory),
+                        callbackHandler, commentStrategy, skipEmptyLines, extraFieldStrategy, missingFieldStrategy,
+                        filePart);
+                }
+            }
+
+            final InputStream inputStream = memoryMapped
+                ? MappedFileChannel.newInputStream(file)
+                : Files.newInputStream(file);
+
             final Reader reader = detectBomHeader
-                ? new BomInputStreamReader(Files.newInputStream(file), charset)
-                : new InputStreamReader(Files.newInputStream(file), charset);
+                ? new BomInputStreamReader(inputStream, charset)
+                : WideningInputStreamReader.of(inputStream, charset);
 
             return build(callbackHandler, reader);
         }
 
+        /// Counts the records of the specified file using UTF-8 as the character set.
+        ///
+        /// This is a convenience method for calling [#countRecords(Path, Charset)] with
+        /// [StandardCharsets#UTF_8] as the character set.
+        ///
+        /// @param file the file to count the records of.
+        /// @return the number of records
+        /// @throws IOException              if an I/O error occurs.
+        /// @throws NullPointerException     if file is `null`
+        /// @throws IllegalArgumentException if the control characters are invalid (see [#compile()])
+        /// @throws IllegalStateException    if the configuration is contradictory (see [#compile()])
+        public long countRecords(final Path file) throws IOException {
+            return countRecords(file, StandardCharsets.UTF_8);
+        }
+
+        /// Counts the records of the specified file without creating fields or records.
+        ///
+        /// This is a shortcut for `compile().countRecords(file, charset)` – see
+        /// [CsvFormat#countRecords(InputStream, Charset)] for details.
+        ///
+        /// @param file    the file to count the records of.
+        /// @param charset the character set to use. If BOM header detection is enabled
+        ///                (via [#detectBomHeader(boolean)]), this acts as a default
+        ///                when no BOM header was found.
+        /// @return the number of records
+        /// @throws IOException              if an I/O error occurs.
+        /// @throws NullPointerException     if file or charset is `null`
+        /// @throws IllegalArgumentException if the control characters are invalid (see [#compile()])
+        /// @throws IllegalStateException    if the configuration is contradictory (see [#compile()])
+        public long countRecords(final Path file, final Charset charset) throws IOException {
+            return compile().countRecords(file, charset);
+        }
+
+        /// Counts the records of the specified input stream using UTF-8 as the character set.
+        ///
+        /// This is a convenience method for calling [#countRecords(InputStream, Charset)] with
+        /// [StandardCharsets#UTF_8] as the character set.
+        ///
+        /// @param inputStream the input stream to count the records of.
+        /// @return the number of records
+        /// @throws IOException              if an I/O error occurs.
+        /// @throws NullPointerException     if inputStream is `null`
+        /// @throws IllegalArgumentException if the control characters are invalid (see [#compile()])
+        /// @throws IllegalStateException    if the configuration is contradictory (see [#compile()])
+        public long countRecords(final InputStream inputStream) throws IOException {
+            return countRecords(inputStream, StandardCharsets.UTF_8);
+        }
+
+        /// Counts the records of the specified input stream without creating fields or records.
+        ///
+        /// This is a shortcut for `compile().countRecords(inputStream, charset)` – see
+        /// [CsvFormat#countRecords(InputStream, Charset)] for details.
+        ///
+        /// @param inputStream the input stream to count the records of.
+        /// @param charset     the character set to use. If BOM header detection is enabled
+        ///                    (via [#detectBomHeader(boolean)]), this acts as a default
+        ///                    when no BOM header was found.
+        /// @return the number of records
+        /// @throws IOException              if an I/O error occurs.
+        /// @throws NullPointerException     if inputStream or charset is `null`
+        /// @throws IllegalArgumentException if the control characters are invalid (see [#compile()])
+        /// @throws IllegalStateException    if the configuration is contradictory (see [#compile()])
+        public long countRecords(final InputStream inputStream, final Charset charset) throws IOException {
+            return compile().countRecords(inputStream, charset);
+        }
+
+        /// Constructs a new push-based [CsvFeeder] that decodes fed bytes using UTF-8.
+        ///
+        /// @param <T>             the type of the CSV record.
+        /// @param callbackHandler the record handler to use. Do not reuse a handler after it has been used!
+        /// @param recordConsumer  the consumer the records are passed to.
+        /// @return a new CsvFeeder - never `null`.
+        /// @throws NullPointerException  if callbackHandler or recordConsumer is `null`
+        /// @throws IllegalStateException if trimming whitespaces around quotes is configured
+        /// @see #buildFeeder(CsvCallbackHandler, Charset, Consumer)
+        public <T> CsvFeeder<T> buildFeeder(final CsvCallbackHandler<T> callbackHandler,
+                                            final Consumer<? super T> recordConsumer) {
+            return buildFeeder(callbackHandler, StandardCharsets.UTF_8, recordConsumer);
+        }
+
+        /// Constructs a new push-based [CsvFeeder] that decodes fed bytes using the specified character set.
+        ///
+        /// In contrast to a [CsvReader], a [CsvFeeder] doesn't read from a blocking data source. Instead, the
+        /// data is fed in arbitrary chunks and every completed record is passed to the record consumer.
+        /// See [CsvFeeder] for details.
+        ///
+        /// Push-based parsing is only supported by the default (non-relaxed) parser.
+        /// [#detectBomHeader(boolean)] and [#memoryMapped(boolean)] have no effect on this method.
+        ///
+        /// @param <T>             the type of the CSV record.
+        /// @param callbackHandler the record handler to use. Do not reuse a handler after it has been used!
+        /// @param charset         the character set to decode fed bytes with.
+        /// @param recordConsumer  the consumer the records are passed to.
+        /// @return a new CsvFeeder - never `null`.
+        /// @throws NullPointerException  if callbackHandler, charset or recordConsumer is `null`
+        /// @throws IllegalStateException if trimming whitespaces around quotes is configured
+        /// @see #buildFeeder(CsvCallbackHandler, Consumer)
+        public <T> CsvFeeder<T> buildFeeder(final CsvCallbackHandler<T> callbackHandler, final Charset charset,
+                                            final Consumer<? super T> recordConsumer) {
+            Objects.requireNonNull(callbackHandler, "callbackHandler must not be null");
+            Objects.requireNonNull(charset, "charset must not be null");
+            Objects.requireNonNull(recordConsumer, "recordConsumer must not be null");
+
+            if (isRelaxedConfiguration()) {
+                throw new IllegalStateException("Push-based parsing is not supported in relaxed mode "
+                    + "(trimming whitespaces around quotes)");
+            }
+
+            final StrictCsvParser csvParser = new StrictCsvParser(fieldSeparator, quoteCharacter,
+                commentStrategy, commentCharacter, allowExtraCharsAfterClosingQuote, allowUnclosedQuote,
+                callbackHandler, maxBufferSize, bufferPool);
+
+            return new CsvFeeder<>(csvParser, newReader(callbackHandler, csvParser), callbackHandler, charset,
+                recordConsumer);
+        }
+
+        private <T> BiFunction<CsvCallbackHandler<T>, ReadableByteChannel, CsvParser> byteCsvParserFactory(
+            final Charset charset) {
+            // the builder is mutable – capture the current configuration
+            final char fsep = fieldSeparator.charAt(0);
+            final char quote = quoteCharacter;
+            final CommentStrategy comments = commentStrategy;
+            final char commentChar = commentCharacter;
+            final boolean allowExtraChars = allowExtraCharsAfterClosingQuote;
+            final boolean allowUnclosed = allowUnclosedQuote;
+            final int bufferSize = maxBufferSize;
+            final CsvBufferPool pool = bufferPool;
+
+            return (handler, channel) -> new ByteCsvParser(fsep, quote, comments, commentChar,
+                allowExtraChars, allowUnclosed, handler, bufferSize, pool, channel, charset);
+        }
+
+        @SuppressWarnings({"checkstyle:IllegalCatch", "PMD.AvoidCatchingGenericException"})
+        private <T> CsvParser newByteCsvParser(
+            final CsvCallbackHandler<T> callbackHandler, final Path file, final int offset,
+            final BiFunction<CsvCallbackHandler<T>, ReadableByteChannel, CsvParser> parserFactory)
+            throws IOException {
+            final ReadableByteChannel channel = memoryMapped
+                ? MappedFileChannel.open(file, offset)
+                : Files.newByteChannel(file);
+            try {
+                if (channel instanceof SeekableByteChannel seekableChannel) {
+                    seekableChannel.position(offset);
+                }
+                return parserFactory.apply(callbackHandler, channel);
+            } catch (final IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        }
+
         private boolean isRelaxedConfiguration() {
-            final boolean relaxed = isForceRelaxedParser()
-                || fieldSeparator.length() > 1 || trimWhitespacesAroundQuotes;
+            final boolean relaxed = isForceRelaxedParser() || trimWhitespacesAroundQuotes;
             if (relaxed && allowExtraCharsAfterClosingQuote) {
                 throw new IllegalStateException("allowExtraCharsAfterClosingQuote is not supported in relaxed mode");
             }
@@ -1112,7 +1559,7 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
 
         private <T> CsvReader<T> newReader(final CsvCallbackHandler<T> callbackHandler, final CsvParser csvParser) {
             return new CsvReader<>(csvParser, callbackHandler,
-                commentStrategy, skipEmptyLines, extraFieldStrategy, missingFieldStrategy);
+                commentStrategy, skipEmptyLines, extraFieldStrategy, missingFieldStrategy, null);
         }
 
         @Override
@@ -1129,7 +1576,9 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
                 .add("allowUnclosedQuote=" + allowUnclosedQuote)
                 .add("trimWhitespacesAroundQuotes=" + trimWhitespacesAroundQuotes)
                 .add("detectBomHeader=" + detectBomHeader)
+                .add("memoryMapped=" + memoryMapped)
                 .add("maxBufferSize=" + maxBufferSize)
+                .add("bufferPool=" + bufferPool)
                 .toString();
         }
 
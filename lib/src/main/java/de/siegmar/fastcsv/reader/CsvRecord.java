@@ -9,7 +9,8 @@ import java.util.StringJoiner;
 ///
 /// The field values are never `null`. Empty fields are represented as empty strings.
 ///
-/// Instances of this class are immutable and safe for use by multiple threads.
+/// Instances of this class are immutable and safe for use by multiple threads – unless they are returned by a
+/// [CsvRecordHandler] with [CsvRecordHandler.CsvRecordHandlerBuilder#reuseRecord(boolean)] enabled.
 ///
 /// CSV records are created by [CsvReader] or [IndexedCsvReader].
 ///
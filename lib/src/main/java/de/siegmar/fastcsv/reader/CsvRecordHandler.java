@@ -1,8 +1,11 @@
 package de.siegmar.fastcsv.reader;
 
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Consumer;
 
+import de.siegmar.fastcsv.util.Nullable;
+
 /// A [CsvCallbackHandler] implementation that returns a [CsvRecord] for each record.
 ///
 /// Example:
@@ -12,12 +15,22 @@ import java.util.function.Consumer;
 ///     .build();
 /// ```
 ///
+/// For consumers that never retain records, [CsvRecordHandlerBuilder#reuseRecord(boolean)] enables a mode in
+/// which the same record instance is returned for every record.
+///
 /// This implementation is stateful and must not be reused.
 public final class CsvRecordHandler extends AbstractInternalCsvCallbackHandler<CsvRecord> {
 
+    @Nullable
+    private final ReusableCsvRecord reusableRecord;
+
+    @SuppressWarnings("checkstyle:ParameterNumber")
     private CsvRecordHandler(final int maxFields, final int maxFieldSize, final int maxRecordSize,
-                             final FieldModifier fieldModifier) {
-        super(maxFields, maxFieldSize, maxRecordSize, fieldModifier);
+                             final int internCacheSize,
+                             final FieldModifier fieldModifier, @Nullable final int[] selectedColumns,
+                             final Map<Integer, FieldPredicate> filters, final boolean reuseRecord) {
+        super(maxFields, maxFieldSize, maxRecordSize, internCacheSize, fieldModifier, selectedColumns, filters);
+        reusableRecord = reuseRecord ? new ReusableCsvRecord() : null;
     }
 
     /// Constructs a new builder instance for this class.
@@ -52,8 +65,16 @@ public final class CsvRecordHandler extends AbstractInternalCsvCallbackHandler<C
         return builder.build();
     }
 
+    @Nullable
     @Override
     protected CsvRecord buildRecord() {
+        if (isRejected()) {
+            return null;
+        }
+        if (reusableRecord != null) {
+            reusableRecord.set(startingLineNumber, fields, fieldIdx, recordType == RecordType.COMMENT);
+            return reusableRecord;
+        }
         return new CsvRecord(startingLineNumber, compactFields(), recordType == RecordType.COMMENT);
     }
 
@@ -61,6 +82,8 @@ public final class CsvRecordHandler extends AbstractInternalCsvCallbackHandler<C
     public static final class CsvRecordHandlerBuilder
         extends AbstractInternalCsvCallbackHandlerBuilder<CsvRecordHandlerBuilder> {
 
+        private boolean reuseRecord;
+
         private CsvRecordHandlerBuilder() {
         }
 
@@ -69,13 +92,33 @@ public final class CsvRecordHandler extends AbstractInternalCsvCallbackHandler<C
             return this;
         }
 
+        /// Defines whether the same [CsvRecord] instance should be returned for every record.
+        ///
+        /// By default, a new record (holding a compacted copy of the fields) is created for every record.
+        /// When enabled, the handler returns the same mutable record instance backed by the same fields array
+        /// every time. This avoids two allocations per record, which is beneficial for streaming consumers that
+        /// process each record immediately.
+        ///
+        /// **The returned record is only valid until the next record is read** – e.g., until the next call of
+        /// [java.util.Iterator#next()]. Don't collect records (e.g., by `stream().toList()`) or hand them over to
+        /// other threads. The String values of the fields can be retained safely.
+        ///
+        /// @param reuseRecord if the record instance should be reused (default: `false`)
+        /// @return This updated object, allowing additional method calls to be chained together.
+        @SuppressWarnings("checkstyle:HiddenField")
+        public CsvRecordHandlerBuilder reuseRecord(final boolean reuseRecord) {
+            this.reuseRecord = reuseRecord;
+            return this;
+        }
+
         /// Builds the [CsvRecordHandler] instance.
         ///
         /// @return the new instance
         /// @throws IllegalArgumentException if argument constraints are violated
         ///     (see [AbstractInternalCsvCallbackHandler])
         public CsvRecordHandler build() {
-            return new CsvRecordHandler(maxFields, maxFieldSize, maxRecordSize, fieldModifier);
+            return new CsvRecordHandler(maxFields, maxFieldSize, maxRecordSize, internCacheSize, fieldModifier,
+                selectedColumns, filters, reuseRecord);
         }
 
     }
@@ -8,12 +8,17 @@ import java.nio.channels.ReadableByteChannel;
 
 final class CsvScanner {
 
+    private static final long LF_PATTERN = SwarSearch.pattern(LF);
+    private static final long CR_PATTERN = SwarSearch.pattern(CR);
+
     private final byte fieldSeparator;
     private final byte quoteCharacter;
     private final byte commentCharacter;
     private final CsvListener csvListener;
     private final ByteChannelStream stream;
     private final boolean readComments;
+    private final long fieldSeparatorPattern;
+    private final long quoteCharacterPattern;
 
     CsvScanner(final ReadableByteChannel channel, final int bomHeaderLength, final byte fieldSeparator,
                final byte quoteCharacter, final CommentStrategy commentStrategy, final byte commentCharacter,
@@ -25,6 +30,8 @@ final class CsvScanner {
         this.csvListener = csvListener;
 
         readComments = commentStrategy != CommentStrategy.NONE;
+        fieldSeparatorPattern = SwarSearch.pattern(fieldSeparator);
+        quoteCharacterPattern = SwarSearch.pattern(quoteCharacter);
 
         stream = new ByteChannelStream(channel, csvListener);
 
@@ -43,13 +50,21 @@ final class CsvScanner {
             csvListener.startOffset(stream.getOffset());
 
             // parse a record
+            final RecordType recordType;
             if (d == commentCharacter && readComments) {
                 consumeCommentedLine();
+                recordType = RecordType.COMMENT;
+            } else if (d == CR) {
+                stream.consumeIfNextEq(LF);
+                recordType = RecordType.EMPTY;
+            } else if (d == LF) {
+                recordType = RecordType.EMPTY;
             } else {
                 consumeRecord(d);
+                recordType = RecordType.DATA;
             }
 
-            csvListener.onReadRecord();
+            csvListener.onReadRecord(recordType);
         }
     }
 
@@ -83,6 +98,9 @@ final class CsvScanner {
                 csvListener.additionalLine();
             } else if (d == LF) {
                 csvListener.additionalLine();
+            } else {
+                // fast-forward
+                stream.skipUntil(quoteCharacterPattern, LF_PATTERN, CR_PATTERN);
             }
         }
 
@@ -102,6 +120,9 @@ final class CsvScanner {
             } else if (d == LF) {
                 break;
             }
+
+            // fast-forward
+            stream.skipUntil(fieldSeparatorPattern, LF_PATTERN, CR_PATTERN);
         } while ((d = stream.get()) != -1);
 
         return true;
@@ -126,7 +147,7 @@ final class CsvScanner {
 
         void startOffset(long offset);
 
-        void onReadRecord();
+        void onReadRecord(RecordType recordType);
 
         void additionalLine();
 
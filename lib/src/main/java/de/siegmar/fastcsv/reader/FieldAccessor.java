@@ -0,0 +1,105 @@
+package de.siegmar.fastcsv.reader;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+import de.siegmar.fastcsv.util.Nullable;
+
+/// A precompiled accessor for a named field of [NamedCsvRecord]s.
+///
+/// In contrast to [NamedCsvRecord#getField(String)], which looks up the name on every call, an accessor
+/// resolves the name to a field index only once per header. As all records of a reader share the same header,
+/// accessing a field is a plain array access for all subsequent records.
+///
+/// Example use:
+/// ```
+/// private static final FieldAccessor PRICE = FieldAccessor.of("price");
+///
+/// try (CsvReader<NamedCsvRecord> csv = CsvReader.builder().ofNamedCsvRecord(file)) {
+///     csv.forEach(rec -> process(PRICE.get(rec)));
+/// }
+/// ```
+///
+/// Just like [NamedCsvRecord#getField(String)], an accessor considers the first occurrence of the name in case
+/// of duplicate header names.
+///
+/// Instances of this class are thread-safe and can be used for records of different readers (and therefore
+/// different headers). The name is resolved again whenever a record with another header is accessed.
+///
+/// @see NamedCsvRecordHandler#accessor(String)
+public final class FieldAccessor {
+
+    private final String name;
+
+    // Resolution is immutable – a racy update results in another resolution at worst
+    @Nullable
+    private Resolution resolution;
+
+    private FieldAccessor(final String name) {
+        this.name = name;
+    }
+
+    /// Constructs a new accessor for the field of the given name.
+    ///
+    /// @param name case-sensitive name of the field to be accessed
+    /// @return the new accessor
+    /// @throws NullPointerException if name is `null`
+    public static FieldAccessor of(final String name) {
+        Objects.requireNonNull(name, "name must not be null");
+        return new FieldAccessor(name);
+    }
+
+    /// Retrieves the name of the field accessed by this accessor.
+    ///
+    /// @return the name of the field, never `null`
+    public String getName() {
+        return name;
+    }
+
+    /// Retrieves the value of the field from the given record.
+    ///
+    /// This method is equivalent to `csvRecord.getField(getName())`.
+    ///
+    /// @param csvRecord the record to retrieve the field value from
+    /// @return field value, never `null`
+    /// @throws java.util.NoSuchElementException if the record has no such field
+    /// @throws NullPointerException             if csvRecord is `null`
+    /// @see #find(NamedCsvRecord)
+    public String get(final NamedCsvRecord csvRecord) {
+        return csvRecord.getField(name, resolve(csvRecord.getHeaderIndex()));
+    }
+
+    /// Retrieves the value of the field from the given record.
+    ///
+    /// This method is equivalent to `csvRecord.findField(getName())`.
+    ///
+    /// @param csvRecord the record to retrieve the field value from
+    /// @return An [Optional] containing the value of the field if found,
+    ///     or an empty [Optional] if the field is not present. Never returns `null`.
+    /// @throws NullPointerException if csvRecord is `null`
+    /// @see #get(NamedCsvRecord)
+    public Optional<String> find(final NamedCsvRecord csvRecord) {
+        return csvRecord.findField(resolve(csvRecord.getHeaderIndex()));
+    }
+
+    private int resolve(final HeaderIndex headerIndex) {
+        Resolution current = resolution;
+        if (current == null || current.headerIndex != headerIndex) {
+            current = new Resolution(headerIndex, headerIndex.indexOf(name));
+            resolution = current;
+        }
+        return current.fieldIdx;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", FieldAccessor.class.getSimpleName() + "[", "]")
+            .add("name=" + name)
+            .toString();
+    }
+
+    private record Resolution(HeaderIndex headerIndex, int fieldIdx) {
+    }
+
+}
@@ -0,0 +1,129 @@
+package de.siegmar.fastcsv.reader;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Set;
+
+import de.siegmar.fastcsv.util.Nullable;
+
+/// A read-only map view of the fields of a [NamedCsvRecord], associating header names with a list of all
+/// corresponding field values (in case of duplicate header names).
+///
+/// Lookups use the [HeaderIndex] that is shared by all records of the same header – neither a hash table nor
+/// lists are copied per record.
+///
+/// @see NamedCsvRecord#asMapList()
+@SuppressWarnings("PMD.ArrayIsStoredDirectly")
+final class FieldListMapView extends AbstractMap<String, List<String>> {
+
+    private final HeaderIndex headerIndex;
+    private final String[] fields;
+    private final int size;
+
+    @SuppressWarnings("PMD.UseVarargs")
+    FieldListMapView(final HeaderIndex headerIndex, final String[] fields) {
+        this.headerIndex = headerIndex;
+        this.fields = fields;
+        size = headerIndex.distinctNameCount(fields.length);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return key instanceof String name && valuesOf(name) != null;
+    }
+
+    @Nullable
+    @Override
+    public List<String> get(final Object key) {
+        return key instanceof String name ? valuesOf(name) : null;
+    }
+
+    @Nullable
+    private List<String> valuesOf(final String name) {
+        final int[] indexes = headerIndex.indexesOf(name);
+        return indexes != null && indexes[0] < fields.length ? new FieldList(indexes) : null;
+    }
+
+    @Override
+    public Set<Entry<String, List<String>>> entrySet() {
+        return new AbstractSet<>() {
+
+            @Override
+            public Iterator<Entry<String, List<String>>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+        };
+    }
+
+    private final class FieldList extends AbstractList<String> implements RandomAccess {
+
+        private final int[] indexes;
+        private final int count;
+
+        @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+        FieldList(final int[] indexes) {
+            this.indexes = indexes;
+
+            // indexes are ordered – only consider those that have a field value
+            int cnt = indexes.length;
+            while (indexes[cnt - 1] >= fields.length) {
+                cnt--;
+            }
+            count = cnt;
+        }
+
+        @Override
+        public String get(final int index) {
+            if (index < 0 || index >= count) {
+                throw new IndexOutOfBoundsException("Index %d out of bounds for length %d"
+                    .formatted(index, count));
+            }
+            return fields[indexes[index]];
+        }
+
+        @Override
+        public int size() {
+            return count;
+        }
+
+    }
+
+    private final class EntryIterator implements Iterator<Entry<String, List<String>>> {
+
+        private int pos;
+
+        @Override
+        public boolean hasNext() {
+            return pos < size;
+        }
+
+        @Override
+        public Entry<String, List<String>> next() {
+            if (pos >= size) {
+                throw new NoSuchElementException();
+            }
+
+            final int i = pos++;
+            return Map.entry(headerIndex.distinctName(i), new FieldList(headerIndex.distinctIndexes(i)));
+        }
+
+    }
+
+}
@@ -0,0 +1,97 @@
+package de.siegmar.fastcsv.reader;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import de.siegmar.fastcsv.util.Nullable;
+
+/// A read-only map view of the fields of a [NamedCsvRecord], associating header names with the corresponding
+/// field values (first occurrence in case of duplicates).
+///
+/// Lookups use the [HeaderIndex] that is shared by all records of the same header – no hash table is built
+/// per record.
+///
+/// @see NamedCsvRecord#asMap()
+@SuppressWarnings("PMD.ArrayIsStoredDirectly")
+final class FieldMapView extends AbstractMap<String, String> {
+
+    private final HeaderIndex headerIndex;
+    private final String[] fields;
+    private final int size;
+
+    @SuppressWarnings("PMD.UseVarargs")
+    FieldMapView(final HeaderIndex headerIndex, final String[] fields) {
+        this.headerIndex = headerIndex;
+        this.fields = fields;
+        size = headerIndex.distinctNameCount(fields.length);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return fieldIndex(key) != -1;
+    }
+
+    @Nullable
+    @Override
+    public String get(final Object key) {
+        final int fieldIdx = fieldIndex(key);
+        return fieldIdx != -1 ? fields[fieldIdx] : null;
+    }
+
+    private int fieldIndex(@Nullable final Object key) {
+        if (!(key instanceof String name)) {
+            return -1;
+        }
+
+        final int fieldIdx = headerIndex.indexOf(name);
+        return fieldIdx < fields.length ? fieldIdx : -1;
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        return new AbstractSet<>() {
+
+            @Override
+            public Iterator<Entry<String, String>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+        };
+    }
+
+    private final class EntryIterator implements Iterator<Entry<String, String>> {
+
+        private int pos;
+
+        @Override
+        public boolean hasNext() {
+            return pos < size;
+        }
+
+        @Override
+        public Entry<String, String> next() {
+            if (pos >= size) {
+                throw new NoSuchElementException();
+            }
+
+            final int i = pos++;
+            return Map.entry(headerIndex.distinctName(i), fields[headerIndex.firstIndex(i)]);
+        }
+
+    }
+
+}
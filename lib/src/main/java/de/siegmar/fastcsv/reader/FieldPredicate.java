@@ -0,0 +1,88 @@
+package de.siegmar.fastcsv.reader;
+
+import java.util.Objects;
+
+import de.siegmar.fastcsv.util.Preconditions;
+
+/// A predicate that is evaluated on the raw characters of a field while the record is being parsed.
+///
+/// Field predicates are used within the built-in callback handlers to filter records before they are
+/// materialized (predicate push-down). As soon as a predicate rejects a field, the remaining fields of the
+/// record are skipped and no record is built for it.
+///
+/// Example:
+/// ```
+/// CsvRecordHandler handler = CsvRecordHandler.builder()
+///     .filter(0, FieldPredicate.equalTo("DE"))
+///     .filter(3, FieldPredicate.longRange(1000, 9999))
+///     .build();
+/// ```
+///
+/// @see AbstractInternalCsvCallbackHandler.AbstractInternalCsvCallbackHandlerBuilder#filter(int, FieldPredicate)
+@FunctionalInterface
+public interface FieldPredicate {
+
+    /// Builds a predicate that accepts fields that are equal to the given value.
+    ///
+    /// @param value the value to compare with, must not be `null`
+    /// @return the predicate
+    /// @throws NullPointerException if `null` is passed
+    static FieldPredicate equalTo(final String value) {
+        Objects.requireNonNull(value, "value must not be null");
+        return (buf, offset, len) -> len == value.length() && FieldPredicates.regionMatches(value, buf, offset);
+    }
+
+    /// Builds a predicate that accepts fields that start with the given prefix.
+    ///
+    /// @param prefix the prefix, must not be `null`
+    /// @return the predicate
+    /// @throws NullPointerException if `null` is passed
+    static FieldPredicate startsWith(final String prefix) {
+        Objects.requireNonNull(prefix, "prefix must not be null");
+        return (buf, offset, len) -> len >= prefix.length() && FieldPredicates.regionMatches(prefix, buf, offset);
+    }
+
+    /// Builds a predicate that accepts fields containing an integer number (as accepted by
+    /// [Long#parseLong(String)]) within the given range.
+    ///
+    /// Fields that don't contain a valid number (including empty fields) are rejected.
+    ///
+    /// @param min the minimum value (inclusive)
+    /// @param max the maximum value (inclusive)
+    /// @return the predicate
+    /// @throws IllegalArgumentException if `min` is greater than `max`
+    static FieldPredicate longRange(final long min, final long max) {
+        Preconditions.checkArgument(min <= max, "min must be <= max");
+        return (buf, offset, len) -> NumberParser.isLongInRange(buf, offset, len, min, max);
+    }
+
+    /// Evaluates this predicate on the given field.
+    ///
+    /// The `buf` parameter is the internal buffer that contains the field value (among other data). Do not
+    /// attempt to modify the buffer or store a reference to it. The field value is already unescaped, but
+    /// no field modifier has been applied.
+    ///
+    /// @param buf    the internal buffer that contains the field value (among other data)
+    /// @param offset the offset of the field value in the buffer
+    /// @param len    the length of the field value
+    /// @return `true` if the field (and thus the record) is accepted
+    boolean test(char[] buf, int offset, int len);
+
+    /// Builds a predicate that accepts fields that are accepted by this and the given predicate.
+    ///
+    /// @param other the other predicate, must not be `null`
+    /// @return the combined predicate
+    /// @throws NullPointerException if `null` is passed
+    default FieldPredicate and(final FieldPredicate other) {
+        Objects.requireNonNull(other, "other must not be null");
+        return (buf, offset, len) -> test(buf, offset, len) && other.test(buf, offset, len);
+    }
+
+    /// Builds a predicate that accepts fields that are rejected by this predicate.
+    ///
+    /// @return the negated predicate
+    default FieldPredicate negate() {
+        return (buf, offset, len) -> !test(buf, offset, len);
+    }
+
+}
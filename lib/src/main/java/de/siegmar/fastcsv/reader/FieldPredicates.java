@@ -0,0 +1,21 @@
+package de.siegmar.fastcsv.reader;
+
+/// Utility methods for the [FieldPredicate] implementations operating on raw character ranges.
+final class FieldPredicates {
+
+    private FieldPredicates() {
+    }
+
+    /// Checks if the buffer contains the given value at the given offset.
+    ///
+    /// The caller has to ensure that the buffer contains at least `value.length()` characters at `offset`.
+    static boolean regionMatches(final String value, final char[] buf, final int offset) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) != buf[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
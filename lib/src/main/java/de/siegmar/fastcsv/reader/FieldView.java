@@ -0,0 +1,105 @@
+package de.siegmar.fastcsv.reader;
+
+import java.util.Objects;
+
+import de.siegmar.fastcsv.util.Nullable;
+
+/// A field of a [FieldViewRecord] – a [CharSequence] view into the record buffer of a [FieldViewHandler].
+///
+/// No String is created unless [#toString()] is called. Field views are reused by the handler and are only
+/// valid until the next record is read. Call [#toString()] to retain the value of a field.
+///
+/// [#equals(Object)] and [#hashCode()] are based on the content of the field. The hash code is the same as the
+/// hash code of the String returned by [#toString()].
+///
+/// @see FieldViewHandler
+public final class FieldView implements CharSequence {
+
+    private static final int HASH_MULTIPLIER = 31;
+
+    private char[] buf = new char[0];
+    private int offset;
+    private int length;
+    private boolean quoted;
+
+    FieldView() {
+    }
+
+    @SuppressWarnings("checkstyle:HiddenField")
+    void set(final char[] buf, final int offset, final int length, final boolean quoted) {
+        this.buf = buf;
+        this.offset = offset;
+        this.length = length;
+        this.quoted = quoted;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(final int index) {
+        Objects.checkIndex(index, length);
+        return buf[offset + index];
+    }
+
+    /// {@inheritDoc}
+    ///
+    /// The returned sequence is a String and thus independent of the record buffer.
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        Objects.checkFromToIndex(start, end, length);
+        return new String(buf, offset + start, end - start);
+    }
+
+    /// Indicates whether the field was quoted.
+    ///
+    /// @return `true` if the field was quoted
+    public boolean isQuoted() {
+        return quoted;
+    }
+
+    /// Compares the content of this field with the given character sequence without creating a String.
+    ///
+    /// @param cs the character sequence to compare with; must not be `null`
+    /// @return `true` if this field contains exactly the same characters as `cs`
+    /// @throws NullPointerException if `null` is passed
+    public boolean contentEquals(final CharSequence cs) {
+        Objects.requireNonNull(cs, "cs must not be null");
+        if (cs.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buf[offset + i] != cs.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /// {@return `true` if the given object is a [FieldView] with the same content}
+    ///
+    /// @param o the object to compare with
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        return this == o || o instanceof FieldView other && contentEquals(other);
+    }
+
+    /// {@return the hash code of the content – the same value as `toString().hashCode()`}
+    @Override
+    public int hashCode() {
+        int h = 0;
+        for (int i = offset; i < offset + length; i++) {
+            h = HASH_MULTIPLIER * h + buf[i];
+        }
+        return h;
+    }
+
+    /// {@return the content of this field as a new String}
+    @Override
+    public String toString() {
+        return new String(buf, offset, length);
+    }
+
+}
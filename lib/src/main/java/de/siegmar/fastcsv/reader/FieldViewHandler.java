@@ -0,0 +1,243 @@
+package de.siegmar.fastcsv.reader;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import de.siegmar.fastcsv.util.Preconditions;
+
+/// A [CsvCallbackHandler] implementation that exposes the fields of each record as [FieldView] instances –
+/// [CharSequence] views instead of Strings.
+///
+/// The characters of all fields of a record are copied into a single buffer that is reused for every record.
+/// Neither a String per field nor a new record object per record is created. Consumers that filter or aggregate
+/// records can therefore process most fields without allocating any objects.
+///
+/// Example:
+/// ```
+/// FieldViewHandler handler = FieldViewHandler.of();
+/// try (CsvReader<FieldViewRecord> csv = CsvReader.builder().build(handler, file)) {
+///     for (FieldViewRecord rec : csv) {
+///         if (rec.getField(0).contentEquals("foo")) {
+///             String value = rec.getField(1).toString();
+///         }
+///     }
+/// }
+/// ```
+///
+/// **The returned [FieldViewRecord] and its fields are reused and only valid until the next record is read.**
+/// Don't collect them (e.g., by `stream().toList()`); call [FieldView#toString()] for values to retain.
+///
+/// Field modifiers are not supported as they operate on Strings.
+///
+/// This implementation is stateful and must not be reused.
+public final class FieldViewHandler extends AbstractBaseCsvCallbackHandler<FieldViewRecord> {
+
+    private static final int DEFAULT_INITIAL_FIELDS_SIZE = 32;
+    private static final int DEFAULT_INITIAL_BUFFER_SIZE = 1024;
+
+    private final int maxFields;
+    private final int maxFieldSize;
+    private final int maxRecordSize;
+    private final FieldViewRecord fieldViewRecord = new FieldViewRecord();
+    private FieldView[] fields;
+    private char[] recordBuffer;
+    private int recordSize;
+
+    private FieldViewHandler(final int maxFields, final int maxFieldSize, final int maxRecordSize) {
+        Preconditions.checkArgument(maxRecordSize >= maxFieldSize, "maxRecordSize must be >= maxFieldSize");
+        this.maxFields = maxFields;
+        this.maxFieldSize = maxFieldSize;
+        this.maxRecordSize = maxRecordSize;
+        fields = newFields(Math.min(DEFAULT_INITIAL_FIELDS_SIZE, maxFields));
+        recordBuffer = new char[Math.min(DEFAULT_INITIAL_BUFFER_SIZE, maxRecordSize)];
+    }
+
+    /// Constructs a new builder instance for this class.
+    ///
+    /// @return the builder
+    /// @see #of(Consumer)
+    public static FieldViewHandlerBuilder builder() {
+        return new FieldViewHandlerBuilder();
+    }
+
+    /// Constructs a new instance of this class with default settings.
+    ///
+    /// @return the new instance
+    /// @see FieldViewHandlerBuilder#build()
+    public static FieldViewHandler of() {
+        return builder().build();
+    }
+
+    /// Constructs a new instance of this class with the given configuration.
+    ///
+    /// This is an alternative to the builder pattern for convenience.
+    ///
+    /// @param configurer the configuration, must not be `null`
+    /// @return the new instance
+    /// @throws NullPointerException if `null` is passed
+    /// @throws IllegalArgumentException if argument constraints are violated
+    /// @see #builder()
+    public static FieldViewHandler of(final Consumer<FieldViewHandlerBuilder> configurer) {
+        Objects.requireNonNull(configurer, "configurer must not be null");
+        final FieldViewHandlerBuilder builder = builder();
+        configurer.accept(builder);
+        return builder.build();
+    }
+
+    @Override
+    protected void handleBegin(final long startingLineNumber) {
+        recordSize = 0;
+    }
+
+    /// {@inheritDoc}
+    /// Copies the field value into the record buffer.
+    ///
+    /// @throws CsvParseException if the addition exceeds the limit of record size or maximum fields count.
+    @Override
+    protected void handleField(final int fieldIdx, final char[] buf, final int offset, final int len,
+                               final boolean quoted) {
+        if (fieldIdx == fields.length) {
+            extendFields();
+        }
+        fields[fieldIdx].set(copy(fieldIdx, buf, offset, len), recordSize - len, len, quoted);
+    }
+
+    /// {@inheritDoc}
+    /// Copies the comment value into the record buffer.
+    ///
+    /// @throws CsvParseException if the addition exceeds the limit of record size.
+    @Override
+    protected void handleComment(final char[] buf, final int offset, final int len) {
+        fields[0].set(copy(0, buf, offset, len), 0, len, false);
+    }
+
+    @Override
+    protected void handleEmpty() {
+        fields[0].set(recordBuffer, 0, 0, false);
+    }
+
+    private char[] copy(final int fieldIdx, final char[] src, final int offset, final int len) {
+        if (maxFieldSize < len) {
+            throw new CsvParseException(
+                "Field at index %d in record starting at line %d exceeds the max field size of %d characters"
+                    .formatted(fieldIdx, getStartingLineNumber(), maxFieldSize));
+        }
+        if (maxRecordSize - recordSize < len) {
+            throw new CsvParseException(
+                "Field at index %d in record starting at line %d exceeds the max record size of %d characters"
+                    .formatted(fieldIdx, getStartingLineNumber(), maxRecordSize));
+        }
+
+        final int newSize = recordSize + len;
+        if (newSize > recordBuffer.length) {
+            // views of previous fields of this record keep referring to the old (unchanged) buffer
+            recordBuffer = Arrays.copyOf(recordBuffer,
+                (int) Math.min(maxRecordSize, Math.max(newSize, recordBuffer.length * 2L)));
+        }
+
+        System.arraycopy(src, offset, recordBuffer, recordSize, len);
+        recordSize = newSize;
+        return recordBuffer;
+    }
+
+    private void extendFields() {
+        if (fields.length == maxFields) {
+            throw new CsvParseException("Record starting at line %d has surpassed the maximum limit of %d fields"
+                .formatted(getStartingLineNumber(), maxFields));
+        }
+
+        final FieldView[] newFields = newFields(Math.min(maxFields, fields.length * 2));
+        System.arraycopy(fields, 0, newFields, 0, fields.length);
+        fields = newFields;
+    }
+
+    private static FieldView[] newFields(final int size) {
+        final FieldView[] views = new FieldView[size];
+        for (int i = 0; i < size; i++) {
+            views[i] = new FieldView();
+        }
+        return views;
+    }
+
+    @Override
+    protected FieldViewRecord buildRecord() {
+        fieldViewRecord.set(fields, getStartingLineNumber(), getFieldCount(), getRecordType() == RecordType.COMMENT);
+        return fieldViewRecord;
+    }
+
+    /// A builder for [FieldViewHandler].
+    ///
+    /// Three size limits protect against excessive memory usage:
+    /// - [#maxFields(int)] — maximum number of fields per record.
+    /// - [#maxFieldSize(int)] — maximum characters per field.
+    /// - [#maxRecordSize(int)] — maximum total characters per record (sum of all fields).
+    @SuppressWarnings("checkstyle:HiddenField")
+    public static final class FieldViewHandlerBuilder {
+
+        private static final int DEFAULT_MAX_FIELDS = 16 * 1024;
+        private static final int DEFAULT_MAX_FIELD_SIZE = 16 * 1024 * 1024;
+        private static final int DEFAULT_MAX_RECORD_SIZE = 4 * DEFAULT_MAX_FIELD_SIZE;
+
+        private int maxFields = DEFAULT_MAX_FIELDS;
+        private int maxFieldSize = DEFAULT_MAX_FIELD_SIZE;
+        private int maxRecordSize = DEFAULT_MAX_RECORD_SIZE;
+
+        private FieldViewHandlerBuilder() {
+        }
+
+        /// Defines the maximum number of fields a single record may have.
+        ///
+        /// @param maxFields the maximum fields a record may have; must be > 0
+        ///                  (default: {@value %,2d #DEFAULT_MAX_FIELDS})
+        /// @return This updated object, allowing additional method calls to be chained together.
+        /// @throws IllegalArgumentException if the argument is less than 1
+        public FieldViewHandlerBuilder maxFields(final int maxFields) {
+            Preconditions.checkArgument(maxFields > 0, "maxFields must be > 0");
+            this.maxFields = maxFields;
+            return this;
+        }
+
+        /// Defines the maximum number of characters a single field may have.
+        ///
+        /// This constraint is enforced for comments as well.
+        ///
+        /// @param maxFieldSize the maximum field size; must be > 0
+        ///                     (default: {@value %,2d #DEFAULT_MAX_FIELD_SIZE})
+        /// @return This updated object, allowing additional method calls to be chained together.
+        /// @throws IllegalArgumentException if the argument is less than 1
+        /// @see CsvReader.CsvReaderBuilder#maxBufferSize(int)
+        public FieldViewHandlerBuilder maxFieldSize(final int maxFieldSize) {
+            Preconditions.checkArgument(maxFieldSize > 0, "maxFieldSize must be > 0");
+            this.maxFieldSize = maxFieldSize;
+            return this;
+        }
+
+        /// Defines the maximum number of characters a single record may have.
+        ///
+        /// The size of the record is the sum of the sizes of all fields.
+        /// This constraint is enforced for comments as well.
+        ///
+        /// Make sure that [#maxRecordSize] is >= [#maxFieldSize].
+        ///
+        /// @param maxRecordSize the maximum record size; must be > 0
+        ///                      (default: {@value %,2d #DEFAULT_MAX_RECORD_SIZE})
+        /// @return This updated object, allowing additional method calls to be chained together.
+        /// @throws IllegalArgumentException if the argument is less than 1
+        public FieldViewHandlerBuilder maxRecordSize(final int maxRecordSize) {
+            Preconditions.checkArgument(maxRecordSize > 0, "maxRecordSize must be > 0");
+            this.maxRecordSize = maxRecordSize;
+            return this;
+        }
+
+        /// Builds the [FieldViewHandler] instance.
+        ///
+        /// @return the new instance
+        /// @throws IllegalArgumentException if maxRecordSize is less than maxFieldSize
+        public FieldViewHandler build() {
+            return new FieldViewHandler(maxFields, maxFieldSize, maxRecordSize);
+        }
+
+    }
+
+}
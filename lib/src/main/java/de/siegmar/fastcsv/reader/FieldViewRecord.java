@@ -0,0 +1,84 @@
+package de.siegmar.fastcsv.reader;
+
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/// A CSV record whose fields are [FieldView] instances – views into the record buffer of a [FieldViewHandler].
+///
+/// The record and its fields are reused by the handler and are only valid until the next record is read.
+/// Don't store a reference to them; convert the fields you need to retain by calling [FieldView#toString()].
+///
+/// @see FieldViewHandler
+public final class FieldViewRecord {
+
+    private FieldView[] fields = new FieldView[0];
+    private long startingLineNumber;
+    private int fieldCount;
+    private boolean comment;
+
+    FieldViewRecord() {
+    }
+
+    @SuppressWarnings({"checkstyle:HiddenField", "PMD.ArrayIsStoredDirectly"})
+    void set(final FieldView[] fields, final long startingLineNumber, final int fieldCount, final boolean comment) {
+        this.fields = fields;
+        this.startingLineNumber = startingLineNumber;
+        this.fieldCount = fieldCount;
+        this.comment = comment;
+    }
+
+    /// Provides the line number at which this record originated, starting from 1.
+    ///
+    /// @return the starting line number of this record, starting from 1
+    /// @see CsvRecord#getStartingLineNumber()
+    public long getStartingLineNumber() {
+        return startingLineNumber;
+    }
+
+    /// Retrieves a field based on its index, with indexing starting from 0.
+    ///
+    /// There is always at least one field, even if the line was empty.
+    ///
+    /// If this records holds a comment, the comment is returned by calling this method with index 0. The comment
+    /// character is not included in the returned value.
+    ///
+    /// @param index index of the field to return
+    /// @return the field, never `null`
+    /// @throws IndexOutOfBoundsException if the index is out of range
+    public FieldView getField(final int index) {
+        return fields[Objects.checkIndex(index, fieldCount)];
+    }
+
+    /// Gets the count of fields in this record.
+    ///
+    /// The minimum number of fields is 1, even if the line was empty.
+    ///
+    /// @return the number of fields in this record
+    public int getFieldCount() {
+        return fieldCount;
+    }
+
+    /// Indicates whether the record is a commented record.
+    ///
+    /// Retrieve the comment by calling [#getField(int)] with index 0.
+    ///
+    /// @return `true` if the record is a commented record
+    public boolean isComment() {
+        return comment;
+    }
+
+    @Override
+    public String toString() {
+        final StringJoiner fieldJoiner = new StringJoiner(", ", "[", "]");
+        for (int i = 0; i < fieldCount; i++) {
+            fieldJoiner.add(fields[i]);
+        }
+
+        return new StringJoiner(", ", FieldViewRecord.class.getSimpleName() + "[", "]")
+            .add("startingLineNumber=" + startingLineNumber)
+            .add("fields=" + fieldJoiner)
+            .add("comment=" + comment)
+            .toString();
+    }
+
+}
@@ -0,0 +1,311 @@
+package de.siegmar.fastcsv.reader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+import de.siegmar.fastcsv.util.Nullable;
+
+/// Splits a file into parts that are parsed independently – e.g., by a parallel stream.
+///
+/// Each [Part] covers a range of bytes that starts at a record boundary. A part is split at the first record
+/// boundary after its middle (see [RecordBoundaryFinder]). Every part is parsed by its own parser and callback
+/// handler. Before a part (other than the first one) is parsed, its handler is fed with the beginning of the file
+/// up to the first data record – just like [IndexedCsvReader] does – so it captures the header, if any. The
+/// starting line number of a part is determined by counting the line breaks in front of it, but only when the
+/// part is actually parsed.
+///
+/// @param <T> the type of the CSV record.
+final class FileSplitter<T> implements Closeable {
+
+    /// Parts smaller than this are not split any further.
+    static final int MIN_SPLIT_SIZE = 1024 * 1024;
+
+    private static final int BLOCK_SIZE = 64 * 1024;
+
+    private final Path file;
+    private final long dataStart;
+    private final long size;
+    private final boolean memoryMapped;
+    private final int maxBufferBytes;
+    private final Supplier<? extends CsvCallbackHandler<T>> callbackHandlerFactory;
+    private final BiFunction<CsvCallbackHandler<T>, ReadableByteChannel, CsvParser> parserFactory;
+    private final RecordBoundaryFinder recordBoundaryFinder;
+    private final Queue<Closeable> closeables = new ConcurrentLinkedQueue<>();
+
+    @Nullable
+    private FileChannel channel;
+
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    FileSplitter(final Path file, final long dataStart, final boolean memoryMapped, final int maxBufferBytes,
+                 final Supplier<? extends CsvCallbackHandler<T>> callbackHandlerFactory,
+                 final BiFunction<CsvCallbackHandler<T>, ReadableByteChannel, CsvParser> parserFactory,
+                 final RecordBoundaryFinder recordBoundaryFinder) throws IOException {
+        this.file = file;
+        this.dataStart = dataStart;
+        this.memoryMapped = memoryMapped;
+        this.maxBufferBytes = maxBufferBytes;
+        this.callbackHandlerFactory = callbackHandlerFactory;
+        this.parserFactory = parserFactory;
+        this.recordBoundaryFinder = recordBoundaryFinder;
+        size = Files.size(file);
+    }
+
+    /// {@return the part covering the whole file}
+    Part root() {
+        return new Part(dataStart, size, new LineOffset(null, dataStart, dataStart));
+    }
+
+    private synchronized FileChannel channel() throws IOException {
+        FileChannel ret = channel;
+        if (ret == null) {
+            ret = FileChannel.open(file, StandardOpenOption.READ);
+            closeables.add(ret);
+            channel = ret;
+        }
+        return ret;
+    }
+
+    @SuppressWarnings({"checkstyle:IllegalCatch", "PMD.AvoidCatchingGenericException"})
+    private CsvParser openParser(final CsvCallbackHandler<T> callbackHandler, final long start, final long end)
+        throws IOException {
+        final FileChannel fileChannel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            final ReadableByteChannel rangeChannel = memoryMapped
+                ? new MappedFileChannel(fileChannel, start, MappedFileChannel.DEFAULT_WINDOW_SIZE)
+                : fileChannel.position(start);
+            return parserFactory.apply(callbackHandler, new LimitedChannel(rangeChannel, end - start));
+        } catch (final IOException | RuntimeException e) {
+            fileChannel.close();
+            throw e;
+        }
+    }
+
+    /// Feeds the beginning of the file up to the first data record to the given callback handler.
+    ///
+    /// @return the number of fields of the first data record or `-1` if the file contains no data record
+    private int captureHeader(final CsvCallbackHandler<T> callbackHandler) throws IOException {
+        try (CsvParser csvParser = openParser(callbackHandler, dataStart, size)) {
+            while (csvParser.parse()) {
+                if (callbackHandler.buildRecord() != null
+                    && callbackHandler.getRecordType() == RecordType.DATA) {
+                    return callbackHandler.getFieldCount();
+                }
+            }
+        }
+        return -1;
+    }
+
+    private long countLineBreaks(final long from, final long to) throws IOException {
+        final FileChannel fileChannel = channel();
+        final ByteBuffer buffer = ByteBuffer.allocate(BLOCK_SIZE);
+        final byte[] buf = buffer.array();
+
+        long count = 0;
+        boolean lastWasCr = false;
+        long pos = from;
+        while (pos < to) {
+            ((Buffer) buffer).clear();
+            ((Buffer) buffer).limit((int) Math.min(BLOCK_SIZE, to - pos));
+            final int len = fileChannel.read(buffer, pos);
+            if (len <= 0) {
+                break;
+            }
+
+            count += SwarSearch.countLineBreaks(buf, 0, len);
+            if (lastWasCr && buf[0] == '\n') {
+                // CRLF split by the block boundary
+                count--;
+            }
+            lastWasCr = buf[len - 1] == '\r';
+            pos += len;
+        }
+
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOException exception = null;
+        Closeable closeable = closeables.poll();
+        while (closeable != null) {
+            try {
+                closeable.close();
+            } catch (final IOException e) {
+                if (exception == null) {
+                    exception = e;
+                } else {
+                    exception.addSuppressed(e);
+                }
+            }
+            closeable = closeables.poll();
+        }
+
+        if (exception != null) {
+            throw exception;
+        }
+    }
+
+    /// A range of the file that starts at a record boundary.
+    final class Part {
+
+        private final long start;
+        private final long end;
+        private final LineOffset lineOffset;
+
+        private Part(final long start, final long end, final LineOffset lineOffset) {
+            this.start = start;
+            this.end = end;
+            this.lineOffset = lineOffset;
+        }
+
+        /// {@return the size of this part in bytes}
+        long size() {
+            return end - start;
+        }
+
+        /// Finds the position to split this part at.
+        ///
+        /// @return the position of the first record boundary after the middle of this part or `-1` if this part
+        ///     is too small or no record boundary could be determined
+        /// @throws IOException if an I/O error occurs
+        long findSplitPosition() throws IOException {
+            if (size() < MIN_SPLIT_SIZE) {
+                return -1;
+            }
+            return recordBoundaryFinder.find(channel(), start, start + size() / 2, end, maxBufferBytes);
+        }
+
+        /// {@return the part in front of the given split position}
+        ///
+        /// @param splitPosition the split position (see [#findSplitPosition()])
+        Part prefix(final long splitPosition) {
+            return new Part(start, splitPosition, lineOffset);
+        }
+
+        /// {@return the part after the given split position}
+        ///
+        /// @param splitPosition the split position (see [#findSplitPosition()])
+        Part suffix(final long splitPosition) {
+            return new Part(splitPosition, end, new LineOffset(lineOffset, start, splitPosition));
+        }
+
+        /// {@return a new callback handler for this part}
+        CsvCallbackHandler<T> newCallbackHandler() {
+            return callbackHandlerFactory.get();
+        }
+
+        /// Opens a parser for this part. The parser is closed when the splitter is closed.
+        ///
+        /// @param callbackHandler the callback handler to use
+        /// @return the parser
+        /// @throws IOException if an I/O error occurs
+        CsvParser openParser(final CsvCallbackHandler<T> callbackHandler) throws IOException {
+            final CsvParser csvParser = FileSplitter.this.openParser(callbackHandler, start, end);
+            closeables.add(csvParser);
+            return csvParser;
+        }
+
+        /// Prepares the parser and the callback handler before the first record of this part is parsed.
+        ///
+        /// @param csvParser       the parser of this part
+        /// @param callbackHandler the callback handler of this part
+        /// @return the number of fields of the first data record of the file or `-1` if unknown
+        /// @throws IOException if an I/O error occurs
+        int prepare(final CsvParser csvParser, final CsvCallbackHandler<T> callbackHandler) throws IOException {
+            if (start == dataStart) {
+                return -1;
+            }
+            csvParser.reset(lineOffset.get());
+            return captureHeader(callbackHandler);
+        }
+
+        /// Closes all parsers of the splitter.
+        ///
+        /// @throws IOException if an I/O error occurs
+        void close() throws IOException {
+            FileSplitter.this.close();
+        }
+
+    }
+
+    /// The number of lines in front of a part – determined lazily, as it requires to read the data.
+    private final class LineOffset {
+
+        @Nullable
+        private final LineOffset base;
+        private final long from;
+        private final long to;
+        private long lines = -1;
+
+        LineOffset(@Nullable final LineOffset base, final long from, final long to) {
+            this.base = base;
+            this.from = from;
+            this.to = to;
+        }
+
+        synchronized long get() throws IOException {
+            if (lines == -1) {
+                lines = (base != null ? base.get() : 0) + countLineBreaks(from, to);
+            }
+            return lines;
+        }
+
+    }
+
+    /// Limits the number of bytes that can be read from a channel.
+    private static final class LimitedChannel implements ReadableByteChannel {
+
+        private final ReadableByteChannel channel;
+        private long remaining;
+
+        LimitedChannel(final ReadableByteChannel channel, final long limit) {
+            this.channel = channel;
+            remaining = limit;
+        }
+
+        @Override
+        public int read(final ByteBuffer dst) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+
+            final int limit = dst.limit();
+            if (dst.remaining() > remaining) {
+                ((Buffer) dst).limit(dst.position() + (int) remaining);
+            }
+
+            try {
+                final int cnt = channel.read(dst);
+                if (cnt > 0) {
+                    remaining -= cnt;
+                }
+                return cnt;
+            } finally {
+                ((Buffer) dst).limit(limit);
+            }
+        }
+
+        @Override
+        public boolean isOpen() {
+            return channel.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+
+    }
+
+}
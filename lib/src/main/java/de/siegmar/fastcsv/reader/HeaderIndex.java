@@ -0,0 +1,115 @@
+package de.siegmar.fastcsv.reader;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import de.siegmar.fastcsv.util.Nullable;
+
+/// The header of [NamedCsvRecord]s along with a hash index of the header names.
+///
+/// An instance is created once per header and shared by all records read with that header, so the
+/// index is built only once.
+@SuppressWarnings("PMD.ArrayIsStoredDirectly")
+final class HeaderIndex {
+
+    static final HeaderIndex EMPTY = new HeaderIndex(new String[0]);
+
+    private final String[] names;
+
+    // the indexes of all occurrences of each name (in ascending order)
+    private final Map<String, int[]> indexes;
+
+    // the distinct names, the indexes of their occurrences and of their first occurrence, ordered by the latter
+    private final String[] distinctNames;
+    private final int[][] distinctIndexes;
+    private final int[] firstIndexes;
+
+    @SuppressWarnings({"PMD.UseVarargs", "PMD.UseConcurrentHashMap", "PMD.AvoidInstantiatingObjectsInLoops"})
+    HeaderIndex(final String[] names) {
+        this.names = names;
+
+        final Map<String, int[]> map = new LinkedHashMap<>(names.length * 2);
+        for (int i = 0; i < names.length; i++) {
+            map.merge(names[i], new int[]{i}, HeaderIndex::concat);
+        }
+
+        indexes = map;
+        distinctNames = map.keySet().toArray(new String[0]);
+        distinctIndexes = map.values().toArray(new int[0][]);
+        firstIndexes = Arrays.stream(distinctIndexes).mapToInt(idx -> idx[0]).toArray();
+    }
+
+    private static int[] concat(final int[] a, final int[] b) {
+        final int[] ret = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, ret, a.length, b.length);
+        return ret;
+    }
+
+    String[] names() {
+        return names;
+    }
+
+    /// Finds the index of the first occurrence of the given (case-sensitive) name.
+    ///
+    /// @param name the name to find
+    /// @return the index or `-1` if the header doesn't contain the name
+    /// @throws NullPointerException if name is `null`
+    int indexOf(final String name) {
+        Objects.requireNonNull(name, "name must not be null");
+        final int[] idx = indexes.get(name);
+        return idx != null ? idx[0] : -1;
+    }
+
+    /// Finds the indexes of all occurrences of the given (case-sensitive) name.
+    ///
+    /// @param name the name to find
+    /// @return the indexes in ascending order (must not be modified) or `null` if the header doesn't contain
+    ///     the name
+    @Nullable
+    int[] indexesOf(final String name) {
+        return indexes.get(name);
+    }
+
+    /// Counts the distinct names that occur (at least once) within the first `fieldCount` columns.
+    ///
+    /// The distinct names are ordered by their first occurrence, so these are the names `0` to
+    /// `distinctNameCount(fieldCount) - 1` (see [#distinctName(int)]).
+    ///
+    /// @param fieldCount the number of columns to consider
+    /// @return the number of distinct names
+    int distinctNameCount(final int fieldCount) {
+        if (fieldCount >= names.length) {
+            return distinctNames.length;
+        }
+
+        final int pos = Arrays.binarySearch(firstIndexes, fieldCount);
+        return pos >= 0 ? pos : -pos - 1;
+    }
+
+    /// Retrieves a distinct name.
+    ///
+    /// @param i the number of the distinct name, ordered by first occurrence
+    /// @return the name
+    String distinctName(final int i) {
+        return distinctNames[i];
+    }
+
+    /// Retrieves the indexes of all occurrences of a distinct name.
+    ///
+    /// @param i the number of the distinct name, ordered by first occurrence
+    /// @return the indexes in ascending order (must not be modified)
+    int[] distinctIndexes(final int i) {
+        return distinctIndexes[i];
+    }
+
+    /// Retrieves the index of the first occurrence of a distinct name.
+    ///
+    /// @param i the number of the distinct name, ordered by first occurrence
+    /// @return the index of the first occurrence
+    int firstIndex(final int i) {
+        return firstIndexes[i];
+    }
+
+}
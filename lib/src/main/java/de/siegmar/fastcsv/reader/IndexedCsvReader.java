@@ -114,8 +114,9 @@ public final class IndexedCsvReader<T> implements Closeable {
         }
 
         reader = new SeekableInputStreamReader(new RandomAccessFile(file.toFile(), "r"), charset);
-        csvParser = new StrictCsvParser(fieldSeparator, quoteCharacter, commentStrategy, commentCharacter,
-            allowExtraCharsAfterClosingQuote, allowUnclosedQuote, csvRecordHandler, maxBufferSize, reader);
+        csvParser = new StrictCsvParser(String.valueOf(fieldSeparator), quoteCharacter, commentStrategy,
+            commentCharacter, allowExtraCharsAfterClosingQuote, allowUnclosedQuote, csvRecordHandler, maxBufferSize,
+            CsvBufferPool.NONE, reader);
 
         if (csvRecordHandler instanceof NamedCsvRecordHandler && !this.csvIndex.pages().isEmpty()) {
             captureHeader();
@@ -628,7 +629,7 @@ public final class IndexedCsvReader<T> implements Closeable {
         }
 
         @Override
-        public void onReadRecord() {
+        public void onReadRecord(final RecordType recordType) {
             startingLineNumber.incrementAndGet();
             statusListener.onReadRecord();
         }
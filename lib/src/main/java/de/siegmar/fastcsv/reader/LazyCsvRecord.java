@@ -0,0 +1,192 @@
+package de.siegmar.fastcsv.reader;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.StringJoiner;
+
+import de.siegmar.fastcsv.util.Nullable;
+
+/// A CSV record that holds a single copy of its characters and creates the String of a field only when that
+/// field is accessed for the first time.
+///
+/// In contrast to [FieldViewRecord], instances are immutable (from the outside) and remain valid after the next
+/// record has been read – they can be collected like [CsvRecord]s.
+///
+/// Instances are safe for use by multiple threads. Concurrent first accesses of the same field may create more
+/// than one (equal) String, but all of them are valid results.
+///
+/// @see LazyCsvRecordHandler
+@SuppressWarnings("PMD.ArrayIsStoredDirectly")
+public final class LazyCsvRecord {
+
+    private final long startingLineNumber;
+
+    // the characters of all fields, one after another
+    private final char[] data;
+
+    // the (exclusive) end offset of each field within data
+    private final int[] fieldEnds;
+
+    // the quoted flag of each field or null if none of the fields was quoted
+    @Nullable
+    private final boolean[] quoted;
+
+    private final boolean comment;
+
+    // lazily allocated cache of the fields that have already been accessed
+    @Nullable
+    private String[] values;
+
+    @SuppressWarnings("PMD.UseVarargs")
+    LazyCsvRecord(final long startingLineNumber, final char[] data, final int[] fieldEnds,
+                  @Nullable final boolean[] quoted, final boolean comment) {
+        this.startingLineNumber = startingLineNumber;
+        this.data = data;
+        this.fieldEnds = fieldEnds;
+        this.quoted = quoted;
+        this.comment = comment;
+    }
+
+    /// Provides the line number at which this record originated, starting from 1.
+    ///
+    /// @return the starting line number of this record, starting from 1
+    /// @see CsvRecord#getStartingLineNumber()
+    public long getStartingLineNumber() {
+        return startingLineNumber;
+    }
+
+    /// Retrieves a field based on its index, with indexing starting from 0.
+    ///
+    /// There is always at least one field, even if the line was empty.
+    ///
+    /// If this records holds a comment, the comment is returned by calling this method with index 0. The comment
+    /// character is not included in the returned value.
+    ///
+    /// The String is created on the first call for a specific index; subsequent calls return the same instance.
+    ///
+    /// @param index index of the field to return
+    /// @return field value, never `null`
+    /// @throws IndexOutOfBoundsException if index is out of range
+    public String getField(final int index) {
+        Objects.checkIndex(index, fieldEnds.length);
+
+        String[] cache = values;
+        if (cache == null) {
+            cache = new String[fieldEnds.length];
+            values = cache;
+        }
+
+        String value = cache[index];
+        if (value == null) {
+            final int start = fieldStart(index);
+            value = new String(data, start, fieldEnds[index] - start);
+            cache[index] = value;
+        }
+
+        return value;
+    }
+
+    private int fieldStart(final int index) {
+        return index == 0 ? 0 : fieldEnds[index - 1];
+    }
+
+    /// Retrieves all fields of this record as a list.
+    ///
+    /// The returned list is an unmodifiable view – the Strings of the fields are created as they are accessed.
+    ///
+    /// @return all fields of this record, never `null`
+    /// @see CsvRecord#getFields()
+    public List<String> getFields() {
+        return new FieldList();
+    }
+
+    /// Gets the count of fields in this record.
+    ///
+    /// The minimum number of fields is 1, even if the line was empty.
+    ///
+    /// @return the number of fields in this record
+    public int getFieldCount() {
+        return fieldEnds.length;
+    }
+
+    /// Gets the length of a field without creating its String.
+    ///
+    /// @param index index of the field
+    /// @return the number of characters of the field
+    /// @throws IndexOutOfBoundsException if index is out of range
+    public int getFieldLength(final int index) {
+        Objects.checkIndex(index, fieldEnds.length);
+        return fieldEnds[index] - fieldStart(index);
+    }
+
+    /// Indicates whether a field was enclosed in quotes.
+    ///
+    /// @param index index of the field
+    /// @return `true` if the field was quoted
+    /// @throws IndexOutOfBoundsException if index is out of range
+    public boolean isQuoted(final int index) {
+        Objects.checkIndex(index, fieldEnds.length);
+        return quoted != null && quoted[index];
+    }
+
+    /// Compares a field to the given character sequence without creating the String of the field.
+    ///
+    /// @param index index of the field
+    /// @param cs the character sequence to compare to, must not be `null`
+    /// @return `true` if the field contains exactly the same characters as `cs`
+    /// @throws IndexOutOfBoundsException if index is out of range
+    /// @throws NullPointerException if `cs` is `null`
+    public boolean contentEquals(final int index, final CharSequence cs) {
+        Objects.checkIndex(index, fieldEnds.length);
+        Objects.requireNonNull(cs, "cs must not be null");
+
+        final int start = fieldStart(index);
+        final int len = fieldEnds[index] - start;
+        if (cs.length() != len) {
+            return false;
+        }
+
+        for (int i = 0; i < len; i++) {
+            if (data[start + i] != cs.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /// Indicates whether the record is a commented record.
+    ///
+    /// Retrieve the comment by calling [#getField(int)] with index 0.
+    ///
+    /// @return `true` if the record is a commented record
+    public boolean isComment() {
+        return comment;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", LazyCsvRecord.class.getSimpleName() + "[", "]")
+            .add("startingLineNumber=" + startingLineNumber)
+            .add("fields=" + getFields())
+            .add("comment=" + comment)
+            .toString();
+    }
+
+    private final class FieldList extends AbstractList<String> implements RandomAccess {
+
+        @Override
+        public String get(final int index) {
+            return getField(index);
+        }
+
+        @Override
+        public int size() {
+            return fieldEnds.length;
+        }
+
+    }
+
+}
@@ -0,0 +1,213 @@
+package de.siegmar.fastcsv.reader;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import de.siegmar.fastcsv.util.Preconditions;
+
+/// A [CsvCallbackHandler] implementation that returns [LazyCsvRecord] instances.
+///
+/// The characters of all fields of a record are copied into a single array that is retained by the record,
+/// along with the boundaries of its fields. The String of a field is only created when that field is
+/// accessed for the first time. Consumers that only look at a few fields per record therefore avoid most of
+/// the String creation of [CsvRecordHandler] – while, unlike [FieldViewHandler], records may still be retained.
+///
+/// Example:
+/// ```
+/// try (CsvReader<LazyCsvRecord> csv = CsvReader.builder().build(LazyCsvRecordHandler.of(), file)) {
+///     for (LazyCsvRecord rec : csv) {
+///         if (rec.contentEquals(0, "foo")) {
+///             String value = rec.getField(3);
+///         }
+///     }
+/// }
+/// ```
+///
+/// Field modifiers are not supported as they operate on Strings.
+///
+/// This implementation is stateful and must not be reused.
+public final class LazyCsvRecordHandler extends AbstractBaseCsvCallbackHandler<LazyCsvRecord> {
+
+    private static final int DEFAULT_INITIAL_FIELDS_SIZE = 32;
+    private static final int DEFAULT_INITIAL_BUFFER_SIZE = 1024;
+
+    private final int maxFields;
+    private final int maxRecordSize;
+    private int[] fieldEnds;
+    private boolean[] quotedFlags;
+    private boolean anyQuoted;
+    private char[] recordBuffer;
+    private int recordSize;
+
+    private LazyCsvRecordHandler(final int maxFields, final int maxRecordSize) {
+        this.maxFields = maxFields;
+        this.maxRecordSize = maxRecordSize;
+        fieldEnds = new int[Math.min(DEFAULT_INITIAL_FIELDS_SIZE, maxFields)];
+        quotedFlags = new boolean[fieldEnds.length];
+        recordBuffer = new char[Math.min(DEFAULT_INITIAL_BUFFER_SIZE, maxRecordSize)];
+    }
+
+    /// Constructs a new builder instance for this class.
+    ///
+    /// @return the builder
+    /// @see #of(Consumer)
+    public static LazyCsvRecordHandlerBuilder builder() {
+        return new LazyCsvRecordHandlerBuilder();
+    }
+
+    /// Constructs a new instance of this class with default settings.
+    ///
+    /// @return the new instance
+    /// @see LazyCsvRecordHandlerBuilder#build()
+    public static LazyCsvRecordHandler of() {
+        return builder().build();
+    }
+
+    /// Constructs a new instance of this class with the given configuration.
+    ///
+    /// This is an alternative to the builder pattern for convenience.
+    ///
+    /// @param configurer the configuration, must not be `null`
+    /// @return the new instance
+    /// @throws NullPointerException if `null` is passed
+    /// @throws IllegalArgumentException if argument constraints are violated
+    /// @see #builder()
+    public static LazyCsvRecordHandler of(final Consumer<LazyCsvRecordHandlerBuilder> configurer) {
+        Objects.requireNonNull(configurer, "configurer must not be null");
+        final LazyCsvRecordHandlerBuilder builder = builder();
+        configurer.accept(builder);
+        return builder.build();
+    }
+
+    @Override
+    protected void handleBegin(final long startingLineNumber) {
+        recordSize = 0;
+        anyQuoted = false;
+    }
+
+    /// {@inheritDoc}
+    /// Copies the field value into the record buffer.
+    ///
+    /// @throws CsvParseException if the addition exceeds the limit of record size or maximum fields count.
+    @Override
+    protected void handleField(final int fieldIdx, final char[] buf, final int offset, final int len,
+                               final boolean quoted) {
+        if (fieldIdx == fieldEnds.length) {
+            extendFields();
+        }
+        copy(fieldIdx, buf, offset, len);
+        fieldEnds[fieldIdx] = recordSize;
+        quotedFlags[fieldIdx] = quoted;
+        anyQuoted |= quoted;
+    }
+
+    /// {@inheritDoc}
+    /// Copies the comment value into the record buffer.
+    ///
+    /// @throws CsvParseException if the addition exceeds the limit of record size.
+    @Override
+    protected void handleComment(final char[] buf, final int offset, final int len) {
+        copy(0, buf, offset, len);
+        fieldEnds[0] = recordSize;
+    }
+
+    @Override
+    protected void handleEmpty() {
+        fieldEnds[0] = 0;
+    }
+
+    private void copy(final int fieldIdx, final char[] src, final int offset, final int len) {
+        if (maxRecordSize - recordSize < len) {
+            throw new CsvParseException(
+                "Field at index %d in record starting at line %d exceeds the max record size of %d characters"
+                    .formatted(fieldIdx, getStartingLineNumber(), maxRecordSize));
+        }
+
+        final int newSize = recordSize + len;
+        if (newSize > recordBuffer.length) {
+            recordBuffer = Arrays.copyOf(recordBuffer,
+                (int) Math.min(maxRecordSize, Math.max(newSize, recordBuffer.length * 2L)));
+        }
+
+        System.arraycopy(src, offset, recordBuffer, recordSize, len);
+        recordSize = newSize;
+    }
+
+    private void extendFields() {
+        if (fieldEnds.length == maxFields) {
+            throw new CsvParseException("Record starting at line %d has surpassed the maximum limit of %d fields"
+                .formatted(getStartingLineNumber(), maxFields));
+        }
+
+        final int newLength = Math.min(maxFields, fieldEnds.length * 2);
+        fieldEnds = Arrays.copyOf(fieldEnds, newLength);
+        quotedFlags = Arrays.copyOf(quotedFlags, newLength);
+    }
+
+    /// {@inheritDoc}
+    /// The record buffer is copied exactly once per record; the Strings of the fields are not created here.
+    @Override
+    protected LazyCsvRecord buildRecord() {
+        final int fieldCount = getFieldCount();
+        return new LazyCsvRecord(getStartingLineNumber(),
+            Arrays.copyOf(recordBuffer, recordSize),
+            Arrays.copyOf(fieldEnds, fieldCount),
+            anyQuoted ? Arrays.copyOf(quotedFlags, fieldCount) : null,
+            getRecordType() == RecordType.COMMENT);
+    }
+
+    /// A builder for [LazyCsvRecordHandler].
+    ///
+    /// Two size limits protect against excessive memory usage:
+    /// - [#maxFields(int)] — maximum number of fields per record.
+    /// - [#maxRecordSize(int)] — maximum total characters per record (sum of all fields).
+    @SuppressWarnings("checkstyle:HiddenField")
+    public static final class LazyCsvRecordHandlerBuilder {
+
+        private static final int DEFAULT_MAX_FIELDS = 16 * 1024;
+        private static final int DEFAULT_MAX_RECORD_SIZE = 64 * 1024 * 1024;
+
+        private int maxFields = DEFAULT_MAX_FIELDS;
+        private int maxRecordSize = DEFAULT_MAX_RECORD_SIZE;
+
+        private LazyCsvRecordHandlerBuilder() {
+        }
+
+        /// Defines the maximum number of fields a single record may have.
+        ///
+        /// @param maxFields the maximum fields a record may have; must be > 0
+        ///                  (default: {@value %,2d #DEFAULT_MAX_FIELDS})
+        /// @return This updated object, allowing additional method calls to be chained together.
+        /// @throws IllegalArgumentException if the argument is less than 1
+        public LazyCsvRecordHandlerBuilder maxFields(final int maxFields) {
+            Preconditions.checkArgument(maxFields > 0, "maxFields must be > 0");
+            this.maxFields = maxFields;
+            return this;
+        }
+
+        /// Defines the maximum number of characters a single record may have.
+        ///
+        /// The size of the record is the sum of the sizes of all fields.
+        /// This constraint is enforced for comments as well.
+        ///
+        /// @param maxRecordSize the maximum record size; must be > 0
+        ///                      (default: {@value %,2d #DEFAULT_MAX_RECORD_SIZE})
+        /// @return This updated object, allowing additional method calls to be chained together.
+        /// @throws IllegalArgumentException if the argument is less than 1
+        public LazyCsvRecordHandlerBuilder maxRecordSize(final int maxRecordSize) {
+            Preconditions.checkArgument(maxRecordSize > 0, "maxRecordSize must be > 0");
+            this.maxRecordSize = maxRecordSize;
+            return this;
+        }
+
+        /// Builds the [LazyCsvRecordHandler] instance.
+        ///
+        /// @return the new instance
+        public LazyCsvRecordHandler build() {
+            return new LazyCsvRecordHandler(maxFields, maxRecordSize);
+        }
+
+    }
+
+}
@@ -0,0 +1,136 @@
+package de.siegmar.fastcsv.reader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import de.siegmar.fastcsv.util.Nullable;
+import de.siegmar.fastcsv.util.Preconditions;
+
+/// A [ReadableByteChannel] that reads a file through memory mapped windows.
+///
+/// The file is mapped window by window (a single [MappedByteBuffer] is limited to 2 GiB) and the data is copied
+/// from the mapping into the destination buffer without a system call per read. Windows are independent of
+/// record boundaries – records that span two windows are assembled by the buffer of the parser.
+///
+/// The size of the file is determined when the channel is opened. Data appended later is not read.
+///
+/// Java provides no API to unmap a [MappedByteBuffer] – a mapping is released by the garbage collector once
+/// it is no longer referenced. This channel drops its reference to the current window as soon as the end of the
+/// file has been reached and when it is closed. Until the mapping has been collected, some operating systems
+/// (e.g., Windows) prevent the file from being deleted or renamed.
+final class MappedFileChannel implements ReadableByteChannel {
+
+    static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final long size;
+    private final int windowSize;
+    private long position;
+
+    @Nullable
+    private MappedByteBuffer window;
+
+    MappedFileChannel(final FileChannel channel, final long position, final int windowSize) throws IOException {
+        Preconditions.checkArgument(windowSize > 0, "windowSize must be > 0");
+        this.channel = channel;
+        this.position = position;
+        this.windowSize = windowSize;
+        size = channel.size();
+    }
+
+    /// Opens the given file for reading through memory mapped windows.
+    ///
+    /// @param file     the file to open
+    /// @param position the position (in bytes) to start reading from
+    /// @return the opened channel
+    /// @throws IOException if the file cannot be opened
+    static MappedFileChannel open(final Path file, final long position) throws IOException {
+        final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            return new MappedFileChannel(channel, position, DEFAULT_WINDOW_SIZE);
+        } catch (final IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /// Opens the given file as an [InputStream] that reads through memory mapped windows.
+    ///
+    /// @param file the file to open
+    /// @return the opened input stream
+    /// @throws IOException if the file cannot be opened
+    static InputStream newInputStream(final Path file) throws IOException {
+        return Channels.newInputStream(open(file, 0));
+    }
+
+    /// Reads bytes into the given buffer – across window boundaries, if necessary.
+    ///
+    /// Short reads only happen at the end of the file.
+    @Override
+    public int read(final ByteBuffer dst) throws IOException {
+        if (!channel.isOpen()) {
+            throw new ClosedChannelException();
+        }
+
+        if (position >= size) {
+            return -1;
+        }
+
+        int total = 0;
+        while (dst.hasRemaining() && position < size) {
+            final int cnt = copy(currentWindow(), dst);
+            position += cnt;
+            total += cnt;
+        }
+
+        if (position >= size) {
+            // all data has been read – don't keep the last mapping alive until the channel is closed
+            window = null;
+        }
+
+        return total;
+    }
+
+    private MappedByteBuffer currentWindow() throws IOException {
+        final MappedByteBuffer current = window;
+        return current != null && current.hasRemaining() ? current : map();
+    }
+
+    private static int copy(final ByteBuffer src, final ByteBuffer dst) {
+        final int cnt = Math.min(dst.remaining(), src.remaining());
+        final ByteBuffer slice = src.duplicate();
+        ((Buffer) slice).limit(slice.position() + cnt);
+        dst.put(slice);
+        ((Buffer) src).position(slice.position());
+        return cnt;
+    }
+
+    private MappedByteBuffer map() throws IOException {
+        final long mapSize = Math.min(windowSize, size - position);
+        final MappedByteBuffer newWindow = channel.map(FileChannel.MapMode.READ_ONLY, position, mapSize);
+        window = newWindow;
+        return newWindow;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return channel.isOpen();
+    }
+
+    @Override
+    public void close() throws IOException {
+        // allow the mapping to be garbage collected even if this channel is still referenced
+        window = null;
+        channel.close();
+    }
+
+}
@@ -21,13 +21,19 @@ import java.util.StringJoiner;
 @SuppressWarnings("PMD.ArrayIsStoredDirectly")
 public final class NamedCsvRecord extends CsvRecord {
 
+    private final HeaderIndex headerIndex;
     private final String[] header;
 
     @SuppressWarnings("PMD.UseVarargs")
     NamedCsvRecord(final long startingLineNumber, final String[] fields, final boolean comment,
-                   final String[] header) {
+                   final HeaderIndex headerIndex) {
         super(startingLineNumber, fields, comment);
-        this.header = header;
+        this.headerIndex = headerIndex;
+        header = headerIndex.names();
+    }
+
+    HeaderIndex getHeaderIndex() {
+        return headerIndex;
     }
 
     /// Retrieves the header names of this record.
@@ -52,15 +58,27 @@ public final class NamedCsvRecord extends CsvRecord {
     /// This method is equivalent to `findField(name).orElseThrow(NoSuchElementException::new)` although a
     /// more explanatory exception message is provided.
     ///
+    /// The name is looked up in a hash index of the header that is shared by all records of a reader. To
+    /// access the same field of many records, a [FieldAccessor] avoids even this lookup.
+    ///
     /// @param name case-sensitive name of the field to be retrieved
     /// @return field value, never `null`
     /// @throws NoSuchElementException if this record has no such field
     /// @throws NullPointerException   if name is `null`
     /// @see #findField(String)
     /// @see #findFields(String)
+    /// @see FieldAccessor#get(NamedCsvRecord)
     public String getField(final String name) {
-        final int fieldIdx = findHeaderIndex(name);
+        return getField(name, headerIndex.indexOf(name));
+    }
 
+    /// Retrieves the value of a field by its resolved index.
+    ///
+    /// @param name     the name of the field (for the exception message)
+    /// @param fieldIdx the index of the field as resolved by [HeaderIndex#indexOf(String)]
+    /// @return field value, never `null`
+    /// @throws NoSuchElementException if the index is `-1` or beyond the fields of this record
+    String getField(final String name, final int fieldIdx) {
         // Check if the field index is valid
         if (fieldIdx == -1) {
             throw new NoSuchElementException("Header does not contain a field '%s'. Valid names are: %s"
@@ -75,16 +93,6 @@ public final class NamedCsvRecord extends CsvRecord {
         return fields[fieldIdx];
     }
 
-    // Finds the index for the first occurrence of the given header name (case-sensitive); returns -1 if not found
-    private int findHeaderIndex(final String name) {
-        for (int i = 0; i < header.length; i++) {
-            if (name.equals(header[i])) {
-                return i;
-            }
-        }
-        return -1;
-    }
-
     /// Retrieves the value of a field by its case-sensitive name, considering the first occurrence in case of
     /// duplicates.
     ///
@@ -95,9 +103,17 @@ public final class NamedCsvRecord extends CsvRecord {
     ///     or an empty [Optional] if the field is not present. Never returns `null`.
     /// @throws NullPointerException if name is `null`
     /// @see #findFields(String)
+    /// @see FieldAccessor#find(NamedCsvRecord)
     public Optional<String> findField(final String name) {
-        final int fieldIdx = findHeaderIndex(name);
+        return findField(headerIndex.indexOf(name));
+    }
 
+    /// Retrieves the value of a field by its resolved index.
+    ///
+    /// @param fieldIdx the index of the field as resolved by [HeaderIndex#indexOf(String)]
+    /// @return An [Optional] containing the value of the field if found,
+    ///     or an empty [Optional] if the index is `-1` or beyond the fields of this record
+    Optional<String> findField(final int fieldIdx) {
         // Check if the field index is valid
         if (fieldIdx == -1 || fieldIdx >= fields.length) {
             return Optional.empty();
@@ -133,6 +149,7 @@ public final class NamedCsvRecord extends CsvRecord {
     ///
     /// @return an ordered map of header names and field values of this record, never `null`
     /// @see #getFieldsAsMapList()
+    /// @see #asMap()
     @SuppressWarnings("PMD.UseConcurrentHashMap")
     public Map<String, String> getFieldsAsMap() {
         final int bound = commonSize();
@@ -153,6 +170,7 @@ public final class NamedCsvRecord extends CsvRecord {
     ///
     /// @return an unordered map of header names and field values of this record, never `null`
     /// @see #getFieldsAsMap()
+    /// @see #asMapList()
     @SuppressWarnings({"PMD.AvoidInstantiatingObjectsInLoops", "PMD.UseConcurrentHashMap"})
     public Map<String, List<String>> getFieldsAsMapList() {
         final int bound = commonSize();
@@ -169,6 +187,41 @@ public final class NamedCsvRecord extends CsvRecord {
         return map;
     }
 
+    /// Provides a read-only map view, associating header names with corresponding field values of this record,
+    /// considering the first occurrence in case of duplicates.
+    ///
+    /// The view contains the same entries (in the same order) as the map constructed by [#getFieldsAsMap()].
+    /// In contrast to that method, no hash table is built per record – the view is backed by the fields of
+    /// this record and a header index that is shared by all records of a reader. Use this method if a
+    /// [Map] is required for many records, e.g., to pass records to a framework.
+    ///
+    /// The view can't be modified; the methods `get()` and `containsKey()` return `null` / `false` for keys
+    /// that are `null` or not a [String].
+    ///
+    /// @return a read-only, ordered map view of header names and field values of this record, never `null`
+    /// @see #getFieldsAsMap()
+    /// @see #asMapList()
+    public Map<String, String> asMap() {
+        return new FieldMapView(headerIndex, fields);
+    }
+
+    /// Provides a read-only map view, associating header names with an ordered list of corresponding field
+    /// values in this record.
+    ///
+    /// The view contains the same entries as the map constructed by [#getFieldsAsMapList()] – ordered by the
+    /// first occurrence of the header names. In contrast to that method, neither a hash table nor lists are
+    /// built per record – the view and its lists are backed by the fields of this record and a header index
+    /// that is shared by all records of a reader.
+    ///
+    /// The view and its lists can't be modified.
+    ///
+    /// @return a read-only, ordered map view of header names and field values of this record, never `null`
+    /// @see #getFieldsAsMapList()
+    /// @see #asMap()
+    public Map<String, List<String>> asMapList() {
+        return new FieldListMapView(headerIndex, fields);
+    }
+
     // Mappings will only be created for fields that have a key and a value – return the minimum of both sizes
     private int commonSize() {
         return Math.min(header.length, fields.length);
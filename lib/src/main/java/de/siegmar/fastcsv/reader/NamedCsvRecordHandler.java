@@ -4,10 +4,13 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
 import de.siegmar.fastcsv.util.Nullable;
+import de.siegmar.fastcsv.util.Preconditions;
 
 /// A callback handler that returns a [NamedCsvRecord] for each record.
 ///
@@ -22,28 +25,49 @@ import de.siegmar.fastcsv.util.Nullable;
 /// This implementation is stateful and must not be reused.
 public final class NamedCsvRecordHandler extends AbstractInternalCsvCallbackHandler<NamedCsvRecord> {
 
-    private static final String[] EMPTY_HEADER = new String[0];
     private static final HeaderValidator NO_DUPLICATE_FIELDS = NamedCsvRecordHandler::checkForDuplicates;
 
     private final boolean returnHeader;
     private final List<HeaderValidator> headerValidators;
 
+    @Nullable
+    private final List<String> selectedColumnNames;
+
+    private final Map<Integer, FieldPredicate> filters;
+
     @Nullable
     private String[] header;
 
+    /// The index of the header shared by all data records; `null` until the header is known.
+    @Nullable
+    private HeaderIndex headerIndex;
+
     /// The line number the header was captured from; `Long.MAX_VALUE` until captured.
     private long headerStartingLineNumber = Long.MAX_VALUE;
 
+    @SuppressWarnings("checkstyle:ParameterNumber")
     private NamedCsvRecordHandler(final int maxFields, final int maxFieldSize, final int maxRecordSize,
+                                  final int internCacheSize,
                                   final FieldModifier fieldModifier,
+                                  @Nullable final int[] selectedColumns,
+                                  @Nullable final List<String> selectedColumnNames,
+                                  final Map<Integer, FieldPredicate> filters,
                                   final boolean returnHeader,
                                   final List<HeaderValidator> headerValidators,
                                   @Nullable final List<String> header) {
-        super(maxFields, maxFieldSize, maxRecordSize, fieldModifier);
+        // filters are enabled once the header is known as the header itself must not be filtered
+        super(maxFields, maxFieldSize, maxRecordSize, internCacheSize, fieldModifier, selectedColumns, Map.of());
+        this.selectedColumnNames = selectedColumnNames;
+        this.filters = Map.copyOf(filters);
         this.returnHeader = returnHeader;
         this.headerValidators = List.copyOf(headerValidators);
         if (header != null) {
-            this.header = validateHeader(header.toArray(new String[0]));
+            final String[] fullHeader = validateHeader(header.toArray(new String[0]));
+            this.header = selectedColumnNames != null
+                ? selectColumnsByName(fullHeader, selectedColumnNames)
+                : selectValues(fullHeader);
+            headerIndex = new HeaderIndex(this.header);
+            filterColumns(this.filters);
         }
     }
 
@@ -79,6 +103,18 @@ public final class NamedCsvRecordHandler extends AbstractInternalCsvCallbackHand
         return builder.build();
     }
 
+    /// Constructs a new accessor for the field of the given name.
+    ///
+    /// This is equivalent to [FieldAccessor#of(String)]. The name is resolved against the header once the
+    /// first record is accessed – all records built by this handler share the same header.
+    ///
+    /// @param name case-sensitive name of the field to be accessed
+    /// @return the new accessor
+    /// @throws NullPointerException if name is `null`
+    public FieldAccessor accessor(final String name) {
+        return FieldAccessor.of(name);
+    }
+
     @SuppressWarnings("PMD.UseVarargs")
     private String[] validateHeader(final String[] fields) {
         Objects.requireNonNull(fields, "header must not be null");
@@ -109,14 +145,38 @@ public final class NamedCsvRecordHandler extends AbstractInternalCsvCallbackHand
         }
     }
 
+    /// Enables the column projection for the columns of the given names.
+    ///
+    /// @param fullHeader the header containing all columns
+    /// @param names      the names of the columns to select
+    /// @return the header restricted to the selected columns
+    /// @throws CsvParseException if the header lacks some of the given names
+    private String[] selectColumnsByName(final String[] fullHeader, final List<String> names) {
+        final List<String> missingNames = new ArrayList<>(names);
+        missingNames.removeAll(List.of(fullHeader));
+        if (!missingNames.isEmpty()) {
+            throw new CsvParseException("Header does not contain selected columns: " + missingNames);
+        }
+
+        selectColumns(IntStream.range(0, fullHeader.length)
+            .filter(i -> names.contains(fullHeader[i]))
+            .toArray());
+
+        return selectValues(fullHeader);
+    }
+
     @Nullable
     @Override
     protected NamedCsvRecord buildRecord() {
+        if (isRejected()) {
+            return null;
+        }
+
         final String[] compactFields = compactFields();
 
         return switch (recordType) {
-            case COMMENT -> new NamedCsvRecord(startingLineNumber, compactFields, true, EMPTY_HEADER);
-            case EMPTY -> new NamedCsvRecord(startingLineNumber, compactFields, false, EMPTY_HEADER);
+            case COMMENT -> new NamedCsvRecord(startingLineNumber, compactFields, true, HeaderIndex.EMPTY);
+            case EMPTY -> new NamedCsvRecord(startingLineNumber, compactFields, false, HeaderIndex.EMPTY);
             case DATA -> dataRecord(compactFields);
         };
     }
@@ -124,9 +184,19 @@ public final class NamedCsvRecordHandler extends AbstractInternalCsvCallbackHand
     @Nullable
     @SuppressWarnings("PMD.UseVarargs")
     private NamedCsvRecord dataRecord(final String[] compactFields) {
-        if (header == null) {
+        String[] recordFields = compactFields;
+        HeaderIndex recordHeader = headerIndex;
+        if (recordHeader == null) {
             header = validateHeader(compactFields);
+            if (selectedColumnNames != null) {
+                // the header has been read completely – now the selected columns can be resolved
+                header = selectColumnsByName(header, selectedColumnNames);
+                recordFields = header;
+            }
+            recordHeader = new HeaderIndex(header);
+            headerIndex = recordHeader;
             headerStartingLineNumber = startingLineNumber;
+            filterColumns(filters);
         }
 
         // the header record itself - captured just now or re-read by IndexedCsvReader
@@ -134,7 +204,7 @@ public final class NamedCsvRecordHandler extends AbstractInternalCsvCallbackHand
             return null;
         }
 
-        return new NamedCsvRecord(startingLineNumber, compactFields, false, header);
+        return new NamedCsvRecord(startingLineNumber, recordFields, false, recordHeader);
     }
 
     /// A builder for [NamedCsvRecordHandler].
@@ -151,6 +221,9 @@ public final class NamedCsvRecordHandler extends AbstractInternalCsvCallbackHand
         @Nullable
         private List<String> header;
 
+        @Nullable
+        private List<String> selectedColumnNames;
+
         private NamedCsvRecordHandlerBuilder() {
         }
 
@@ -231,6 +304,29 @@ public final class NamedCsvRecordHandler extends AbstractInternalCsvCallbackHand
             return this;
         }
 
+        /// Restricts the fields of the resulting records to the columns of the given header names
+        /// (column projection).
+        ///
+        /// This is an alternative to [#selectColumns(int...)] – see there for details. The header is always
+        /// read (and validated) completely. The column projection applies to all subsequent records. If the header
+        /// contains duplicate names (see [#allowDuplicateHeaderFields(boolean)]), all columns of a given name are
+        /// selected. The header of the resulting records only contains the selected columns. The field count check
+        /// of the [CsvReader] counts all columns of the CSV data, not just the selected ones.
+        ///
+        /// @param names the names of the columns to select; must not be `null` or empty (default: all columns)
+        /// @return This updated object, allowing additional method calls to be chained together.
+        /// @throws NullPointerException     if `null` is passed
+        /// @throws IllegalArgumentException if no name is given
+        public NamedCsvRecordHandlerBuilder selectColumns(final String... names) {
+            Objects.requireNonNull(names, "names must not be null");
+            Preconditions.checkArgument(names.length > 0, "names must not be empty");
+            for (final String name : names) {
+                Objects.requireNonNull(name, "name must not be null");
+            }
+            selectedColumnNames = List.of(names);
+            return this;
+        }
+
         @Override
         protected NamedCsvRecordHandlerBuilder self() {
             return this;
@@ -243,11 +339,14 @@ public final class NamedCsvRecordHandler extends AbstractInternalCsvCallbackHand
         ///     (see [AbstractInternalCsvCallbackHandler])
         /// @throws CsvParseException if a predefined header (see [#header(String...)]) contains duplicate
         ///     fields (see [#allowDuplicateHeaderFields(boolean)]) or is rejected by a configured validator
-        ///     (see [#headerValidator(HeaderValidator)])
+        ///     (see [#headerValidator(HeaderValidator)]) or lacks a selected column name
+        ///     (see [#selectColumns(String...)])
         public NamedCsvRecordHandler build() {
             if (returnHeader && header != null) {
                 throw new IllegalArgumentException("Predefined headers cannot be used with returnHeader=true");
             }
+            Preconditions.checkArgument(selectedColumns == null || selectedColumnNames == null,
+                "Columns cannot be selected by index and by name at the same time");
 
             final List<HeaderValidator> headerValidators = new ArrayList<>();
             if (!allowDuplicateHeaderFields) {
@@ -257,8 +356,8 @@ public final class NamedCsvRecordHandler extends AbstractInternalCsvCallbackHand
                 headerValidators.add(headerValidator);
             }
 
-            return new NamedCsvRecordHandler(maxFields, maxFieldSize, maxRecordSize, fieldModifier,
-                returnHeader, headerValidators, header);
+            return new NamedCsvRecordHandler(maxFields, maxFieldSize, maxRecordSize, internCacheSize, fieldModifier,
+                selectedColumns, selectedColumnNames, filters, returnHeader, headerValidators, header);
         }
 
     }
@@ -0,0 +1,219 @@
+package de.siegmar.fastcsv.reader;
+
+/// Parses numbers directly from character ranges – without creating Strings.
+final class NumberParser {
+
+    private static final int RADIX = 10;
+
+    /// Marker for invalid numbers – a negatively accumulated value can never be positive.
+    private static final long INVALID = 1;
+
+    /// Significands below 2^53 are exactly representable as double – another digit may only be appended to
+    /// significands below this value.
+    private static final long MAX_SIGNIFICAND_BEFORE_DIGIT = (1L << 53) / RADIX;
+
+    /// Powers of ten that are exactly representable as double.
+    private static final double[] EXACT_POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22,
+    };
+
+    private NumberParser() {
+    }
+
+    /// Parses the given range like [Long#parseLong(String)] does.
+    ///
+    /// @return the parsed value
+    /// @throws NumberFormatException if the range doesn't contain a valid number
+    static long parseLong(final char[] buf, final int offset, final int len) {
+        final boolean negative = isNegative(buf, offset, len);
+        final long value = negativeValue(buf, digitsBegin(buf, offset, len), offset + len, negative);
+        if (value == INVALID) {
+            throw new NumberFormatException("For input string: \"%s\"".formatted(new String(buf, offset, len)));
+        }
+        return negative ? value : -value;
+    }
+
+    /// Parses the given range like [Integer#parseInt(String)] does.
+    ///
+    /// @return the parsed value
+    /// @throws NumberFormatException if the range doesn't contain a valid number
+    static int parseInt(final char[] buf, final int offset, final int len) {
+        final long value = parseLong(buf, offset, len);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new NumberFormatException("Value out of range: %d".formatted(value));
+        }
+        return (int) value;
+    }
+
+    /// Parses the given range like [Long#parseLong(String)] does, but without throwing an exception for
+    /// invalid numbers.
+    ///
+    /// @return `true` if the range contains a valid number within `min` and `max` (both inclusive)
+    static boolean isLongInRange(final char[] buf, final int offset, final int len, final long min, final long max) {
+        final boolean negative = isNegative(buf, offset, len);
+        final long value = negativeValue(buf, digitsBegin(buf, offset, len), offset + len, negative);
+        if (value == INVALID) {
+            return false;
+        }
+
+        final long result = negative ? value : -value;
+        return result >= min && result <= max;
+    }
+
+    /// Parses the given range like [Double#parseDouble(String)] does.
+    ///
+    /// Plain decimal numbers (like `-12.345`) with up to 15 digits and up to 22 fractional digits are parsed
+    /// directly from the range. As both, the significand and the power of ten are exactly representable as
+    /// double, a single division yields the correctly rounded result. Other decimal numbers
+    /// (e.g., exponent notation, `NaN` or `Infinity`) are passed to [Double#parseDouble(String)].
+    ///
+    /// In contrast to [Double#parseDouble(String)] – and like [#parseLong(char\[\], int, int)] – surrounding
+    /// whitespace, type suffixes (like `1d`) and hexadecimal notation are rejected.
+    ///
+    /// @return the parsed value
+    /// @throws NumberFormatException if the range doesn't contain a valid number
+    static double parseDouble(final char[] buf, final int offset, final int len) {
+        final double value = parsePlainDecimal(buf, offset, len);
+        if (!Double.isNaN(value)) {
+            return value;
+        }
+        if (!isDecimalNumber(buf, offset, len)) {
+            throw new NumberFormatException("For input string: \"%s\"".formatted(new String(buf, offset, len)));
+        }
+        return Double.parseDouble(new String(buf, offset, len));
+    }
+
+    /// Checks if the given range is a decimal number: an optional sign followed by digits with an optional
+    /// decimal point and an optional exponent (like `-1.5E-3`) – or followed by `NaN` or `Infinity`.
+    ///
+    /// @return `true` if the range is a decimal number
+    private static boolean isDecimalNumber(final char[] buf, final int offset, final int len) {
+        final int end = offset + len;
+        final int begin = digitsBegin(buf, offset, len);
+        if (matches(buf, begin, end, "NaN") || matches(buf, begin, end, "Infinity")) {
+            return true;
+        }
+
+        final int mantissaEnd = mantissaEnd(buf, begin, end);
+        return mantissaEnd == end || mantissaEnd != -1 && exponentEnd(buf, mantissaEnd, end) == end;
+    }
+
+    /// @return the end of the digits with an optional decimal point or `-1` if there are no digits
+    private static int mantissaEnd(final char[] buf, final int begin, final int end) {
+        int digits = countDigits(buf, begin, end);
+        int pos = begin + digits;
+        if (pos < end && buf[pos] == '.') {
+            final int fractionDigits = countDigits(buf, pos + 1, end);
+            digits += fractionDigits;
+            pos += 1 + fractionDigits;
+        }
+        return digits > 0 ? pos : -1;
+    }
+
+    /// @return the end of the exponent (like `e-3`) or `-1` if the range doesn't start with an exponent
+    private static int exponentEnd(final char[] buf, final int begin, final int end) {
+        if (buf[begin] != 'e' && buf[begin] != 'E') {
+            return -1;
+        }
+
+        int pos = begin + 1;
+        if (pos < end && (buf[pos] == '-' || buf[pos] == '+')) {
+            pos++;
+        }
+        final int digits = countDigits(buf, pos, end);
+        return digits > 0 ? pos + digits : -1;
+    }
+
+    private static boolean matches(final char[] buf, final int begin, final int end, final String word) {
+        if (end - begin != word.length()) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            if (buf[begin + i] != word.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int countDigits(final char[] buf, final int begin, final int end) {
+        int i = begin;
+        while (i < end && isDigit(buf[i])) {
+            i++;
+        }
+        return i - begin;
+    }
+
+    /// @return the parsed value or `NaN` if the range doesn't contain a plain decimal number within the limits
+    @SuppressWarnings("checkstyle:ReturnCount")
+    private static double parsePlainDecimal(final char[] buf, final int offset, final int len) {
+        final int end = offset + len;
+        long significand = 0;
+        int digits = 0;
+        int fractionDigits = 0;
+        boolean fraction = false;
+
+        for (int i = digitsBegin(buf, offset, len); i < end; i++) {
+            final char c = buf[i];
+            if (c == '.' && !fraction) {
+                fraction = true;
+            } else if (isDigit(c) && significand < MAX_SIGNIFICAND_BEFORE_DIGIT) {
+                significand = significand * RADIX + (c - '0');
+                digits++;
+                fractionDigits += fraction ? 1 : 0;
+            } else {
+                return Double.NaN;
+            }
+        }
+
+        if (digits == 0 || fractionDigits >= EXACT_POWERS_OF_TEN.length) {
+            return Double.NaN;
+        }
+
+        final double value = significand / EXACT_POWERS_OF_TEN[fractionDigits];
+        return isNegative(buf, offset, len) ? -value : value;
+    }
+
+    private static boolean isNegative(final char[] buf, final int offset, final int len) {
+        return len > 0 && buf[offset] == '-';
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int digitsBegin(final char[] buf, final int offset, final int len) {
+        return len > 0 && (buf[offset] == '-' || buf[offset] == '+') ? offset + 1 : offset;
+    }
+
+    /// Accumulates the digits negatively (like [Long#parseLong(String)]) to cover the full range including
+    /// [Long#MIN_VALUE].
+    ///
+    /// @return the negative value or [#INVALID] if the range is empty, contains a non-digit or the value
+    ///     exceeds the range of long
+    @SuppressWarnings("checkstyle:ReturnCount")
+    private static long negativeValue(final char[] buf, final int begin, final int end, final boolean negative) {
+        if (begin == end) {
+            return INVALID;
+        }
+
+        final long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        final long multiplyLimit = limit / RADIX;
+        long value = 0;
+        for (int i = begin; i < end; i++) {
+            final char c = buf[i];
+            if (!isDigit(c) || value < multiplyLimit) {
+                return INVALID;
+            }
+            value *= RADIX;
+            final int digit = c - '0';
+            if (value < limit + digit) {
+                return INVALID;
+            }
+            value -= digit;
+        }
+        return value;
+    }
+
+}
@@ -0,0 +1,231 @@
+package de.siegmar.fastcsv.reader;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import de.siegmar.fastcsv.util.Nullable;
+
+/// Reader that reads (and decodes) data from the underlying reader in a background task.
+///
+/// The background task fills a fixed ring of pre-allocated chunks while the consumer (the parser) processes
+/// the chunks filled before. The number of chunks bounds the data read ahead; if all chunks are filled, the
+/// background task waits for the consumer to return a chunk.
+///
+/// The background task is started by the first read. It must run on a different thread than the consumer. If the
+/// executor runs it synchronously on the calling thread (e.g., `Runnable::run` or a
+/// [java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy] on saturation), this is detected and the
+/// underlying reader is read directly – without reading ahead.
+///
+/// Exceptions thrown by the underlying reader are passed on to the consumer (wrapped in an [IOException])
+/// after all data read before has been consumed.
+///
+/// This implementation is not thread-safe – only the background task and a single consumer may access it.
+final class ReadAheadReader extends Reader {
+
+    /// Default number of chunks.
+    static final int DEFAULT_CHUNK_COUNT = 4;
+
+    /// Default size of a chunk in characters.
+    static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+
+    private final Reader reader;
+    private final Executor executor;
+    private final BlockingQueue<Chunk> freeChunks;
+    private final BlockingQueue<Chunk> filledChunks;
+
+    // the consumer and (once started) the background task; the last one to release it closes the reader
+    private final AtomicInteger readerUsers = new AtomicInteger(1);
+
+    private volatile boolean closed;
+    private boolean started;
+    private boolean direct;
+    private Chunk current = new Chunk(0);
+    private int pos;
+
+    /// Constructs a new instance – the background task is started by the first read.
+    ///
+    /// @param reader     the underlying reader
+    /// @param executor   the executor to run the background task on a different thread
+    /// @param chunkCount the number of chunks; must be > 0
+    /// @param chunkSize  the size of each chunk in characters; must be > 0
+    ReadAheadReader(final Reader reader, final Executor executor, final int chunkCount, final int chunkSize) {
+        this.reader = reader;
+        this.executor = executor;
+        freeChunks = new ArrayBlockingQueue<>(chunkCount + 1);
+        // one extra slot for a chunk signaling an interruption of the background task
+        filledChunks = new ArrayBlockingQueue<>(chunkCount + 1);
+        for (int i = 0; i < chunkCount; i++) {
+            freeChunks.add(new Chunk(chunkSize));
+        }
+    }
+
+    private void start() {
+        started = true;
+        final Thread consumer = Thread.currentThread();
+        readerUsers.incrementAndGet();
+        try {
+            executor.execute(() -> produce(consumer));
+        } catch (final RejectedExecutionException e) {
+            readerUsers.decrementAndGet();
+            throw e;
+        }
+    }
+
+    @SuppressWarnings({"checkstyle:IllegalCatch", "PMD.AvoidCatchingGenericException"})
+    private void produce(final Thread consumer) {
+        if (Thread.currentThread() == consumer) {
+            // run synchronously by the executor – reading ahead would block the consumer forever
+            direct = true;
+            readerUsers.decrementAndGet();
+            return;
+        }
+
+        try {
+            boolean endOfStream = false;
+            while (!endOfStream && !closed) {
+                final Chunk chunk = freeChunks.take();
+                try {
+                    endOfStream = chunk.fill(reader);
+                } catch (final IOException | RuntimeException e) {
+                    chunk.exception = e;
+                    endOfStream = true;
+                }
+                filledChunks.put(chunk);
+            }
+        } catch (final InterruptedException e) {
+            final Chunk interrupted = new Chunk(0);
+            interrupted.exception = new InterruptedIOException("Read-ahead task was interrupted");
+            filledChunks.offer(interrupted);
+            Thread.currentThread().interrupt();
+        } finally {
+            releaseReaderByProducer();
+        }
+    }
+
+    @SuppressWarnings("PMD.EmptyCatchBlock")
+    private void releaseReaderByProducer() {
+        if (readerUsers.decrementAndGet() == 0) {
+            try {
+                reader.close();
+            } catch (final IOException ignored) {
+                // the consumer already returned from close() – there is no one to pass the exception to
+            }
+        }
+    }
+
+    @Override
+    public int read(final char[] cbuf, final int off, final int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, cbuf.length);
+        if (closed) {
+            throw new IOException("Reader has been closed");
+        }
+        if (len == 0) {
+            return 0;
+        }
+        if (!started) {
+            start();
+        }
+        return direct ? reader.read(cbuf, off, len) : readChunks(cbuf, off, len);
+    }
+
+    private int readChunks(final char[] cbuf, final int off, final int len) throws IOException {
+        while (pos == current.len) {
+            if (!nextChunk()) {
+                return -1;
+            }
+        }
+
+        final int cnt = Math.min(len, current.len - pos);
+        System.arraycopy(current.buf, pos, cbuf, off, cnt);
+        pos += cnt;
+        return cnt;
+    }
+
+    /// Replaces the fully consumed current chunk by the next filled one.
+    ///
+    /// @return `false` if the end of the stream has been reached
+    private boolean nextChunk() throws IOException {
+        if (current.exception != null) {
+            throw new IOException("Exception when reading ahead", current.exception);
+        }
+        if (current.endOfStream) {
+            return false;
+        }
+
+        if (current.buf.length > 0) {
+            freeChunks.add(current);
+        }
+
+        try {
+            current = filledChunks.take();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for data");
+        }
+        pos = 0;
+        return true;
+    }
+
+    /// Closes this reader and the underlying reader.
+    ///
+    /// Doesn't wait for the background task. If the task is still running (e.g., blocked in a read of the
+    /// underlying reader), the underlying reader is closed by the task when it ends.
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        // unblock the background task if it waits for a free chunk
+        Chunk chunk;
+        while ((chunk = filledChunks.poll()) != null) {
+            freeChunks.offer(chunk);
+        }
+        freeChunks.offer(current);
+
+        if (readerUsers.decrementAndGet() == 0) {
+            reader.close();
+        }
+    }
+
+    private static final class Chunk {
+
+        private final char[] buf;
+        private int len;
+        private boolean endOfStream;
+
+        @Nullable
+        private Exception exception;
+
+        Chunk(final int size) {
+            buf = new char[size];
+        }
+
+        /// Fills this chunk with the data available from the reader – blocking only until the first
+        /// data is available.
+        ///
+        /// @return `true` if the end of the stream has been reached
+        boolean fill(final Reader reader) throws IOException {
+            len = 0;
+            do {
+                final int cnt = reader.read(buf, len, buf.length - len);
+                if (cnt == -1) {
+                    endOfStream = true;
+                    break;
+                }
+                len += cnt;
+            } while (len < buf.length && reader.ready());
+            return endOfStream;
+        }
+
+    }
+
+}
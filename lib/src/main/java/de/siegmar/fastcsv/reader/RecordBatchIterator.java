@@ -0,0 +1,138 @@
+package de.siegmar.fastcsv.reader;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import de.siegmar.fastcsv.util.Nullable;
+
+/// Iterator that groups the records of another iterator into batches.
+///
+/// The array backing a batch is allocated lazily: the first batch grows up to the batch size as records are
+/// appended, so small inputs don't allocate the full batch size. Subsequent batches are allocated at the
+/// batch size right away; a final partial batch is trimmed to its size (unless the batch is reused).
+///
+/// @param <T> the type of the CSV record.
+/// @see CsvReader#batches(int, boolean)
+final class RecordBatchIterator<T> implements CloseableIterator<List<T>> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final CloseableIterator<T> records;
+    private final int batchSize;
+    private final boolean reuseBatch;
+
+    @Nullable
+    private RecordBatch<T> batch;
+
+    private boolean fetched;
+
+    RecordBatchIterator(final CloseableIterator<T> records, final int batchSize, final boolean reuseBatch) {
+        this.records = records;
+        this.batchSize = batchSize;
+        this.reuseBatch = reuseBatch;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!fetched) {
+            batch = fetchBatch();
+            fetched = true;
+        }
+        return batch != null;
+    }
+
+    @Nullable
+    private RecordBatch<T> fetchBatch() {
+        if (!records.hasNext()) {
+            return null;
+        }
+
+        final RecordBatch<T> nextBatch;
+        if (reuseBatch && batch != null) {
+            nextBatch = batch;
+            nextBatch.reset();
+        } else {
+            // after a first full batch, further batches are likely to be full as well
+            nextBatch = new RecordBatch<>(batch == null ? Math.min(INITIAL_CAPACITY, batchSize) : batchSize,
+                batchSize);
+        }
+
+        do {
+            nextBatch.append(records.next());
+        } while (!nextBatch.isFull() && records.hasNext());
+
+        if (!reuseBatch) {
+            nextBatch.trim();
+        }
+
+        return nextBatch;
+    }
+
+    @Override
+    public List<T> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        fetched = false;
+        return Objects.requireNonNull(batch);
+    }
+
+    @Override
+    public void close() throws IOException {
+        records.close();
+    }
+
+    /// Unmodifiable list backed by an array that grows up to a maximum size.
+    private static final class RecordBatch<T> extends AbstractList<T> implements RandomAccess {
+
+        private final int maxSize;
+        private Object[] elements;
+        private int size;
+
+        RecordBatch(final int initialCapacity, final int maxSize) {
+            this.maxSize = maxSize;
+            elements = new Object[initialCapacity];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(final int index) {
+            return (T) elements[Objects.checkIndex(index, size)];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        void append(final T element) {
+            if (size == elements.length) {
+                elements = Arrays.copyOf(elements, (int) Math.min(maxSize, elements.length * 2L));
+            }
+            elements[size++] = element;
+        }
+
+        /// Shrinks the backing array to the size of this batch.
+        void trim() {
+            if (size < elements.length) {
+                elements = Arrays.copyOf(elements, size);
+            }
+        }
+
+        void reset() {
+            Arrays.fill(elements, 0, size, null);
+            size = 0;
+        }
+
+        boolean isFull() {
+            return size == maxSize;
+        }
+
+    }
+
+}
@@ -0,0 +1,220 @@
+package de.siegmar.fastcsv.reader;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/// Finds the start of a record at an arbitrary position of a file without reading the data before it.
+///
+/// The state of the parser at the position is unknown – it could be within a quoted field, within a comment or at
+/// the beginning of a record. Instead of guessing, all possible states are tracked in parallel (a bit set of the
+/// states of a simplified version of the [ByteCsvParser] state machine). Each byte advances every state; states
+/// leading to a parse error are dropped. As the state machine is deterministic, the states merge quickly – usually
+/// at the end of the first line. Once a single state is left, the state at this position is known for sure and
+/// the next record boundary is found by simply following the state machine.
+///
+/// Data without any quote characters never resolves the state *within a quoted field*. A quoted field can't be
+/// larger than the maximum field size (the parser would fail on such a field anyway), so this state is ruled out
+/// if no quote character precedes the position within this distance (or since the last known record boundary).
+/// Otherwise, it is dropped once the field would exceed the maximum field size.
+@SuppressWarnings({
+    "checkstyle:CyclomaticComplexity",
+    "checkstyle:NPathComplexity",
+    "checkstyle:ReturnCount"
+})
+final class RecordBoundaryFinder {
+
+    private static final int BLOCK_SIZE = 64 * 1024;
+    private static final int BYTE_MASK = 0xFF;
+
+    // states
+    private static final int RECORD_START = 0;
+    private static final int RECORD_START_AFTER_CR = 1;
+    private static final int FIELD_START = 2;
+    private static final int UNQUOTED = 3;
+    private static final int QUOTED = 4;
+    private static final int AFTER_QUOTE = 5;
+    private static final int COMMENT = 6;
+    private static final int STATE_COUNT = 7;
+    private static final int ERROR = -1;
+
+    // byte classes
+    private static final int OTHER = 0;
+    private static final int FIELD_SEPARATOR = 1;
+    private static final int QUOTE = 2;
+    private static final int CR = 3;
+    private static final int LF = 4;
+    private static final int COMMENT_CHARACTER = 5;
+    private static final int CLASS_COUNT = 6;
+
+    private static final int ALL_STATES = (1 << STATE_COUNT) - 1;
+    private static final int OPENING_STATES =
+        1 << RECORD_START | 1 << RECORD_START_AFTER_CR | 1 << FIELD_START | 1 << AFTER_QUOTE;
+
+    private final byte quoteCharacter;
+    private final byte[] byteClasses = new byte[BYTE_MASK + 1];
+    private final int[][] transitions = new int[CLASS_COUNT][ALL_STATES + 1];
+
+    RecordBoundaryFinder(final char fieldSeparator, final char quoteCharacter,
+                         final CommentStrategy commentStrategy, final char commentCharacter,
+                         final boolean allowExtraCharsAfterClosingQuote) {
+        this.quoteCharacter = (byte) quoteCharacter;
+        byteClasses[fieldSeparator] = FIELD_SEPARATOR;
+        byteClasses[quoteCharacter] = QUOTE;
+        byteClasses['\r'] = CR;
+        byteClasses['\n'] = LF;
+        if (commentStrategy != CommentStrategy.NONE) {
+            byteClasses[commentCharacter] = COMMENT_CHARACTER;
+        }
+
+        for (int byteClass = 0; byteClass < CLASS_COUNT; byteClass++) {
+            for (int states = 0; states <= ALL_STATES; states++) {
+                transitions[byteClass][states] = nextStates(states, byteClass, allowExtraCharsAfterClosingQuote);
+            }
+        }
+    }
+
+    private static int nextStates(final int states, final int byteClass,
+                                  final boolean allowExtraCharsAfterClosingQuote) {
+        int next = 0;
+        for (int state = 0; state < STATE_COUNT; state++) {
+            if ((states & 1 << state) != 0) {
+                final int nextState = nextState(state, byteClass, allowExtraCharsAfterClosingQuote);
+                if (nextState != ERROR) {
+                    next |= 1 << nextState;
+                }
+            }
+        }
+        return next;
+    }
+
+    private static int nextState(final int state, final int byteClass,
+                                 final boolean allowExtraCharsAfterClosingQuote) {
+        if (state == QUOTED) {
+            return byteClass == QUOTE ? AFTER_QUOTE : QUOTED;
+        }
+
+        // line breaks end everything but quoted fields – CR LF is treated as a single line break
+        if (byteClass == CR) {
+            return RECORD_START_AFTER_CR;
+        }
+        if (byteClass == LF) {
+            return RECORD_START;
+        }
+
+        return switch (state) {
+            case RECORD_START, RECORD_START_AFTER_CR, FIELD_START -> switch (byteClass) {
+                case FIELD_SEPARATOR -> FIELD_START;
+                case QUOTE -> QUOTED;
+                case COMMENT_CHARACTER -> state == FIELD_START ? UNQUOTED : COMMENT;
+                default -> UNQUOTED;
+            };
+            case AFTER_QUOTE -> switch (byteClass) {
+                case FIELD_SEPARATOR -> FIELD_START;
+                case QUOTE -> QUOTED;
+                default -> allowExtraCharsAfterClosingQuote ? AFTER_QUOTE : ERROR;
+            };
+            case COMMENT -> COMMENT;
+            default -> byteClass == FIELD_SEPARATOR ? FIELD_START : UNQUOTED;
+        };
+    }
+
+    /// Finds the position of the first record boundary at or after the given position.
+    ///
+    /// @param channel      the channel to read from
+    /// @param boundary     the position of a known record boundary in front of `from`
+    /// @param from         the position to start searching from
+    /// @param to           the end of the range to search in (exclusive)
+    /// @param maxFieldSize the maximum size of a field in bytes
+    /// @return the position of the first byte of the record starting after `from` or `-1` if no record
+    ///     boundary could be determined before `to`
+    /// @throws IOException if an I/O error occurs
+    long find(final FileChannel channel, final long boundary, final long from, final long to,
+              final int maxFieldSize) throws IOException {
+
+        final ByteBuffer buffer = ByteBuffer.allocate(BLOCK_SIZE);
+        final byte[] buf = buffer.array();
+
+        long quotedSince = findLastQuote(channel, buffer, Math.max(boundary, from - maxFieldSize), from);
+        int states = quotedSince == -1 ? ALL_STATES & ~(1 << QUOTED) : ALL_STATES;
+        long blockStart = from;
+
+        while (blockStart < to) {
+            final int len = read(channel, buffer, blockStart, to);
+            if (len == 0) {
+                // file has been truncated
+                return -1;
+            }
+
+            for (int i = 0; i < len; i++) {
+                final long pos = blockStart + i;
+                final int byteClass = byteClasses[buf[i] & BYTE_MASK];
+
+                // a CR that is not followed by a LF ends the line
+                if (states == 1 << RECORD_START_AFTER_CR && byteClass != LF) {
+                    return pos;
+                }
+
+                if (byteClass == QUOTE && (states & OPENING_STATES) != 0) {
+                    quotedSince = pos;
+                }
+
+                states = transitions[byteClass][states];
+
+                if (pos - quotedSince >= maxFieldSize) {
+                    states &= ~(1 << QUOTED);
+                }
+
+                if (states == 1 << RECORD_START) {
+                    return pos + 1 < to ? pos + 1 : -1;
+                }
+
+                if (states == 0) {
+                    // no valid state left – let the parser report the problem
+                    return -1;
+                }
+            }
+            blockStart += len;
+        }
+
+        return -1;
+    }
+
+    /// Finds the last quote character in the given range by reading it backwards.
+    ///
+    /// @return the position of the last quote character or `-1` if the range contains no quote character
+    private long findLastQuote(final FileChannel channel, final ByteBuffer buffer, final long from, final long to)
+        throws IOException {
+        final byte[] buf = buffer.array();
+        long blockEnd = to;
+        while (blockEnd > from) {
+            final long blockStart = Math.max(from, blockEnd - buffer.capacity());
+            final int len = read(channel, buffer, blockStart, blockEnd);
+            for (int i = len - 1; i >= 0; i--) {
+                if (buf[i] == quoteCharacter) {
+                    return blockStart + i;
+                }
+            }
+            if (len == 0) {
+                // file has been truncated
+                break;
+            }
+            blockEnd = blockStart;
+        }
+        return -1;
+    }
+
+    private static int read(final FileChannel channel, final ByteBuffer buffer, final long position,
+                            final long to) throws IOException {
+        ((Buffer) buffer).clear();
+        ((Buffer) buffer).limit((int) Math.min(buffer.capacity(), to - position));
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) == -1) {
+                break;
+            }
+        }
+        return buffer.position();
+    }
+
+}
@@ -0,0 +1,63 @@
+package de.siegmar.fastcsv.reader;
+
+/// Counts the records found by a [CsvScanner] without materializing them.
+///
+/// Comments and empty lines are counted according to the configured comment strategy and empty line
+/// handling – the count matches the number of records a [CsvReader] with the same configuration would return
+/// (without field count consistency checks).
+final class RecordCounter implements CsvScanner.CsvListener {
+
+    private final CommentStrategy commentStrategy;
+    private final boolean skipEmptyLines;
+    private long recordCount;
+
+    RecordCounter(final CommentStrategy commentStrategy, final boolean skipEmptyLines) {
+        this.commentStrategy = commentStrategy;
+        this.skipEmptyLines = skipEmptyLines;
+    }
+
+    @Override
+    public void onReadBytes(final int readCnt) {
+        // not relevant for counting
+    }
+
+    @Override
+    public void startOffset(final long offset) {
+        // not relevant for counting
+    }
+
+    @Override
+    public void onReadRecord(final RecordType recordType) {
+        final boolean counted = switch (recordType) {
+            case DATA -> true;
+            case COMMENT -> commentStrategy == CommentStrategy.READ;
+            case EMPTY -> !skipEmptyLines;
+        };
+
+        if (counted) {
+            recordCount++;
+        }
+    }
+
+    @Override
+    public void additionalLine() {
+        // not relevant for counting
+    }
+
+    long getRecordCount() {
+        return recordCount;
+    }
+
+    /// A callback handler that ignores all field data and only returns the type of each record.
+    ///
+    /// Used for counting records if the data can't be scanned on byte level.
+    static final class RecordTypeHandler extends AbstractBaseCsvCallbackHandler<RecordType> {
+
+        @Override
+        protected RecordType buildRecord() {
+            return getRecordType();
+        }
+
+    }
+
+}
@@ -3,17 +3,18 @@ package de.siegmar.fastcsv.reader;
 import static de.siegmar.fastcsv.util.Util.CR;
 import static de.siegmar.fastcsv.util.Util.LF;
 
-import java.io.Closeable;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.Reader;
-import java.io.StringReader;
 
 import de.siegmar.fastcsv.util.Nullable;
 import de.siegmar.fastcsv.util.Preconditions;
 import de.siegmar.fastcsv.util.Util;
 
-/// Less strict but also less performant CSV parser.
+/// Less strict CSV parser – supports multi-character field separators and trimming whitespaces around quotes.
+///
+/// Like [StrictCsvParser], this parser scans ranges of its buffer and passes the fields to the callback handler
+/// directly from the buffer. Only the data of the current field (or line) is retained when more data is read.
 @SuppressWarnings({
     "checkstyle:CyclomaticComplexity",
     "checkstyle:ExecutableStatementCount",
@@ -24,8 +25,7 @@ import de.siegmar.fastcsv.util.Util;
 final class RelaxedCsvParser implements CsvParser {
 
     private static final char SPACE = ' ';
-    private static final int EOF = -1;
-    private static final int DEFAULT_BUFFER_SIZE = 8192;
+    private static final int DEFAULT_READ_SIZE = 8192;
 
     private final char fsep;
 
@@ -39,10 +39,19 @@ final class RelaxedCsvParser implements CsvParser {
     private final boolean allowUnclosedQuote;
     private final CsvCallbackHandler<?> callbackHandler;
     private final int maxBufferSize;
-    private final LookaheadReader reader;
+
+    @Nullable
+    private final Reader reader;
+
+    private final int readSize;
+    private final int initialSize;
+    private final CsvBufferPool bufferPool;
+    private char[] buf;
+    private int len;
+    private int begin;
+    private int pos;
+    private boolean endOfStream;
     private long startingLineNumber;
-    private char[] currentField;
-    private int currentFieldIndex;
     private int lines = 1;
 
     @SuppressWarnings("checkstyle:ParameterNumber")
@@ -52,11 +61,12 @@ final class RelaxedCsvParser implements CsvParser {
                      final boolean allowUnclosedQuote,
                      final CsvCallbackHandler<?> callbackHandler,
                      final int maxBufferSize,
+                     final CsvBufferPool bufferPool,
                      final Reader reader) {
         assertFields(fsep, qChar, cChar, cStrat);
 
         this.fsep = fsep.charAt(0);
-        fsepRemainder = extractFsepRemainder(fsep);
+        fsepRemainder = StrictCsvParser.extractFsepRemainder(fsep);
         this.qChar = qChar;
         this.cStrat = cStrat;
         this.cChar = cChar;
@@ -64,9 +74,15 @@ final class RelaxedCsvParser implements CsvParser {
         this.allowUnclosedQuote = allowUnclosedQuote;
         this.callbackHandler = callbackHandler;
         this.maxBufferSize = maxBufferSize;
-        final int initialBufferSize = Math.min(maxBufferSize, DEFAULT_BUFFER_SIZE);
-        this.reader = new LookaheadReader(reader, initialBufferSize, maxBufferSize);
-        currentField = new char[initialBufferSize];
+        this.bufferPool = bufferPool;
+        this.reader = reader;
+
+        // limit optimal read size to maxBufferSize
+        readSize = Math.min(maxBufferSize, DEFAULT_READ_SIZE);
+
+        // Buffer may still contain unprocessed data, so extra space is needed to read readSize chars.
+        initialSize = Math.min(maxBufferSize, readSize * 2);
+        buf = bufferPool.acquireChars(initialSize);
     }
 
     @SuppressWarnings("checkstyle:ParameterNumber")
@@ -80,7 +96,7 @@ final class RelaxedCsvParser implements CsvParser {
         assertFields(fsep, qChar, cChar, cStrat);
 
         this.fsep = fsep.charAt(0);
-        fsepRemainder = extractFsepRemainder(fsep);
+        fsepRemainder = StrictCsvParser.extractFsepRemainder(fsep);
         this.qChar = qChar;
         this.cStrat = cStrat;
         this.cChar = cChar;
@@ -88,9 +104,12 @@ final class RelaxedCsvParser implements CsvParser {
         this.allowUnclosedQuote = allowUnclosedQuote;
         this.callbackHandler = callbackHandler;
         this.maxBufferSize = maxBufferSize;
-        final int dataSize = Math.max(data.length(), 1);
-        reader = new LookaheadReader(new StringReader(data), dataSize, dataSize);
-        currentField = new char[Math.min(maxBufferSize, data.length())];
+        reader = null;
+        readSize = -1;
+        bufferPool = CsvBufferPool.NONE;
+        buf = data.toCharArray();
+        len = buf.length;
+        initialSize = len;
     }
 
     private static void assertFields(final String fieldSeparator, final char quoteCharacter,
@@ -111,221 +130,384 @@ final class RelaxedCsvParser implements CsvParser {
         }
     }
 
-    @Nullable
-    @SuppressWarnings({"PMD.AvoidLiteralsInIfCondition", "PMD.ReturnEmptyCollectionRatherThanNull"})
-    private static char[] extractFsepRemainder(final String fsep) {
-        if (fsep.length() <= 1) {
-            return null;
-        }
-        final char[] fsepRemainder = new char[fsep.length() - 1];
-        fsep.getChars(1, fsep.length(), fsepRemainder, 0);
-        return fsepRemainder;
-    }
-
-    @SuppressWarnings({"checkstyle:ReturnCount", "checkstyle:NPathComplexity", "PMD.AssignmentInOperand"})
+    @SuppressWarnings("checkstyle:ReturnCount")
     @Override
     public boolean parse() throws IOException {
         startingLineNumber += lines;
         lines = 1;
         callbackHandler.beginRecord(startingLineNumber);
 
-        int ch = reader.read();
-
-        if (ch == EOF) {
+        begin = pos;
+        if (!hasData()) {
             return false;
         }
-        if (ch == CR) {
-            reader.consumeLF();
-            callbackHandler.setEmpty();
-            return true;
-        }
-        if (ch == LF) {
+
+        final char ch = buf[pos];
+        if (ch == CR || ch == LF) {
+            pos++;
+            if (ch == CR) {
+                consumeLF();
+            }
             callbackHandler.setEmpty();
             return true;
         }
         if (ch == cChar && cStrat != CommentStrategy.NONE) {
+            pos++;
             parseComment();
             return true;
         }
 
-        do {
-            if (ch == qChar ? parseQuoted() : parseUnquoted(ch)) {
-                return true;
-            }
-        } while ((ch = reader.read()) != EOF);
+        while (parseField()) {
+            // continue with the next field of the record
+        }
 
-        callbackHandler.addField(currentField, 0, currentFieldIndex, false);
-        currentFieldIndex = 0;
         return true;
     }
 
-    @SuppressWarnings({
-        "checkstyle:ReturnCount",
-        "checkstyle:FinalParameters",
-        "checkstyle:ParameterAssignment",
-        "checkstyle:NPathComplexity",
-        "checkstyle:BooleanExpressionComplexity",
-        "PMD.AvoidReassigningParameters",
-        "PMD.AssignmentInOperand"
-    })
-    private boolean parseUnquoted(int ch) throws IOException {
-        boolean endOfRecord = true;
-        boolean onlyWhitespace = true;
+    /// Parses a field starting at the current position.
+    ///
+    /// @return `true` if the field is followed by a field separator, `false` if the record ended
+    private boolean parseField() throws IOException {
+        begin = pos;
+        if (hasData() && buf[pos] == qChar) {
+            begin = ++pos;
+            return parseQuoted();
+        }
+        return parseUnquoted();
+    }
+
+    @SuppressWarnings({"checkstyle:ReturnCount", "checkstyle:BooleanExpressionComplexity"})
+    private boolean parseUnquoted() throws IOException {
+        int p = pos;
+        while (true) {
+            final char[] lBuf = buf;
+            final int lLen = len;
 
-        do {
             // fast-forward
-            while (currentFieldIndex < currentField.length && reader.len > reader.start
-                && ch != CR && ch != LF && ch != fsep && ch != qChar) {
-                currentField[currentFieldIndex++] = (char) ch;
-                if (onlyWhitespace && ch > SPACE) {
-                    onlyWhitespace = false;
+            while (p < lLen) {
+                final char c = lBuf[p];
+                if (c == fsep || c == qChar || c == LF || c == CR) {
+                    break;
                 }
-                ch = reader.buffer[reader.start++];
+                p++;
             }
 
-            if (ch == fsep && (fsepRemainder == null || reader.consumeIf(fsepRemainder))) {
-                endOfRecord = false;
-                break;
-            }
-            if (ch == CR) {
-                reader.consumeLF();
-                break;
-            }
-            if (ch == LF) {
-                break;
-            }
-            if (ch == qChar && trimWhitespacesAroundQuotes && onlyWhitespace) {
-                currentFieldIndex = 0;
-                return parseQuoted();
+            pos = p;
+            if (p == lLen) {
+                if (!fetchData()) {
+                    addField(pos - begin, false);
+                    return false;
+                }
+                p = pos;
+                continue;
             }
 
-            appendChar(ch);
-            if (onlyWhitespace && ch > SPACE) {
-                onlyWhitespace = false;
+            final char c = lBuf[p];
+            if (c == fsep) {
+                final int fieldLen = p - begin;
+                if (consumeFieldSeparator()) {
+                    addField(fieldLen, false);
+                    return true;
+                }
+                // only the first char of a multi-char separator – part of the field
+                p = pos + 1;
+            } else if (c == qChar) {
+                if (trimWhitespacesAroundQuotes && isBlank(lBuf, begin, p)) {
+                    begin = pos = p + 1;
+                    return parseQuoted();
+                }
+                // quote within an unquoted field – part of the field
+                p++;
+            } else {
+                addField(p - begin, false);
+                pos = p + 1;
+                if (c == CR) {
+                    consumeLF();
+                }
+                return false;
             }
-        } while ((ch = reader.read()) != EOF);
-
-        callbackHandler.addField(currentField, 0, currentFieldIndex, false);
-        currentFieldIndex = 0;
-        return endOfRecord;
+        }
     }
 
     @SuppressWarnings({
-        "checkstyle:NPathComplexity",
         "checkstyle:ReturnCount",
-        "checkstyle:BooleanExpressionComplexity",
-        "PMD.AssignmentInOperand"
+        "checkstyle:NPathComplexity",
+        "checkstyle:BooleanExpressionComplexity"
     })
     private boolean parseQuoted() throws IOException {
-        boolean endOfRecord = true;
-
-        int ch;
-        OUTER: while (true) {
-            ch = reader.read();
-            if (ch == EOF) {
-                if (!allowUnclosedQuote) {
-                    throw new CsvParseException(
-                        "Unclosed quoted field at end of input (record starting at line %d)"
-                            .formatted(startingLineNumber));
-                }
-                break;
-            }
+        boolean escapes = false;
+        int p = pos;
+        while (true) {
+            final char[] lBuf = buf;
+            final int lLen = len;
 
             // fast-forward
-            while (currentFieldIndex < currentField.length && reader.len > reader.start
-                && ch != CR && ch != LF && ch != qChar) {
-                currentField[currentFieldIndex++] = (char) ch;
-                ch = reader.buffer[reader.start++];
+            for (; p < lLen; p++) {
+                final char c = lBuf[p];
+                if (c == qChar) {
+                    break;
+                }
+                if (c == CR || c == LF && (p == begin || lBuf[p - 1] != CR)) {
+                    lines++;
+                }
             }
 
-            if (ch == qChar && (ch = reader.read()) != qChar) {
-                // closing quote
-                for (; ch != EOF; ch = reader.read()) {
-                    if (ch == CR) {
-                        // CR right after closing quote
-                        reader.consumeLF();
-                        break OUTER;
-                    }
-                    if (ch == LF) {
-                        // LF right after closing quote
-                        break OUTER;
-                    }
-                    if (ch == fsep && (fsepRemainder == null || reader.consumeIf(fsepRemainder))) {
-                        // field separator after closing quote
-                        endOfRecord = false;
-                        break OUTER;
-                    }
-                    if (!trimWhitespacesAroundQuotes || ch > SPACE) {
+            pos = p;
+            if (p == lLen) {
+                if (!fetchData()) {
+                    if (!allowUnclosedQuote) {
                         throw new CsvParseException(
-                            "Unexpected character after closing quote: '%c' (0x%x) (record starting at line %d)"
-                                .formatted(ch, ch, startingLineNumber));
+                            "Unclosed quoted field at end of input (record starting at line %d)"
+                                .formatted(startingLineNumber));
                     }
+                    addQuotedField(pos, escapes);
+                    return false;
                 }
+                p = pos;
+                continue;
+            }
 
-                break;
+            // quote – either escaped by another quote or closing the field
+            if (p + 1 == len && !fetchData()) {
+                addQuotedField(pos, escapes);
+                pos++;
+                return false;
             }
+            p = pos;
 
-            appendChar(ch);
-            if (ch == CR) {
-                if (reader.consumeLF()) {
-                    appendChar(LF);
-                }
-                lines++;
-            } else if (ch == LF) {
-                lines++;
+            if (buf[p + 1] == qChar) {
+                escapes = true;
+                p += 2;
+                continue;
             }
+
+            addQuotedField(p, escapes);
+            pos = p + 1;
+            return consumeAfterClosingQuote();
         }
+    }
 
-        callbackHandler.addField(currentField, 0, currentFieldIndex, true);
-        currentFieldIndex = 0;
-        return endOfRecord;
+    /// Consumes the characters between a closing quote and the end of the field.
+    ///
+    /// @return `true` if the field is followed by a field separator, `false` if the record ended
+    @SuppressWarnings("checkstyle:ReturnCount")
+    private boolean consumeAfterClosingQuote() throws IOException {
+        begin = pos;
+        while (hasData()) {
+            final char c = buf[pos];
+            if (c == CR) {
+                pos++;
+                consumeLF();
+                return false;
+            }
+            if (c == LF) {
+                pos++;
+                return false;
+            }
+            if (c == fsep && consumeFieldSeparator()) {
+                return true;
+            }
+            if (!trimWhitespacesAroundQuotes || c > SPACE) {
+                throw new CsvParseException(
+                    "Unexpected character after closing quote: '%c' (0x%x) (record starting at line %d)"
+                        .formatted(c, (int) c, startingLineNumber));
+            }
+            begin = ++pos;
+        }
+        return false;
     }
 
-    @SuppressWarnings("PMD.AssignmentInOperand")
     private void parseComment() throws IOException {
-        int ch;
-        while ((ch = reader.read()) != EOF && ch != LF) {
-            if (ch == CR) {
-                reader.consumeLF();
+        begin = pos;
+        int p = pos;
+        while (true) {
+            final char[] lBuf = buf;
+            final int lLen = len;
+            while (p < lLen && lBuf[p] != CR && lBuf[p] != LF) {
+                p++;
+            }
+
+            pos = p;
+            if (p < lLen || !fetchData()) {
                 break;
             }
-            appendChar(ch);
+            p = pos;
         }
 
-        callbackHandler.setComment(currentField, 0, currentFieldIndex);
-        currentFieldIndex = 0;
+        callbackHandler.setComment(buf, begin, pos - begin);
+
+        if (pos < len && buf[pos++] == CR) {
+            consumeLF();
+        }
     }
 
-    private void appendChar(final int ch) {
-        if (currentField.length == currentFieldIndex) {
-            if (currentField.length == maxBufferSize) {
-                throw new CsvParseException("""
-                    The maximum buffer size of %d is \
-                    insufficient to read the data of a single field. \
-                    This issue typically arises when a quotation begins but does not conclude within the \
-                    confines of this buffer's maximum limit. \
-                    (record starting at line %d)""".formatted(maxBufferSize, startingLineNumber));
+    /// Consumes the field separator at the current position – if its remaining characters (of a multi-char
+    /// field separator) follow as well.
+    ///
+    /// @return `true` if the field separator was consumed
+    @SuppressWarnings("checkstyle:ReturnCount")
+    private boolean consumeFieldSeparator() throws IOException {
+        if (fsepRemainder == null) {
+            pos++;
+            return true;
+        }
+
+        while (len - pos <= fsepRemainder.length) {
+            if (!fetchData()) {
+                return false;
             }
-            final char[] newField = new char[Math.min(maxBufferSize, currentField.length * 2)];
-            System.arraycopy(currentField, 0, newField, 0, currentField.length);
-            currentField = newField;
         }
 
-        currentField[currentFieldIndex++] = (char) ch;
+        for (int i = 0; i < fsepRemainder.length; i++) {
+            if (buf[pos + 1 + i] != fsepRemainder[i]) {
+                return false;
+            }
+        }
+
+        pos += 1 + fsepRemainder.length;
+        return true;
+    }
+
+    private void consumeLF() throws IOException {
+        begin = pos;
+        if (hasData() && buf[pos] == LF) {
+            pos++;
+        }
+    }
+
+    private static boolean isBlank(final char[] lBuf, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            if (lBuf[i] > SPACE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void addField(final int fieldLen, final boolean quoted) {
+        if (!callbackHandler.skipField()) {
+            callbackHandler.addField(buf, begin, fieldLen, quoted);
+        }
+    }
+
+    private void addQuotedField(final int end, final boolean escapes) {
+        if (!callbackHandler.skipField()) {
+            final int fieldLen = escapes
+                ? StrictCsvParser.cleanDelimiters(buf, begin, end, qChar)
+                : end - begin;
+            callbackHandler.addField(buf, begin, fieldLen, true);
+        }
+    }
+
+    private boolean hasData() throws IOException {
+        return pos < len || fetchData();
+    }
+
+    /// Reads data from the underlying reader – retaining the data from [#begin] on.
+    ///
+    /// @return `true`, if data was fetched, `false` if the end of the stream was reached
+    /// @throws IOException       if a read error occurs
+    /// @throws CsvParseException if the retained data already fills the maximum buffer size
+    private boolean fetchData() throws IOException {
+        if (reader == null || endOfStream) {
+            return false;
+        }
+
+        if (!makeRoom()) {
+            throw new CsvParseException("""
+                The maximum buffer size of %d is \
+                insufficient to read the data of a single field. \
+                This issue typically arises when a quotation begins but does not conclude within the \
+                confines of this buffer's maximum limit. \
+                (record starting at line %d)""".formatted(maxBufferSize, startingLineNumber));
+        }
+
+        final int cnt = reader.read(buf, len, Math.min(readSize, buf.length - len));
+        if (cnt == -1) {
+            endOfStream = true;
+            return false;
+        }
+        len += cnt;
+        return true;
+    }
+
+    /// Discards the data before [#begin] and enlarges the buffer (up to the maximum buffer size) if
+    /// there is not enough space to read [#readSize] chars.
+    ///
+    /// Once the data of an oversized record has been consumed, the buffer returns to its initial size – so
+    /// that a single oversized record doesn't retain a large buffer for the rest of the data.
+    ///
+    /// @return `false` if the retained data already fills the maximum buffer size
+    private boolean makeRoom() {
+        final int retained = len - begin;
+        if (buf.length > initialSize && retained + readSize <= initialSize) {
+            relocate(bufferPool.acquireChars(initialSize));
+            return true;
+        }
+
+        if (buf.length - len >= readSize) {
+            return true;
+        }
+
+        relocate(buf.length - retained >= readSize || buf.length == maxBufferSize
+            ? buf
+            : new char[(int) Math.min(maxBufferSize, Math.max(buf.length * 2L, (long) retained + readSize))]);
+
+        return retained < buf.length;
+    }
+
+    /// Moves the data from [#begin] on to the beginning of the given buffer and replaces the current
+    /// buffer with it.
+    private void relocate(final char[] target) {
+        System.arraycopy(buf, begin, target, 0, len - begin);
+        if (target != buf) {
+            bufferPool.release(buf);
+            buf = target;
+        }
+        pos -= begin;
+        len -= begin;
+        begin = 0;
     }
 
     @Override
     public String peekLine() throws IOException {
-        return reader.peekLine();
+        begin = pos;
+        if (!hasData()) {
+            throw new EOFException();
+        }
+
+        int p = pos;
+        while (true) {
+            while (p < len && buf[p] != CR && buf[p] != LF) {
+                p++;
+            }
+
+            pos = p;
+            if (p < len) {
+                break;
+            }
+            if (reader != null && !makeRoom()) {
+                throw new CsvParseException(
+                    "The maximum buffer size of %d is insufficient to read a single line (line %d)."
+                        .formatted(maxBufferSize, startingLineNumber + 1));
+            }
+            if (!fetchData()) {
+                break;
+            }
+            p = pos;
+        }
+
+        final String line = new String(buf, begin, pos - begin);
+        pos = begin;
+        return line;
     }
 
-    @SuppressWarnings({"checkstyle:MultipleVariableDeclarations", "PMD.AssignmentInOperand"})
     @Override
     public void skipLine(final int numCharsToSkip) throws IOException {
-        reader.skip(numCharsToSkip);
+        pos += numCharsToSkip;
+        begin = pos;
 
-        int c = reader.read();
-        if (c == EOF) {
+        if (!hasData()) {
             if (numCharsToSkip == 0) {
                 throw new EOFException();
             }
@@ -335,14 +517,16 @@ final class RelaxedCsvParser implements CsvParser {
         }
 
         do {
+            final char c = buf[pos++];
+            begin = pos;
             if (c == CR) {
-                reader.consumeLF();
+                consumeLF();
                 break;
             }
             if (c == LF) {
                 break;
             }
-        } while ((c = reader.read()) != EOF);
+        } while (hasData());
 
         // Count the skipped line, whether it ended with a line break or with the end of data.
         startingLineNumber++;
@@ -362,116 +546,17 @@ final class RelaxedCsvParser implements CsvParser {
 
     @Override
     public void close() throws IOException {
-        reader.close();
-    }
-
-    private final class LookaheadReader implements Closeable {
-
-        private final Reader reader;
-        private final int maxBufferSize;
-        private char[] buffer;
-        private int start;
-        private int len;
-
-        LookaheadReader(final Reader reader, final int bufferSize, final int maxBufferSize) {
-            this.reader = reader;
-            this.maxBufferSize = maxBufferSize;
-            buffer = new char[bufferSize];
-        }
-
-        int read() throws IOException {
-            return ensureBuffered(1) ? buffer[start++] : -1;
-        }
-
-        boolean consumeLF() throws IOException {
-            if (!ensureBuffered(1) || buffer[start] != LF) {
-                return false;
-            }
-            start++;
-            return true;
-        }
-
-        @SuppressWarnings("PMD.UseVarargs")
-        boolean consumeIf(final char[] chars) throws IOException {
-            if (!ensureBuffered(chars.length)) {
-                return false;
-            }
-            for (int i = 0; i < chars.length; i++) {
-                if (buffer[start + i] != chars[i]) {
-                    return false;
-                }
-            }
-            start += chars.length;
-            return true;
+        // a buffer retained by the pool may already be used by another parser
+        if (bufferPool.release(buf)) {
+            buf = new char[0];
+            len = 0;
+            begin = 0;
+            pos = 0;
         }
 
-        String peekLine() throws IOException {
-            if (!ensureBuffered(1)) {
-                throw new EOFException();
-            }
-            int scan = 0;
-            do {
-                while (start + scan < len
-                    && buffer[start + scan] != CR && buffer[start + scan] != LF) {
-                    scan++;
-                }
-            } while (start + scan >= len && ensureBuffered(scan + 1));
-            return new String(buffer, start, scan);
-        }
-
-        /// Ensures `required` characters are available in the buffer.
-        /// Returns `true` if so, `false` if EOF was reached before that count was met.
-        private boolean ensureBuffered(final int required) throws IOException {
-            if (len == -1) {
-                return false;
-            }
-            final int available = len - start;
-            if (required <= available) {
-                return true;
-            }
-
-            if (required > buffer.length) {
-                // grow (relocates `start` to 0 along the way)
-                if (required > maxBufferSize) {
-                    throw new CsvParseException(
-                        "The maximum buffer size of %d is insufficient to read a single line (line %d)."
-                            .formatted(maxBufferSize, startingLineNumber + 1));
-                }
-                final char[] newBuf = new char[Math.min(maxBufferSize, Math.max(buffer.length * 2, required))];
-                System.arraycopy(buffer, start, newBuf, 0, available);
-                buffer = newBuf;
-                start = 0;
-                len = available;
-            } else if (required > buffer.length - start) {
-                // compact
-                System.arraycopy(buffer, start, buffer, 0, available);
-                start = 0;
-                len = available;
-            }
-
-            // fetch more data
-            while (len - start < required) {
-                final int count = reader.read(buffer, len, buffer.length - len);
-                if (count == -1) {
-                    if (start >= len) {
-                        len = -1;
-                    }
-                    break;
-                }
-                len += count;
-            }
-            return len - start >= required;
-        }
-
-        void skip(final int numCharsToSkip) {
-            start += numCharsToSkip;
-        }
-
-        @Override
-        public void close() throws IOException {
+        if (reader != null) {
             reader.close();
         }
-
     }
 
 }
@@ -0,0 +1,75 @@
+package de.siegmar.fastcsv.reader;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/// A mutable [CsvRecord] that is reused by a [CsvRecordHandler] for every record.
+///
+/// Instead of holding a compacted copy of the fields, it refers to the (larger) fields array of the handler and
+/// only considers the first `fieldCount` elements of it. The record and its fields are only valid until the
+/// next record is read.
+///
+/// @see CsvRecordHandler.CsvRecordHandlerBuilder#reuseRecord(boolean)
+final class ReusableCsvRecord extends CsvRecord {
+
+    private static final String[] EMPTY = new String[0];
+
+    private long currentStartingLineNumber;
+    private String[] currentFields = EMPTY;
+    private int fieldCount;
+    private boolean currentComment;
+
+    ReusableCsvRecord() {
+        super(0, EMPTY, false);
+    }
+
+    @SuppressWarnings("checkstyle:HiddenField")
+    void set(final long startingLineNumber, final String[] fields, final int fieldCount, final boolean comment) {
+        currentStartingLineNumber = startingLineNumber;
+        currentFields = fields;
+        this.fieldCount = fieldCount;
+        currentComment = comment;
+    }
+
+    @Override
+    public long getStartingLineNumber() {
+        return currentStartingLineNumber;
+    }
+
+    @Override
+    public String getField(final int index) {
+        Objects.checkIndex(index, fieldCount);
+        return currentFields[index];
+    }
+
+    /// {@inheritDoc}
+    ///
+    /// The returned list is a view backed by the reused fields array – it changes when the next record is read.
+    @Override
+    public List<String> getFields() {
+        return Collections.unmodifiableList(Arrays.asList(currentFields).subList(0, fieldCount));
+    }
+
+    @Override
+    public int getFieldCount() {
+        return fieldCount;
+    }
+
+    @Override
+    public boolean isComment() {
+        return currentComment;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", CsvRecord.class.getSimpleName() + "[", "]")
+            .add("startingLineNumber=" + currentStartingLineNumber)
+            .add("fields=" + getFields())
+            .add("comment=" + currentComment)
+            .toString();
+    }
+
+}
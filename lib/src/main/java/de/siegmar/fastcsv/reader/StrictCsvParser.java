@@ -7,6 +7,7 @@ import java.io.Closeable;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.Reader;
+import java.util.Objects;
 
 import de.siegmar.fastcsv.util.Nullable;
 import de.siegmar.fastcsv.util.Preconditions;
@@ -33,6 +34,11 @@ final class StrictCsvParser implements CsvParser {
     private static final int STATUS_RESET = 0;
 
     private final char fsep;
+
+    /// The remaining characters of a multi-character field separator (`null` for a single-character one).
+    @Nullable
+    private final char[] fsepRemainder;
+
     private final char qChar;
     private final char cChar;
     private final boolean commentsEnabled;
@@ -48,29 +54,65 @@ final class StrictCsvParser implements CsvParser {
     private int status;
     private boolean finished;
 
+    // push mode (see CsvFeeder)
+    private final boolean pushMode;
+    private boolean endOfInput;
+    private boolean recordPending;
+
+    // multi-character field separator at the end of the buffer – more data needed to verify it
+    private boolean separatorPending;
+    private boolean dataEnded;
+
     @SuppressWarnings("checkstyle:ParameterNumber")
-    StrictCsvParser(final char fieldSeparator, final char quoteCharacter,
+    StrictCsvParser(final String fieldSeparator, final char quoteCharacter,
                     final CommentStrategy commentStrategy, final char commentCharacter,
                     final boolean allowExtraCharsAfterClosingQuote,
                     final boolean allowUnclosedQuote,
                     final CsvCallbackHandler<?> callbackHandler,
                     final int maxBufferSize,
+                    final CsvBufferPool bufferPool,
                     final Reader reader) {
 
         assertFields(fieldSeparator, quoteCharacter, commentCharacter, commentStrategy);
 
-        fsep = fieldSeparator;
+        fsep = fieldSeparator.charAt(0);
+        fsepRemainder = extractFsepRemainder(fieldSeparator);
         qChar = quoteCharacter;
         cChar = commentCharacter;
         commentsEnabled = commentStrategy != CommentStrategy.NONE;
         this.allowExtraCharsAfterClosingQuote = allowExtraCharsAfterClosingQuote;
         this.allowUnclosedQuote = allowUnclosedQuote;
         this.callbackHandler = callbackHandler;
-        csvBuffer = new CsvBuffer(reader, maxBufferSize);
+        csvBuffer = new CsvBuffer(reader, maxBufferSize, bufferPool);
+        pushMode = false;
     }
 
+    /// Constructs a parser in push mode – the data is passed via [#append(char\[\], int, int)].
     @SuppressWarnings("checkstyle:ParameterNumber")
-    StrictCsvParser(final char fieldSeparator, final char quoteCharacter,
+    StrictCsvParser(final String fieldSeparator, final char quoteCharacter,
+                    final CommentStrategy commentStrategy, final char commentCharacter,
+                    final boolean allowExtraCharsAfterClosingQuote,
+                    final boolean allowUnclosedQuote,
+                    final CsvCallbackHandler<?> callbackHandler,
+                    final int maxBufferSize,
+                    final CsvBufferPool bufferPool) {
+
+        assertFields(fieldSeparator, quoteCharacter, commentCharacter, commentStrategy);
+
+        fsep = fieldSeparator.charAt(0);
+        fsepRemainder = extractFsepRemainder(fieldSeparator);
+        qChar = quoteCharacter;
+        cChar = commentCharacter;
+        commentsEnabled = commentStrategy != CommentStrategy.NONE;
+        this.allowExtraCharsAfterClosingQuote = allowExtraCharsAfterClosingQuote;
+        this.allowUnclosedQuote = allowUnclosedQuote;
+        this.callbackHandler = callbackHandler;
+        csvBuffer = new CsvBuffer(null, maxBufferSize, bufferPool);
+        pushMode = true;
+    }
+
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    StrictCsvParser(final String fieldSeparator, final char quoteCharacter,
                     final CommentStrategy commentStrategy, final char commentCharacter,
                     final boolean allowExtraCharsAfterClosingQuote,
                     final boolean allowUnclosedQuote,
@@ -79,7 +121,8 @@ final class StrictCsvParser implements CsvParser {
 
         assertFields(fieldSeparator, quoteCharacter, commentCharacter, commentStrategy);
 
-        fsep = fieldSeparator;
+        fsep = fieldSeparator.charAt(0);
+        fsepRemainder = extractFsepRemainder(fieldSeparator);
         qChar = quoteCharacter;
         cChar = commentCharacter;
         commentsEnabled = commentStrategy != CommentStrategy.NONE;
@@ -87,10 +130,18 @@ final class StrictCsvParser implements CsvParser {
         this.allowUnclosedQuote = allowUnclosedQuote;
         this.callbackHandler = callbackHandler;
         csvBuffer = new CsvBuffer(data);
+        pushMode = false;
+    }
+
+    static void assertFields(final String fieldSeparator, final char quoteCharacter,
+                             final char commentCharacter, final CommentStrategy commentStrategy) {
+        Preconditions.checkArgument(!Util.containsNewline(fieldSeparator),
+            "fieldSeparator must not contain newline chars");
+        assertFields(fieldSeparator.charAt(0), quoteCharacter, commentCharacter, commentStrategy);
     }
 
-    private static void assertFields(final char fieldSeparator, final char quoteCharacter,
-                              final char commentCharacter, final CommentStrategy commentStrategy) {
+    static void assertFields(final char fieldSeparator, final char quoteCharacter,
+                             final char commentCharacter, final CommentStrategy commentStrategy) {
         Preconditions.checkArgument(!Util.isNewline(fieldSeparator), "fieldSeparator must not contain newline chars");
         Preconditions.checkArgument(!Util.isNewline(quoteCharacter), "quoteCharacter must not be a newline char");
         Preconditions.checkArgument(!Util.isNewline(commentCharacter), "commentCharacter must not be a newline char");
@@ -107,6 +158,17 @@ final class StrictCsvParser implements CsvParser {
         }
     }
 
+    @Nullable
+    @SuppressWarnings({"PMD.AvoidLiteralsInIfCondition", "PMD.ReturnEmptyCollectionRatherThanNull"})
+    static char[] extractFsepRemainder(final String fieldSeparator) {
+        if (fieldSeparator.length() <= 1) {
+            return null;
+        }
+        final char[] fsepRemainder = new char[fieldSeparator.length() - 1];
+        fieldSeparator.getChars(1, fieldSeparator.length(), fsepRemainder, 0);
+        return fsepRemainder;
+    }
+
     @SuppressWarnings("checkstyle:ReturnCount")
     @Override
     public boolean parse() throws IOException {
@@ -115,23 +177,59 @@ final class StrictCsvParser implements CsvParser {
             return false;
         }
 
-        startingLineNumber += lines;
-        lines = 1;
-        callbackHandler.beginRecord(startingLineNumber);
-        firstField = true;
+        if (!recordPending) {
+            startingLineNumber += lines;
+            lines = 1;
+            callbackHandler.beginRecord(startingLineNumber);
+            firstField = true;
+        }
 
         do {
-            if (csvBuffer.len == csvBuffer.pos && !csvBuffer.fetchData()) {
-                // buffer is processed and no more data available
-                finished = true;
-                return processBufferTail();
+            if (csvBuffer.len == csvBuffer.pos || separatorPending) {
+                if (!csvBuffer.fetchData()) {
+                    if (pushMode && !endOfInput) {
+                        // continue the record as soon as more data is appended
+                        recordPending = true;
+                        return false;
+                    }
+
+                    if (separatorPending) {
+                        // an incomplete field separator at the end of the data is regular data
+                        separatorPending = false;
+                        dataEnded = true;
+                        continue;
+                    }
+
+                    // buffer is processed and no more data available
+                    finished = true;
+                    return processBufferTail();
+                }
+                separatorPending = false;
             }
         } while (consume(csvBuffer.buf, csvBuffer.len));
 
         // we read data (and passed it to the record handler)
+        recordPending = false;
         return true;
     }
 
+    /// Appends data to be parsed (push mode only).
+    ///
+    /// @param data the data to append
+    /// @param off  the offset of the data
+    /// @param len  the length of the data
+    void append(final char[] data, final int off, final int len) {
+        csvBuffer.append(data, off, len);
+        separatorPending = false;
+    }
+
+    /// Signals that no more data will be appended (push mode only).
+    ///
+    /// Subsequent calls of [#parse()] complete the last record and return `false` afterward.
+    void endOfInput() {
+        endOfInput = true;
+    }
+
     private boolean processBufferTail() {
         if (csvBuffer.begin < csvBuffer.pos) {
             // we have unconsumed data in the buffer
@@ -216,11 +314,18 @@ final class StrictCsvParser implements CsvParser {
                     while (lPos < lLen) {
                         final char c = lBuf[lPos++];
 
-                        if (c == fsep) {
+                        if (c == fsep && (fsepRemainder == null || matchesFsepRemainder(lBuf, lPos, lLen))) {
                             materialize(lBuf, lBegin, lPos - 1, lStatus, qChar);
+                            if (fsepRemainder != null) {
+                                lPos += fsepRemainder.length;
+                            }
                             lStatus = STATUS_NEW_FIELD;
                             lBegin = lPos;
                             firstField = false;
+                        } else if (separatorPending) {
+                            // continue with the first char of the field separator when more data is available
+                            lPos--;
+                            break mode_check;
                         } else if (c == CR) {
                             if (firstField && lPos - 1 == lBegin) {
                                 callbackHandler.setEmpty();
@@ -286,10 +391,33 @@ final class StrictCsvParser implements CsvParser {
         return moreDataNeeded;
     }
 
+    /// Checks if the remaining characters of a multi-character field separator follow at the given position.
+    ///
+    /// If the buffered data is too short to decide (and more data may follow), [#separatorPending] is set.
+    private boolean matchesFsepRemainder(final char[] lBuf, final int lPos, final int lLen) {
+        final char[] remainder = Objects.requireNonNull(fsepRemainder);
+        final int available = Math.min(remainder.length, lLen - lPos);
+        for (int i = 0; i < available; i++) {
+            if (lBuf[lPos + i] != remainder[i]) {
+                return false;
+            }
+        }
+
+        if (available < remainder.length) {
+            separatorPending = !dataEnded;
+            return false;
+        }
+        return true;
+    }
+
     private void materialize(final char[] lBuf,
                              final int lBegin, final int lPos, final int lStatus,
                              final char quoteCharacter) {
 
+        if ((lStatus & STATUS_COMMENTED_RECORD) == 0 && callbackHandler.skipField()) {
+            return;
+        }
+
         if ((lStatus & STATUS_QUOTED_FIELD) != 0) {
             // field with quotes
             final int beginAfterQuote = lBegin + 1;
@@ -318,7 +446,7 @@ final class StrictCsvParser implements CsvParser {
     /// @param end            the end position of the field data (on the closing quote / end of buffer)
     /// @param quoteCharacter the quote character
     /// @return the length of the field data after removing escapes
-    private static int cleanDelimiters(final char[] buf, final int begin, final int end,
+    static int cleanDelimiters(final char[] buf, final int begin, final int end,
                                        final char quoteCharacter) {
 
         int i = begin;
@@ -360,6 +488,9 @@ final class StrictCsvParser implements CsvParser {
         lines = 1;
         status = STATUS_RESET;
         finished = false;
+        recordPending = false;
+        separatorPending = false;
+        dataEnded = false;
     }
 
     @Override
@@ -436,17 +567,21 @@ final class StrictCsvParser implements CsvParser {
 
         private final int maxBufferSize;
         private final int readSize;
+        private final int initialSize;
+        private final CsvBufferPool bufferPool;
 
-        CsvBuffer(final Reader reader, final int maxBufferSize) {
+        CsvBuffer(@Nullable final Reader reader, final int maxBufferSize, final CsvBufferPool bufferPool) {
             Preconditions.checkArgument(maxBufferSize > 0, "maxBufferSize must be > 0");
             this.reader = reader;
             this.maxBufferSize = maxBufferSize;
+            this.bufferPool = bufferPool;
 
             // limit optimal read size to maxBufferSize
             readSize = Math.min(maxBufferSize, DEFAULT_READ_SIZE);
 
             // Buffer may still contain unprocessed data, so extra space is needed to read readSize chars.
-            buf = new char[Math.min(maxBufferSize, readSize * 2)];
+            initialSize = Math.min(maxBufferSize, readSize * 2);
+            buf = bufferPool.acquireChars(initialSize);
         }
 
         CsvBuffer(final String data) {
@@ -455,6 +590,8 @@ final class StrictCsvParser implements CsvParser {
             buf = data.toCharArray();
             len = data.length();
             readSize = -1;
+            initialSize = buf.length;
+            bufferPool = CsvBufferPool.NONE;
         }
 
         /// Reads data from the underlying reader and manages the local buffer.
@@ -467,6 +604,8 @@ final class StrictCsvParser implements CsvParser {
                 return false;
             }
 
+            shrink(readSize);
+
             if (buf.length - len < readSize) {
                 // not enough space in the buffer to read readSize chars
 
@@ -474,22 +613,14 @@ final class StrictCsvParser implements CsvParser {
                     // all data was consumed -- nothing to relocate
                     len = 0;
                     pos = 0;
+                    begin = 0;
+                } else if (buf.length - len + begin < readSize) {
+                    // reclaimable space is insufficient - allocate a larger buffer
+                    relocate(largerBuffer());
                 } else {
-                    if (buf.length - len + begin < readSize) {
-                        // reclaimable space is insufficient - allocate a larger buffer
-                        final char[] newBuf = largerBuffer();
-                        System.arraycopy(buf, begin, newBuf, 0, len - begin);
-                        buf = newBuf;
-                    } else {
-                        // it's enough to relocate data and continue with the same buffer
-                        System.arraycopy(buf, begin, buf, 0, len - begin);
-                    }
-
-                    pos -= begin;
-                    len -= begin;
+                    // it's enough to relocate data and continue with the same buffer
+                    relocate(buf);
                 }
-
-                begin = 0;
             }
 
             final int cnt = reader.read(buf, len, readSize);
@@ -500,18 +631,67 @@ final class StrictCsvParser implements CsvParser {
             return true;
         }
 
+        /// Appends data to the buffer (push mode).
+        ///
+        /// Like [#fetchData()], already processed data is discarded and the buffer is enlarged (up to
+        /// the maximum buffer size) if necessary.
+        private void append(final char[] data, final int off, final int cnt) {
+            shrink(cnt);
+
+            if (buf.length - len < cnt) {
+                final int required = len - begin + cnt;
+                if (required <= buf.length) {
+                    relocate(buf);
+                } else if (required <= maxBufferSize) {
+                    relocate(new char[(int) Math.min(maxBufferSize, Math.max(required, buf.length * 2L))]);
+                } else {
+                    throw insufficientBufferException();
+                }
+            }
+
+            System.arraycopy(data, off, buf, len, cnt);
+            len += cnt;
+        }
+
+        /// Returns to a buffer of the initial size once the data of an oversized record has been consumed –
+        /// so that a single oversized record doesn't retain a large buffer for the rest of the data.
+        ///
+        /// @param required the number of chars to be added to the buffer
+        private void shrink(final int required) {
+            if (buf.length > initialSize && len - begin + required <= initialSize) {
+                relocate(bufferPool.acquireChars(initialSize));
+            }
+        }
+
+        /// Moves the data from [#begin] on to the beginning of the given buffer and replaces the current
+        /// buffer with it.
+        private void relocate(final char[] target) {
+            System.arraycopy(buf, begin, target, 0, len - begin);
+            if (target != buf) {
+                bufferPool.release(buf);
+                buf = target;
+            }
+            pos -= begin;
+            len -= begin;
+            begin = 0;
+        }
+
         private char[] largerBuffer() {
             if (maxBufferSize == buf.length) {
-                throw new CsvParseException("""
-                    The maximum buffer size of %d is \
-                    insufficient to read the data of a single field. \
-                    This issue typically arises when a quotation begins but does not conclude within the \
-                    confines of this buffer's maximum limit. \
-                    (record starting at line %d)""".formatted(maxBufferSize, startingLineNumber));
+                throw insufficientBufferException();
             }
             return new char[Math.min(maxBufferSize, buf.length * 2)];
         }
 
+        private CsvParseException insufficientBufferException() {
+            return new CsvParseException("""
+                The maximum buffer size of %d is \
+                insufficient to read the data of a single field. \
+                This issue typically arises when a quotation begins but does not conclude within the \
+                confines of this buffer's maximum limit. \
+                (record starting at line %d)""".formatted(maxBufferSize, startingLineNumber));
+        }
+
         private void reset() {
             len = 0;
             begin = 0;
@@ -520,6 +700,12 @@ final class StrictCsvParser implements CsvParser {
 
         @Override
         public void close() throws IOException {
+            // a buffer retained by the pool may already be used by another parser
+            if (bufferPool.release(buf)) {
+                buf = new char[0];
+                reset();
+            }
+
             if (reader != null) {
                 reader.close();
             }
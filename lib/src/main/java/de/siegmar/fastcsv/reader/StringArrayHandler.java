@@ -1,8 +1,11 @@
 package de.siegmar.fastcsv.reader;
 
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Consumer;
 
+import de.siegmar.fastcsv.util.Nullable;
+
 /// A [CsvCallbackHandler] implementation that returns the fields of each record as an array of Strings.
 ///
 /// Example:
@@ -16,8 +19,11 @@ import java.util.function.Consumer;
 public final class StringArrayHandler extends AbstractInternalCsvCallbackHandler<String[]> {
 
     private StringArrayHandler(final int maxFields, final int maxFieldSize, final int maxRecordSize,
-                               final FieldModifier fieldModifier) {
-        super(maxFields, maxFieldSize, maxRecordSize, fieldModifier);
+                               final int internCacheSize,
+                               final FieldModifier fieldModifier,
+                               @Nullable final int[] selectedColumns,
+                               final Map<Integer, FieldPredicate> filters) {
+        super(maxFields, maxFieldSize, maxRecordSize, internCacheSize, fieldModifier, selectedColumns, filters);
     }
 
     /// Constructs a new builder instance for this class.
@@ -52,9 +58,10 @@ public final class StringArrayHandler extends AbstractInternalCsvCallbackHandler
         return builder.build();
     }
 
+    @Nullable
     @Override
     protected String[] buildRecord() {
-        return compactFields();
+        return isRejected() ? null : compactFields();
     }
 
     /// A builder for [StringArrayHandler].
@@ -75,7 +82,8 @@ public final class StringArrayHandler extends AbstractInternalCsvCallbackHandler
         /// @throws IllegalArgumentException if argument constraints are violated
         ///     (see [AbstractInternalCsvCallbackHandler])
         public StringArrayHandler build() {
-            return new StringArrayHandler(maxFields, maxFieldSize, maxRecordSize, fieldModifier);
+            return new StringArrayHandler(maxFields, maxFieldSize, maxRecordSize, internCacheSize, fieldModifier,
+                selectedColumns, filters);
         }
 
     }
@@ -0,0 +1,109 @@
+package de.siegmar.fastcsv.reader;
+
+import java.util.Arrays;
+
+/// Reuses the String instances of repeating field values – separately for each column.
+///
+/// Each column has its own open addressing hash table with room for `maxSize` distinct values. A value is looked
+/// up directly from the character range of the buffer, so a cache hit doesn't allocate anything. Once a column
+/// exceeds `maxSize` distinct values, it is considered a high-cardinality column: its table is evicted and values
+/// of this column are no longer cached. Values longer than {@value #MAX_VALUE_LENGTH} characters are never cached.
+///
+/// This implementation is not thread-safe.
+final class StringCache {
+
+    /// Values longer than this are not cached as they are unlikely to repeat.
+    static final int MAX_VALUE_LENGTH = 64;
+
+    private static final int HASH_MULTIPLIER = 31;
+    private static final int HASH_SPREAD_SHIFT = 16;
+    private static final String[] EVICTED = new String[0];
+
+    private final int maxSize;
+    private final int tableSize;
+    private String[][] tables = new String[0][];
+    private int[] sizes = new int[0];
+
+    /// Constructs a new cache.
+    ///
+    /// @param maxSize the maximum number of distinct values per column; must be > 0
+    StringCache(final int maxSize) {
+        this.maxSize = maxSize;
+
+        // keep the load factor at or below 0.5
+        tableSize = Integer.highestOneBit(maxSize) << 2;
+    }
+
+    /// Returns the String for the given character range – a cached instance, if possible.
+    ///
+    /// @param column the index of the column the value belongs to
+    /// @param buf    the buffer containing the value
+    /// @param offset the offset of the value in the buffer
+    /// @param len    the length of the value
+    /// @return the (possibly cached) value
+    String get(final int column, final char[] buf, final int offset, final int len) {
+        final String[] table = len <= MAX_VALUE_LENGTH ? table(column) : EVICTED;
+        if (table == EVICTED) {
+            return new String(buf, offset, len);
+        }
+
+        final int hash = hash(buf, offset, len);
+        final int mask = table.length - 1;
+        int idx = (hash ^ hash >>> HASH_SPREAD_SHIFT) & mask;
+        String entry = table[idx];
+        while (entry != null) {
+            if (entry.hashCode() == hash && contentEquals(entry, buf, offset, len)) {
+                return entry;
+            }
+            idx = idx + 1 & mask;
+            entry = table[idx];
+        }
+
+        final String value = new String(buf, offset, len);
+        if (sizes[column] == maxSize) {
+            // too many distinct values – caching this column is not worth it
+            tables[column] = EVICTED;
+        } else {
+            table[idx] = value;
+            sizes[column]++;
+        }
+        return value;
+    }
+
+    private String[] table(final int column) {
+        if (column >= tables.length) {
+            final int newLength = Math.max(column + 1, tables.length * 2);
+            tables = Arrays.copyOf(tables, newLength);
+            sizes = Arrays.copyOf(sizes, newLength);
+        }
+
+        String[] table = tables[column];
+        if (table == null) {
+            table = new String[tableSize];
+            tables[column] = table;
+        }
+        return table;
+    }
+
+    /// Calculates the hash code of the given character range – the same value as [String#hashCode()].
+    static int hash(final char[] buf, final int offset, final int len) {
+        int h = 0;
+        for (int i = offset; i < offset + len; i++) {
+            h = HASH_MULTIPLIER * h + buf[i];
+        }
+        return h;
+    }
+
+    static boolean contentEquals(final String str, final char[] buf, final int offset, final int len) {
+        if (str.length() != len) {
+            return false;
+        }
+        for (int i = 0; i < len; i++) {
+            if (str.charAt(i) != buf[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,112 @@
+package de.siegmar.fastcsv.reader;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/// Dictionary encoding of String values – assigns consecutive codes (starting with 0) to distinct values.
+///
+/// Values are looked up directly from the character range of the buffer using an open addressing hash table,
+/// so encoding a value that is already known doesn't allocate anything.
+///
+/// This implementation is not thread-safe.
+final class StringDictionary {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int HASH_SPREAD_SHIFT = 16;
+
+    /// Hash table of codes + 1 (0 marks an empty slot).
+    private int[] table = new int[INITIAL_CAPACITY * 2];
+    private String[] values = new String[INITIAL_CAPACITY];
+    private int size;
+
+    /// Returns the code of the given character range – adding it to the dictionary, if it's not known yet.
+    ///
+    /// @param buf    the buffer containing the value
+    /// @param offset the offset of the value in the buffer
+    /// @param len    the length of the value
+    /// @return the code of the value
+    int encode(final char[] buf, final int offset, final int len) {
+        final int hash = StringCache.hash(buf, offset, len);
+        final int mask = table.length - 1;
+        int idx = (hash ^ hash >>> HASH_SPREAD_SHIFT) & mask;
+        int entry = table[idx];
+        while (entry != 0) {
+            final String value = values[entry - 1];
+            if (value.hashCode() == hash && StringCache.contentEquals(value, buf, offset, len)) {
+                return entry - 1;
+            }
+            idx = idx + 1 & mask;
+            entry = table[idx];
+        }
+
+        if (size == values.length) {
+            grow();
+            return encode(buf, offset, len);
+        }
+
+        values[size] = new String(buf, offset, len);
+        table[idx] = ++size;
+        return size - 1;
+    }
+
+    /// {@return the value of the given code}
+    ///
+    /// @param code the code of the value
+    String decode(final int code) {
+        return values[code];
+    }
+
+    /// {@return an unmodifiable view of all values, indexed by their code}
+    List<String> values() {
+        return Collections.unmodifiableList(Arrays.asList(values).subList(0, size));
+    }
+
+    /// {@return the number of values}
+    int size() {
+        return size;
+    }
+
+    /// Removes all values with a code greater than or equal to the given size.
+    ///
+    /// Only the most recently added values are removed, so the probe sequences of the remaining values
+    /// (which were all inserted before) never pass through the freed slots.
+    ///
+    /// @param newSize the number of values to retain
+    void truncate(final int newSize) {
+        final int mask = table.length - 1;
+        for (int code = newSize; code < size; code++) {
+            final int hash = values[code].hashCode();
+            int idx = (hash ^ hash >>> HASH_SPREAD_SHIFT) & mask;
+            while (table[idx] != code + 1) {
+                idx = idx + 1 & mask;
+            }
+            table[idx] = 0;
+            values[code] = null;
+        }
+        size = Math.min(size, newSize);
+    }
+
+    /// Removes all values while retaining the allocated capacity.
+    void clear() {
+        Arrays.fill(table, 0);
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+    }
+
+    // keep the load factor at or below 0.5
+    private void grow() {
+        values = Arrays.copyOf(values, values.length * 2);
+        table = new int[values.length * 2];
+        final int mask = table.length - 1;
+        for (int code = 0; code < size; code++) {
+            final int hash = values[code].hashCode();
+            int idx = (hash ^ hash >>> HASH_SPREAD_SHIFT) & mask;
+            while (table[idx] != 0) {
+                idx = idx + 1 & mask;
+            }
+            table[idx] = code + 1;
+        }
+    }
+
+}
@@ -0,0 +1,151 @@
+package de.siegmar.fastcsv.reader;
+
+import static de.siegmar.fastcsv.util.Util.CR;
+import static de.siegmar.fastcsv.util.Util.LF;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/// Searches bytes in a byte array eight bytes at a time (SWAR – SIMD within a register).
+///
+/// Each search byte is broadcast to all eight bytes of a `long` (see [#pattern(int)]). A word of input data
+/// (read via a [VarHandle] view of the array) is XORed with each pattern, which turns matching bytes into zero bytes
+/// that are then detected without branching. The bytes at the beginning (short fields are common) and near the end
+/// of the range are checked one by one.
+final class SwarSearch {
+
+    private static final long ONES = 0x0101_0101_0101_0101L;
+    private static final long LOW_BITS = 0x7F7F_7F7F_7F7F_7F7FL;
+    private static final long HIGH_BITS = ~LOW_BITS;
+    private static final int BYTE_MASK = 0xFF;
+    private static final long CR_PATTERN = pattern(CR);
+    private static final long LF_PATTERN = pattern(LF);
+
+    // little-endian, so that the lowest byte of a read long is the first byte in the array
+    private static final VarHandle LONG_VIEW =
+        MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private SwarSearch() {
+    }
+
+    /// Creates a search pattern by broadcasting the given byte to all eight bytes of a `long`.
+    ///
+    /// @param b the byte to search for
+    /// @return the search pattern
+    static long pattern(final int b) {
+        return (b & BYTE_MASK) * ONES;
+    }
+
+    /// Finds the first byte within the given range that matches any of the given patterns.
+    ///
+    /// @param buf      the buffer to search
+    /// @param from     the start position (inclusive)
+    /// @param to       the end position (exclusive)
+    /// @param pattern1 the first pattern (see [#pattern(int)])
+    /// @param pattern2 the second pattern
+    /// @param pattern3 the third pattern
+    /// @return the position of the first matching byte or `to` if no byte matches
+    @SuppressWarnings("checkstyle:CyclomaticComplexity")
+    static int indexOfAny(final byte[] buf, final int from, final int to,
+                          final long pattern1, final long pattern2, final long pattern3) {
+        final byte b1 = (byte) pattern1;
+        final byte b2 = (byte) pattern2;
+        final byte b3 = (byte) pattern3;
+
+        // short fields are common – check the first bytes one by one
+        final int scalarLimit = Math.min(to, from + Long.BYTES);
+        int pos = from;
+        for (; pos < scalarLimit; pos++) {
+            final byte b = buf[pos];
+            if (b == b1 || b == b2 || b == b3) {
+                return pos;
+            }
+        }
+
+        for (final int limit = to - Long.BYTES; pos <= limit; pos += Long.BYTES) {
+            final long word = (long) LONG_VIEW.get(buf, pos);
+            final long matches = zeroBytes(word ^ pattern1) | zeroBytes(word ^ pattern2) | zeroBytes(word ^ pattern3);
+            if (matches != 0) {
+                return pos + Long.numberOfTrailingZeros(matches) / Byte.SIZE;
+            }
+        }
+
+        for (; pos < to; pos++) {
+            final byte b = buf[pos];
+            if (b == b1 || b == b2 || b == b3) {
+                break;
+            }
+        }
+
+        return pos;
+    }
+
+    /// Finds the first non-ASCII byte (a byte with its highest bit set) within the given range.
+    ///
+    /// @param buf  the buffer to search
+    /// @param from the start position (inclusive)
+    /// @param to   the end position (exclusive)
+    /// @return the position of the first non-ASCII byte or `to` if all bytes are ASCII
+    static int indexOfNonAscii(final byte[] buf, final int from, final int to) {
+        int pos = from;
+        for (final int limit = to - Long.BYTES; pos <= limit; pos += Long.BYTES) {
+            final long highBits = (long) LONG_VIEW.get(buf, pos) & HIGH_BITS;
+            if (highBits != 0) {
+                return pos + Long.numberOfTrailingZeros(highBits) / Byte.SIZE;
+            }
+        }
+
+        while (pos < to && buf[pos] >= 0) {
+            pos++;
+        }
+
+        return pos;
+    }
+
+    /// Counts the line breaks (CR, LF or CRLF) within the given range.
+    ///
+    /// A CRLF sequence counts as a single line break – unless it is split by the start of the range.
+    ///
+    /// @param buf  the buffer to search
+    /// @param from the start position (inclusive)
+    /// @param to   the end position (exclusive)
+    /// @return the number of line breaks
+    static int countLineBreaks(final byte[] buf, final int from, final int to) {
+        int count = 0;
+        long lastCrs = 0;
+
+        int pos = from;
+        for (final int limit = to - Long.BYTES; pos <= limit; pos += Long.BYTES) {
+            final long word = (long) LONG_VIEW.get(buf, pos);
+            final long crs = zeroBytes(word ^ CR_PATTERN);
+            final long lfs = zeroBytes(word ^ LF_PATTERN);
+
+            // LFs directly following a CR – also across the words
+            final long crLfs = (crs << Byte.SIZE | lastCrs >>> (Long.SIZE - Byte.SIZE)) & lfs;
+
+            count += Long.bitCount(crs) + Long.bitCount(lfs) - Long.bitCount(crLfs);
+            lastCrs = crs;
+        }
+
+        boolean lastWasCr = lastCrs < 0;
+        for (; pos < to; pos++) {
+            final byte b = buf[pos];
+            if (b == CR || (b == LF && !lastWasCr)) {
+                count++;
+            }
+            lastWasCr = b == CR;
+        }
+
+        return count;
+    }
+
+    /// Sets the highest bit of every byte that is zero in the given word – all other bits are cleared.
+    ///
+    /// In contrast to the well-known `(x - 0x01..) & ~x & 0x80..` formula, this variant is exact and has no
+    /// false positives caused by a borrow from a lower byte.
+    private static long zeroBytes(final long word) {
+        return ~(((word & LOW_BITS) + LOW_BITS) | word | LOW_BITS);
+    }
+
+}
@@ -0,0 +1,148 @@
+package de.siegmar.fastcsv.reader;
+
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/// A CSV record whose fields are stored according to the [ColumnType]s of a [TypedRecordHandler] – numbers
+/// as primitive values, without creating Strings.
+///
+/// The record is reused by the handler and is only valid until the next record is read.
+/// Don't store a reference to it; copy the values you need to retain.
+///
+/// Empty fields of numeric columns are reported by [#isEmpty(int)]; their value is `0`.
+///
+/// @see TypedRecordHandler
+public final class TypedRecord {
+
+    private final ColumnType[] columnTypes;
+    private final long[] longs;
+    private final double[] doubles;
+    private final String[] strings;
+    private final boolean[] empty;
+    private long startingLineNumber;
+    private int fieldCount;
+
+    @SuppressWarnings({"checkstyle:HiddenField", "PMD.ArrayIsStoredDirectly"})
+    TypedRecord(final ColumnType[] columnTypes, final long[] longs, final double[] doubles, final String[] strings,
+                final boolean[] empty) {
+        this.columnTypes = columnTypes;
+        this.longs = longs;
+        this.doubles = doubles;
+        this.strings = strings;
+        this.empty = empty;
+    }
+
+    @SuppressWarnings("checkstyle:HiddenField")
+    void set(final long startingLineNumber, final int fieldCount) {
+        this.startingLineNumber = startingLineNumber;
+        this.fieldCount = fieldCount;
+    }
+
+    /// Provides the line number at which this record originated, starting from 1.
+    ///
+    /// @return the starting line number of this record, starting from 1
+    /// @see CsvRecord#getStartingLineNumber()
+    public long getStartingLineNumber() {
+        return startingLineNumber;
+    }
+
+    /// Gets the count of fields in this record – including skipped fields.
+    ///
+    /// @return the number of fields in this record
+    public int getFieldCount() {
+        return fieldCount;
+    }
+
+    /// Retrieves the type of a field based on its index, with indexing starting from 0.
+    ///
+    /// Fields beyond the columns defined by the [TypedRecordHandler] are of type [ColumnType#SKIP].
+    ///
+    /// @param index index of the field
+    /// @return the type of the field, never `null`
+    /// @throws IndexOutOfBoundsException if the index is out of range
+    public ColumnType getType(final int index) {
+        Objects.checkIndex(index, fieldCount);
+        return index < columnTypes.length ? columnTypes[index] : ColumnType.SKIP;
+    }
+
+    /// Indicates whether a field is empty.
+    ///
+    /// @param index index of the field
+    /// @return `true` if the field is empty
+    /// @throws IndexOutOfBoundsException if the index is out of range
+    /// @throws IllegalStateException     if the field is skipped
+    public boolean isEmpty(final int index) {
+        if (getType(index) == ColumnType.SKIP) {
+            throw new IllegalStateException("Field at index %d is skipped".formatted(index));
+        }
+        return empty[index];
+    }
+
+    /// Retrieves the value of an [ColumnType#INT] field.
+    ///
+    /// @param index index of the field
+    /// @return the value of the field or `0` if the field is empty
+    /// @throws IndexOutOfBoundsException if the index is out of range
+    /// @throws IllegalStateException     if the field is not of type [ColumnType#INT]
+    public int getInt(final int index) {
+        return (int) longs[checkType(index, ColumnType.INT)];
+    }
+
+    /// Retrieves the value of a [ColumnType#LONG] (or [ColumnType#INT]) field.
+    ///
+    /// @param index index of the field
+    /// @return the value of the field or `0` if the field is empty
+    /// @throws IndexOutOfBoundsException if the index is out of range
+    /// @throws IllegalStateException     if the field is neither of type [ColumnType#LONG] nor [ColumnType#INT]
+    public long getLong(final int index) {
+        return getType(index) == ColumnType.INT ? longs[index] : longs[checkType(index, ColumnType.LONG)];
+    }
+
+    /// Retrieves the value of a [ColumnType#DOUBLE] field.
+    ///
+    /// @param index index of the field
+    /// @return the value of the field or `0` if the field is empty
+    /// @throws IndexOutOfBoundsException if the index is out of range
+    /// @throws IllegalStateException     if the field is not of type [ColumnType#DOUBLE]
+    public double getDouble(final int index) {
+        return doubles[checkType(index, ColumnType.DOUBLE)];
+    }
+
+    /// Retrieves the value of a [ColumnType#STRING] field.
+    ///
+    /// @param index index of the field
+    /// @return the value of the field, never `null`
+    /// @throws IndexOutOfBoundsException if the index is out of range
+    /// @throws IllegalStateException     if the field is not of type [ColumnType#STRING]
+    public String getString(final int index) {
+        return strings[checkType(index, ColumnType.STRING)];
+    }
+
+    private int checkType(final int index, final ColumnType expectedType) {
+        final ColumnType type = getType(index);
+        if (type != expectedType) {
+            throw new IllegalStateException("Field at index %d is of type %s, not %s"
+                .formatted(index, type, expectedType));
+        }
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        final StringJoiner fieldJoiner = new StringJoiner(", ", "[", "]");
+        for (int i = 0; i < fieldCount; i++) {
+            fieldJoiner.add(switch (getType(i)) {
+                case INT, LONG -> empty[i] ? "" : Long.toString(longs[i]);
+                case DOUBLE -> empty[i] ? "" : Double.toString(doubles[i]);
+                case STRING -> strings[i];
+                case SKIP -> "<skipped>";
+            });
+        }
+
+        return new StringJoiner(", ", TypedRecord.class.getSimpleName() + "[", "]")
+            .add("startingLineNumber=" + startingLineNumber)
+            .add("fields=" + fieldJoiner)
+            .toString();
+    }
+
+}
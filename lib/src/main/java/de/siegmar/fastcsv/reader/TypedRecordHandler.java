@@ -0,0 +1,120 @@
+package de.siegmar.fastcsv.reader;
+
+import java.util.List;
+import java.util.Objects;
+
+import de.siegmar.fastcsv.util.Nullable;
+import de.siegmar.fastcsv.util.Preconditions;
+
+/// A [CsvCallbackHandler] implementation that processes the fields of each record according to a column schema.
+///
+/// Numbers are parsed directly from the parser buffer and stored as primitive values – no String is created
+/// for them. Fields of [ColumnType#SKIP] columns (and fields beyond the schema) are only scanned by the parser.
+/// As the returned [TypedRecord] is reused, reading records of numeric columns doesn't allocate any objects.
+///
+/// Example:
+/// ```
+/// TypedRecordHandler handler = TypedRecordHandler.of(ColumnType.LONG, ColumnType.SKIP, ColumnType.DOUBLE);
+/// try (CsvReader<TypedRecord> csv = CsvReader.builder().build(handler, file)) {
+///     csv.skipLines(1); // skip the header
+///     for (TypedRecord rec : csv) {
+///         long id = rec.getLong(0);
+///         double value = rec.getDouble(2);
+///     }
+/// }
+/// ```
+///
+/// **The returned [TypedRecord] is reused and only valid until the next record is read.**
+/// Don't collect it (e.g., by `stream().toList()`); map it to your own objects instead.
+///
+/// Comments and empty lines are never returned. A header has to be skipped (e.g., by
+/// [CsvReader#skipLines(int)]) as it can't be parsed according to the schema. Field modifiers are not supported.
+///
+/// This implementation is stateful and must not be reused.
+public final class TypedRecordHandler extends AbstractBaseCsvCallbackHandler<TypedRecord> {
+
+    private final ColumnType[] columnTypes;
+    private final long[] longs;
+    private final double[] doubles;
+    private final String[] strings;
+    private final boolean[] empty;
+    private final TypedRecord typedRecord;
+
+    @SuppressWarnings("PMD.UseVarargs")
+    private TypedRecordHandler(final ColumnType[] columnTypes) {
+        this.columnTypes = columnTypes;
+        longs = new long[columnTypes.length];
+        doubles = new double[columnTypes.length];
+        strings = new String[columnTypes.length];
+        empty = new boolean[columnTypes.length];
+        typedRecord = new TypedRecord(columnTypes, longs, doubles, strings, empty);
+    }
+
+    /// Constructs a new instance of this class with the given column schema.
+    ///
+    /// @param columnTypes the types of the columns (by column index); must not be `null` or empty and must not
+    ///                    contain `null` elements
+    /// @return the new instance
+    /// @throws NullPointerException     if `null` is passed
+    /// @throws IllegalArgumentException if no column type is passed
+    /// @see #of(List)
+    public static TypedRecordHandler of(final ColumnType... columnTypes) {
+        Objects.requireNonNull(columnTypes, "columnTypes must not be null");
+        return of(List.of(columnTypes));
+    }
+
+    /// Constructs a new instance of this class with the given column schema.
+    ///
+    /// @param columnTypes the types of the columns (by column index); must not be `null` or empty and must not
+    ///                    contain `null` elements
+    /// @return the new instance
+    /// @throws NullPointerException     if `null` is passed
+    /// @throws IllegalArgumentException if no column type is passed
+    /// @see #of(ColumnType...)
+    public static TypedRecordHandler of(final List<ColumnType> columnTypes) {
+        Objects.requireNonNull(columnTypes, "columnTypes must not be null");
+        Preconditions.checkArgument(!columnTypes.isEmpty(), "columnTypes must not be empty");
+        return new TypedRecordHandler(columnTypes.toArray(new ColumnType[0]));
+    }
+
+    /// {@inheritDoc}
+    /// Skips fields of [ColumnType#SKIP] columns and fields beyond the schema.
+    @Override
+    protected boolean skipField(final int fieldIdx) {
+        return fieldIdx >= columnTypes.length || columnTypes[fieldIdx] == ColumnType.SKIP;
+    }
+
+    /// {@inheritDoc}
+    /// Parses the field according to the type of its column.
+    ///
+    /// @throws CsvParseException if the field of a numeric column can't be parsed
+    @Override
+    protected void handleField(final int fieldIdx, final char[] buf, final int offset, final int len,
+                               final boolean quoted) {
+        empty[fieldIdx] = len == 0;
+        final ColumnType columnType = columnTypes[fieldIdx];
+        try {
+            switch (columnType) {
+                case INT -> longs[fieldIdx] = len == 0 ? 0 : NumberParser.parseInt(buf, offset, len);
+                case LONG -> longs[fieldIdx] = len == 0 ? 0 : NumberParser.parseLong(buf, offset, len);
+                case DOUBLE -> doubles[fieldIdx] = len == 0 ? 0 : NumberParser.parseDouble(buf, offset, len);
+                case STRING -> strings[fieldIdx] = new String(buf, offset, len);
+                default -> throw new IllegalStateException("Unexpected column type: " + columnType);
+            }
+        } catch (final NumberFormatException e) {
+            throw columnType.conversionError(fieldIdx, getStartingLineNumber(), e);
+        }
+    }
+
+    @Nullable
+    @Override
+    protected TypedRecord buildRecord() {
+        if (getRecordType() != RecordType.DATA) {
+            return null;
+        }
+
+        typedRecord.set(getStartingLineNumber(), getFieldCount());
+        return typedRecord;
+    }
+
+}
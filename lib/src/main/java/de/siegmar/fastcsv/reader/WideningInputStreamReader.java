@@ -0,0 +1,109 @@
+package de.siegmar.fastcsv.reader;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.SequenceInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import de.siegmar.fastcsv.util.Nullable;
+
+/// Reader that decodes ASCII and ISO-8859-1 data by widening bytes to chars in bulk – bypassing the
+/// general-purpose decoder of [InputStreamReader].
+///
+/// For ISO-8859-1, every byte is widened. For UTF-8 and US-ASCII, bytes are widened as long as the data
+/// is pure ASCII (SWAR-checked via [SwarSearch#indexOfNonAscii(byte[], int, int)]). On the first
+/// non-ASCII byte, this reader permanently switches to an [InputStreamReader] that decodes the rest of the
+/// data – beginning with the bytes already read. Hence, the result is always identical to the one of an
+/// [InputStreamReader] (including the replacement of malformed input).
+final class WideningInputStreamReader extends Reader {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final InputStream inputStream;
+    private final Charset charset;
+    private final boolean latin1;
+    private final byte[] buf = new byte[BUFFER_SIZE];
+
+    @Nullable
+    private Reader decoder;
+
+    private WideningInputStreamReader(final InputStream inputStream, final Charset charset) {
+        this.inputStream = inputStream;
+        this.charset = charset;
+        latin1 = StandardCharsets.ISO_8859_1.equals(charset);
+    }
+
+    /// Constructs a reader for the given input stream and character set.
+    ///
+    /// @param inputStream the input stream to read from
+    /// @param charset     the character set to decode the data with
+    /// @return a [WideningInputStreamReader] for UTF-8, US-ASCII and ISO-8859-1 data or an
+    ///     [InputStreamReader] for any other character set
+    static Reader of(final InputStream inputStream, final Charset charset) {
+        return isSupported(charset)
+            ? new WideningInputStreamReader(inputStream, charset)
+            : new InputStreamReader(inputStream, charset);
+    }
+
+    private static boolean isSupported(final Charset charset) {
+        return StandardCharsets.UTF_8.equals(charset)
+            || StandardCharsets.US_ASCII.equals(charset)
+            || StandardCharsets.ISO_8859_1.equals(charset);
+    }
+
+    @Override
+    public int read(final char[] cbuf, final int off, final int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, cbuf.length);
+        if (decoder != null) {
+            return decoder.read(cbuf, off, len);
+        }
+
+        final int cnt = len == 0 ? 0 : inputStream.read(buf, 0, Math.min(len, buf.length));
+        if (cnt <= 0) {
+            return cnt;
+        }
+
+        return latin1 ? widenLatin1(cbuf, off, cnt) : widenAscii(cbuf, off, len, cnt);
+    }
+
+    private int widenLatin1(final char[] cbuf, final int off, final int cnt) {
+        for (int i = 0; i < cnt; i++) {
+            cbuf[off + i] = (char) Byte.toUnsignedInt(buf[i]);
+        }
+        return cnt;
+    }
+
+    private int widenAscii(final char[] cbuf, final int off, final int len, final int cnt) throws IOException {
+        final int asciiCnt = SwarSearch.indexOfNonAscii(buf, 0, cnt);
+        for (int i = 0; i < asciiCnt; i++) {
+            cbuf[off + i] = (char) buf[i];
+        }
+
+        if (asciiCnt == cnt) {
+            return cnt;
+        }
+
+        // the buffer is handed over to the decoder – it's not used by this reader anymore
+        final Reader newDecoder = new InputStreamReader(new SequenceInputStream(
+            new ByteArrayInputStream(buf, asciiCnt, cnt - asciiCnt), inputStream), charset);
+        decoder = newDecoder;
+
+        return asciiCnt > 0 ? asciiCnt : newDecoder.read(cbuf, off, len);
+    }
+
+    @Override
+    public boolean ready() throws IOException {
+        return decoder != null ? decoder.ready() : inputStream.available() > 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        inputStream.close();
+    }
+
+}
@@ -0,0 +1,134 @@
+package de.siegmar.fastcsv.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("PMD.CloseResource")
+class ByteCsvParserTest {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    @Test
+    void nonPositiveMaxBufferSize() {
+        assertThatThrownBy(() -> parser(new byte[0], StandardCharsets.UTF_8, 0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("maxBufferSize must be > 0");
+    }
+
+    @Test
+    void unsupportedCharset() {
+        assertThatThrownBy(() -> parser(new byte[0], StandardCharsets.UTF_16, BUFFER_SIZE))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Unsupported configuration for byte based parsing (charset=UTF-16)");
+    }
+
+    @Test
+    void supportedConfigurations() {
+        assertThat(ByteCsvParser.isSupported(StandardCharsets.UTF_8, ',', '"', '#')).isTrue();
+        assertThat(ByteCsvParser.isSupported(StandardCharsets.US_ASCII, ';', '\'', '#')).isTrue();
+        assertThat(ByteCsvParser.isSupported(StandardCharsets.ISO_8859_1, '\t', '"', '#')).isTrue();
+        assertThat(ByteCsvParser.isSupported(StandardCharsets.UTF_16LE, ',', '"', '#')).isFalse();
+        assertThat(ByteCsvParser.isSupported(StandardCharsets.UTF_8, '§', '"', '#')).isFalse();
+        assertThat(ByteCsvParser.isSupported(StandardCharsets.UTF_8, ',', '»', '#')).isFalse();
+        assertThat(ByteCsvParser.isSupported(StandardCharsets.UTF_8, ',', '"', '§')).isFalse();
+    }
+
+    @Test
+    void reset() throws IOException {
+        final CsvRecordHandler handler = CsvRecordHandler.of();
+        final ByteCsvParser parser = new ByteCsvParser(',', '"', CommentStrategy.NONE, '#', false, true,
+            handler, BUFFER_SIZE, CsvBufferPool.NONE, Channels.newChannel(new ByteArrayInputStream("foo\nbar".getBytes(
+            StandardCharsets.UTF_8))), StandardCharsets.UTF_8);
+
+        parser.reset(41);
+        assertThat(parser.parse()).isTrue();
+        assertThat(handler.buildRecord().getStartingLineNumber()).isEqualTo(42);
+    }
+
+    @Test
+    void multibyteUtf8() throws IOException {
+        final String data = "äöü,\"€ \"\"x\"\"\",𝄞\n";
+        assertThat(parse(data.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8, BUFFER_SIZE))
+            .containsExactly(List.of("äöü", "€ \"x\"", "𝄞"));
+    }
+
+    @Test
+    void malformedUtf8() throws IOException {
+        final byte[] data = {'a', (byte) 0xC3, ',', (byte) 0xFF, 'b'};
+        assertThat(parse(data, StandardCharsets.UTF_8, BUFFER_SIZE))
+            .containsExactly(List.of("a�", "�b"));
+    }
+
+    @Test
+    void nonAsciiInUsAscii() throws IOException {
+        final byte[] data = {'a', (byte) 0xE4, ',', 'b'};
+        assertThat(parse(data, StandardCharsets.US_ASCII, BUFFER_SIZE))
+            .containsExactly(List.of("a�", "b"));
+    }
+
+    @Test
+    void latin1() throws IOException {
+        final String data = "äöü,\"ß\"\n";
+        assertThat(parse(data.getBytes(StandardCharsets.ISO_8859_1), StandardCharsets.ISO_8859_1, BUFFER_SIZE))
+            .containsExactly(List.of("äöü", "ß"));
+    }
+
+    @Test
+    void fieldLargerThanInitialBuffer() throws IOException {
+        final String field = "ä".repeat(20_000);
+        assertThat(parse((field + ",x").getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8, 1024 * 1024))
+            .containsExactly(List.of(field, "x"));
+    }
+
+    @Test
+    void unexpectedMultibyteCharAfterClosingQuote() {
+        final byte[] data = "\"a\"€".getBytes(StandardCharsets.UTF_8);
+        assertThatThrownBy(() -> parse(data, StandardCharsets.UTF_8, BUFFER_SIZE))
+            .isInstanceOf(CsvParseException.class)
+            .hasMessage("Unexpected character after closing quote: '€' (0x20ac) (record starting at line 1)");
+    }
+
+    @Test
+    void skipPeekedMultibyteLine() throws IOException {
+        final ByteCsvParser parser = parser("äöü\nfoo".getBytes(StandardCharsets.UTF_8),
+            StandardCharsets.UTF_8, BUFFER_SIZE);
+
+        final String line = parser.peekLine();
+        assertThat(line).isEqualTo("äöü");
+
+        parser.skipLine(line.length());
+        assertThat(parser.getStartingLineNumber()).isEqualTo(1);
+
+        assertThat(parser.peekLine()).isEqualTo("foo");
+    }
+
+    private static List<List<String>> parse(final byte[] data, final Charset charset, final int maxBufferSize)
+        throws IOException {
+        final CsvRecordHandler handler = CsvRecordHandler.of();
+        final List<List<String>> records = new ArrayList<>();
+        try (ByteCsvParser parser = new ByteCsvParser(',', '"', CommentStrategy.NONE, '#', false, true,
+            handler, maxBufferSize, CsvBufferPool.NONE, Channels.newChannel(new ByteArrayInputStream(data)), charset)) {
+            while (parser.parse()) {
+                records.add(handler.buildRecord().getFields());
+            }
+        }
+        return records;
+    }
+
+    private static ByteCsvParser parser(final byte[] data, final Charset charset, final int maxBufferSize) {
+        return new ByteCsvParser(',', '"', CommentStrategy.NONE, '#', false, true,
+            CsvRecordHandler.of(), maxBufferSize, CsvBufferPool.NONE,
+            Channels.newChannel(new ByteArrayInputStream(data)), charset);
+    }
+
+}
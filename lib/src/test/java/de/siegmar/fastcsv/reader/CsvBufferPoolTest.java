@@ -0,0 +1,65 @@
+package de.siegmar.fastcsv.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+class CsvBufferPoolTest {
+
+    private static final int SIZE = CsvBufferPool.BUFFER_SIZE;
+
+    @Test
+    void none() {
+        final char[] chars = new char[SIZE];
+        assertThat(CsvBufferPool.NONE.release(chars)).isFalse();
+        assertThat(CsvBufferPool.NONE.acquireChars(SIZE)).isNotSameAs(chars).hasSize(SIZE);
+    }
+
+    @Test
+    void sharedReusesBuffers() {
+        final CsvBufferPool pool = CsvBufferPool.shared(2);
+        final char[] chars = pool.acquireChars(SIZE);
+        final byte[] bytes = pool.acquireBytes(SIZE);
+
+        assertThat(pool.release(chars)).isTrue();
+        assertThat(pool.release(bytes)).isTrue();
+
+        assertThat(pool.acquireChars(SIZE)).isSameAs(chars);
+        assertThat(pool.acquireBytes(SIZE)).isSameAs(bytes);
+        assertThat(pool.acquireChars(SIZE)).isNotSameAs(chars);
+    }
+
+    @Test
+    void sharedIsBounded() {
+        final CsvBufferPool pool = CsvBufferPool.shared(2);
+        assertThat(pool.release(new char[SIZE])).isTrue();
+        assertThat(pool.release(new char[SIZE])).isTrue();
+        assertThat(pool.release(new char[SIZE])).isFalse();
+    }
+
+    @Test
+    void onlyInitialSizeIsPooled() {
+        final CsvBufferPool pool = CsvBufferPool.shared(2);
+        assertThat(pool.release(new char[SIZE * 2])).isFalse();
+        assertThat(pool.release(new byte[SIZE / 2])).isFalse();
+
+        pool.release(new char[SIZE]);
+        assertThat(pool.acquireChars(1024)).hasSize(1024);
+    }
+
+    @Test
+    void threadLocal() {
+        final CsvBufferPool pool = CsvBufferPool.threadLocal();
+        final char[] chars = pool.acquireChars(SIZE);
+        assertThat(pool.release(chars)).isTrue();
+        assertThat(pool.release(new char[SIZE])).isFalse();
+
+        final char[] otherThread = CompletableFuture.supplyAsync(() -> pool.acquireChars(SIZE)).join();
+        assertThat(otherThread).isNotSameAs(chars);
+
+        assertThat(pool.acquireChars(SIZE)).isSameAs(chars);
+    }
+
+}
@@ -113,6 +113,20 @@ class CsvScannerTest {
             .containsExactly(0, pos + 1);
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {8190, 8191, 8192, 8193})
+    void quotedBufferExceed(final int pos) {
+        final byte[] buf = new byte[pos + 4];
+        Arrays.fill(buf, (byte) 'A');
+        buf[0] = '"';
+        buf[pos - 2] = '\n';
+        buf[pos] = '"';
+        buf[pos + 1] = '\n';
+
+        assertThat(scan(buf, CommentStrategy.READ))
+            .containsExactly(0, pos + 2);
+    }
+
     @Test
     void unicode() {
         assertThat(scan("012u\n0".getBytes(StandardCharsets.UTF_8), CommentStrategy.READ))
@@ -122,6 +136,23 @@ class CsvScannerTest {
             .containsExactly(0, 6);
     }
 
+    @Test
+    void recordTypes() {
+        final var listener = new CollectingListener();
+        scan("a\n\n#b\r\n\r\"\n\"\n\r\n#c".getBytes(StandardCharsets.UTF_8), CommentStrategy.READ, listener);
+
+        assertThat(listener.getRecordTypes()).containsExactly(RecordType.DATA, RecordType.EMPTY,
+            RecordType.COMMENT, RecordType.EMPTY, RecordType.DATA, RecordType.EMPTY, RecordType.COMMENT);
+    }
+
+    @Test
+    void commentCharacterWithoutComments() {
+        final var listener = new CollectingListener();
+        scan("#a\n\n".getBytes(StandardCharsets.UTF_8), CommentStrategy.NONE, listener);
+
+        assertThat(listener.getRecordTypes()).containsExactly(RecordType.DATA, RecordType.EMPTY);
+    }
+
     private static List<Integer> scan(final String line, final String newLine, final CommentStrategy commentStrategy) {
         final String lineToScan = repl(line, newLine)
             .replace("^", "");
@@ -130,20 +161,23 @@ class CsvScannerTest {
     }
 
     private static List<Integer> scan(final byte[] data, final CommentStrategy commentStrategy) {
+        final var listener = new CollectingListener();
+        scan(data, commentStrategy, listener);
+        return listener.getOffsets();
+    }
+
+    private static void scan(final byte[] data, final CommentStrategy commentStrategy,
+                             final CollectingListener listener) {
         final var fieldSeparator = (byte) ',';
         final var quoteCharacter = (byte) '"';
         final var commentCharacter = (byte) '#';
 
-        final var listener = new CollectingListener();
-
         try (var channel = Channels.newChannel(new ByteArrayInputStream(data))) {
             new CsvScanner(channel, 0, fieldSeparator, quoteCharacter, commentStrategy, commentCharacter,
                 listener).scan();
         } catch (final IOException e) {
             throw new UncheckedIOException(e);
         }
-
-        return listener.getOffsets();
     }
 
     private static String repl(final String line, final String newLine) {
@@ -169,6 +203,7 @@ class CsvScannerTest {
 
     private static final class CollectingListener implements CsvScanner.CsvListener {
         private final List<Integer> offsets = new ArrayList<>();
+        private final List<RecordType> recordTypes = new ArrayList<>();
 
         @Override
         public void onReadBytes(final int readCnt) {
@@ -181,8 +216,8 @@ class CsvScannerTest {
         }
 
         @Override
-        public void onReadRecord() {
-
+        public void onReadRecord(final RecordType recordType) {
+            recordTypes.add(recordType);
         }
 
         @Override
@@ -193,6 +228,10 @@ class CsvScannerTest {
         List<Integer> getOffsets() {
             return offsets;
         }
+
+        List<RecordType> getRecordTypes() {
+            return recordTypes;
+        }
     }
 
 }
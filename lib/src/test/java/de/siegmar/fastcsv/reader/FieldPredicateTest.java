@@ -0,0 +1,110 @@
+package de.siegmar.fastcsv.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class FieldPredicateTest {
+
+    @Test
+    void equalTo() {
+        final FieldPredicate predicate = FieldPredicate.equalTo("foo");
+        assertThat(test(predicate, "foo")).isTrue();
+        assertThat(test(predicate, "fo")).isFalse();
+        assertThat(test(predicate, "fox")).isFalse();
+        assertThat(test(predicate, "food")).isFalse();
+        assertThat(test(FieldPredicate.equalTo(""), "")).isTrue();
+    }
+
+    @Test
+    void startsWith() {
+        final FieldPredicate predicate = FieldPredicate.startsWith("foo");
+        assertThat(test(predicate, "foo")).isTrue();
+        assertThat(test(predicate, "food")).isTrue();
+        assertThat(test(predicate, "fo")).isFalse();
+        assertThat(test(predicate, "bar")).isFalse();
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', quoteCharacter = '\'', textBlock = """
+        0                    | true
+        -0                   | true
+        +5                   | true
+        10                   | true
+        -10                  | true
+        11                   | false
+        -11                  | false
+        ''                   | false
+        -                    | false
+        +                    | false
+        1x                   | false
+        ' 1'                 | false
+        1.0                  | false
+        """)
+    void longRange(final String value, final boolean expected) {
+        assertThat(test(FieldPredicate.longRange(-10, 10), value)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', textBlock = """
+        9223372036854775807  | true
+        -9223372036854775808 | true
+        9223372036854775808  | false
+        -9223372036854775809 | false
+        99999999999999999999 | false
+        """)
+    void longRangeLimits(final String value, final boolean expected) {
+        assertThat(test(FieldPredicate.longRange(Long.MIN_VALUE, Long.MAX_VALUE), value)).isEqualTo(expected);
+    }
+
+    @Test
+    void invalidLongRange() {
+        assertThatThrownBy(() -> FieldPredicate.longRange(2, 1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("min must be <= max");
+    }
+
+    @Test
+    void offset() {
+        final char[] buf = "xxfooxx".toCharArray();
+        assertThat(FieldPredicate.equalTo("foo").test(buf, 2, 3)).isTrue();
+        assertThat(FieldPredicate.startsWith("oo").test(buf, 3, 4)).isTrue();
+        assertThat(FieldPredicate.longRange(0, 100).test("ab42cd".toCharArray(), 2, 2)).isTrue();
+    }
+
+    @Test
+    void and() {
+        final FieldPredicate predicate = FieldPredicate.startsWith("f").and(FieldPredicate.equalTo("foo"));
+        assertThat(test(predicate, "foo")).isTrue();
+        assertThat(test(predicate, "fox")).isFalse();
+        assertThat(test(predicate, "boo")).isFalse();
+    }
+
+    @Test
+    void negate() {
+        final FieldPredicate predicate = FieldPredicate.equalTo("foo").negate();
+        assertThat(test(predicate, "foo")).isFalse();
+        assertThat(test(predicate, "bar")).isTrue();
+    }
+
+    @Test
+    void nullArguments() {
+        assertThatThrownBy(() -> FieldPredicate.equalTo(null))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessage("value must not be null");
+        assertThatThrownBy(() -> FieldPredicate.startsWith(null))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessage("prefix must not be null");
+        assertThatThrownBy(() -> FieldPredicate.equalTo("foo").and(null))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessage("other must not be null");
+    }
+
+    private static boolean test(final FieldPredicate predicate, final String value) {
+        return predicate.test(value.toCharArray(), 0, value.length());
+    }
+
+}
@@ -0,0 +1,105 @@
+package de.siegmar.fastcsv.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class FileSplitterTest {
+
+    private static final String LINE = "foo,\"bar\r\nbaz\"\n";
+    private static final int MAX_BUFFER_SIZE = 64 * 1024;
+
+    @TempDir
+    private Path tempDir;
+
+    private final AtomicReference<ReadableByteChannel> lastChannel = new AtomicReference<>();
+
+    @Test
+    void smallFile() throws IOException {
+        try (FileSplitter<CsvRecord> splitter = newSplitter(writeFile(LINE.repeat(10)), false)) {
+            final FileSplitter<CsvRecord>.Part root = splitter.root();
+            assertThat(root.size()).isEqualTo(LINE.length() * 10L);
+            assertThat(root.findSplitPosition()).isEqualTo(-1);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void split(final boolean memoryMapped) throws IOException {
+        final int lines = FileSplitter.MIN_SPLIT_SIZE / LINE.length() + 1;
+        try (FileSplitter<CsvRecord> splitter = newSplitter(writeFile(LINE.repeat(lines)), memoryMapped)) {
+            final FileSplitter<CsvRecord>.Part root = splitter.root();
+            final long splitPosition = root.findSplitPosition();
+            assertThat(splitPosition % LINE.length()).isZero();
+
+            final FileSplitter<CsvRecord>.Part prefix = root.prefix(splitPosition);
+            final FileSplitter<CsvRecord>.Part suffix = root.suffix(splitPosition);
+            assertThat(prefix.size() + suffix.size()).isEqualTo(root.size());
+
+            final List<CsvRecord> prefixRecords = read(prefix);
+            assertThat(prefixRecords)
+                .hasSize((int) (splitPosition / LINE.length()))
+                .last().satisfies(r -> assertThat(r.getStartingLineNumber()).isEqualTo(prefixRecords.size() * 2L - 1));
+
+            final List<CsvRecord> suffixRecords = read(suffix);
+            assertThat(suffixRecords)
+                .hasSize(lines - prefixRecords.size())
+                .first().satisfies(r -> {
+                    assertThat(r.getStartingLineNumber()).isEqualTo(prefixRecords.size() * 2L + 1);
+                    assertThat(r.getFields()).containsExactly("foo", "bar\r\nbaz");
+                });
+        }
+    }
+
+    @Test
+    void close() throws IOException {
+        final FileSplitter<CsvRecord> splitter = newSplitter(writeFile(LINE), false);
+        final FileSplitter<CsvRecord>.Part root = splitter.root();
+        root.openParser(root.newCallbackHandler());
+
+        final ReadableByteChannel channel = lastChannel.get();
+        assertThat(channel.isOpen()).isTrue();
+
+        root.close();
+        assertThat(channel.isOpen()).isFalse();
+    }
+
+    private List<CsvRecord> read(final FileSplitter<CsvRecord>.Part part) throws IOException {
+        final CsvCallbackHandler<CsvRecord> handler = part.newCallbackHandler();
+        final CsvParser parser = part.openParser(handler);
+        assertThat(part.prepare(parser, handler)).isIn(-1, 2);
+
+        final List<CsvRecord> records = new ArrayList<>();
+        while (parser.parse()) {
+            records.add(handler.buildRecord());
+        }
+        return records;
+    }
+
+    private FileSplitter<CsvRecord> newSplitter(final Path file, final boolean memoryMapped) throws IOException {
+        return new FileSplitter<>(file, 0, memoryMapped, MAX_BUFFER_SIZE, CsvRecordHandler::of,
+            (handler, channel) -> {
+                lastChannel.set(channel);
+                return new ByteCsvParser(',', '"', CommentStrategy.NONE, '#', false, false,
+                    handler, MAX_BUFFER_SIZE, CsvBufferPool.NONE, channel, StandardCharsets.UTF_8);
+            },
+            new RecordBoundaryFinder(',', '"', CommentStrategy.NONE, '#', false));
+    }
+
+    private Path writeFile(final String data) throws IOException {
+        return Files.writeString(tempDir.resolve("fastcsv.csv"), data);
+    }
+
+}
@@ -0,0 +1,109 @@
+package de.siegmar.fastcsv.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@SuppressWarnings("PMD.CloseResource")
+class MappedFileChannelTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void nonPositiveWindowSize() throws IOException {
+        try (FileChannel channel = open("")) {
+            assertThatThrownBy(() -> new MappedFileChannel(channel, 0, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("windowSize must be > 0");
+        }
+    }
+
+    @Test
+    void emptyFile() throws IOException {
+        try (MappedFileChannel channel = new MappedFileChannel(open(""), 0, 4)) {
+            assertThat(channel.read(ByteBuffer.allocate(8))).isEqualTo(-1);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 4, 5, 100})
+    void readAcrossWindows(final int windowSize) throws IOException {
+        try (MappedFileChannel channel = new MappedFileChannel(open("0123456789"), 2, windowSize)) {
+            assertThat(readFully(channel, 3)).isEqualTo("23456789");
+        }
+    }
+
+    @Test
+    void closed() throws IOException {
+        final MappedFileChannel channel = new MappedFileChannel(open("foo"), 0, 4);
+        assertThat(channel.isOpen()).isTrue();
+
+        channel.close();
+        assertThat(channel.isOpen()).isFalse();
+        assertThatThrownBy(() -> channel.read(ByteBuffer.allocate(8)))
+            .isInstanceOf(ClosedChannelException.class);
+    }
+
+    @Test
+    @DisabledOnOs(value = OS.WINDOWS, disabledReason = "mappings are only released by the garbage collector")
+    void deleteAfterClose() throws IOException {
+        final Path file = Files.writeString(tempDir.resolve("fastcsv.csv"), "foo,bar\n");
+        try (MappedFileChannel channel = MappedFileChannel.open(file, 0)) {
+            channel.read(ByteBuffer.allocate(4));
+        }
+
+        final Path renamed = Files.move(file, tempDir.resolve("renamed.csv"));
+        Files.delete(renamed);
+        assertThat(tempDir).isEmptyDirectory();
+    }
+
+    @Test
+    void recordsAcrossWindows() throws IOException {
+        final CsvRecordHandler handler = CsvRecordHandler.of();
+        final List<List<String>> records = new ArrayList<>();
+        try (ByteCsvParser parser = new ByteCsvParser(',', '"', CommentStrategy.NONE, '#', false, true,
+            handler, 1024, CsvBufferPool.NONE, new MappedFileChannel(open("foo,\"b\r\nar\"\näöü,x\n"), 0, 5),
+            StandardCharsets.UTF_8)) {
+            while (parser.parse()) {
+                records.add(handler.buildRecord().getFields());
+            }
+        }
+
+        assertThat(records).containsExactly(List.of("foo", "b\r\nar"), List.of("äöü", "x"));
+    }
+
+    private FileChannel open(final String data) throws IOException {
+        final Path file = Files.writeString(tempDir.resolve("fastcsv.csv"), data);
+        return FileChannel.open(file, StandardOpenOption.READ);
+    }
+
+    private static String readFully(final MappedFileChannel channel, final int chunkSize) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final ByteBuffer buf = ByteBuffer.allocate(chunkSize);
+        while (channel.read(buf) != -1) {
+            out.write(buf.array(), 0, buf.position());
+            buf.clear();
+        }
+        return out.toString(StandardCharsets.US_ASCII);
+    }
+
+}
@@ -0,0 +1,62 @@
+package de.siegmar.fastcsv.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class NumberParserTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "-0", "+7", "42", "-42", "9223372036854775807", "-9223372036854775808"})
+    void parseLong(final String value) {
+        assertThat(NumberParser.parseLong(buf(value), 1, value.length())).isEqualTo(Long.parseLong(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "-", "+", "1x", " 1", "1.0", "9223372036854775808", "-9223372036854775809",
+        "99999999999999999999"})
+    void parseLongInvalid(final String value) {
+        assertThatThrownBy(() -> NumberParser.parseLong(buf(value), 1, value.length()))
+            .isInstanceOf(NumberFormatException.class)
+            .hasMessage("For input string: \"%s\"", value);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "-42", "2147483647", "-2147483648"})
+    void parseInt(final String value) {
+        assertThat(NumberParser.parseInt(buf(value), 1, value.length())).isEqualTo(Integer.parseInt(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2147483648", "-2147483649"})
+    void parseIntOutOfRange(final String value) {
+        assertThatThrownBy(() -> NumberParser.parseInt(buf(value), 1, value.length()))
+            .isInstanceOf(NumberFormatException.class)
+            .hasMessage("Value out of range: %s", value);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "-0", "1", "+1.5", "-12.345", "1.", ".5", "0.1", "0.3", "3.14159265358979",
+        "123456789012345.6", "9007199254740993", "0.1234567890123456789012", "1e10", "-1.5E-3", "1.e5", ".5e+2",
+        "NaN", "-Infinity", "+Infinity"})
+    void parseDouble(final String value) {
+        assertThat(NumberParser.parseDouble(buf(value), 1, value.length()))
+            .isEqualByComparingTo(Double.parseDouble(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "-", ".", "1.2.3", "1,5", "abc", "1d", "1.5f", "1e10D", " 1", "1 ", "\t1.5",
+        "0x1p3", "1e", "1e+", "e5", ".e5", "Infinityx", "nan", "--1"})
+    void parseDoubleInvalid(final String value) {
+        assertThatThrownBy(() -> NumberParser.parseDouble(buf(value), 1, value.length()))
+            .isInstanceOf(NumberFormatException.class);
+    }
+
+    /// Surrounds the value with other characters to ensure that the range boundaries are respected.
+    private static char[] buf(final String value) {
+        return ("9" + value + "9").toCharArray();
+    }
+
+}
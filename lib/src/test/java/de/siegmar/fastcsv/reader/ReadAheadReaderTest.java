@@ -0,0 +1,227 @@
+package de.siegmar.fastcsv.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+class ReadAheadReaderTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void readAll() throws IOException {
+        final String data = "0123456789".repeat(1000);
+        try (Reader reader = new ReadAheadReader(new StringReader(data), executor, 2, 7)) {
+            assertThat(readFully(reader)).isEqualTo(data);
+            assertThat(reader.read(new char[1], 0, 1)).isEqualTo(-1);
+            assertThat(reader.read(new char[0], 0, 0)).isZero();
+        }
+    }
+
+    @Test
+    void emptyInput() throws IOException {
+        try (Reader reader = new ReadAheadReader(new StringReader(""), executor, 1, 8)) {
+            assertThat(reader.read(new char[8], 0, 8)).isEqualTo(-1);
+        }
+    }
+
+    @Test
+    void exceptionAfterData() throws IOException {
+        final Reader failing = new Reader() {
+            private boolean dataRead;
+
+            @Override
+            public int read(final char[] cbuf, final int off, final int len) throws IOException {
+                if (dataRead) {
+                    throw new IOException("Cannot read");
+                }
+                dataRead = true;
+                cbuf[off] = 'x';
+                return 1;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        try (Reader reader = new ReadAheadReader(failing, executor, 2, 8)) {
+            assertThat(reader.read()).isEqualTo('x');
+            assertThatThrownBy(reader::read)
+                .isInstanceOf(IOException.class)
+                .hasMessage("Exception when reading ahead")
+                .hasRootCauseMessage("Cannot read");
+        }
+    }
+
+    @Test
+    void runtimeException() throws IOException {
+        final Reader failing = new Reader() {
+            @Override
+            public int read(final char[] cbuf, final int off, final int len) {
+                throw new UncheckedIOException(new IOException("Cannot read"));
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        try (Reader reader = new ReadAheadReader(failing, executor, 2, 8)) {
+            assertThatThrownBy(reader::read)
+                .isInstanceOf(IOException.class)
+                .hasCauseInstanceOf(UncheckedIOException.class);
+        }
+    }
+
+    @Test
+    void interruptedTask() throws IOException {
+        // the task fills all chunks and waits for a free one
+        final Reader reader = new ReadAheadReader(new StringReader("x".repeat(100)), executor, 1, 10);
+        assertThat(reader.read()).isEqualTo('x');
+        executor.shutdownNow();
+
+        final char[] buf = new char[100];
+        assertThatThrownBy(() -> {
+            while (reader.read(buf, 0, buf.length) != -1) {
+                // consume
+            }
+        }).isInstanceOf(IOException.class)
+            .hasCauseInstanceOf(InterruptedIOException.class);
+        reader.close();
+    }
+
+    @Test
+    void closeWhileTaskWaits() throws IOException, InterruptedException {
+        final CountDownLatch closed = new CountDownLatch(1);
+        final Reader source = new StringReader("x".repeat(1000)) {
+            @Override
+            public void close() {
+                closed.countDown();
+                super.close();
+            }
+        };
+
+        final Reader reader = new ReadAheadReader(source, executor, 2, 10);
+        assertThat(reader.read()).isEqualTo('x');
+        reader.close();
+        reader.close();
+
+        assertThat(closed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThatThrownBy(reader::read)
+            .isInstanceOf(IOException.class)
+            .hasMessage("Reader has been closed");
+    }
+
+    @Test
+    @Timeout(5)
+    void closeWhileTaskReads() throws IOException, InterruptedException {
+        final BlockingReader source = new BlockingReader();
+        final Reader reader = new ReadAheadReader(source, executor, 2, 10);
+        assertThat(reader.read()).isEqualTo('x');
+        assertThat(source.blocked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // doesn't wait for the blocked read
+        reader.close();
+        assertThat(source.closed.getCount()).isOne();
+
+        source.release.countDown();
+        assertThat(source.closed.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void closeBeforeRead() throws IOException {
+        final AtomicBoolean closed = new AtomicBoolean();
+        final Reader source = new StringReader("x") {
+            @Override
+            public void close() {
+                closed.set(true);
+                super.close();
+            }
+        };
+
+        // the background task is only started by the first read
+        new ReadAheadReader(source, executor, 2, 10).close();
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void sameThreadExecutor() throws IOException {
+        final String data = "0123456789".repeat(1000);
+        final AtomicBoolean closed = new AtomicBoolean();
+        final Reader source = new StringReader(data) {
+            @Override
+            public void close() {
+                closed.set(true);
+                super.close();
+            }
+        };
+
+        try (Reader reader = new ReadAheadReader(source, Runnable::run, 2, 7)) {
+            assertThat(readFully(reader)).isEqualTo(data);
+        }
+        assertThat(closed).isTrue();
+    }
+
+    private static String readFully(final Reader reader) throws IOException {
+        final StringWriter sw = new StringWriter();
+        final char[] buf = new char[13];
+        int cnt;
+        while ((cnt = reader.read(buf, 0, buf.length)) != -1) {
+            sw.write(buf, 0, cnt);
+        }
+        return sw.toString();
+    }
+
+    /// Returns a single character and blocks the subsequent read until released.
+    private static final class BlockingReader extends Reader {
+
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final CountDownLatch closed = new CountDownLatch(1);
+        private boolean dataRead;
+
+        @Override
+        public int read(final char[] cbuf, final int off, final int len) throws IOException {
+            if (!dataRead) {
+                dataRead = true;
+                cbuf[off] = 'x';
+                return 1;
+            }
+            blocked.countDown();
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                throw new InterruptedIOException();
+            }
+            return -1;
+        }
+
+        @Override
+        public void close() {
+            closed.countDown();
+        }
+
+    }
+
+}
@@ -0,0 +1,115 @@
+package de.siegmar.fastcsv.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class RecordBoundaryFinderTest {
+
+    private static final int MAX_FIELD_SIZE = 1024;
+
+    private final RecordBoundaryFinder finder =
+        new RecordBoundaryFinder(',', '"', CommentStrategy.READ, '#', false);
+
+    @TempDir
+    private Path tempDir;
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', quoteCharacter = '\'', value = {
+        // data                                       | from | expected
+        "foo,bar\\nbaz\\nqux                          | 2    | 8",
+        "foo,bar\\r\\nbaz\\nqux                       | 2    | 9",
+        "foo,bar\\r\\nbaz\\nqux                       | 8    | 9",
+        "foo,bar\\r\\nbaz\\nqux                       | 9    | 13",
+        "foo,bar\\rbaz\\rqux                          | 2    | 8",
+        "\"a\",\"b\\nc\"\\n\"d\",\"e\"\\nf                | 7    | 10",
+        "\"a\",\"b\\nc\",\"d\\ne\"\\n\"f\"\\ng              | 7    | 16",
+        "\"a\",\"b\\nc\"\"d\\ne\"\\n\"f\"\\ng              | 7    | 15",
+        "foo,\"bar\"\\n\"b\\naz\"\\nqux                    | 8    | 17",
+        "#\"comment\\n\"foo\"\\nbar                    | 3    | 16"
+    })
+    void findBoundary(final String data, final int from, final int expected) throws IOException {
+        assertThat(find(unescape(data), from)).isEqualTo(expected);
+    }
+
+    @Test
+    void noBoundaryBeforeEnd() throws IOException {
+        assertThat(find("foo,bar\nbaz", 8)).isEqualTo(-1);
+        assertThat(find("foo,bar\n", 2)).isEqualTo(-1);
+        assertThat(find("foo,bar\r", 2)).isEqualTo(-1);
+    }
+
+    @Test
+    void ambiguousWithoutQuotes() throws IOException {
+        // the field might be quoted, but the data contains no further quote characters to tell
+        assertThat(find("\"a\nfoo\nbar\nbaz", 2)).isEqualTo(-1);
+    }
+
+    @Test
+    void noQuoteSinceBoundary() throws IOException {
+        final String data = "\"a\"\nb\nc\nd";
+        assertThat(find(finder, data, 4, 5, MAX_FIELD_SIZE)).isEqualTo(6);
+        assertThat(find(finder, data, 0, 5, MAX_FIELD_SIZE)).isEqualTo(-1);
+    }
+
+    @Test
+    void quotedStateDroppedByMaxFieldSize() throws IOException {
+        // without further quotes, the state "within a quoted field" is ruled out by the maximum field size
+        final String data = "\"a\"\n" + "a\n".repeat(MAX_FIELD_SIZE);
+        assertThat(find(data, 10)).isEqualTo(MAX_FIELD_SIZE + 4);
+        assertThat(find("a\n".repeat(10), 1)).isEqualTo(2);
+    }
+
+    @Test
+    void extraCharsAfterClosingQuoteAllowed() throws IOException {
+        final RecordBoundaryFinder lenientFinder =
+            new RecordBoundaryFinder(',', '"', CommentStrategy.NONE, '#', true);
+
+        // with extra characters allowed, the closing quote can't be told apart from an opening one
+        final String data = "\"q\na\n\"x\"\nfoo\nbar";
+        assertThat(find(lenientFinder, data, 0, 3, MAX_FIELD_SIZE)).isEqualTo(-1);
+        assertThat(find(finder, data, 0, 3, MAX_FIELD_SIZE)).isEqualTo(9);
+    }
+
+    @Test
+    void invalidData() throws IOException {
+        // every possible state leads to a parse error
+        assertThat(find("\"z\na\n\"x\"y\nfoo", 3)).isEqualTo(-1);
+    }
+
+    @Test
+    void spanningMultipleBlocks() throws IOException {
+        final String field = "a".repeat(200_000);
+        final String data = "\"" + field + "\n" + field + "\"\nfoo\nbar";
+        assertThat(find(new RecordBoundaryFinder(',', '"', CommentStrategy.NONE, '#', false),
+            data, 0, 300_000, 1024 * 1024)).isEqualTo(data.length() - "foo\nbar".length());
+    }
+
+    private long find(final String data, final long from) throws IOException {
+        return find(finder, data, 0, from, MAX_FIELD_SIZE);
+    }
+
+    private long find(final RecordBoundaryFinder recordBoundaryFinder, final String data, final long boundary,
+                      final long from, final int maxFieldSize) throws IOException {
+        final Path file = Files.writeString(tempDir.resolve("fastcsv.csv"), data);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return recordBoundaryFinder.find(channel, boundary, from, data.length(), maxFieldSize);
+        }
+    }
+
+    private static String unescape(final String str) {
+        return str.strip()
+            .replace("\\n", "\n")
+            .replace("\\r", "\r");
+    }
+
+}
@@ -1,10 +1,17 @@
 package de.siegmar.fastcsv.reader;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 class RelaxedCsvParserTest {
 
@@ -24,7 +31,7 @@ class RelaxedCsvParserTest {
         // A single line longer than maxBufferSize cannot be buffered for peekLine() to inspect.
         final int maxBufferSize = 16;
         final RelaxedCsvParser p = new RelaxedCsvParser(",", '"', CommentStrategy.NONE, '#', true, true,
-            CsvRecordHandler.of(), maxBufferSize, new StringReader("X".repeat(maxBufferSize * 4)));
+            CsvRecordHandler.of(), maxBufferSize, CsvBufferPool.NONE, new StringReader("X".repeat(maxBufferSize * 4)));
 
         assertThatThrownBy(p::peekLine)
             .isInstanceOf(CsvParseException.class)
@@ -32,4 +39,106 @@ class RelaxedCsvParserTest {
                 .formatted(maxBufferSize));
     }
 
+    /// Data read in single chars must be parsed like data available at once – fields, separators,
+    /// escaped quotes and line breaks may span several reads.
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "foo~~bar~~baz\nqux",
+        "foo~bar~~~~baz~",
+        "\"foo~~bar\"~~\"a\"\"b\"\"\"\r\n\"x\r\ny\"~~z",
+        "  \"foo\"  ~~ \"bar\" \r\n\"unclosed",
+        "#comment\r\n\r\n\na~~b\r",
+        "a\"b~~\"\"~~\"\"\"\""
+    })
+    void chunkBoundaries(final String data) throws IOException {
+        assertThat(parse(new SingleCharReader(data)))
+            .isEqualTo(parse(new StringReader(data)))
+            .isEqualTo(parse(data));
+    }
+
+    @Test
+    void lineNumbers() throws IOException {
+        assertThat(parse(new SingleCharReader("\"a\r\nb\rc\nd\"\nfoo\n\"\n\"\nbar")))
+            .containsExactly("1: Q[a\r\nb\rc\nd]", "5: [foo]", "6: Q[\n]", "8: [bar]");
+    }
+
+    private static List<String> parse(final Reader reader) throws IOException {
+        final TestHandler handler = new TestHandler();
+        return parse(new RelaxedCsvParser("~~", '"', CommentStrategy.READ, '#', true, true,
+            handler, 1024, CsvBufferPool.NONE, reader), handler);
+    }
+
+    private static List<String> parse(final String data) throws IOException {
+        final TestHandler handler = new TestHandler();
+        return parse(new RelaxedCsvParser("~~", '"', CommentStrategy.READ, '#', true, true,
+            handler, 1024, data), handler);
+    }
+
+    private static List<String> parse(final RelaxedCsvParser p, final TestHandler handler) throws IOException {
+        final List<String> records = new ArrayList<>();
+        try (p) {
+            while (p.parse()) {
+                records.add(p.getStartingLineNumber() + ": " + handler.buildRecord());
+            }
+        }
+        return records;
+    }
+
+    private static final class TestHandler extends AbstractBaseCsvCallbackHandler<String> {
+
+        private final List<String> fields = new ArrayList<>();
+
+        @Override
+        protected void handleBegin(final long startingLineNumber) {
+            fields.clear();
+        }
+
+        @Override
+        protected void handleField(final int fieldIdx, final char[] buf, final int offset, final int len,
+                                   final boolean quoted) {
+            fields.add((quoted ? "Q" : "") + "[" + new String(buf, offset, len) + "]");
+        }
+
+        @Override
+        protected void handleComment(final char[] buf, final int offset, final int len) {
+            fields.add("#[" + new String(buf, offset, len) + "]");
+        }
+
+        @Override
+        protected void handleEmpty() {
+            fields.add("EMPTY");
+        }
+
+        @Override
+        protected String buildRecord() {
+            return String.join(",", fields);
+        }
+
+    }
+
+    private static final class SingleCharReader extends Reader {
+
+        private final String data;
+        private int pos;
+
+        SingleCharReader(final String data) {
+            this.data = data;
+        }
+
+        @Override
+        public int read(final char[] cbuf, final int off, final int len) {
+            if (pos == data.length()) {
+                return -1;
+            }
+            cbuf[off] = data.charAt(pos++);
+            return 1;
+        }
+
+        @Override
+        public void close() {
+            // nothing to close
+        }
+
+    }
+
 }
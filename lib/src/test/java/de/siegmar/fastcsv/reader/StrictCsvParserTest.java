@@ -11,8 +11,8 @@ class StrictCsvParserTest {
     @Test
     void nonPositiveMaxBufferSize() {
         // The builder guards against this, but the parser's own buffer contract must hold too.
-        assertThatThrownBy(() -> new StrictCsvParser(',', '"', CommentStrategy.NONE, '#', false, true,
-            CsvRecordHandler.of(), 0, new StringReader("foo")))
+        assertThatThrownBy(() -> new StrictCsvParser(",", '"', CommentStrategy.NONE, '#', false, true,
+            CsvRecordHandler.of(), 0, CsvBufferPool.NONE, new StringReader("foo")))
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessage("maxBufferSize must be > 0");
     }
@@ -0,0 +1,78 @@
+package de.siegmar.fastcsv.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class StringCacheTest {
+
+    private final StringCache cache = new StringCache(2);
+
+    @Test
+    void hit() {
+        final String first = get(0, "foo");
+        assertThat(first).isEqualTo("foo");
+        assertThat(get(0, "foo")).isSameAs(first);
+        assertThat(get(0, "bar")).isEqualTo("bar");
+        assertThat(get(0, "foo")).isSameAs(first);
+    }
+
+    @Test
+    void perColumn() {
+        final String first = get(0, "foo");
+        assertThat(get(3, "foo")).isNotSameAs(first);
+        assertThat(get(0, "foo")).isSameAs(first);
+    }
+
+    @Test
+    void hashCollision() {
+        // "Aa" and "BB" have the same hash code
+        final String aa = get(0, "Aa");
+        final String bb = get(0, "BB");
+        assertThat(bb).isEqualTo("BB");
+        assertThat(get(0, "Aa")).isSameAs(aa);
+        assertThat(get(0, "BB")).isSameAs(bb);
+    }
+
+    @Test
+    void differentLength() {
+        final String a = get(0, "a");
+        assertThat(get(0, "a\0")).isEqualTo("a\0");
+        assertThat(get(0, "a")).isSameAs(a);
+    }
+
+    @Test
+    void evictedOnHighCardinality() {
+        final String foo = get(0, "foo");
+        get(0, "bar");
+        get(0, "baz");
+
+        assertThat(get(0, "foo")).isEqualTo("foo").isNotSameAs(foo);
+
+        // other columns are not affected
+        final String other = get(1, "foo");
+        assertThat(get(1, "foo")).isSameAs(other);
+    }
+
+    @Test
+    void longValuesNotCached() {
+        final String value = "x".repeat(StringCache.MAX_VALUE_LENGTH + 1);
+        assertThat(get(0, value)).isEqualTo(value).isNotSameAs(get(0, value));
+
+        final String maxValue = "x".repeat(StringCache.MAX_VALUE_LENGTH);
+        assertThat(get(0, maxValue)).isSameAs(get(0, maxValue));
+    }
+
+    @Test
+    void offset() {
+        final char[] buf = "xxfooxx".toCharArray();
+        final String foo = cache.get(0, buf, 2, 3);
+        assertThat(foo).isEqualTo("foo");
+        assertThat(get(0, "foo")).isSameAs(foo);
+    }
+
+    private String get(final int column, final String value) {
+        return cache.get(column, value.toCharArray(), 0, value.length());
+    }
+
+}
@@ -0,0 +1,71 @@
+package de.siegmar.fastcsv.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class StringDictionaryTest {
+
+    private final StringDictionary dictionary = new StringDictionary();
+
+    @Test
+    void encodeDecode() {
+        assertThat(encode("foo")).isZero();
+        assertThat(encode("bar")).isOne();
+        assertThat(encode("foo")).isZero();
+        assertThat(dictionary.decode(1)).isEqualTo("bar");
+        assertThat(dictionary.values()).containsExactly("foo", "bar");
+    }
+
+    @Test
+    void hashCollision() {
+        // "Aa" and "BB" have the same hash code
+        assertThat(encode("Aa")).isZero();
+        assertThat(encode("BB")).isOne();
+        assertThat(encode("Aa")).isZero();
+        assertThat(encode("BB")).isOne();
+    }
+
+    @Test
+    void grow() {
+        for (int i = 0; i < 1000; i++) {
+            assertThat(encode("value" + i)).isEqualTo(i);
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertThat(encode("value" + i)).isEqualTo(i);
+        }
+        assertThat(dictionary.values()).hasSize(1000);
+    }
+
+    @Test
+    void clear() {
+        encode("foo");
+        encode("bar");
+        dictionary.clear();
+        assertThat(dictionary.values()).isEmpty();
+        assertThat(encode("bar")).isZero();
+    }
+
+    @Test
+    void truncate() {
+        // "Aa" and "BB" have the same hash code
+        encode("Aa");
+        encode("foo");
+        encode("BB");
+        encode("bar");
+        dictionary.truncate(2);
+        assertThat(dictionary.size()).isEqualTo(2);
+        assertThat(dictionary.values()).containsExactly("Aa", "foo");
+        assertThat(encode("BB")).isEqualTo(2);
+        assertThat(encode("Aa")).isZero();
+        assertThat(encode("foo")).isOne();
+        dictionary.truncate(5);
+        assertThat(dictionary.size()).isEqualTo(3);
+    }
+
+    private int encode(final String value) {
+        final char[] buf = ("x" + value + "x").toCharArray();
+        return dictionary.encode(buf, 1, value.length());
+    }
+
+}
@@ -0,0 +1,102 @@
+package de.siegmar.fastcsv.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class SwarSearchTest {
+
+    private static final long COMMA = SwarSearch.pattern(',');
+    private static final long LF = SwarSearch.pattern('\n');
+    private static final long CR = SwarSearch.pattern('\r');
+
+    @Test
+    void pattern() {
+        assertThat(SwarSearch.pattern(',')).isEqualTo(0x2C2C_2C2C_2C2C_2C2CL);
+        assertThat(SwarSearch.pattern(0xFF)).isEqualTo(-1L);
+    }
+
+    @Test
+    void noMatch() {
+        final byte[] buf = new byte[20];
+        assertThat(SwarSearch.indexOfAny(buf, 0, 20, COMMA, LF, CR)).isEqualTo(20);
+        assertThat(SwarSearch.indexOfAny(buf, 3, 3, COMMA, LF, CR)).isEqualTo(3);
+    }
+
+    @ParameterizedTest
+    @ValueSource(chars = {',', '\n', '\r'})
+    void everyPosition(final char search) {
+        for (int len = 1; len <= 24; len++) {
+            for (int pos = 0; pos < len; pos++) {
+                final byte[] data = new byte[len];
+                Arrays.fill(data, (byte) 'a');
+                data[pos] = (byte) search;
+
+                assertThat(SwarSearch.indexOfAny(data, 0, len, COMMA, LF, CR))
+                    .isEqualTo(pos);
+            }
+        }
+    }
+
+    @Test
+    void firstOfMultipleMatches() {
+        final byte[] buf = "abcdefg\r,\nxyz".getBytes(StandardCharsets.US_ASCII);
+        assertThat(SwarSearch.indexOfAny(buf, 0, buf.length, COMMA, LF, CR)).isEqualTo(7);
+        assertThat(SwarSearch.indexOfAny(buf, 8, buf.length, COMMA, LF, CR)).isEqualTo(8);
+        assertThat(SwarSearch.indexOfAny(buf, 9, buf.length, COMMA, LF, CR)).isEqualTo(9);
+        assertThat(SwarSearch.indexOfAny(buf, 10, buf.length, COMMA, LF, CR)).isEqualTo(13);
+    }
+
+    @Test
+    void noFalsePositives() {
+        // bytes adjacent to the searched values and bytes with the high bit set must not match
+        final byte[] data = {0x2B, 0x2D, 0x09, 0x0B, 0x0C, 0x0E, (byte) 0xAC, (byte) 0x8A, (byte) 0x8D, 0x00,
+            0x01, (byte) 0xFF, 0x2C};
+        assertThat(SwarSearch.indexOfAny(data, 0, data.length, COMMA, LF, CR))
+            .isEqualTo(data.length - 1);
+    }
+
+    @Test
+    void respectsRange() {
+        final byte[] buf = ",aaaaaaaaaaaaaaaaaa,".getBytes(StandardCharsets.US_ASCII);
+        assertThat(SwarSearch.indexOfAny(buf, 1, 19, COMMA, LF, CR)).isEqualTo(19);
+    }
+
+    @Test
+    void indexOfNonAscii() {
+        for (int len = 1; len <= 24; len++) {
+            final byte[] data = new byte[len];
+            Arrays.fill(data, (byte) 0x7F);
+            assertThat(SwarSearch.indexOfNonAscii(data, 0, len)).isEqualTo(len);
+
+            for (int pos = 0; pos < len; pos++) {
+                Arrays.fill(data, (byte) 0x7F);
+                data[pos] = (byte) 0x80;
+                assertThat(SwarSearch.indexOfNonAscii(data, 0, len))
+                    .isEqualTo(pos);
+                assertThat(SwarSearch.indexOfNonAscii(data, pos + 1, len))
+                    .isEqualTo(len);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "a", "\n", "\r", "\r\n", "\n\r", "\r\r\n\n", "foo\nbar\r\nbaz\rqux\n"})
+    void countLineBreaks(final String lines) {
+        // shift the data over all positions of a word, so CRLF sequences are split by words
+        for (int offset = 0; offset < Long.BYTES; offset++) {
+            final String data = "x".repeat(offset) + lines + lines + "x".repeat(Long.BYTES);
+            final byte[] buf = data.getBytes(StandardCharsets.US_ASCII);
+            final long expected = data.lines().count() - 1;
+            assertThat(SwarSearch.countLineBreaks(buf, 0, buf.length))
+                .as("offset %d", offset)
+                .isEqualTo(expected);
+        }
+    }
+
+}
@@ -0,0 +1,104 @@
+package de.siegmar.fastcsv.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class WideningInputStreamReaderTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"UTF-8", "US-ASCII", "ISO-8859-1"})
+    void supportedCharsets(final String charsetName) {
+        final Reader reader = WideningInputStreamReader.of(InputStream.nullInputStream(), Charset.forName(charsetName));
+        assertThat(reader).isInstanceOf(WideningInputStreamReader.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"UTF-16", "windows-1252"})
+    void unsupportedCharsets(final String charsetName) {
+        final Reader reader = WideningInputStreamReader.of(InputStream.nullInputStream(), Charset.forName(charsetName));
+        assertThat(reader).isInstanceOf(InputStreamReader.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 7, 8192, 100_000})
+    void ascii(final int readSize) throws IOException {
+        final String data = "foo,bar\r\nbaz,\"qux\"\n".repeat(1000);
+        assertThat(read(data.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8, readSize))
+            .isEqualTo(data);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 7, 8192, 100_000})
+    void switchToDecoder(final int readSize) throws IOException {
+        // the first non-ASCII character is part of a later read
+        final String data = "a".repeat(10_000) + "äöü€😀," + "b".repeat(10_000);
+        assertThat(read(data.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8, readSize))
+            .isEqualTo(data);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"UTF-8", "US-ASCII"})
+    void malformedInput(final String charsetName) throws IOException {
+        final Charset charset = Charset.forName(charsetName);
+        final byte[] data = {'a', 'b', (byte) 0xC3, 'c', (byte) 0xFF, 'd'};
+
+        assertThat(read(data, charset, 8192))
+            .isEqualTo(new String(data, charset));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 7, 8192})
+    void latin1(final int readSize) throws IOException {
+        final byte[] data = new byte[1024];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+
+        assertThat(read(data, StandardCharsets.ISO_8859_1, readSize))
+            .isEqualTo(new String(data, StandardCharsets.ISO_8859_1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ascii", "äöü"})
+    void close(final String data) throws IOException {
+        final AtomicBoolean closed = new AtomicBoolean();
+        final InputStream in = new FilterInputStream(
+            new ByteArrayInputStream(data.getBytes(StandardCharsets.UTF_8))) {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+
+        try (Reader reader = WideningInputStreamReader.of(in, StandardCharsets.UTF_8)) {
+            assertThat(reader.read(new char[10], 0, 10)).isPositive();
+        }
+
+        assertThat(closed).isTrue();
+    }
+
+    private static String read(final byte[] data, final Charset charset, final int readSize) throws IOException {
+        final StringWriter sw = new StringWriter();
+        try (Reader reader = WideningInputStreamReader.of(new ByteArrayInputStream(data), charset)) {
+            final char[] buf = new char[readSize];
+            for (int cnt = reader.read(buf, 0, readSize); cnt != -1; cnt = reader.read(buf, 0, readSize)) {
+                sw.write(buf, 0, cnt);
+            }
+        }
+        return sw.toString();
+    }
+
+}